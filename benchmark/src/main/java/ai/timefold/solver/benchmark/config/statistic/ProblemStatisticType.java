@@ -9,6 +9,7 @@ import ai.timefold.solver.benchmark.impl.statistic.ProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticType;
 import ai.timefold.solver.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.memoryallocation.MemoryAllocationProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountpertype.MoveCountPerTypeProblemStatistic;
@@ -27,7 +28,8 @@ public enum ProblemStatisticType implements StatisticType {
     BEST_SOLUTION_MUTATION,
     MOVE_COUNT_PER_STEP,
     MOVE_COUNT_PER_TYPE,
-    MEMORY_USE;
+    MEMORY_USE,
+    MEMORY_ALLOCATION;
 
     public @NonNull ProblemStatistic buildProblemStatistic(@NonNull ProblemBenchmarkResult problemBenchmarkResult) {
         switch (this) {
@@ -47,6 +49,8 @@ public enum ProblemStatisticType implements StatisticType {
                 return new MoveCountPerTypeProblemStatistic(problemBenchmarkResult);
             case MEMORY_USE:
                 return new MemoryUseProblemStatistic(problemBenchmarkResult);
+            case MEMORY_ALLOCATION:
+                return new MemoryAllocationProblemStatistic(problemBenchmarkResult);
             default:
                 throw new IllegalStateException("The problemStatisticType (" + this + ") is not implemented.");
         }
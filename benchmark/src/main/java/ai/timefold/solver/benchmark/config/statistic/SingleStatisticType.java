@@ -8,6 +8,7 @@ import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticType;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofiling.ConstraintProfilingSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
 
@@ -17,6 +18,7 @@ import org.jspecify.annotations.NonNull;
 public enum SingleStatisticType implements StatisticType {
     CONSTRAINT_MATCH_TOTAL_BEST_SCORE,
     CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
+    CONSTRAINT_PROFILING,
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF,
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF;
 
@@ -27,6 +29,8 @@ public enum SingleStatisticType implements StatisticType {
                 return new ConstraintMatchTotalBestScoreSubSingleStatistic(subSingleBenchmarkResult);
             case CONSTRAINT_MATCH_TOTAL_STEP_SCORE:
                 return new ConstraintMatchTotalStepScoreSubSingleStatistic(subSingleBenchmarkResult);
+            case CONSTRAINT_PROFILING:
+                return new ConstraintProfilingSubSingleStatistic(subSingleBenchmarkResult);
             case PICKED_MOVE_TYPE_BEST_SCORE_DIFF:
                 return new PickedMoveTypeBestScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
             case PICKED_MOVE_TYPE_STEP_SCORE_DIFF:
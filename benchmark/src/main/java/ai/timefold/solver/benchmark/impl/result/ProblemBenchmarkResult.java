@@ -31,6 +31,7 @@ import ai.timefold.solver.benchmark.impl.statistic.ProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.memoryallocation.MemoryAllocationProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountpertype.MoveCountPerTypeProblemStatistic;
@@ -74,6 +75,7 @@ public class ProblemBenchmarkResult<Solution_> {
             @XmlElement(name = "moveCountPerStepProblemStatistic", type = MoveCountPerStepProblemStatistic.class),
             @XmlElement(name = "moveCountPerTypeProblemStatistic", type = MoveCountPerTypeProblemStatistic.class),
             @XmlElement(name = "memoryUseProblemStatistic", type = MemoryUseProblemStatistic.class),
+            @XmlElement(name = "memoryAllocationProblemStatistic", type = MemoryAllocationProblemStatistic.class),
     })
     private List<ProblemStatistic> problemStatisticList = null;
 
@@ -19,6 +19,7 @@ import ai.timefold.solver.benchmark.impl.statistic.StatisticType;
 import ai.timefold.solver.benchmark.impl.statistic.SubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofiling.ConstraintProfilingSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
 import ai.timefold.solver.core.api.score.Score;
@@ -44,6 +45,8 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
                     type = ConstraintMatchTotalBestScoreSubSingleStatistic.class),
             @XmlElement(name = "constraintMatchTotalStepScoreSubSingleStatistic",
                     type = ConstraintMatchTotalStepScoreSubSingleStatistic.class),
+            @XmlElement(name = "constraintProfilingSubSingleStatistic",
+                    type = ConstraintProfilingSubSingleStatistic.class),
             @XmlElement(name = "pickedMoveTypeBestScoreDiffSubSingleStatistic",
                     type = PickedMoveTypeBestScoreDiffSubSingleStatistic.class),
             @XmlElement(name = "pickedMoveTypeStepScoreDiffSubSingleStatistic",
@@ -18,6 +18,7 @@ import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.memoryallocation.MemoryAllocationProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.moveevaluationspeed.MoveEvaluationSpeedProblemStatisticTime;
@@ -35,7 +36,8 @@ import ai.timefold.solver.benchmark.impl.statistic.stepscore.StepScoreProblemSta
         MoveEvaluationSpeedProblemStatisticTime.class,
         BestSolutionMutationProblemStatistic.class,
         MoveCountPerStepProblemStatistic.class,
-        MemoryUseProblemStatistic.class
+        MemoryUseProblemStatistic.class,
+        MemoryAllocationProblemStatistic.class
 })
 public abstract class ProblemStatistic<Chart_ extends Chart> implements ChartProvider<Chart_> {
 
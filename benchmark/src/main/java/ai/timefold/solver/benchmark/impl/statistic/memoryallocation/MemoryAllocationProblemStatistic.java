@@ -0,0 +1,75 @@
+package ai.timefold.solver.benchmark.impl.statistic.memoryallocation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.LineChart;
+import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.ProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.SubSingleStatistic;
+
+public class MemoryAllocationProblemStatistic extends ProblemStatistic<LineChart<Long, Long>> {
+
+    private MemoryAllocationProblemStatistic() {
+        // For JAXB.
+    }
+
+    public MemoryAllocationProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
+        super(problemBenchmarkResult, ProblemStatisticType.MEMORY_ALLOCATION);
+    }
+
+    @Override
+    public SubSingleStatistic createSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return new MemoryAllocationSubSingleStatistic(subSingleBenchmarkResult);
+    }
+
+    @Override
+    public List<String> getWarningList() {
+        List<String> warningList = new ArrayList<>(2);
+        warningList.add("Allocated bytes only include the solver thread, not the move threads of multi-threaded solving. "
+                + "They are only available on HotSpot-based JVMs.");
+        if (problemBenchmarkResult.getPlannerBenchmarkResult().hasMultipleParallelBenchmarks()) {
+            warningList.add("The garbage collection pause time shows the sum of the pauses caused by all benchmarks "
+                    + "that ran in parallel, due to parallelBenchmarkCount ("
+                    + problemBenchmarkResult.getPlannerBenchmarkResult().getParallelBenchmarkCount() + ").");
+        }
+        return Collections.unmodifiableList(warningList);
+    }
+
+    @Override
+    protected List<LineChart<Long, Long>> generateCharts(BenchmarkReport benchmarkReport) {
+        LineChart.Builder<Long, Long> allocationBuilder = new LineChart.Builder<>();
+        LineChart.Builder<Long, Long> gcPauseBuilder = new LineChart.Builder<>();
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            String solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
+            if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
+                allocationBuilder.markFavorite(solverLabel);
+                gcPauseBuilder.markFavorite(solverLabel);
+            }
+            if (singleBenchmarkResult.hasAllSuccess()) {
+                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                List<MemoryAllocationStatisticPoint> points = subSingleStatistic.getPointList();
+                for (MemoryAllocationStatisticPoint point : points) {
+                    long timeMillisSpent = point.getTimeMillisSpent();
+                    Long allocatedBytesPerMoveEvaluation = point.getAllocatedBytesPerMoveEvaluation();
+                    if (allocatedBytesPerMoveEvaluation != null) {
+                        allocationBuilder.add(solverLabel, timeMillisSpent, allocatedBytesPerMoveEvaluation);
+                    }
+                    gcPauseBuilder.add(solverLabel, timeMillisSpent, point.getGcPauseTimeMillis());
+                }
+            }
+        }
+        return List.of(
+                allocationBuilder.build("memoryAllocationProblemStatisticChart",
+                        problemBenchmarkResult.getName() + " bytes allocated per move evaluation statistic", "Time spent",
+                        "Bytes allocated per move evaluation", false, true, false),
+                gcPauseBuilder.build("gcPauseTimeProblemStatisticChart",
+                        problemBenchmarkResult.getName() + " garbage collection pause time statistic", "Time spent",
+                        "Garbage collection pause time", false, true, true));
+    }
+}
@@ -0,0 +1,51 @@
+package ai.timefold.solver.benchmark.impl.statistic.memoryallocation;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+public class MemoryAllocationStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final long moveEvaluationCount;
+    private final long allocatedBytes;
+    private final long gcPauseTimeMillis;
+
+    public MemoryAllocationStatisticPoint(long timeMillisSpent, long moveEvaluationCount, long allocatedBytes,
+            long gcPauseTimeMillis) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.moveEvaluationCount = moveEvaluationCount;
+        this.allocatedBytes = allocatedBytes;
+        this.gcPauseTimeMillis = gcPauseTimeMillis;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public long getMoveEvaluationCount() {
+        return moveEvaluationCount;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getGcPauseTimeMillis() {
+        return gcPauseTimeMillis;
+    }
+
+    /**
+     * @return null if no move has been evaluated yet
+     */
+    public Long getAllocatedBytesPerMoveEvaluation() {
+        if (moveEvaluationCount <= 0L) {
+            return null;
+        }
+        return allocatedBytes / moveEvaluationCount;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithLongs(timeMillisSpent, moveEvaluationCount, allocatedBytes, gcPauseTimeMillis);
+    }
+
+}
@@ -0,0 +1,104 @@
+package ai.timefold.solver.benchmark.impl.statistic.memoryallocation;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.solver.monitoring.SolverMetricUtil;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.MemoryAllocationStatistic;
+
+import io.micrometer.core.instrument.Tags;
+
+public class MemoryAllocationSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, MemoryAllocationStatisticPoint> {
+
+    private long timeMillisThresholdInterval;
+
+    private MemoryAllocationSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public MemoryAllocationSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public MemoryAllocationSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(subSingleBenchmarkResult, ProblemStatisticType.MEMORY_ALLOCATION);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        registry.addListener(SolverMetric.MEMORY_ALLOCATION, new MemoryAllocationSubSingleStatisticListener(registry, runTag));
+    }
+
+    private class MemoryAllocationSubSingleStatisticListener implements BiConsumer<Long, AbstractStepScope<Solution_>> {
+
+        private long nextTimeMillisThreshold = timeMillisThresholdInterval;
+        private final StatisticRegistry<?> registry;
+        private final Tags tags;
+
+        public MemoryAllocationSubSingleStatisticListener(StatisticRegistry<?> registry, Tags tags) {
+            this.registry = registry;
+            this.tags = tags;
+        }
+
+        @Override
+        public void accept(Long timeMillisSpent, AbstractStepScope<Solution_> stepScope) {
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                var allocatedBytes = SolverMetricUtil.getGaugeValue(registry,
+                        SolverMetricUtil.getGaugeName(SolverMetric.MEMORY_ALLOCATION,
+                                MemoryAllocationStatistic.ALLOCATED_BYTES_LABEL),
+                        tags);
+                var gcPauseTimeMillis = SolverMetricUtil.getGaugeValue(registry,
+                        SolverMetricUtil.getGaugeName(SolverMetric.MEMORY_ALLOCATION,
+                                MemoryAllocationStatistic.GC_PAUSE_TIME_LABEL),
+                        tags);
+                if (allocatedBytes != null && gcPauseTimeMillis != null) {
+                    var moveEvaluationCount = stepScope.getPhaseScope().getSolverScope().getMoveEvaluationCount();
+                    pointList.add(new MemoryAllocationStatisticPoint(timeMillisSpent, moveEvaluationCount,
+                            allocatedBytes.longValue(), gcPauseTimeMillis.longValue()));
+                }
+
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return StatisticPoint.buildCsvLine("timeMillisSpent", "moveEvaluationCount", "allocatedBytes", "gcPauseTimeMillis");
+    }
+
+    @Override
+    protected MemoryAllocationStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new MemoryAllocationStatisticPoint(Long.parseLong(csvLine.get(0)), Long.parseLong(csvLine.get(1)),
+                Long.parseLong(csvLine.get(2)), Long.parseLong(csvLine.get(3)));
+    }
+
+}
@@ -0,0 +1,43 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofiling;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+
+public class ConstraintProfilingStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final ConstraintRef constraintRef;
+    private final double propagationTimeMillis;
+    private final long tupleCount;
+
+    public ConstraintProfilingStatisticPoint(long timeMillisSpent, ConstraintRef constraintRef,
+            double propagationTimeMillis, long tupleCount) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.constraintRef = constraintRef;
+        this.propagationTimeMillis = propagationTimeMillis;
+        this.tupleCount = tupleCount;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public ConstraintRef getConstraintRef() {
+        return constraintRef;
+    }
+
+    public double getPropagationTimeMillis() {
+        return propagationTimeMillis;
+    }
+
+    public long getTupleCount() {
+        return tupleCount;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, constraintRef.packageName(), constraintRef.constraintName(),
+                Double.toString(propagationTimeMillis), Long.toString(tupleCount));
+    }
+
+}
@@ -0,0 +1,111 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofiling;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BarChart;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.Chart;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.solver.monitoring.SolverMetricUtil;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.ConstraintProfilingStatistic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+
+public class ConstraintProfilingSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintProfilingStatisticPoint, Chart> {
+
+    private ConstraintProfilingSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public ConstraintProfilingSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROFILING);
+    }
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        var timeGaugeName = SolverMetricUtil.getGaugeName(SolverMetric.CONSTRAINT_PROFILING,
+                ConstraintProfilingStatistic.TIME_LABEL);
+        var tupleCountGaugeName = SolverMetricUtil.getGaugeName(SolverMetric.CONSTRAINT_PROFILING,
+                ConstraintProfilingStatistic.TUPLE_COUNT_LABEL);
+        Map<ConstraintRef, Long> lastTupleCountMap = new HashMap<>();
+        registry.addListener(SolverMetric.CONSTRAINT_PROFILING, timeMillisSpent -> {
+            for (var meterId : registry.getMeterIds(SolverMetric.CONSTRAINT_PROFILING, runTag)) {
+                if (!meterId.getName().equals(timeGaugeName)) {
+                    continue;
+                }
+                var constraintTags = Tags.of(meterId.getTags());
+                var timeGauge = registry.find(timeGaugeName).tags(constraintTags).gauge();
+                var tupleCountGauge = registry.find(tupleCountGaugeName).tags(constraintTags).gauge();
+                if (timeGauge == null || tupleCountGauge == null) {
+                    continue;
+                }
+                var constraintRef = ConstraintRef.of(
+                        meterId.getTag(ConstraintProfilingStatistic.CONSTRAINT_PACKAGE_TAG),
+                        meterId.getTag(ConstraintProfilingStatistic.CONSTRAINT_NAME_TAG));
+                var tupleCount = (long) tupleCountGauge.value();
+                // No tuples propagated means no time spent either, so skip the point to keep the CSV small.
+                var lastTupleCount = lastTupleCountMap.put(constraintRef, tupleCount);
+                if (lastTupleCount == null || lastTupleCount != tupleCount) {
+                    pointList.add(new ConstraintProfilingStatisticPoint(timeMillisSpent, constraintRef,
+                            readGaugeValue(timeGauge), tupleCount));
+                }
+            }
+        });
+    }
+
+    private static double readGaugeValue(Gauge gauge) {
+        var value = gauge.value();
+        return Double.isFinite(value) ? value : 0.0;
+    }
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintProfilingStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "constraintPackage", "constraintName",
+                "propagationTimeMillis", "tupleCount");
+    }
+
+    @Override
+    protected ConstraintProfilingStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintProfilingStatisticPoint(Long.parseLong(csvLine.get(0)),
+                ConstraintRef.of(csvLine.get(1), csvLine.get(2)),
+                Double.parseDouble(csvLine.get(3)), Long.parseLong(csvLine.get(4)));
+    }
+
+    @Override
+    protected List<Chart> generateCharts(BenchmarkReport benchmarkReport) {
+        // The measurements are cumulative, so the last point of each constraint holds its total.
+        Map<ConstraintRef, ConstraintProfilingStatisticPoint> lastPointMap = new LinkedHashMap<>();
+        for (ConstraintProfilingStatisticPoint point : getPointList()) {
+            lastPointMap.put(point.getConstraintRef(), point);
+        }
+        BarChart.Builder<Double> timeBuilder = new BarChart.Builder<>();
+        BarChart.Builder<Long> tupleCountBuilder = new BarChart.Builder<>();
+        for (ConstraintProfilingStatisticPoint point : lastPointMap.values()) {
+            // Constraints in different packages may share a name.
+            String constraintId = point.getConstraintRef().constraintId();
+            timeBuilder.add("Propagation time", constraintId, point.getPropagationTimeMillis());
+            tupleCountBuilder.add("Tuple count", constraintId, point.getTupleCount());
+        }
+        return List.of(
+                timeBuilder.build("constraintProfilingTimeSubSingleStatisticChart",
+                        subSingleBenchmarkResult.getName() + " constraint profiling time statistic",
+                        "Constraint", "Propagation time", true),
+                tupleCountBuilder.build("constraintProfilingTupleCountSubSingleStatisticChart",
+                        subSingleBenchmarkResult.getName() + " constraint profiling tuple count statistic",
+                        "Constraint", "Tuple count", false));
+    }
+
+}
@@ -724,7 +724,9 @@
                                             <#if problemStatistic.problemStatisticType.hasScoreLevels()>
                                                 <@addChartList chartList=chartList idPrefix="problemStatistic_" + problemStatistic.anchorId />
                                             <#else>
-                                                <@addChart chart=chartList[0] />
+                                                <#list chartList as chart>
+                                                    <@addChart chart=chart />
+                                                </#list>
                                             </#if>
                                         <#else>
                                             <div class="alert alert-warning">
@@ -752,7 +754,9 @@
                                                 <#if singleStatisticType.hasScoreLevels()>
                                                     <@addChartList chartList=chartList idPrefix="singleStatistic_" + problemBenchmarkResult.anchorId + "_" + singleStatisticType.anchorId />
                                                 <#else>
-                                                    <@addChart chart=chartList[0] />
+                                                    <#list chartList as chart>
+                                                        <@addChart chart=chart />
+                                                    </#list>
                                                 </#if>
                                             <#else>
                                                 <div class="alert alert-warning">
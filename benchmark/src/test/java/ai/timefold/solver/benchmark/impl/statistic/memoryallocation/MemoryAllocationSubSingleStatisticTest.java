@@ -0,0 +1,40 @@
+package ai.timefold.solver.benchmark.impl.statistic.memoryallocation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+
+public final class MemoryAllocationSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<MemoryAllocationStatisticPoint, MemoryAllocationSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, MemoryAllocationSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return MemoryAllocationSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<MemoryAllocationStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new MemoryAllocationStatisticPoint(Long.MAX_VALUE, 1_000L, 64_000L, 12L));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<MemoryAllocationStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> s.getMoveEvaluationCount() == 1_000L, "Move evaluation count does not match.")
+                .matches(s -> s.getAllocatedBytes() == 64_000L, "Allocated bytes do not match.")
+                .matches(s -> s.getGcPauseTimeMillis() == 12L, "GC pause time does not match.")
+                .matches(s -> s.getAllocatedBytesPerMoveEvaluation() == 64L, "Bytes per move evaluation do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
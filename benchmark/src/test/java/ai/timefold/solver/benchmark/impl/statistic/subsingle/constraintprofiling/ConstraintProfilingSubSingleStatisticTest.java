@@ -0,0 +1,42 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofiling;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+
+public final class ConstraintProfilingSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<ConstraintProfilingStatisticPoint, ConstraintProfilingSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, ConstraintProfilingSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return ConstraintProfilingSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<ConstraintProfilingStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new ConstraintProfilingStatisticPoint(Long.MAX_VALUE,
+                ConstraintRef.of("CN", "CP"), 12.5, Long.MAX_VALUE));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<ConstraintProfilingStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> Objects.equals(s.getConstraintRef().constraintId(), "CN/CP"), "Constraint IDs do not match.")
+                .matches(s -> s.getPropagationTimeMillis() == 12.5, "Propagation times do not match.")
+                .matches(s -> s.getTupleCount() == Long.MAX_VALUE, "Tuple counts do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
@@ -48,6 +48,7 @@ class PlannerBenchmarkResultXmlTest {
                         ProblemStatisticType.BEST_SCORE,
                         ProblemStatisticType.STEP_SCORE,
                         ProblemStatisticType.MEMORY_USE,
+                        ProblemStatisticType.MEMORY_ALLOCATION,
                         ProblemStatisticType.BEST_SOLUTION_MUTATION,
                         ProblemStatisticType.MOVE_COUNT_PER_STEP,
                         ProblemStatisticType.MOVE_COUNT_PER_TYPE,
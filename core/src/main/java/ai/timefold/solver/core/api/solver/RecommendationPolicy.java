@@ -0,0 +1,52 @@
+package ai.timefold.solver.core.api.solver;
+
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Determines how {@link SolutionManager#recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy,
+ * RecommendationPolicy)} evaluates the possible assignments and how many of them it returns.
+ * Use {@link #DEFAULT} and adjust it with {@link #withThreadCount(int)}
+ * and {@link #withMaximumRecommendationCount(int)}.
+ *
+ * @param threadCount how many threads evaluate the possible assignments.
+ *        With more than one thread, the possible assignments are split between planning clones of the solution,
+ *        one for each thread.
+ *        This requires a {@link PlanningId} on every planning entity and planning value,
+ *        and the proposition function must not share mutable state between calls,
+ *        as it is called from several threads at the same time.
+ * @param maximumRecommendationCount how many of the best recommendations to return;
+ *        the rest is discarded as soon as it is known not to be among them,
+ *        so that memory use does not grow with the number of possible assignments.
+ */
+@NullMarked
+public record RecommendationPolicy(int threadCount, int maximumRecommendationCount) {
+
+    /**
+     * Evaluates every possible assignment on the calling thread and returns all of them.
+     */
+    public static final RecommendationPolicy DEFAULT = new RecommendationPolicy(1, Integer.MAX_VALUE);
+
+    public RecommendationPolicy {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("The threadCount (%d) must be at least 1."
+                    .formatted(threadCount));
+        }
+        if (maximumRecommendationCount < 1) {
+            throw new IllegalArgumentException("The maximumRecommendationCount (%d) must be at least 1."
+                    .formatted(maximumRecommendationCount));
+        }
+    }
+
+    public RecommendationPolicy withThreadCount(int threadCount) {
+        return new RecommendationPolicy(threadCount, maximumRecommendationCount);
+    }
+
+    public RecommendationPolicy withMaximumRecommendationCount(int maximumRecommendationCount) {
+        return new RecommendationPolicy(threadCount, maximumRecommendationCount);
+    }
+
+}
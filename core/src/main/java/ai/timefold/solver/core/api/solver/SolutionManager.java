@@ -168,6 +168,20 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
     ScoreAnalysis<Score_> analyze(Solution_ solution, ScoreAnalysisFetchPolicy fetchPolicy,
             SolutionUpdatePolicy solutionUpdatePolicy);
 
+    /**
+     * Opens a session which keeps the score calculation of the solution alive between calls.
+     * Prefer this over repeatedly calling {@link #analyze(Object)}, {@link #explain(Object)} or {@link #update(Object)}
+     * when the solution only changes a little between those calls,
+     * such as when a user edits it in an interactive planning UI.
+     * See {@link SolutionSession} for how to bring the session up to date with those changes.
+     * <p>
+     * Unlike the other methods of this type, the returned session is stateful and not thread-safe.
+     *
+     * @param solution will be planning cloned, and the session works on the clone from then on
+     * @return never null; needs to be {@link SolutionSession#close() closed} once no longer needed
+     */
+    SolutionSession<Solution_, Score_> openSession(Solution_ solution);
+
     /**
      * Compute a difference between two solutions.
      * The difference will contain information about which entities's variables have changed,
@@ -300,9 +314,29 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
      *         designed to be JSON-friendly, see {@link RecommendedAssignment} Javadoc for more.
      * @see PlanningEntity More information about genuine and shadow planning entities.
      */
+    default <EntityOrElement_, Proposition_> List<RecommendedAssignment<Proposition_, Score_>> recommendAssignment(
+            Solution_ solution, EntityOrElement_ evaluatedEntityOrElement,
+            Function<EntityOrElement_, @Nullable Proposition_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy) {
+        return recommendAssignment(solution, evaluatedEntityOrElement, propositionFunction, fetchPolicy,
+                RecommendationPolicy.DEFAULT);
+    }
+
+    /**
+     * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
+     * but the possible assignments are evaluated and trimmed as described by the recommendation policy.
+     * The returned recommendations are the same as the first recommendations
+     * returned by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
+     * regardless of {@link RecommendationPolicy#threadCount()},
+     * except that with more than one thread,
+     * planning entities in the propositions come from several different planning clones of the solution.
+     *
+     * @param recommendationPolicy {@link RecommendationPolicy#DEFAULT} to evaluate on the calling thread
+     *        and return all recommendations
+     * @return sorted from best to worst, at most {@link RecommendationPolicy#maximumRecommendationCount()} long
+     */
     <EntityOrElement_, Proposition_> List<RecommendedAssignment<Proposition_, Score_>> recommendAssignment(Solution_ solution,
             EntityOrElement_ evaluatedEntityOrElement, Function<EntityOrElement_, @Nullable Proposition_> propositionFunction,
-            ScoreAnalysisFetchPolicy fetchPolicy);
+            ScoreAnalysisFetchPolicy fetchPolicy, RecommendationPolicy recommendationPolicy);
 
     /**
      * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
@@ -0,0 +1,112 @@
+package ai.timefold.solver.core.api.solver;
+
+import static ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy.FETCH_ALL;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.ScoreExplanation;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.score.calculator.EasyScoreCalculator;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Keeps the score calculation of a single solution alive between calls,
+ * so that repeatedly analyzing a solution which only changes a little between calls
+ * does not recalculate the score from scratch every time.
+ * Obtain using {@link SolutionManager#openSession(Object)}.
+ * <p>
+ * The session works on its own planning clone of the solution it was opened with, called the working solution.
+ * Bring the working solution up to date with the changes made elsewhere in one of two ways:
+ * <ul>
+ * <li>{@link #applyChange(ProblemChange)} applies the change and only recalculates what it touched.
+ * This is the only way to announce changes to problem facts and problem properties.</li>
+ * <li>{@link #synchronize(Object)} detects which genuine planning variables changed,
+ * and only recalculates those.
+ * If entities were added or removed, the score is recalculated from scratch instead.</li>
+ * </ul>
+ * Both require that entities and planning values are matched by their {@link PlanningId},
+ * as described by {@link ProblemChangeDirector#lookUpWorkingObject(Object)}.
+ * <p>
+ * The {@link ScoreAnalysis} and {@link ScoreExplanation} returned by this session
+ * refer to the objects of the working solution, not to those of the solution the session was opened with.
+ * <p>
+ * Unlike {@link SolutionManager}, this type is not thread-safe.
+ * Always {@link #close()} the session once it is no longer needed, to release the score calculation.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the actual score type
+ */
+@NullMarked
+public interface SolutionSession<Solution_, Score_ extends Score<Score_>> extends AutoCloseable {
+
+    /**
+     * @return the planning clone of the solution, which all changes are applied to
+     */
+    Solution_ getWorkingSolution();
+
+    /**
+     * Applies the change to the working solution and updates its shadow variables,
+     * exactly as if the change was submitted to a running {@link Solver}.
+     *
+     * @param problemChange the change to apply; lookups translate its objects to the working solution
+     */
+    void applyChange(ProblemChange<Solution_> problemChange);
+
+    /**
+     * Changes the genuine planning variables of the working solution to match those of the given solution,
+     * and updates shadow variables.
+     * Problem facts and problem properties are not compared;
+     * changes to those need to go through {@link #applyChange(ProblemChange)}.
+     * <p>
+     * If the given solution has different entities than the working solution,
+     * or a planning value which the working solution does not know,
+     * the working solution is replaced by a new planning clone of the given solution.
+     *
+     * @param solution a later version of the solution the session was opened with
+     */
+    void synchronize(Solution_ solution);
+
+    /**
+     * Calculates the score of the working solution and sets it on the working solution.
+     *
+     * @return the calculated score
+     */
+    Score_ update();
+
+    /**
+     * As defined by {@link SolutionManager#explain(Object)}, but for the working solution.
+     *
+     * @throws IllegalStateException when constraint matching is not supported by the underlying score calculator,
+     *         such as {@link EasyScoreCalculator}.
+     */
+    ScoreExplanation<Solution_, Score_> explain();
+
+    /**
+     * As defined by {@link #analyze(ScoreAnalysisFetchPolicy)},
+     * using {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
+     */
+    default ScoreAnalysis<Score_> analyze() {
+        return analyze(FETCH_ALL);
+    }
+
+    /**
+     * As defined by {@link SolutionManager#analyze(Object, ScoreAnalysisFetchPolicy)}, but for the working solution.
+     *
+     * @param fetchPolicy if unsure, pick {@link ScoreAnalysisFetchPolicy#FETCH_MATCH_COUNT}
+     * @throws IllegalStateException when constraint matching is not supported by the underlying score calculator,
+     *         such as {@link EasyScoreCalculator}.
+     */
+    ScoreAnalysis<Score_> analyze(ScoreAnalysisFetchPolicy fetchPolicy);
+
+    /**
+     * Releases the score calculation.
+     * Calling any other method of this session afterwards fails.
+     */
+    @Override
+    void close();
+
+}
@@ -135,6 +135,21 @@ public interface SolverJobBuilder<Solution_, ProblemId_> {
     @NonNull
     SolverJobBuilder<Solution_, ProblemId_> withConfigOverride(@NonNull SolverConfigOverride<Solution_> solverConfigOverride);
 
+    /**
+     * Sets the priority of the solver job,
+     * which matters only when all solver threads of the {@link SolverManager} are busy.
+     * Of the waiting solver jobs, the one with the lowest priority value starts first.
+     * Solver jobs with the same priority start in the order in which they were submitted.
+     * <p>
+     * For example, use the expected solving time to solve short problems first,
+     * or the deadline in epoch milliseconds to solve the problem with the earliest deadline first.
+     *
+     * @param priority defaults to 0, lower values start sooner
+     * @return this
+     */
+    @NonNull
+    SolverJobBuilder<Solution_, ProblemId_> withPriority(long priority);
+
     /**
      * Submits a planning problem to solve and returns immediately. The planning problem is solved on a solver {@link Thread},
      * as soon as one is available.
@@ -428,6 +428,19 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
      */
     void terminateEarly(@NonNull ProblemId_ problemId);
 
+    /**
+     * Changes how many solvers run in parallel,
+     * overriding the {@link SolverManagerConfig#getParallelSolverCount() parallelSolverCount}
+     * this {@link SolverManager} was created with.
+     * <p>
+     * Solvers which are already running are not affected.
+     * When the count grows, waiting solver jobs start immediately.
+     * When it shrinks, no new solver job starts until fewer solvers than the new count are running.
+     *
+     * @param parallelSolverCount at least 1
+     */
+    void setParallelSolverCount(int parallelSolverCount);
+
     /**
      * Terminates all solvers, cancels all solver jobs that haven't (re)started yet
      * and discards all queued {@link ProblemChange}s.
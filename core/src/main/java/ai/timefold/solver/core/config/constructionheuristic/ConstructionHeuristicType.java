@@ -54,7 +54,17 @@ public enum ConstructionHeuristicType {
      * Assign the best entity to best value.
      * Repeat until all entities are assigned.
      */
-    ALLOCATE_FROM_POOL;
+    ALLOCATE_FROM_POOL,
+    /**
+     * Like {@link #CHEAPEST_INSERTION},
+     * but remembers by how much each entity-value combination changed the score when it was last evaluated,
+     * and only re-evaluates those combinations which might still be the best.
+     * This picks the same combinations as {@link #CHEAPEST_INSERTION},
+     * as long as assigning an entity never makes another entity-value combination better than it was.
+     * For a planning list variable, every unassigned value is tried at every position in each step,
+     * and only the positions in the list which the previous step changed are re-evaluated from scratch.
+     */
+    LAZY_CHEAPEST_INSERTION;
 
     public @NonNull EntitySorterManner getDefaultEntitySorterManner() {
         switch (this) {
@@ -70,6 +80,7 @@ public enum ConstructionHeuristicType {
             case ALLOCATE_TO_VALUE_FROM_QUEUE:
             case CHEAPEST_INSERTION:
             case ALLOCATE_FROM_POOL:
+            case LAZY_CHEAPEST_INSERTION:
                 return EntitySorterManner.DECREASING_DIFFICULTY_IF_AVAILABLE;
             default:
                 throw new IllegalStateException("The constructionHeuristicType (" + this + ") is not implemented.");
@@ -91,6 +102,7 @@ public enum ConstructionHeuristicType {
             case ALLOCATE_TO_VALUE_FROM_QUEUE:
             case CHEAPEST_INSERTION:
             case ALLOCATE_FROM_POOL:
+            case LAZY_CHEAPEST_INSERTION:
                 return ValueSorterManner.INCREASING_STRENGTH_IF_AVAILABLE;
             default:
                 throw new IllegalStateException("The constructionHeuristicType (" + this + ") is not implemented.");
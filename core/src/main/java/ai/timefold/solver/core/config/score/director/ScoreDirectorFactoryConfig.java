@@ -27,6 +27,7 @@ import org.jspecify.annotations.Nullable;
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
         "constraintStreamAutomaticNodeSharing",
+        "constraintStreamParallelPropagationThreshold",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
@@ -46,6 +47,7 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
     protected Boolean constraintStreamAutomaticNodeSharing;
+    protected Integer constraintStreamParallelPropagationThreshold;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -126,6 +128,28 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamAutomaticNodeSharing = constraintStreamAutomaticNodeSharing;
     }
 
+    /**
+     * If set, constraint streams propagate changes to independent nodes in parallel,
+     * as long as there are at least this many changes waiting to be propagated.
+     * Useful for large constraint sets, when inserting an entire working solution takes a long time.
+     * The {@link ConstraintProvider} must then only use thread-safe functions,
+     * such as those which do not modify any shared state.
+     * The changes are propagated on a thread pool owned by the solver factory, not on the common pool,
+     * with as many threads as there are CPU cores.
+     * <p>
+     * If null, which is the default, changes are always propagated on the solver thread.
+     *
+     * @return null or at least 1
+     */
+    public @Nullable Integer getConstraintStreamParallelPropagationThreshold() {
+        return constraintStreamParallelPropagationThreshold;
+    }
+
+    public void setConstraintStreamParallelPropagationThreshold(
+            @Nullable Integer constraintStreamParallelPropagationThreshold) {
+        this.constraintStreamParallelPropagationThreshold = constraintStreamParallelPropagationThreshold;
+    }
+
     public @Nullable Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -227,6 +251,12 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public @NonNull ScoreDirectorFactoryConfig
+            withConstraintStreamParallelPropagationThreshold(@NonNull Integer constraintStreamParallelPropagationThreshold) {
+        this.constraintStreamParallelPropagationThreshold = constraintStreamParallelPropagationThreshold;
+        return this;
+    }
+
     public @NonNull ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(
                     @NonNull Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
@@ -288,6 +318,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
         constraintStreamAutomaticNodeSharing = ConfigUtils.inheritOverwritableProperty(constraintStreamAutomaticNodeSharing,
                 inheritedConfig.getConstraintStreamAutomaticNodeSharing());
+        constraintStreamParallelPropagationThreshold = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamParallelPropagationThreshold, inheritedConfig.getConstraintStreamParallelPropagationThreshold());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -0,0 +1,36 @@
+package ai.timefold.solver.core.config.solver;
+
+import jakarta.xml.bind.annotation.XmlEnum;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
+
+/**
+ * Determines how the {@link Solver} remembers the {@link PlanningSolution best solution} it encounters.
+ */
+@XmlEnum
+public enum BestSolutionRecordingMode {
+    /**
+     * Every new best solution is a new planning clone of the working solution.
+     * <p>
+     * This is the default.
+     */
+    CLONE,
+    /**
+     * A single planning clone of the best solution is kept,
+     * and every new best solution only copies the variables which changed since the previous best solution into it.
+     * A planning clone of that best solution is only made when {@link BestSolutionChangedEvent#getNewBestSolution()}
+     * is called.
+     * <p>
+     * This is faster than {@link #CLONE} for large solutions,
+     * where a new best solution typically only differs from the previous one in a few variables.
+     * Before problem changes are applied, the working solution is brought back to the best solution in place,
+     * instead of being replaced by a planning clone of it.
+     * Every planning entity class requires a {@link PlanningId},
+     * and {@link BestSolutionChangedEvent#getNewBestSolution()} must be called
+     * before the event listener returns.
+     */
+    INCREMENTAL
+}
@@ -72,6 +72,7 @@ import org.jspecify.annotations.Nullable;
         "moveThreadCount",
         "moveThreadBufferSize",
         "threadFactoryClass",
+        "bestSolutionRecordingMode",
         "monitoringConfig",
         "solutionClass",
         "entityClassList",
@@ -225,6 +226,7 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected BestSolutionRecordingMode bestSolutionRecordingMode = null;
 
     protected Class<?> solutionClass = null;
 
@@ -386,6 +388,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    public @Nullable BestSolutionRecordingMode getBestSolutionRecordingMode() {
+        return bestSolutionRecordingMode;
+    }
+
+    public void setBestSolutionRecordingMode(@Nullable BestSolutionRecordingMode bestSolutionRecordingMode) {
+        this.bestSolutionRecordingMode = bestSolutionRecordingMode;
+    }
+
     public @Nullable Class<?> getSolutionClass() {
         return solutionClass;
     }
@@ -515,6 +525,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public @NonNull SolverConfig withBestSolutionRecordingMode(@NonNull BestSolutionRecordingMode bestSolutionRecordingMode) {
+        this.bestSolutionRecordingMode = bestSolutionRecordingMode;
+        return this;
+    }
+
     public @NonNull SolverConfig withSolutionClass(@NonNull Class<?> solutionClass) {
         this.solutionClass = solutionClass;
         return this;
@@ -662,6 +677,10 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return Objects.requireNonNullElse(environmentMode, EnvironmentMode.PHASE_ASSERT);
     }
 
+    public @NonNull BestSolutionRecordingMode determineBestSolutionRecordingMode() {
+        return Objects.requireNonNullElse(bestSolutionRecordingMode, BestSolutionRecordingMode.CLONE);
+    }
+
     public @NonNull DomainAccessType determineDomainAccessType() {
         return Objects.requireNonNullElse(domainAccessType, DomainAccessType.REFLECTION);
     }
@@ -706,6 +725,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadBufferSize());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        bestSolutionRecordingMode = ConfigUtils.inheritOverwritableProperty(bestSolutionRecordingMode,
+                inheritedConfig.getBestSolutionRecordingMode());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.getEntityClassList());
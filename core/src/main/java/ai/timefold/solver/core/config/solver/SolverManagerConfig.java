@@ -15,16 +15,21 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "consumerThreadCount",
+        "consumerThreadFactoryClass"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     public static final String PARALLEL_SOLVER_COUNT_AUTO = "AUTO";
+    public static final String CONSUMER_THREAD_COUNT_AUTO = "AUTO";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SolverManagerConfig.class);
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected String consumerThreadCount = null;
+    protected Class<? extends ThreadFactory> consumerThreadFactoryClass = null;
 
     // Future features:
     // throttlingDelay
@@ -53,6 +58,33 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If null, every solver job delivers its best solutions to its consumers on a thread of its own.
+     * Otherwise, all solver jobs share a pool of this many consumer threads,
+     * and the best solutions of a single solver job are still delivered one at a time, in order.
+     *
+     * @return null, {@link #CONSUMER_THREAD_COUNT_AUTO} or a number
+     */
+    public @Nullable String getConsumerThreadCount() {
+        return consumerThreadCount;
+    }
+
+    public void setConsumerThreadCount(@Nullable String consumerThreadCount) {
+        this.consumerThreadCount = consumerThreadCount;
+    }
+
+    /**
+     * Creates the threads of the shared consumer thread pool, see {@link #getConsumerThreadCount()}.
+     * For example, a {@link ThreadFactory} that creates virtual threads.
+     */
+    public @Nullable Class<? extends ThreadFactory> getConsumerThreadFactoryClass() {
+        return consumerThreadFactoryClass;
+    }
+
+    public void setConsumerThreadFactoryClass(@Nullable Class<? extends ThreadFactory> consumerThreadFactoryClass) {
+        this.consumerThreadFactoryClass = consumerThreadFactoryClass;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -67,6 +99,17 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public @NonNull SolverManagerConfig withConsumerThreadCount(@NonNull String consumerThreadCount) {
+        this.consumerThreadCount = consumerThreadCount;
+        return this;
+    }
+
+    public @NonNull SolverManagerConfig
+            withConsumerThreadFactoryClass(@NonNull Class<? extends ThreadFactory> consumerThreadFactoryClass) {
+        this.consumerThreadFactoryClass = consumerThreadFactoryClass;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -94,6 +137,23 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return resolvedParallelSolverCount;
     }
 
+    /**
+     * @return null if every solver job has a consumer thread of its own
+     */
+    public @Nullable Integer resolveConsumerThreadCount() {
+        if (consumerThreadCount == null) {
+            return null;
+        }
+        int resolvedConsumerThreadCount = consumerThreadCount.equals(CONSUMER_THREAD_COUNT_AUTO) ? getAvailableProcessors()
+                : ConfigUtils.resolvePoolSize("consumerThreadCount", consumerThreadCount, CONSUMER_THREAD_COUNT_AUTO);
+        if (resolvedConsumerThreadCount < 1) {
+            throw new IllegalArgumentException(
+                    "The consumerThreadCount (%s) resulted in a resolvedConsumerThreadCount (%d) that is lower than 1."
+                            .formatted(consumerThreadCount, resolvedConsumerThreadCount));
+        }
+        return resolvedConsumerThreadCount;
+    }
+
     protected int getAvailableProcessors() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -113,6 +173,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        consumerThreadCount = ConfigUtils.inheritOverwritableProperty(consumerThreadCount,
+                inheritedConfig.getConsumerThreadCount());
+        consumerThreadFactoryClass = ConfigUtils.inheritOverwritableProperty(consumerThreadFactoryClass,
+                inheritedConfig.getConsumerThreadFactoryClass());
         return this;
     }
 
@@ -124,6 +188,7 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
     @Override
     public void visitReferencedClasses(@NonNull Consumer<Class<?>> classVisitor) {
         classVisitor.accept(threadFactoryClass);
+        classVisitor.accept(consumerThreadFactoryClass);
     }
 
 }
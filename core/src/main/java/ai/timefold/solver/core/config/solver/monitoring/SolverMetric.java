@@ -7,6 +7,8 @@ import jakarta.xml.bind.annotation.XmlEnum;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.BestScoreStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.BestSolutionMutationCountStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.ConstraintProfilingStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.MemoryAllocationStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.MemoryUseStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.MoveCountPerTypeStatistic;
 import ai.timefold.solver.core.impl.solver.monitoring.statistic.PickedMoveBestScoreDiffStatistic;
@@ -47,8 +49,11 @@ public enum SolverMetric {
     MOVE_COUNT_PER_STEP("timefold.solver.step.move.count", false),
     MOVE_COUNT_PER_TYPE("timefold.solver.move.type.count", new MoveCountPerTypeStatistic<>(), false),
     MEMORY_USE("jvm.memory.used", new MemoryUseStatistic<>(), false),
+    MEMORY_ALLOCATED_PER_STEP("timefold.solver.step.memory.allocated", false),
+    MEMORY_ALLOCATION("timefold.solver.memory.allocation", new MemoryAllocationStatistic<>(), false),
     CONSTRAINT_MATCH_TOTAL_BEST_SCORE("timefold.solver.constraint.match.best.score", true, true),
     CONSTRAINT_MATCH_TOTAL_STEP_SCORE("timefold.solver.constraint.match.step.score", false, true),
+    CONSTRAINT_PROFILING("timefold.solver.constraint.profiling", new ConstraintProfilingStatistic<>(), false),
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
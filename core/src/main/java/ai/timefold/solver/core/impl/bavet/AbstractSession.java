@@ -52,6 +52,20 @@ public abstract class AbstractSession {
         }
     }
 
+    /**
+     * As {@link #update(Object)},
+     * but the caller guarantees that the change could not have affected the outcome of any forEach filter.
+     * See {@link BavetRootNode#updateFilterUnaffected(Object)}.
+     *
+     * @param fact the fact that changed
+     */
+    public final void updateFilterUnaffected(Object fact) {
+        var factClass = fact.getClass();
+        for (var node : findNodes(factClass, BavetRootNode.LifecycleOperation.UPDATE)) {
+            node.updateFilterUnaffected(fact);
+        }
+    }
+
     public final void retract(Object fact) {
         var factClass = fact.getClass();
         for (var node : findNodes(factClass, BavetRootNode.LifecycleOperation.RETRACT)) {
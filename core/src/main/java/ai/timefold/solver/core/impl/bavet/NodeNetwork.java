@@ -4,12 +4,16 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Stream;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.impl.bavet.common.BavetRootNode;
 import ai.timefold.solver.core.impl.bavet.common.Propagator;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Represents Bavet's network of nodes, specific to a particular session.
  * Nodes only used by disabled constraints have already been removed.
@@ -18,12 +22,25 @@ import ai.timefold.solver.core.impl.bavet.common.Propagator;
  *        root nodes, layer index 0.
  * @param layeredNodes nodes grouped first by their layer, then by their index within the layer;
  *        propagation needs to happen in this order.
+ * @param layeredNodeGroups null if parallel propagation is disabled;
+ *        otherwise the nodes of {@code layeredNodes}, with every layer split into groups
+ *        which do not share any downstream state and can therefore be propagated concurrently.
+ * @param parallelPropagationThreshold the minimum number of items queued in a layer
+ *        for that layer to be propagated in parallel; ignored if {@code layeredNodeGroups} is null.
+ * @param parallelPropagationPool null if {@code layeredNodeGroups} is null;
+ *        otherwise the pool, owned by the session factory, which propagates the node groups;
+ *        never the common pool, which is shared with user code.
  */
 public record NodeNetwork(Map<Class<?>, List<BavetRootNode<?>>> declaredClassToNodeMap,
-        Propagator[][] layeredNodes) {
+        Propagator[][] layeredNodes, Propagator @Nullable [][][] layeredNodeGroups, int parallelPropagationThreshold,
+        @Nullable ForkJoinPool parallelPropagationPool) {
 
     public static final NodeNetwork EMPTY = new NodeNetwork(Map.of(), new Propagator[0][0]);
 
+    public NodeNetwork(Map<Class<?>, List<BavetRootNode<?>>> declaredClassToNodeMap, Propagator[][] layeredNodes) {
+        this(declaredClassToNodeMap, layeredNodes, null, Integer.MAX_VALUE, null);
+    }
+
     public int forEachNodeCount() {
         return declaredClassToNodeMap.size();
     }
@@ -49,8 +66,59 @@ public record NodeNetwork(Map<Class<?>, List<BavetRootNode<?>>> declaredClassToN
 
     public void settle() {
         for (var layerIndex = 0; layerIndex < layerCount(); layerIndex++) {
-            settleLayer(layeredNodes[layerIndex]);
+            if (layeredNodeGroups == null || !settleLayerInParallel(layerIndex)) {
+                settleLayer(layeredNodes[layerIndex]);
+            }
+        }
+    }
+
+    /**
+     * Each group of nodes is propagated by its own task, with retracts, updates and inserts in the usual order.
+     * This is only correct because no two groups share a child node or a score inliner,
+     * and therefore the order of propagation between the groups does not matter.
+     * The calling thread propagates the first group itself, instead of idling while it waits for the others.
+     *
+     * @return false if the layer was not propagated, because it does not have enough work to be worth it
+     */
+    private boolean settleLayerInParallel(int layerIndex) {
+        var nodeGroups = layeredNodeGroups[layerIndex];
+        if (nodeGroups.length < 2) {
+            return false;
+        }
+        var groupQueuedCounts = new long[nodeGroups.length];
+        var queuedCount = 0L;
+        var busyGroupCount = 0;
+        for (var groupIndex = 0; groupIndex < nodeGroups.length; groupIndex++) {
+            for (var node : nodeGroups[groupIndex]) {
+                groupQueuedCounts[groupIndex] += node.size();
+            }
+            if (groupQueuedCounts[groupIndex] > 0) {
+                busyGroupCount++;
+                queuedCount += groupQueuedCounts[groupIndex];
+            }
+        }
+        if (busyGroupCount < 2 || queuedCount < parallelPropagationThreshold) {
+            return false;
+        }
+        // Propagating a node with nothing queued does nothing, so such groups don't need a task.
+        var taskList = new ForkJoinTask<?>[busyGroupCount - 1];
+        var taskCount = 0;
+        Propagator[] callerNodeGroup = null;
+        for (var groupIndex = 0; groupIndex < nodeGroups.length; groupIndex++) {
+            if (groupQueuedCounts[groupIndex] > 0) {
+                var nodeGroup = nodeGroups[groupIndex];
+                if (callerNodeGroup == null) {
+                    callerNodeGroup = nodeGroup;
+                } else {
+                    taskList[taskCount++] = parallelPropagationPool.submit(() -> settleLayer(nodeGroup));
+                }
+            }
+        }
+        settleLayer(callerNodeGroup);
+        for (var task : taskList) {
+            task.join(); // Rethrows any exception thrown by the constraint functions.
         }
+        return true;
     }
 
     private static void settleLayer(Propagator[] nodesInLayer) {
@@ -77,12 +145,17 @@ public record NodeNetwork(Map<Class<?>, List<BavetRootNode<?>>> declaredClassToN
         if (!(o instanceof NodeNetwork that))
             return false;
         return Objects.equals(declaredClassToNodeMap, that.declaredClassToNodeMap)
-                && Objects.deepEquals(layeredNodes, that.layeredNodes);
+                && Objects.deepEquals(layeredNodes, that.layeredNodes)
+                && Objects.deepEquals(layeredNodeGroups, that.layeredNodeGroups)
+                && parallelPropagationThreshold == that.parallelPropagationThreshold
+                && parallelPropagationPool == that.parallelPropagationPool;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(declaredClassToNodeMap, Arrays.deepHashCode(layeredNodes));
+        return Objects.hash(declaredClassToNodeMap, Arrays.deepHashCode(layeredNodes),
+                Arrays.deepHashCode(layeredNodeGroups), parallelPropagationThreshold,
+                System.identityHashCode(parallelPropagationPool));
     }
 
     @Override
@@ -3,12 +3,17 @@ package ai.timefold.solver.core.impl.bavet.common;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.impl.bavet.NodeNetwork;
@@ -23,6 +28,7 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
     private final Map<AbstractNode, Stream_> nodeCreatorMap;
     private final Map<Stream_, TupleLifecycle<? extends AbstractTuple>> tupleLifecycleMap;
     private final Map<Stream_, Integer> storeIndexMap;
+    private final List<Stream_> scoringStreamList;
 
     private List<AbstractNode> reversedNodeList;
 
@@ -32,6 +38,7 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
         this.nodeCreatorMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.tupleLifecycleMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.storeIndexMap = new HashMap<>(Math.max(16, activeStreamSetSize / 2));
+        this.scoringStreamList = new ArrayList<>();
         this.reversedNodeList = new ArrayList<>(activeStreamSetSize);
     }
 
@@ -65,6 +72,9 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
     public <Tuple_ extends AbstractTuple> void putInsertUpdateRetract(Stream_ stream,
             TupleLifecycle<Tuple_> tupleLifecycle) {
         tupleLifecycleMap.put(stream, tupleLifecycle);
+        if (tupleLifecycle instanceof AbstractScorer<?>) {
+            scoringStreamList.add(stream);
+        }
     }
 
     public <Tuple_ extends AbstractTuple> void putInsertUpdateRetract(Stream_ stream, List<? extends Stream_> childStreamList,
@@ -148,10 +158,67 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
 
     public static NodeNetwork buildNodeNetwork(List<AbstractNode> nodeList,
             Map<Class<?>, List<BavetRootNode<?>>> declaredClassToNodeMap) {
+        return buildNodeNetwork(nodeList, declaredClassToNodeMap, AbstractNode::getPropagator);
+    }
+
+    /**
+     * As {@link #buildNodeNetwork(List, Map)},
+     * but the network propagates through the propagators returned by the given function instead,
+     * such as a {@link ProfilingPropagator} wrapping the node's own.
+     *
+     * @param nodeList never null
+     * @param declaredClassToNodeMap never null
+     * @param propagatorFunction never null, must return the same instance when called repeatedly for the same node
+     * @return never null
+     */
+    public static NodeNetwork buildNodeNetwork(List<AbstractNode> nodeList,
+            Map<Class<?>, List<BavetRootNode<?>>> declaredClassToNodeMap,
+            Function<AbstractNode, Propagator> propagatorFunction) {
+        return new NodeNetwork(declaredClassToNodeMap, buildLayeredNodes(nodeList, propagatorFunction));
+    }
+
+    /**
+     * As {@link #buildNodeNetwork(List, Map)},
+     * but also allows the resulting network to propagate each layer in parallel
+     * once the layer has at least the given number of items queued.
+     *
+     * @param nodeList never null, as returned by {@link #buildNodeList(Set, AbstractNodeBuildHelper, BiConsumer, Consumer)}
+     * @param declaredClassToNodeMap never null
+     * @param buildHelper never null, the helper which built the nodes
+     * @param parallelPropagationThreshold at least 1
+     * @param parallelPropagationPool never null, the pool to propagate the layers on
+     * @return never null
+     */
+    public static <Stream_ extends BavetStream> NodeNetwork buildNodeNetwork(List<AbstractNode> nodeList,
+            Map<Class<?>, List<BavetRootNode<?>>> declaredClassToNodeMap, AbstractNodeBuildHelper<Stream_> buildHelper,
+            int parallelPropagationThreshold, ForkJoinPool parallelPropagationPool) {
+        return buildNodeNetwork(nodeList, declaredClassToNodeMap, buildHelper, parallelPropagationThreshold,
+                parallelPropagationPool, AbstractNode::getPropagator);
+    }
+
+    /**
+     * As {@link #buildNodeNetwork(List, Map, AbstractNodeBuildHelper, int, ForkJoinPool)},
+     * but with propagators as described in {@link #buildNodeNetwork(List, Map, Function)}.
+     */
+    public static <Stream_ extends BavetStream> NodeNetwork buildNodeNetwork(List<AbstractNode> nodeList,
+            Map<Class<?>, List<BavetRootNode<?>>> declaredClassToNodeMap, AbstractNodeBuildHelper<Stream_> buildHelper,
+            int parallelPropagationThreshold, ForkJoinPool parallelPropagationPool,
+            Function<AbstractNode, Propagator> propagatorFunction) {
+        if (parallelPropagationThreshold < 1) {
+            throw new IllegalArgumentException("The parallelPropagationThreshold (%d) must be at least 1."
+                    .formatted(parallelPropagationThreshold));
+        }
+        return new NodeNetwork(declaredClassToNodeMap, buildLayeredNodes(nodeList, propagatorFunction),
+                buildLayeredNodeGroups(nodeList, buildHelper, propagatorFunction), parallelPropagationThreshold,
+                Objects.requireNonNull(parallelPropagationPool));
+    }
+
+    private static Propagator[][] buildLayeredNodes(List<AbstractNode> nodeList,
+            Function<AbstractNode, Propagator> propagatorFunction) {
         var layerMap = new TreeMap<Long, List<Propagator>>();
         for (var node : nodeList) {
             layerMap.computeIfAbsent(node.getLayerIndex(), k -> new ArrayList<>())
-                    .add(node.getPropagator());
+                    .add(propagatorFunction.apply(node));
         }
         var layerCount = layerMap.size();
         var layeredNodes = new Propagator[layerCount][];
@@ -159,7 +226,78 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
             var layer = layerMap.get((long) i);
             layeredNodes[i] = layer.toArray(new Propagator[0]);
         }
-        return new NodeNetwork(declaredClassToNodeMap, layeredNodes);
+        return layeredNodes;
+    }
+
+    /**
+     * Splits every layer into groups of nodes which can propagate concurrently with the other groups of the same layer.
+     * Two nodes of the same layer end up in the same group if:
+     * <ul>
+     * <li>they have a child node in common, such as both inputs of a join,</li>
+     * <li>or they both feed a scorer, as all scorers share the same score inliner,</li>
+     * <li>or they are both precompute nodes, which are kept together to be on the safe side.</li>
+     * </ul>
+     * Nodes which are not connected in any of these ways can not observe each other's propagation.
+     */
+    private static <Stream_ extends BavetStream> Propagator[][][] buildLayeredNodeGroups(List<AbstractNode> nodeList,
+            AbstractNodeBuildHelper<Stream_> buildHelper, Function<AbstractNode, Propagator> propagatorFunction) {
+        var groupParentMap = new IdentityHashMap<AbstractNode, AbstractNode>(nodeList.size());
+        // For every layer, the first node of that layer which is known to share state with the others.
+        var layerToSharedNodeMap = new HashMap<Long, AbstractNode>();
+        for (var node : nodeList) {
+            groupParentMap.put(node, node);
+            if (node instanceof AbstractPrecomputeNode<?>) {
+                unionWithLayer(groupParentMap, layerToSharedNodeMap, node);
+            }
+        }
+        for (var node : nodeList) {
+            var childLayerToParentNodeMap = new HashMap<Long, AbstractNode>();
+            for (var parentNode : findParentNodes(node, buildHelper)) {
+                unionWithLayer(groupParentMap, childLayerToParentNodeMap, parentNode);
+            }
+        }
+        for (var scoringStream : buildHelper.scoringStreamList) {
+            unionWithLayer(groupParentMap, layerToSharedNodeMap, buildHelper.findParentNode(scoringStream));
+        }
+        var layerMap = new TreeMap<Long, Map<AbstractNode, List<Propagator>>>();
+        for (var node : nodeList) {
+            layerMap.computeIfAbsent(node.getLayerIndex(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(findGroup(groupParentMap, node), k -> new ArrayList<>())
+                    .add(propagatorFunction.apply(node));
+        }
+        var layerCount = layerMap.size();
+        var layeredNodeGroups = new Propagator[layerCount][][];
+        for (var i = 0; i < layerCount; i++) {
+            layeredNodeGroups[i] = layerMap.get((long) i).values().stream()
+                    .map(group -> group.toArray(new Propagator[0]))
+                    .toArray(Propagator[][]::new);
+        }
+        return layeredNodeGroups;
+    }
+
+    private static void unionWithLayer(Map<AbstractNode, AbstractNode> groupParentMap,
+            Map<Long, AbstractNode> layerToNodeMap, AbstractNode node) {
+        var otherNode = layerToNodeMap.putIfAbsent(node.getLayerIndex(), node);
+        if (otherNode != null) {
+            groupParentMap.put(findGroup(groupParentMap, node), findGroup(groupParentMap, otherNode));
+        }
+    }
+
+    private static AbstractNode findGroup(Map<AbstractNode, AbstractNode> groupParentMap, AbstractNode node) {
+        var groupNode = node;
+        while (true) {
+            var parentNode = groupParentMap.get(groupNode);
+            if (parentNode == groupNode) {
+                break;
+            }
+            groupNode = parentNode;
+        }
+        // Compress the path, so that the next lookup is faster.
+        while (node != groupNode) {
+            var parentNode = groupParentMap.put(node, groupNode);
+            node = parentNode;
+        }
+        return groupNode;
     }
 
     public <BuildHelper_ extends AbstractNodeBuildHelper<Stream_>> List<AbstractNode> buildNodeList(Set<Stream_> streamSet,
@@ -202,22 +340,31 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
      * @param buildHelper never null
      * @return at least 0
      */
-    @SuppressWarnings("unchecked")
     private static <Stream_ extends BavetStream> long determineLayerIndex(AbstractNode node,
             AbstractNodeBuildHelper<Stream_> buildHelper) {
         if (node instanceof BavetRootNode<?>) { // Root nodes, and only they, are in layer 0.
             return 0;
+        }
+        var layerIndex = 0L;
+        for (var parentNode : findParentNodes(node, buildHelper)) {
+            layerIndex = Math.max(layerIndex, parentNode.getLayerIndex() + 1);
+        }
+        return layerIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Stream_ extends BavetStream> List<AbstractNode> findParentNodes(AbstractNode node,
+            AbstractNodeBuildHelper<Stream_> buildHelper) {
+        if (node instanceof BavetRootNode<?>) {
+            return Collections.emptyList();
         } else if (node instanceof AbstractTwoInputNode<?, ?> joinNode) {
             var nodeCreator = (BavetStreamBinaryOperation<?>) buildHelper.getNodeCreatingStream(joinNode);
             var leftParent = (Stream_) nodeCreator.getLeftParent();
             var rightParent = (Stream_) nodeCreator.getRightParent();
-            var leftParentNode = buildHelper.findParentNode(leftParent);
-            var rightParentNode = buildHelper.findParentNode(rightParent);
-            return Math.max(leftParentNode.getLayerIndex(), rightParentNode.getLayerIndex()) + 1;
+            return List.of(buildHelper.findParentNode(leftParent), buildHelper.findParentNode(rightParent));
         } else {
             var nodeCreator = buildHelper.getNodeCreatingStream(node);
-            var parentNode = buildHelper.findParentNode(nodeCreator.getParent());
-            return parentNode.getLayerIndex() + 1;
+            return List.of(buildHelper.findParentNode(nodeCreator.getParent()));
         }
     }
 
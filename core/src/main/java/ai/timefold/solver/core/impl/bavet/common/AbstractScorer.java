@@ -29,6 +29,9 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
         UndoScoreImpacter undoScoreImpacter = tuple.getStore(inputStoreIndex);
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
         if (undoScoreImpacter != null) {
+            // The undo goes back to its pool when run, so the tuple must not keep it,
+            // even if the impact below throws.
+            tuple.setStore(inputStoreIndex, null);
             undoScoreImpacter.run();
         }
         tuple.setStore(inputStoreIndex, impact(tuple));
@@ -55,8 +58,8 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
         UndoScoreImpacter undoScoreImpacter = tuple.getStore(inputStoreIndex);
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
         if (undoScoreImpacter != null) {
-            undoScoreImpacter.run();
             tuple.setStore(inputStoreIndex, null);
+            undoScoreImpacter.run();
         }
     }
 
@@ -9,6 +9,18 @@ public interface BavetRootNode<A> {
 
     void update(@Nullable A a);
 
+    /**
+     * As {@link #update(Object)},
+     * but the caller guarantees that the change did not affect whether the fact passes the filter of this node, if any.
+     * Nodes with a filter may use this to skip evaluating it,
+     * or to skip the update entirely if the fact did not pass the filter before.
+     *
+     * @param a the fact that changed
+     */
+    default void updateFilterUnaffected(@Nullable A a) {
+        update(a);
+    }
+
     void retract(@Nullable A a);
 
     boolean allowsInstancesOf(Class<?> clazz);
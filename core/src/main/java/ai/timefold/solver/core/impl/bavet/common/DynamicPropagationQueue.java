@@ -120,6 +120,11 @@ final class DynamicPropagationQueue<Tuple_ extends AbstractTuple, Carrier_ exten
         carrier.setState(state);
     }
 
+    @Override
+    public int size() {
+        return dirtyList.size();
+    }
+
     @Override
     public void propagateRetracts() {
         if (retractQueue.isEmpty()) {
@@ -0,0 +1,57 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Accumulates how much work the {@link Propagator} of a single node has done,
+ * as measured by its {@link ProfilingPropagator}.
+ * <p>
+ * Propagating a node's queue runs the insert/update/retract logic of its child nodes,
+ * up to and including the scorers;
+ * therefore the time recorded here is the time spent downstream of the node.
+ * <p>
+ * Only written by the thread propagating the node,
+ * but read by metrics from other threads;
+ * the counters are volatile so that those reads are never torn.
+ */
+@NullMarked
+public final class PropagationProfile {
+
+    private volatile long propagationCount = 0L;
+    private volatile long itemCount = 0L;
+    private volatile long timeNanos = 0L;
+
+    // Only called by the propagating thread, so the increments need no atomicity.
+    void record(int itemCount, long timeNanos) {
+        this.propagationCount++;
+        this.itemCount += itemCount;
+        this.timeNanos += timeNanos;
+    }
+
+    /**
+     * @return the number of times the node propagated with a non-empty queue
+     */
+    public long getPropagationCount() {
+        return propagationCount;
+    }
+
+    /**
+     * @return the number of tuples which the node propagated
+     */
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * @return the total time spent propagating the node, in nanoseconds
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "%d items in %d ns".formatted(itemCount, timeNanos);
+    }
+
+}
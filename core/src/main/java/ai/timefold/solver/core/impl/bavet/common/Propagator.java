@@ -38,7 +38,7 @@ import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
  *
  * @see PropagationQueue More information about propagation.
  */
-public sealed interface Propagator permits PropagationQueue, RecordAndReplayPropagator {
+public sealed interface Propagator permits PropagationQueue, ProfilingPropagator, RecordAndReplayPropagator {
 
     /**
      * Starts the propagation event. Must be followed by {@link #propagateUpdates()}.
@@ -66,4 +66,11 @@ public sealed interface Propagator permits PropagationQueue, RecordAndReplayProp
         propagateInserts();
     }
 
+    /**
+     * Used to decide whether a layer has enough work queued to be worth propagating in parallel.
+     *
+     * @return the number of items waiting to be propagated, at least 0
+     */
+    int size();
+
 }
@@ -84,6 +84,11 @@ public final class RecordAndReplayPropagator<Tuple_ extends AbstractTuple>
         }
     }
 
+    @Override
+    public int size() {
+        return retractQueue.size() + updateQueue.size() + insertQueue.size();
+    }
+
     @Override
     public void propagateRetracts() {
         if (!retractQueue.isEmpty() || !insertQueue.isEmpty()) {
@@ -71,6 +71,11 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
         retractQueue.add(carrier);
     }
 
+    @Override
+    public int size() {
+        return retractQueue.size() + updateQueue.size() + insertQueue.size();
+    }
+
     @Override
     public void propagateRetracts() {
         if (retractQueue.isEmpty()) {
@@ -0,0 +1,300 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType;
+import ai.timefold.solver.core.impl.util.ElementAwareList;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * Alternative to {@link ComparisonIndexer} for when the comparison is the last indexer in the chain,
+ * which means that every key maps directly to a list of tuples.
+ * The keys are kept in an AVL tree where every node also knows the number of tuples in its subtree.
+ * This makes {@link #size(Object)} run in O(log n), as it only needs to follow a single path from the root,
+ * as opposed to visiting every key within range.
+ * {@link #forEach(Object, Consumer)} walks the tree in order, without creating any iterators or map entries.
+ * <p>
+ * {@link IndexerFactory} uses this indexer automatically instead of {@link ComparisonIndexer}
+ * whenever the downstream indexer would have been a {@link NoneIndexer}.
+ *
+ * @param <T> the type of the tuple
+ * @param <Key_> the type of the key
+ */
+final class AugmentedComparisonIndexer<T, Key_ extends Comparable<Key_>>
+        implements Indexer<T> {
+
+    private final KeyRetriever<Key_> keyRetriever;
+    private final Comparator<Key_> keyComparator;
+    private final boolean hasOrEquals;
+    private Node<T, Key_> root = null;
+    private int keyCount = 0;
+
+    /**
+     * Construct an {@link AugmentedComparisonIndexer} which is the only indexer in the chain.
+     * This means {@code indexKeys} must be a single key.
+     *
+     * @param comparisonJoinerType the type of comparison to use
+     */
+    public AugmentedComparisonIndexer(JoinerType comparisonJoinerType) {
+        this(comparisonJoinerType, new SingleKeyRetriever<>());
+    }
+
+    /**
+     * Construct an {@link AugmentedComparisonIndexer} which is the last indexer in a longer chain.
+     * This means {@code indexKeys} must be an instance of {@link IndexKeys}.
+     *
+     * @param comparisonJoinerType the type of comparison to use
+     * @param keyIndex the index of the key to use within {@link IndexKeys}.
+     */
+    public AugmentedComparisonIndexer(JoinerType comparisonJoinerType, int keyIndex) {
+        this(comparisonJoinerType, new ManyKeyRetriever<>(keyIndex));
+    }
+
+    private AugmentedComparisonIndexer(JoinerType comparisonJoinerType, KeyRetriever<Key_> keyRetriever) {
+        this.keyRetriever = Objects.requireNonNull(keyRetriever);
+        /*
+         * For GT/GTE, the order is reversed.
+         * This means that the matching keys are always a prefix of the in-order traversal,
+         * just like in ComparisonIndexer.
+         */
+        this.keyComparator =
+                (comparisonJoinerType == JoinerType.GREATER_THAN || comparisonJoinerType == JoinerType.GREATER_THAN_OR_EQUAL)
+                        ? Comparator.<Key_> naturalOrder().reversed()
+                        : Comparator.naturalOrder();
+        this.hasOrEquals = comparisonJoinerType == JoinerType.GREATER_THAN_OR_EQUAL
+                || comparisonJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(Object indexKeys, T tuple) {
+        Key_ indexKey = keyRetriever.apply(indexKeys);
+        var node = find(indexKey);
+        if (node == null) {
+            root = insert(root, indexKey);
+            keyCount++;
+            node = find(indexKey);
+        }
+        var entry = node.tupleList.add(tuple);
+        adjustTupleCounts(indexKey, 1);
+        return entry;
+    }
+
+    @Override
+    public void remove(Object indexKeys, ElementAwareListEntry<T> entry) {
+        Key_ indexKey = keyRetriever.apply(indexKeys);
+        var node = find(indexKey);
+        if (node == null) {
+            throw new IllegalStateException(
+                    "Impossible state: the tuple (%s) with indexKeys (%s) doesn't exist in the indexer %s."
+                            .formatted(entry.getElement(), indexKeys, this));
+        }
+        entry.remove();
+        if (node.tupleList.size() == 0) {
+            root = delete(root, indexKey);
+            keyCount--;
+        } else {
+            adjustTupleCounts(indexKey, -1);
+        }
+    }
+
+    private Node<T, Key_> find(Key_ key) {
+        var node = root;
+        while (node != null) {
+            var comparison = keyComparator.compare(key, node.key);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Updates the subtree tuple counts on the path from the root to the node with the given key.
+     * The key must exist in the tree.
+     */
+    private void adjustTupleCounts(Key_ key, int delta) {
+        var node = root;
+        while (true) {
+            node.subtreeTupleCount += delta;
+            var comparison = keyComparator.compare(key, node.key);
+            if (comparison == 0) {
+                return;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+    }
+
+    private Node<T, Key_> insert(Node<T, Key_> node, Key_ key) {
+        if (node == null) {
+            return new Node<>(key);
+        }
+        if (keyComparator.compare(key, node.key) < 0) {
+            node.left = insert(node.left, key);
+        } else {
+            node.right = insert(node.right, key);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T, Key_> delete(Node<T, Key_> node, Key_ key) {
+        var comparison = keyComparator.compare(key, node.key);
+        if (comparison < 0) {
+            node.left = delete(node.left, key);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, key);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Replace the node by its in-order successor.
+            var successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMinimum(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T, Key_> deleteMinimum(Node<T, Key_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMinimum(node.left);
+        return rebalance(node);
+    }
+
+    private Node<T, Key_> rebalance(Node<T, Key_> node) {
+        node.recompute();
+        var balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T, Key_> Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        var newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.recompute();
+        newRoot.recompute();
+        return newRoot;
+    }
+
+    private static <T, Key_> Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        var newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.recompute();
+        newRoot.recompute();
+        return newRoot;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int tupleCount(Node<?, ?> node) {
+        return node == null ? 0 : node.subtreeTupleCount;
+    }
+
+    private boolean isWithinRange(Key_ key, Key_ indexKey) {
+        var comparison = keyComparator.compare(key, indexKey);
+        return comparison < 0 || (comparison == 0 && hasOrEquals);
+    }
+
+    @Override
+    public int size(Object indexKeys) {
+        if (root == null) {
+            return 0;
+        }
+        Key_ indexKey = keyRetriever.apply(indexKeys);
+        var size = 0;
+        var node = root;
+        while (node != null) {
+            if (isWithinRange(node.key, indexKey)) {
+                // The entire left subtree is within range as well.
+                size += tupleCount(node.left) + node.tupleList.size();
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(Object indexKeys, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Key_ indexKey = keyRetriever.apply(indexKeys);
+        forEach(root, indexKey, tupleConsumer);
+    }
+
+    private void forEach(Node<T, Key_> node, Key_ indexKey, Consumer<T> tupleConsumer) {
+        while (node != null) {
+            if (isWithinRange(node.key, indexKey)) {
+                forEachInSubtree(node.left, tupleConsumer);
+                node.tupleList.forEach(tupleConsumer);
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+    }
+
+    private static <T> void forEachInSubtree(Node<T, ?> node, Consumer<T> tupleConsumer) {
+        while (node != null) {
+            forEachInSubtree(node.left, tupleConsumer);
+            node.tupleList.forEach(tupleConsumer);
+            node = node.right;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + keyCount;
+    }
+
+    private static final class Node<T, Key_> {
+
+        private final Key_ key;
+        private final ElementAwareList<T> tupleList = new ElementAwareList<>();
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+        private int height = 1;
+        private int subtreeTupleCount = 0;
+
+        private Node(Key_ key) {
+            this.key = key;
+        }
+
+        private void recompute() {
+            height = 1 + Math.max(height(left), height(right));
+            subtreeTupleCount = tupleCount(left) + tupleList.size() + tupleCount(right);
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Array-backed map indexed by {@link Enum#ordinal()}, similar to {@link java.util.EnumMap}.
+ * Keys which are not constants of the given enum are delegated to a lazily created {@link HashMap}.
+ *
+ * @param <V> the type of the downstream indexer
+ */
+final class EnumEqualsIndexerMap<V> implements EqualsIndexerMap<V> {
+
+    private final Class<?> enumClass;
+    private final Object[] values;
+    private int enumKeyCount = 0;
+    private Map<Object, V> otherKeyMap = null;
+
+    EnumEqualsIndexerMap(Class<?> enumClass) {
+        this.enumClass = Objects.requireNonNull(enumClass);
+        this.values = new Object[enumClass.getEnumConstants().length];
+    }
+
+    private boolean isOwnKey(Object key) {
+        return key instanceof Enum<?> enumKey && enumKey.getDeclaringClass() == enumClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        if (isOwnKey(key)) {
+            return (V) values[((Enum<?>) key).ordinal()];
+        }
+        return otherKeyMap == null ? null : otherKeyMap.get(key);
+    }
+
+    @Override
+    public void put(Object key, V value) {
+        if (isOwnKey(key)) {
+            var ordinal = ((Enum<?>) key).ordinal();
+            if (values[ordinal] == null) {
+                enumKeyCount++;
+            }
+            values[ordinal] = value;
+            return;
+        }
+        if (otherKeyMap == null) {
+            otherKeyMap = new HashMap<>();
+        }
+        otherKeyMap.put(key, value);
+    }
+
+    @Override
+    public void remove(Object key) {
+        if (isOwnKey(key)) {
+            var ordinal = ((Enum<?>) key).ordinal();
+            if (values[ordinal] != null) {
+                values[ordinal] = null;
+                enumKeyCount--;
+            }
+            return;
+        }
+        if (otherKeyMap != null) {
+            otherKeyMap.remove(key);
+        }
+    }
+
+    @Override
+    public int size() {
+        return enumKeyCount + (otherKeyMap == null ? 0 : otherKeyMap.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+}
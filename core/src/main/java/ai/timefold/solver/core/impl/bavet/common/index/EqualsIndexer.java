@@ -1,7 +1,5 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -12,7 +10,11 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     private final KeyRetriever<Key_> keyRetriever;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>();
+    /**
+     * Created on the first {@link #put(Object, Object)},
+     * as only then is the type of the key known; see {@link EqualsIndexerMap#forKey(Object)}.
+     */
+    private EqualsIndexerMap<Indexer<T>> downstreamIndexerMap = null;
 
     /**
      * Construct an {@link EqualsIndexer} which immediately ends in a {@link NoneIndexer}.
@@ -38,6 +40,9 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
     @Override
     public ElementAwareListEntry<T> put(Object indexKeys, T tuple) {
         Key_ indexKey = keyRetriever.apply(indexKeys);
+        if (downstreamIndexerMap == null) {
+            downstreamIndexerMap = EqualsIndexerMap.forKey(indexKey);
+        }
         // Avoids computeIfAbsent in order to not create lambdas on the hot path.
         Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
         if (downstreamIndexer == null) {
@@ -58,7 +63,7 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
     }
 
     private Indexer<T> getDownstreamIndexer(Object indexKeys, Key_ indexerKey, ElementAwareListEntry<T> entry) {
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexerKey);
+        Indexer<T> downstreamIndexer = downstreamIndexerMap == null ? null : downstreamIndexerMap.get(indexerKey);
         if (downstreamIndexer == null) {
             throw new IllegalStateException(
                     "Impossible state: the tuple (%s) with indexKey (%s) doesn't exist in the indexer %s."
@@ -69,6 +74,9 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public int size(Object indexKeys) {
+        if (downstreamIndexerMap == null) {
+            return 0;
+        }
         Key_ indexKey = keyRetriever.apply(indexKeys);
         Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
         if (downstreamIndexer == null) {
@@ -79,6 +87,9 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public void forEach(Object indexKeys, Consumer<T> tupleConsumer) {
+        if (downstreamIndexerMap == null) {
+            return;
+        }
         Key_ indexKey = keyRetriever.apply(indexKeys);
         Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
         if (downstreamIndexer == null) {
@@ -89,12 +100,12 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public boolean isEmpty() {
-        return downstreamIndexerMap.isEmpty();
+        return downstreamIndexerMap == null || downstreamIndexerMap.isEmpty();
     }
 
     @Override
     public String toString() {
-        return "size = " + downstreamIndexerMap.size();
+        return "size = " + (downstreamIndexerMap == null ? 0 : downstreamIndexerMap.size());
     }
 
 }
@@ -0,0 +1,44 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+/**
+ * Backing store of {@link EqualsIndexer}, mapping an index key to its downstream {@link Indexer}.
+ * <p>
+ * Key extractors are user-provided lambdas returning {@link Object},
+ * so the type of the key is unknown when the node network is built.
+ * Therefore {@link EqualsIndexer} picks the backend lazily, based on the first key it sees;
+ * see {@link #forKey(Object)}.
+ * Keys of {@link Integer}, {@link Long} and {@link Enum} types are stored without hashing the boxed instance
+ * and without allocating a map entry per key.
+ * Every specialized backend still accepts keys of any other type,
+ * so that a key function returning mixed types (such as nullable keys) keeps working.
+ * <p>
+ * Values are never null; null is returned by {@link #get(Object)} to signify a missing key.
+ *
+ * @param <V> the type of the downstream indexer
+ */
+sealed interface EqualsIndexerMap<V>
+        permits EnumEqualsIndexerMap, HashEqualsIndexerMap, IntEqualsIndexerMap, LongEqualsIndexerMap {
+
+    static <V> EqualsIndexerMap<V> forKey(Object key) {
+        if (key instanceof Integer) {
+            return new IntEqualsIndexerMap<>();
+        } else if (key instanceof Long) {
+            return new LongEqualsIndexerMap<>();
+        } else if (key instanceof Enum<?> enumKey) {
+            return new EnumEqualsIndexerMap<>(enumKey.getDeclaringClass());
+        } else {
+            return new HashEqualsIndexerMap<>();
+        }
+    }
+
+    V get(Object key);
+
+    void put(Object key, V value);
+
+    void remove(Object key);
+
+    int size();
+
+    boolean isEmpty();
+
+}
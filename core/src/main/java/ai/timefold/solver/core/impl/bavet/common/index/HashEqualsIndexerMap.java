@@ -0,0 +1,35 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+final class HashEqualsIndexerMap<V> implements EqualsIndexerMap<V> {
+
+    private final Map<Object, V> map = new HashMap<>();
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public void put(Object key, V value) {
+        map.put(key, value);
+    }
+
+    @Override
+    public void remove(Object key) {
+        map.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+}
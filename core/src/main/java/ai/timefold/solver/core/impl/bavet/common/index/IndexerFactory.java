@@ -35,6 +35,11 @@ import ai.timefold.solver.core.impl.util.Triple;
  * until they reach the ultimate {@link NoneIndexer}.
  * <p>
  * Example 1: EQUAL+LESS_THAN joiner will become EqualsIndexer -> ComparisonIndexer -> NoneIndexer.
+ * (A comparison indexer which would be directly followed by {@link NoneIndexer}
+ * is built as {@link AugmentedComparisonIndexer} instead, which keeps its tuples itself.)
+ * <p>
+ * Example 1b: EQUAL+LESS_THAN+GREATER_THAN joiner, as created by {@code equal(...).and(overlapping(...))},
+ * will become EqualsIndexer -> {@link OverlappingIndexer}.
  * <p>
  * Indexers have an id, which is the position of the indexer in the chain.
  * Top-most indexer has id 0, and the id increases as we go down the hierarchy.
@@ -67,6 +72,10 @@ import ai.timefold.solver.core.impl.util.Triple;
  * there are three indexers in the chain,
  * and the middle one's keyFunction length is 2.</li>
  * </ul>
+ * <p>
+ * The types of the keys are not known at this point, as key functions are erased lambdas returning {@link Object}.
+ * {@link EqualsIndexer} therefore specializes its storage for {@code int}, {@code long} and enum keys
+ * once it sees the first key; see {@link EqualsIndexerMap}.
  *
  * @param <Right_>
  */
@@ -100,6 +109,23 @@ public final class IndexerFactory<Right_> {
         return joiner.getJoinerCount() > 0;
     }
 
+    /**
+     * @return true if there are joiners, and all of them are {@link JoinerType#EQUAL},
+     *         in which case every right tuple only matches the left tuples of a single index key
+     */
+    public boolean hasOnlyEqualJoiners() {
+        var joinerCount = joiner.getJoinerCount();
+        if (joinerCount == 0) {
+            return false;
+        }
+        for (var i = 0; i < joinerCount; i++) {
+            if (joiner.getJoinerType(i) != JoinerType.EQUAL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public <A> UniKeysExtractor<A> buildUniLeftKeysExtractor() {
         var castJoiner = (DefaultBiJoiner<A, Right_>) joiner;
         return buildUniKeysExtractor(castJoiner::getLeftMapping);
@@ -485,22 +511,27 @@ public final class IndexerFactory<Right_> {
             if (joinerType == JoinerType.EQUAL) {
                 return new EqualsIndexer<>();
             } else {
-                return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip());
+                return new AugmentedComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip());
             }
         }
         // The following code builds the children first, so it needs to iterate over the joiners in reverse order.
-        var descendingJoinerTypeMap = joinerTypeMap.descendingMap();
+        var joinerTypeList = new ArrayList<>(joinerTypeMap.values()); // Indexed by index property id.
         Supplier<Indexer<T>> noneIndexerSupplier = NoneIndexer::new;
         Supplier<Indexer<T>> downstreamIndexerSupplier = noneIndexerSupplier;
-        var indexPropertyId = descendingJoinerTypeMap.size() - 1;
-        for (var entry : descendingJoinerTypeMap.entrySet()) {
-            var joinerType = entry.getValue();
+        var indexPropertyId = joinerTypeList.size() - 1;
+        Supplier<Indexer<T>> overlappingIndexerSupplier = buildOverlappingIndexerSupplier(joinerTypeList, isLeftBridge);
+        if (overlappingIndexerSupplier != null) { // Replaces the last two indexers in the chain.
+            downstreamIndexerSupplier = overlappingIndexerSupplier;
+            indexPropertyId -= 2;
+        }
+        for (; indexPropertyId >= 0; indexPropertyId--) {
+            var joinerType = joinerTypeList.get(indexPropertyId);
             if (downstreamIndexerSupplier == noneIndexerSupplier && indexPropertyId == 0) {
                 if (joinerType == JoinerType.EQUAL) {
                     downstreamIndexerSupplier = EqualsIndexer::new;
                 } else {
                     var actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
-                    downstreamIndexerSupplier = () -> new ComparisonIndexer<>(actualJoinerType);
+                    downstreamIndexerSupplier = () -> new AugmentedComparisonIndexer<>(actualJoinerType);
                 }
             } else {
                 var actualDownstreamIndexerSupplier = downstreamIndexerSupplier;
@@ -510,15 +541,54 @@ public final class IndexerFactory<Right_> {
                             () -> new EqualsIndexer<>(effectivelyFinalIndexPropertyId, actualDownstreamIndexerSupplier);
                 } else {
                     var actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
-                    downstreamIndexerSupplier = () -> new ComparisonIndexer<>(actualJoinerType, effectivelyFinalIndexPropertyId,
-                            actualDownstreamIndexerSupplier);
+                    if (actualDownstreamIndexerSupplier == noneIndexerSupplier) {
+                        // Last in the chain; tuple counts per key do not depend on any other key.
+                        downstreamIndexerSupplier =
+                                () -> new AugmentedComparisonIndexer<>(actualJoinerType, effectivelyFinalIndexPropertyId);
+                    } else {
+                        downstreamIndexerSupplier = () -> new ComparisonIndexer<>(actualJoinerType,
+                                effectivelyFinalIndexPropertyId, actualDownstreamIndexerSupplier);
+                    }
                 }
             }
-            indexPropertyId--;
         }
         return downstreamIndexerSupplier.get();
     }
 
+    /**
+     * Two comparisons in opposite directions on the last two index properties,
+     * such as those created by {@link ai.timefold.solver.core.api.score.stream.Joiners#overlapping(Function, Function)},
+     * are indexed together by a single {@link OverlappingIndexer}.
+     *
+     * @return null if the last two index properties do not form an overlapping query
+     */
+    private static <T> Supplier<Indexer<T>> buildOverlappingIndexerSupplier(List<JoinerType> joinerTypeList,
+            boolean isLeftBridge) {
+        var joinerTypeCount = joinerTypeList.size();
+        if (joinerTypeCount < 2) {
+            return null;
+        }
+        var firstIndexPropertyId = joinerTypeCount - 2;
+        var secondIndexPropertyId = joinerTypeCount - 1;
+        var firstJoinerType = joinerTypeList.get(firstIndexPropertyId);
+        var secondJoinerType = joinerTypeList.get(secondIndexPropertyId);
+        if (firstJoinerType == JoinerType.EQUAL || secondJoinerType == JoinerType.EQUAL) {
+            return null;
+        }
+        var actualFirstJoinerType = isLeftBridge ? firstJoinerType : firstJoinerType.flip();
+        var actualSecondJoinerType = isLeftBridge ? secondJoinerType : secondJoinerType.flip();
+        if (OverlappingIndexer.isLessThan(actualFirstJoinerType)
+                && OverlappingIndexer.isGreaterThan(actualSecondJoinerType)) {
+            return () -> new OverlappingIndexer<>(actualFirstJoinerType, firstIndexPropertyId, actualSecondJoinerType,
+                    secondIndexPropertyId);
+        } else if (OverlappingIndexer.isGreaterThan(actualFirstJoinerType)
+                && OverlappingIndexer.isLessThan(actualSecondJoinerType)) {
+            return () -> new OverlappingIndexer<>(actualSecondJoinerType, secondIndexPropertyId, actualFirstJoinerType,
+                    firstIndexPropertyId);
+        }
+        return null;
+    }
+
     /**
      * Represents a function which extracts index keys from a tuple.
      *
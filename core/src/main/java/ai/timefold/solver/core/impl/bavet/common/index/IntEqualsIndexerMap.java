@@ -0,0 +1,146 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Open-addressing map with linear probing, keyed by the primitive value of {@link Integer} keys.
+ * Removal uses backward-shift deletion, so no tombstones are ever left in the table.
+ * Keys of other types are delegated to a lazily created {@link HashMap}.
+ *
+ * @param <V> the type of the downstream indexer
+ */
+final class IntEqualsIndexerMap<V> implements EqualsIndexerMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int intKeyCount = 0;
+    private Map<Object, V> otherKeyMap = null;
+
+    private int slot(int key) {
+        var hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        if (key instanceof Integer intKey) {
+            var k = intKey.intValue();
+            var index = slot(k);
+            while (true) {
+                var value = values[index];
+                if (value == null) {
+                    return null;
+                } else if (keys[index] == k) {
+                    return (V) value;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+        return otherKeyMap == null ? null : otherKeyMap.get(key);
+    }
+
+    @Override
+    public void put(Object key, V value) {
+        if (key instanceof Integer intKey) {
+            if ((intKeyCount + 1) * 4 > values.length * 3) { // Load factor 0.75.
+                resize();
+            }
+            if (insert(intKey.intValue(), value)) {
+                intKeyCount++;
+            }
+            return;
+        }
+        if (otherKeyMap == null) {
+            otherKeyMap = new HashMap<>();
+        }
+        otherKeyMap.put(key, value);
+    }
+
+    private boolean insert(int key, Object value) {
+        var index = slot(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        return true;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        var newCapacity = oldValues.length * 2;
+        keys = new int[newCapacity];
+        values = new Object[newCapacity];
+        mask = newCapacity - 1;
+        for (var i = 0; i < oldValues.length; i++) {
+            var value = oldValues[i];
+            if (value != null) {
+                insert(oldKeys[i], value);
+            }
+        }
+    }
+
+    @Override
+    public void remove(Object key) {
+        if (key instanceof Integer intKey) {
+            var k = intKey.intValue();
+            var index = slot(k);
+            while (true) {
+                var value = values[index];
+                if (value == null) {
+                    return;
+                } else if (keys[index] == k) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            intKeyCount--;
+            shiftBackFrom(index);
+            return;
+        }
+        if (otherKeyMap != null) {
+            otherKeyMap.remove(key);
+        }
+    }
+
+    /**
+     * Fills the gap left by a removed entry with subsequent entries of the same probe sequence,
+     * so that lookups never stop early at a hole.
+     */
+    private void shiftBackFrom(int gapIndex) {
+        var gap = gapIndex;
+        var index = (gap + 1) & mask;
+        while (values[index] != null) {
+            var probeDistance = (index - slot(keys[index])) & mask;
+            var gapDistance = (index - gap) & mask;
+            if (probeDistance >= gapDistance) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    @Override
+    public int size() {
+        return intKeyCount + (otherKeyMap == null ? 0 : otherKeyMap.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+}
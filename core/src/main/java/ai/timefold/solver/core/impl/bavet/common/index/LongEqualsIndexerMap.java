@@ -0,0 +1,146 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Open-addressing map with linear probing, keyed by the primitive value of {@link Long} keys.
+ * Removal uses backward-shift deletion, so no tombstones are ever left in the table.
+ * Keys of other types are delegated to a lazily created {@link HashMap}.
+ *
+ * @param <V> the type of the downstream indexer
+ */
+final class LongEqualsIndexerMap<V> implements EqualsIndexerMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int longKeyCount = 0;
+    private Map<Object, V> otherKeyMap = null;
+
+    private int slot(long key) {
+        var hash = (int) ((key ^ (key >>> 32)) * 0x9E3779B97F4A7C15L);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        if (key instanceof Long longKey) {
+            var k = longKey.longValue();
+            var index = slot(k);
+            while (true) {
+                var value = values[index];
+                if (value == null) {
+                    return null;
+                } else if (keys[index] == k) {
+                    return (V) value;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+        return otherKeyMap == null ? null : otherKeyMap.get(key);
+    }
+
+    @Override
+    public void put(Object key, V value) {
+        if (key instanceof Long longKey) {
+            if ((longKeyCount + 1) * 4 > values.length * 3) { // Load factor 0.75.
+                resize();
+            }
+            if (insert(longKey.longValue(), value)) {
+                longKeyCount++;
+            }
+            return;
+        }
+        if (otherKeyMap == null) {
+            otherKeyMap = new HashMap<>();
+        }
+        otherKeyMap.put(key, value);
+    }
+
+    private boolean insert(long key, Object value) {
+        var index = slot(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        return true;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        var newCapacity = oldValues.length * 2;
+        keys = new long[newCapacity];
+        values = new Object[newCapacity];
+        mask = newCapacity - 1;
+        for (var i = 0; i < oldValues.length; i++) {
+            var value = oldValues[i];
+            if (value != null) {
+                insert(oldKeys[i], value);
+            }
+        }
+    }
+
+    @Override
+    public void remove(Object key) {
+        if (key instanceof Long longKey) {
+            var k = longKey.longValue();
+            var index = slot(k);
+            while (true) {
+                var value = values[index];
+                if (value == null) {
+                    return;
+                } else if (keys[index] == k) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            longKeyCount--;
+            shiftBackFrom(index);
+            return;
+        }
+        if (otherKeyMap != null) {
+            otherKeyMap.remove(key);
+        }
+    }
+
+    /**
+     * Fills the gap left by a removed entry with subsequent entries of the same probe sequence,
+     * so that lookups never stop early at a hole.
+     */
+    private void shiftBackFrom(int gapIndex) {
+        var gap = gapIndex;
+        var index = (gap + 1) & mask;
+        while (values[index] != null) {
+            var probeDistance = (index - slot(keys[index])) & mask;
+            var gapDistance = (index - gap) & mask;
+            if (probeDistance >= gapDistance) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    @Override
+    public int size() {
+        return longKeyCount + (otherKeyMap == null ? 0 : otherKeyMap.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+}
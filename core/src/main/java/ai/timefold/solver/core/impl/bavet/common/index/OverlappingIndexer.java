@@ -0,0 +1,303 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType;
+import ai.timefold.solver.core.impl.util.ElementAwareList;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * Indexes tuples by an interval, for the pair of comparison joiners produced by
+ * {@link ai.timefold.solver.core.api.score.stream.Joiners#overlapping(java.util.function.Function,
+ * java.util.function.Function) Joiners.overlapping(...)}.
+ * A tuple is stored with a start key and an end key;
+ * it matches the query keys {@code (queryEnd, queryStart)} when {@code start < queryEnd} and {@code end > queryStart},
+ * or their inclusive variants.
+ * <p>
+ * The intervals are kept in an AVL tree ordered by start and then by end,
+ * where every node also knows the maximum end within its subtree.
+ * A query therefore never visits subtrees whose intervals all start too late,
+ * nor subtrees whose intervals all end too early,
+ * giving O(log n + k) for typical interval data, where k is the number of matches.
+ * <p>
+ * {@link IndexerFactory} uses this indexer automatically
+ * when the last two indexers in the chain would have been comparisons in opposite directions,
+ * which is what the overlapping joiner decomposes to.
+ * Any other such pair of comparisons gets the same matches as from those comparison indexers,
+ * as neither the tree nor the queries assume that the start key precedes the end key;
+ * only the query speed does.
+ * It is always last in the chain, so it keeps the tuples itself.
+ *
+ * @param <T> the type of the tuple
+ * @param <Key_> the type of the start and end keys
+ */
+final class OverlappingIndexer<T, Key_ extends Comparable<Key_>>
+        implements Indexer<T> {
+
+    private final KeyRetriever<Key_> startKeyRetriever;
+    private final KeyRetriever<Key_> endKeyRetriever;
+    private final boolean startHasOrEquals;
+    private final boolean endHasOrEquals;
+    private Node<T, Key_> root = null;
+    private int intervalCount = 0;
+
+    /**
+     * @param startJoinerType {@link JoinerType#LESS_THAN} or {@link JoinerType#LESS_THAN_OR_EQUAL},
+     *        comparing the stored start key to the query key of the same position
+     * @param startKeyIndex the index of the start key within {@link IndexKeys}
+     * @param endJoinerType {@link JoinerType#GREATER_THAN} or {@link JoinerType#GREATER_THAN_OR_EQUAL},
+     *        comparing the stored end key to the query key of the same position
+     * @param endKeyIndex the index of the end key within {@link IndexKeys}
+     */
+    public OverlappingIndexer(JoinerType startJoinerType, int startKeyIndex, JoinerType endJoinerType, int endKeyIndex) {
+        if (!isLessThan(startJoinerType) || !isGreaterThan(endJoinerType)) {
+            throw new IllegalArgumentException(
+                    "Impossible state: the startJoinerType (%s) and endJoinerType (%s) do not form an overlapping query."
+                            .formatted(startJoinerType, endJoinerType));
+        }
+        this.startKeyRetriever = new ManyKeyRetriever<>(startKeyIndex);
+        this.endKeyRetriever = new ManyKeyRetriever<>(endKeyIndex);
+        this.startHasOrEquals = startJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        this.endHasOrEquals = endJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    static boolean isLessThan(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    static boolean isGreaterThan(JoinerType joinerType) {
+        return joinerType == JoinerType.GREATER_THAN || joinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(Object indexKeys, T tuple) {
+        Key_ start = Objects.requireNonNull(startKeyRetriever.apply(indexKeys));
+        Key_ end = Objects.requireNonNull(endKeyRetriever.apply(indexKeys));
+        var node = find(start, end);
+        if (node == null) {
+            root = insert(root, start, end);
+            intervalCount++;
+            node = find(start, end);
+        }
+        return node.tupleList.add(tuple);
+    }
+
+    @Override
+    public void remove(Object indexKeys, ElementAwareListEntry<T> entry) {
+        Key_ start = startKeyRetriever.apply(indexKeys);
+        Key_ end = endKeyRetriever.apply(indexKeys);
+        var node = find(start, end);
+        if (node == null) {
+            throw new IllegalStateException(
+                    "Impossible state: the tuple (%s) with indexKeys (%s) doesn't exist in the indexer %s."
+                            .formatted(entry.getElement(), indexKeys, this));
+        }
+        entry.remove();
+        if (node.tupleList.size() == 0) {
+            root = delete(root, start, end);
+            intervalCount--;
+        }
+    }
+
+    private static <Key_ extends Comparable<Key_>> int compare(Key_ start, Key_ end, Node<?, Key_> node) {
+        var comparison = start.compareTo(node.start);
+        return comparison != 0 ? comparison : end.compareTo(node.end);
+    }
+
+    private Node<T, Key_> find(Key_ start, Key_ end) {
+        var node = root;
+        while (node != null) {
+            var comparison = compare(start, end, node);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private Node<T, Key_> insert(Node<T, Key_> node, Key_ start, Key_ end) {
+        if (node == null) {
+            return new Node<>(start, end);
+        }
+        if (compare(start, end, node) < 0) {
+            node.left = insert(node.left, start, end);
+        } else {
+            node.right = insert(node.right, start, end);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T, Key_> delete(Node<T, Key_> node, Key_ start, Key_ end) {
+        var comparison = compare(start, end, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, end);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, end);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Replace the node by its in-order successor.
+            var successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMinimum(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T, Key_> deleteMinimum(Node<T, Key_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMinimum(node.left);
+        return rebalance(node);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rebalance(Node<T, Key_> node) {
+        node.recompute();
+        var balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        var newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.recompute();
+        newRoot.recompute();
+        return newRoot;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        var newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.recompute();
+        newRoot.recompute();
+        return newRoot;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private boolean isStartWithinRange(Key_ start, Key_ queryEnd) {
+        var comparison = start.compareTo(queryEnd);
+        return comparison < 0 || (comparison == 0 && startHasOrEquals);
+    }
+
+    private boolean isEndWithinRange(Key_ end, Key_ queryStart) {
+        var comparison = end.compareTo(queryStart);
+        return comparison > 0 || (comparison == 0 && endHasOrEquals);
+    }
+
+    @Override
+    public int size(Object indexKeys) {
+        if (root == null) {
+            return 0;
+        }
+        // The stored start is compared to the query key at the start position, which is the end of the query interval.
+        Key_ queryEnd = startKeyRetriever.apply(indexKeys);
+        Key_ queryStart = endKeyRetriever.apply(indexKeys);
+        return size(root, queryEnd, queryStart);
+    }
+
+    private int size(Node<T, Key_> node, Key_ queryEnd, Key_ queryStart) {
+        var size = 0;
+        while (node != null && isEndWithinRange(node.maxEnd, queryStart)) {
+            size += size(node.left, queryEnd, queryStart);
+            if (!isStartWithinRange(node.start, queryEnd)) {
+                // All nodes to the right start at the same point or later.
+                break;
+            }
+            if (isEndWithinRange(node.end, queryStart)) {
+                size += node.tupleList.size();
+            }
+            node = node.right;
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(Object indexKeys, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Key_ queryEnd = startKeyRetriever.apply(indexKeys);
+        Key_ queryStart = endKeyRetriever.apply(indexKeys);
+        forEach(root, queryEnd, queryStart, tupleConsumer);
+    }
+
+    private void forEach(Node<T, Key_> node, Key_ queryEnd, Key_ queryStart, Consumer<T> tupleConsumer) {
+        while (node != null && isEndWithinRange(node.maxEnd, queryStart)) {
+            forEach(node.left, queryEnd, queryStart, tupleConsumer);
+            if (!isStartWithinRange(node.start, queryEnd)) {
+                // All nodes to the right start at the same point or later.
+                return;
+            }
+            if (isEndWithinRange(node.end, queryStart)) {
+                node.tupleList.forEach(tupleConsumer);
+            }
+            node = node.right;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + intervalCount;
+    }
+
+    private static final class Node<T, Key_ extends Comparable<Key_>> {
+
+        private final Key_ start;
+        private final Key_ end;
+        private final ElementAwareList<T> tupleList = new ElementAwareList<>();
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+        private int height = 1;
+        private Key_ maxEnd;
+
+        private Node(Key_ start, Key_ end) {
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+
+        private void recompute() {
+            height = 1 + Math.max(height(left), height(right));
+            var newMaxEnd = end;
+            if (left != null && left.maxEnd.compareTo(newMaxEnd) > 0) {
+                newMaxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.compareTo(newMaxEnd) > 0) {
+                newMaxEnd = right.maxEnd;
+            }
+            maxEnd = newMaxEnd;
+        }
+
+    }
+
+}
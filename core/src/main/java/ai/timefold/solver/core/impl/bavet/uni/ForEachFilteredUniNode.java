@@ -42,6 +42,14 @@ public final class ForEachFilteredUniNode<A>
         }
     }
 
+    @Override
+    public void updateFilterUnaffected(@Nullable A a) {
+        var tuple = tupleMap.get(a);
+        if (tuple != null) { // Otherwise the fact did not pass the filter before, and the change can not make it pass.
+            updateExisting(a, tuple);
+        }
+    }
+
     @Override
     public void retract(@Nullable A a) {
         var tuple = tupleMap.remove(a);
@@ -21,12 +21,14 @@ import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhase.DefaultConstructionHeuristicPhaseBuilder;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
+import ai.timefold.solver.core.impl.constructionheuristic.decider.LazyConstructionHeuristicDecider;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedValuePlacer;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -63,6 +65,11 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 .orElseGet(() -> buildDefaultEntityPlacerConfig(phaseConfigPolicy, constructionHeuristicType_));
         var entityPlacer = EntityPlacerFactory.<Solution_> create(entityPlacerConfig_)
                 .buildEntityPlacer(phaseConfigPolicy);
+        if (constructionHeuristicType_ == ConstructionHeuristicType.LAZY_CHEAPEST_INSERTION
+                && entityPlacer instanceof QueuedValuePlacer<Solution_> queuedValuePlacer) {
+            // Only by offering every unassigned value in each step are the same moves offered again in the next step.
+            entityPlacer = queuedValuePlacer.pooled();
+        }
         return createBuilder(phaseConfigPolicy, solverTermination, phaseIndex, lastInitializingPhase, entityPlacer);
     }
 
@@ -116,7 +123,9 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         if (listVariableDescriptor == null) {
             return Optional.empty();
         }
-        failIfConfigured(phaseConfig.getConstructionHeuristicType(), "constructionHeuristicType");
+        if (phaseConfig.getConstructionHeuristicType() != ConstructionHeuristicType.LAZY_CHEAPEST_INSERTION) {
+            failIfConfigured(phaseConfig.getConstructionHeuristicType(), "constructionHeuristicType");
+        }
         failIfConfigured(phaseConfig.getMoveSelectorConfigList(), "moveSelectorConfigList");
         // When an entity has both list and basic variables,
         // the CH configuration will require two separate placers to initialize each variable,
@@ -171,10 +180,23 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
             PhaseTermination<Solution_> termination) {
         var forager = buildForager(configPolicy);
         var moveThreadCount = configPolicy.getMoveThreadCount();
-        var decider = (moveThreadCount == null)
-                ? new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager)
-                : TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
-                        .buildConstructionHeuristic(termination, forager, configPolicy);
+        ConstructionHeuristicDecider<Solution_> decider;
+        if (phaseConfig.getConstructionHeuristicType() == ConstructionHeuristicType.LAZY_CHEAPEST_INSERTION) {
+            if (moveThreadCount != null) {
+                throw new IllegalArgumentException("""
+                        The constructionHeuristicType (%s) does not support multithreaded solving.
+                        Maybe remove the moveThreadCount (%d) from the solver config \
+                        or use the constructionHeuristicType (%s) instead."""
+                        .formatted(ConstructionHeuristicType.LAZY_CHEAPEST_INSERTION, moveThreadCount,
+                                ConstructionHeuristicType.CHEAPEST_INSERTION));
+            }
+            decider = new LazyConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
+        } else if (moveThreadCount == null) {
+            decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
+        } else {
+            decider = TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
+                    .buildConstructionHeuristic(termination, forager, configPolicy);
+        }
         decider.enableAssertions(configPolicy.getEnvironmentMode());
         return decider;
     }
@@ -201,7 +223,7 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 }
                 yield new QueuedValuePlacerConfig();
             }
-            case CHEAPEST_INSERTION, ALLOCATE_FROM_POOL -> {
+            case CHEAPEST_INSERTION, ALLOCATE_FROM_POOL, LAZY_CHEAPEST_INSERTION -> {
                 if (!ConfigUtils.isEmptyCollection(phaseConfig.getMoveSelectorConfigList())) {
                     yield PooledEntityPlacerFactory.unfoldNew(phaseConfigPolicy, checkSingleMoveSelectorConfig());
                 }
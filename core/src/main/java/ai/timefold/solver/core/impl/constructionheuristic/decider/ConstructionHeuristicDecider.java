@@ -89,23 +89,8 @@ public class ConstructionHeuristicDecider<Solution_> {
         var terminatedPrematurely = false;
         while (moveIterator.hasNext()) {
             var move = moveIterator.next();
-            var allowedNonDoableMove = isAllowedNonDoableMove(move);
-            if (!allowedNonDoableMove) {
-                var moveDirector = stepScope.getMoveDirector();
-                if (!LegacyMoveAdapter.isDoable(moveDirector, move)) {
-                    // Construction Heuristic should not do non-doable moves, but in some cases, it has to.
-                    // Specifically:
-                    //      1/ NoChangeMove for list variable; means "try to not assign that value".
-                    //      2/ ChangeMove for basic variable; move from null to null means "try to not assign that value".
-                    //      3/ Technically also ChainedChangeMove, but chained doesn't support unassigned values.
-                    // Every other non-doable move must not be executed, as it may cause all sorts of issues.
-                    // Example: ListChangeMove from a[0] to a[1] when the list of 'a' only has 1 element.
-                    //      This move is correctly non-doable,
-                    //      but it may be generated by the placer, and must therefore be ignored.
-                    // Note: CH will only ever see change moves, as its purpose is to assign a variable to a value.
-                    //      It will never do anything more complex than that.
-                    continue;
-                }
+            if (!isSelectable(stepScope, move)) {
+                continue;
             }
             var moveScope = new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, move);
             moveIndex++;
@@ -130,6 +115,24 @@ public class ConstructionHeuristicDecider<Solution_> {
         }
     }
 
+    protected boolean isSelectable(ConstructionHeuristicStepScope<Solution_> stepScope, Move<Solution_> move) {
+        if (isAllowedNonDoableMove(move)) {
+            return true;
+        }
+        // Construction Heuristic should not do non-doable moves, but in some cases, it has to.
+        // Specifically:
+        //      1/ NoChangeMove for list variable; means "try to not assign that value".
+        //      2/ ChangeMove for basic variable; move from null to null means "try to not assign that value".
+        //      3/ Technically also ChainedChangeMove, but chained doesn't support unassigned values.
+        // Every other non-doable move must not be executed, as it may cause all sorts of issues.
+        // Example: ListChangeMove from a[0] to a[1] when the list of 'a' only has 1 element.
+        //      This move is correctly non-doable,
+        //      but it may be generated by the placer, and must therefore be ignored.
+        // Note: CH will only ever see change moves, as its purpose is to assign a variable to a value.
+        //      It will never do anything more complex than that.
+        return LegacyMoveAdapter.isDoable(stepScope.getMoveDirector(), move);
+    }
+
     private static <Solution_> boolean isAllowedNonDoableMove(Move<Solution_> move) {
         if (move instanceof LegacyMoveAdapter<Solution_> legacyMove) {
             var adaptedMove = legacyMove.legacyMove();
@@ -141,7 +144,11 @@ public class ConstructionHeuristicDecider<Solution_> {
     }
 
     protected void pickMove(ConstructionHeuristicStepScope<Solution_> stepScope) {
-        var pickedMoveScope = forager.pickMove(stepScope);
+        pickMove(stepScope, forager.pickMove(stepScope));
+    }
+
+    protected void pickMove(ConstructionHeuristicStepScope<Solution_> stepScope,
+            ConstructionHeuristicMoveScope<Solution_> pickedMoveScope) {
         if (pickedMoveScope != null) {
             var step = pickedMoveScope.getMove();
             stepScope.setStep(step);
@@ -0,0 +1,237 @@
+package ai.timefold.solver.core.impl.constructionheuristic.decider;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListAssignMove;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+/**
+ * Used by {@link ConstructionHeuristicType#LAZY_CHEAPEST_INSERTION}.
+ * <p>
+ * A pooled entity placer offers mostly the same moves step after step,
+ * and most of them are not affected by the move picked in the previous step.
+ * This decider therefore remembers by how much each move changed the score when it was last evaluated,
+ * and uses that difference to estimate the score of the move in later steps.
+ * Every step, it only evaluates the moves it has never seen before,
+ * and then keeps re-evaluating the move with the best estimate,
+ * until the move with the best estimate is one which was evaluated in this step.
+ * <p>
+ * This picks the same move as {@link ConstructionHeuristicDecider} would,
+ * as long as picking a move never improves the score difference of another move.
+ * <p>
+ * For a planning list variable, a move assigns a value to a position in an entity's list.
+ * Assigning a value shifts the positions after it,
+ * so the remembered differences of all moves to the entity which the previous step changed are forgotten;
+ * the moves to every other entity keep theirs.
+ * {@link EnvironmentMode#isIntrusivelyAsserted() Intrusive assertions} verify that,
+ * by evaluating all the moves which were not re-evaluated.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class LazyConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    private Map<Move<Solution_>, ScoreDifference<?>> scoreDifferenceMap = Collections.emptyMap();
+    private boolean assertLazyPick = false;
+    // The entity whose list the previous step assigned a value to, if any.
+    private Object changedListEntity = null;
+
+    public LazyConstructionHeuristicDecider(String logIndentation, PhaseTermination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager) {
+        super(logIndentation, termination, forager);
+    }
+
+    @Override
+    public void enableAssertions(EnvironmentMode environmentMode) {
+        super.enableAssertions(environmentMode);
+        this.assertLazyPick = environmentMode.isIntrusivelyAsserted();
+    }
+
+    @Override
+    public void stepEnded(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        changedListEntity = extractListAssignDestination(stepScope.getStep());
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        scoreDifferenceMap = Collections.emptyMap();
+        changedListEntity = null;
+    }
+
+    private static Object extractListAssignDestination(Move<?> move) {
+        if (move instanceof LegacyMoveAdapter<?> legacyMove
+                && legacyMove.legacyMove() instanceof ListAssignMove<?> assignMove) {
+            return assignMove.getDestinationEntity();
+        }
+        return null;
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Iterator<Move<Solution_>> moveIterator) {
+        decideNextStepLazily(stepScope, moveIterator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Score_ extends Score<Score_>> void decideNextStepLazily(ConstructionHeuristicStepScope<Solution_> stepScope,
+            Iterator<Move<Solution_>> moveIterator) {
+        var phaseScope = stepScope.getPhaseScope();
+        InnerScore<Score_> lastStepScore = phaseScope.getLastCompletedStepScope().getScore();
+        // Moves which are no longer offered by the placer are dropped by only keeping the moves seen in this step.
+        var nextScoreDifferenceMap = new HashMap<Move<Solution_>, ScoreDifference<?>>(scoreDifferenceMap.size());
+        var candidateQueue = new PriorityQueue<Candidate<Solution_, Score_>>();
+        var moveIndex = 0;
+        while (moveIterator.hasNext()) {
+            var move = moveIterator.next();
+            if (!isSelectable(stepScope, move)) {
+                continue;
+            }
+            var scoreDifference = changedListEntity != null && extractListAssignDestination(move) == changedListEntity
+                    ? null
+                    : (ScoreDifference<Score_>) scoreDifferenceMap.get(move);
+            if (scoreDifference != null) {
+                candidateQueue.add(new Candidate<>(move, moveIndex, scoreDifference.applyTo(lastStepScore), null));
+                nextScoreDifferenceMap.put(move, scoreDifference);
+                moveIndex++;
+                continue;
+            }
+            var candidate = evaluate(stepScope, move, moveIndex, lastStepScore, nextScoreDifferenceMap);
+            candidateQueue.add(candidate);
+            moveIndex++;
+            if (forager.isQuitEarly()) {
+                scoreDifferenceMap = nextScoreDifferenceMap;
+                pickMove(stepScope);
+                return;
+            }
+            phaseScope.getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(phaseScope)) {
+                // As in the parent, do not pick a move when there were moves left to evaluate.
+                scoreDifferenceMap = nextScoreDifferenceMap;
+                return;
+            }
+        }
+        while (!candidateQueue.isEmpty() && !candidateQueue.peek().evaluated()) {
+            var staleCandidate = candidateQueue.poll();
+            candidateQueue.add(evaluate(stepScope, staleCandidate.move(), staleCandidate.moveIndex(), lastStepScore,
+                    nextScoreDifferenceMap));
+            if (forager.isQuitEarly()) {
+                break;
+            }
+            phaseScope.getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(phaseScope)) {
+                scoreDifferenceMap = nextScoreDifferenceMap;
+                return;
+            }
+        }
+        scoreDifferenceMap = nextScoreDifferenceMap;
+        var foragerPickedMoveScope = forager.pickMove(stepScope);
+        if (forager.isQuitEarly() || candidateQueue.isEmpty()) {
+            pickMove(stepScope, foragerPickedMoveScope);
+            return;
+        }
+        // The forager keeps the first of the best moves in the order they were evaluated,
+        // but re-evaluated moves come after the new ones, so the placer order is restored by the queue instead.
+        var pickedCandidate = candidateQueue.peek();
+        if (assertLazyPick) {
+            assertNoBetterStaleCandidate(stepScope, pickedCandidate, candidateQueue);
+        }
+        pickMove(stepScope, pickedCandidate.moveScope());
+    }
+
+    private <Score_ extends Score<Score_>> Candidate<Solution_, Score_> evaluate(
+            ConstructionHeuristicStepScope<Solution_> stepScope, Move<Solution_> move, int moveIndex,
+            InnerScore<Score_> lastStepScore, Map<Move<Solution_>, ScoreDifference<?>> nextScoreDifferenceMap) {
+        var moveScope = new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, move);
+        doMove(moveScope);
+        InnerScore<Score_> score = moveScope.getScore();
+        nextScoreDifferenceMap.put(move, ScoreDifference.of(score, lastStepScore));
+        return new Candidate<>(move, moveIndex, score, moveScope);
+    }
+
+    private <Score_ extends Score<Score_>> void assertNoBetterStaleCandidate(
+            ConstructionHeuristicStepScope<Solution_> stepScope, Candidate<Solution_, Score_> pickedCandidate,
+            PriorityQueue<Candidate<Solution_, Score_>> candidateQueue) {
+        InnerScoreDirector<Solution_, Score_> scoreDirector = stepScope.getScoreDirector();
+        for (var candidate : candidateQueue) {
+            if (candidate.evaluated()) {
+                continue;
+            }
+            var score = scoreDirector.executeTemporaryMove(candidate.move(), false);
+            var scoreComparison = score.compareTo(pickedCandidate.score());
+            // On equal scores, the placer offering the move earlier also means it should have been picked instead.
+            if (scoreComparison > 0 || (scoreComparison == 0 && candidate.moveIndex() < pickedCandidate.moveIndex())) {
+                throw new IllegalStateException("""
+                        The move (%s) has a score (%s) which is not worse than the score (%s) of the picked move (%s), \
+                        but it was estimated to have a score (%s).
+                        Picking a move improved the score of another move, \
+                        which the constructionHeuristicType (%s) assumes never happens.
+                        Maybe use the constructionHeuristicType (%s) instead."""
+                        .formatted(candidate.move(), score, pickedCandidate.score(), pickedCandidate.move(),
+                                candidate.score(), ConstructionHeuristicType.LAZY_CHEAPEST_INSERTION,
+                                ConstructionHeuristicType.CHEAPEST_INSERTION));
+            }
+        }
+    }
+
+    /**
+     * By how much a move changed the score of the solution, when it was last evaluated.
+     */
+    private record ScoreDifference<Score_ extends Score<Score_>>(Score_ raw, int unassignedCount) {
+
+        static <Score_ extends Score<Score_>> ScoreDifference<Score_> of(InnerScore<Score_> moveScore,
+                InnerScore<Score_> lastStepScore) {
+            return new ScoreDifference<>(moveScore.raw().subtract(lastStepScore.raw()),
+                    moveScore.unassignedCount() - lastStepScore.unassignedCount());
+        }
+
+        InnerScore<Score_> applyTo(InnerScore<Score_> lastStepScore) {
+            return new InnerScore<>(lastStepScore.raw().add(raw),
+                    Math.max(0, lastStepScore.unassignedCount() + unassignedCount));
+        }
+
+    }
+
+    /**
+     * Orders the best score first.
+     * On equal scores, the order of the placer is kept, same as {@link ConstructionHeuristicDecider} does.
+     * An estimated move which ties with the best evaluated move and comes earlier is therefore re-evaluated too.
+     *
+     * @param moveScope null if the score is estimated
+     */
+    private record Candidate<Solution_, Score_ extends Score<Score_>>(Move<Solution_> move, int moveIndex,
+            InnerScore<Score_> score, ConstructionHeuristicMoveScope<Solution_> moveScope)
+            implements
+                Comparable<Candidate<Solution_, Score_>> {
+
+        boolean evaluated() {
+            return moveScope != null;
+        }
+
+        @Override
+        public int compareTo(Candidate<Solution_, Score_> other) {
+            var scoreComparison = other.score.compareTo(score);
+            if (scoreComparison != 0) {
+                return scoreComparison;
+            }
+            return Integer.compare(moveIndex, other.moveIndex);
+        }
+
+    }
+
+}
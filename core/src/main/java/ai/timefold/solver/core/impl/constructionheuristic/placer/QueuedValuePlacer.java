@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.Iterator;
 
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
@@ -17,18 +18,38 @@ public class QueuedValuePlacer<Solution_> extends AbstractEntityPlacer<Solution_
 
     protected final IterableValueSelector<Solution_> valueSelector;
     protected final MoveSelector<Solution_> moveSelector;
+    protected final boolean pooled;
 
     public QueuedValuePlacer(EntityPlacerFactory<Solution_> factory, HeuristicConfigPolicy<Solution_> configPolicy,
             IterableValueSelector<Solution_> valueSelector, MoveSelector<Solution_> moveSelector) {
+        this(factory, configPolicy, valueSelector, moveSelector, false);
+    }
+
+    private QueuedValuePlacer(EntityPlacerFactory<Solution_> factory, HeuristicConfigPolicy<Solution_> configPolicy,
+            IterableValueSelector<Solution_> valueSelector, MoveSelector<Solution_> moveSelector, boolean pooled) {
         super(factory, configPolicy);
         this.valueSelector = valueSelector;
         this.moveSelector = moveSelector;
+        this.pooled = pooled;
         phaseLifecycleSupport.addEventListener(valueSelector);
         phaseLifecycleSupport.addEventListener(moveSelector);
     }
 
+    /**
+     * Instead of one placement per value, the returned placer offers the moves of all remaining values
+     * in a single placement, so that the decider picks the value as well as where it goes.
+     *
+     * @return never null, a placer with the same selectors
+     */
+    public QueuedValuePlacer<Solution_> pooled() {
+        return new QueuedValuePlacer<>(factory, configPolicy, valueSelector, moveSelector, true);
+    }
+
     @Override
     public Iterator<Placement<Solution_>> iterator() {
+        if (pooled) {
+            return new PooledValuePlacingIterator();
+        }
         return new QueuedValuePlacingIterator();
     }
 
@@ -64,11 +85,51 @@ public class QueuedValuePlacer<Solution_> extends AbstractEntityPlacer<Solution_
 
     }
 
+    private class PooledValuePlacingIterator extends UpcomingSelectionIterator<Placement<Solution_>> {
+
+        @Override
+        protected Placement<Solution_> createUpcomingSelection() {
+            var valueIterator = valueSelector.iterator();
+            if (!valueIterator.hasNext()) {
+                return noUpcomingSelection();
+            }
+            return new Placement<>(MoveIteratorFactory.adaptIterator(new PooledMoveIterator(valueIterator)));
+        }
+
+    }
+
+    /**
+     * Replays every value to the move selector in turn,
+     * each only once all moves of the previous value have been taken.
+     */
+    private class PooledMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> valueIterator;
+        private Iterator<Move<Solution_>> moveIterator = Collections.emptyIterator();
+
+        private PooledMoveIterator(Iterator<Object> valueIterator) {
+            this.valueIterator = valueIterator;
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            while (!moveIterator.hasNext()) {
+                if (!valueIterator.hasNext()) {
+                    return noUpcomingSelection();
+                }
+                valueIterator.next();
+                moveIterator = moveSelector.iterator();
+            }
+            return moveIterator.next();
+        }
+
+    }
+
     @Override
     public EntityPlacer<Solution_> rebuildWithFilter(SelectionFilter<Solution_, Object> filter) {
         return new QueuedValuePlacer<>(factory, configPolicy,
                 (IterableFilteringValueSelector<Solution_>) FilteringValueSelector.of(valueSelector, filter),
-                moveSelector);
+                moveSelector, pooled);
     }
 
 }
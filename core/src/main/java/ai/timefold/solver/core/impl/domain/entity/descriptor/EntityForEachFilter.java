@@ -5,8 +5,12 @@ import java.util.function.Predicate;
 
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
 import ai.timefold.solver.core.impl.domain.variable.declarative.DeclarativeShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.declarative.ShadowVariablesInconsistentVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.InverseRelationShadowVariableDescriptor;
 
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -26,6 +30,21 @@ public class EntityForEachFilter<Solution_> {
         this.hasDeclarativeShadowVariables = !getDeclarativeShadowVariables(entityDescriptor).isEmpty();
     }
 
+    /**
+     * The filters only read genuine variables, the inverse relation of the list variable and entity consistency.
+     * Changes in consistency are announced through declarative shadow variables.
+     * Every other shadow variable can change without affecting the outcome of any filter.
+     *
+     * @param variableDescriptor the variable that changed
+     * @return false if a change to the variable can not affect the outcome of any filter of any entity
+     */
+    public static boolean isAffectedBy(VariableDescriptor<?> variableDescriptor) {
+        return variableDescriptor instanceof GenuineVariableDescriptor<?>
+                || variableDescriptor instanceof InverseRelationShadowVariableDescriptor<?>
+                || variableDescriptor instanceof DeclarativeShadowVariableDescriptor<?>
+                || variableDescriptor instanceof ShadowVariablesInconsistentVariableDescriptor<?>;
+    }
+
     public Predicate<Object> getAssignedAndConsistentPredicate(ConsistencyTracker<Solution_> consistencyTracker) {
         if (!hasDeclarativeShadowVariables) {
             return assignedPredicate;
@@ -4,7 +4,6 @@ import java.util.BitSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -20,7 +19,7 @@ final class AffectedEntitiesUpdater<Solution_>
     // Internal state; expensive to create, therefore we reuse.
     private final LoopedTracker loopedTracker;
     private final BitSet visited;
-    private final PriorityQueue<BaseTopologicalOrderGraph.NodeTopologicalOrder> changeQueue;
+    private final TopologicalOrderBucketQueue changeQueue;
 
     AffectedEntitiesUpdater(BaseTopologicalOrderGraph graph, List<GraphNode<Solution_>> nodeList,
             Function<Object, List<GraphNode<Solution_>>> entityToContainingNode,
@@ -32,7 +31,7 @@ final class AffectedEntitiesUpdater<Solution_>
         this.loopedTracker = new LoopedTracker(instanceCount,
                 createNodeToEntityNodes(entityCount, nodeList, entityToContainingNode));
         this.visited = new BitSet(instanceCount);
-        this.changeQueue = new PriorityQueue<>(instanceCount);
+        this.changeQueue = new TopologicalOrderBucketQueue(instanceCount);
     }
 
     static <Solution_> int[][] createNodeToEntityNodes(int entityCount,
@@ -74,7 +73,7 @@ final class AffectedEntitiesUpdater<Solution_>
         initializeChangeQueue(changed);
 
         while (!changeQueue.isEmpty()) {
-            var nextNode = changeQueue.poll().nodeId();
+            var nextNode = changeQueue.poll();
             if (visited.get(nextNode)) {
                 continue;
             }
@@ -87,7 +86,7 @@ final class AffectedEntitiesUpdater<Solution_>
                 while (iterator.hasNext()) {
                     var nextNodeForwardEdge = iterator.nextInt();
                     if (!visited.get(nextNodeForwardEdge)) {
-                        changeQueue.add(graph.getTopologicalOrder(nextNodeForwardEdge));
+                        changeQueue.add(nextNodeForwardEdge, graph.getTopologicalOrder(nextNodeForwardEdge).order());
                     }
                 }
             }
@@ -110,7 +109,7 @@ final class AffectedEntitiesUpdater<Solution_>
         // This should never happen, since arrays in Java are limited
         // to slightly less than Integer.MAX_VALUE.
         for (var i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
-            changeQueue.add(graph.getTopologicalOrder(i));
+            changeQueue.add(i, graph.getTopologicalOrder(i).order());
             if (i == Integer.MAX_VALUE) {
                 break; // or (i+1) would overflow
             }
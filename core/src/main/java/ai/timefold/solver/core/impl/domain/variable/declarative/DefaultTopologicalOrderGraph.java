@@ -1,91 +1,190 @@
 package ai.timefold.solver.core.impl.domain.variable.declarative;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import ai.timefold.solver.core.impl.util.CollectionUtils;
 import ai.timefold.solver.core.impl.util.MutableInt;
 
+/**
+ * Keeps the topological order of the strongly connected components of the graph,
+ * where every member of a component has the topological order of its component.
+ * <p>
+ * Edges added in between two calls to {@link #commitChanges(BitSet)} are inserted one by one,
+ * using the dynamic topological sort algorithm of Pearce and Kelly:
+ * if an edge goes against the current order,
+ * only the components which lie in between both of its ends in that order are visited and reordered.
+ * Removing an edge never invalidates a topological order, so it is free,
+ * unless it is part of a loop.
+ * The components are only recalculated from scratch on the first commit,
+ * and whenever a loop is formed or broken,
+ * which only happens for solutions with inconsistent shadow variables.
+ * <p>
+ * This class is not thread-safe.
+ */
 public class DefaultTopologicalOrderGraph implements TopologicalOrderGraph {
 
+    private static final int[] NO_EDGES = new int[0];
+
+    // Only the first edgeCounts[node] elements of the edges[node] arrays are edges.
+    private final int[][] forwardEdges;
+    private final int[] forwardEdgeCounts;
+    private final int[][] backEdges;
+    private final int[] backEdgeCounts;
+
+    // Every component is identified by one of its members.
+    private final int[] nodeToComponent;
+    // Only looped components have a member array; for the others, the component only contains itself.
+    private final int[][] componentToMembers;
+    private final int[] componentToOrder;
     private final NodeTopologicalOrder[] nodeIdToTopologicalOrderMap;
-    private final Map<Integer, List<Integer>> componentMap;
-    private final Set<Integer>[] forwardEdges;
-    private final Set<Integer>[] backEdges;
     private final boolean[] isNodeInLoopedComponent;
 
-    @SuppressWarnings({ "unchecked" })
+    // Edges added since the last commit, as pairs of from and to nodes.
+    private int[] pendingEdges = NO_EDGES;
+    private int pendingEdgeCount = 0;
+    private boolean componentsOutdated = true;
+
+    // Reused by every edge insertion, so that it does not allocate.
+    private final int[] visitedForwardMarks;
+    private final int[] visitedBackwardMarks;
+    private int visitMark = 0;
+    private final int[] visitStack;
+    private final int[] forwardComponents;
+    private final int[] backwardComponents;
+    private final int[] orderPool;
+    private final long[] sortBuffer;
+
     public DefaultTopologicalOrderGraph(final int size) {
+        this.forwardEdges = new int[size][];
+        this.forwardEdgeCounts = new int[size];
+        this.backEdges = new int[size][];
+        this.backEdgeCounts = new int[size];
+        this.nodeToComponent = new int[size];
+        this.componentToMembers = new int[size][];
+        this.componentToOrder = new int[size];
         this.nodeIdToTopologicalOrderMap = new NodeTopologicalOrder[size];
-        this.componentMap = CollectionUtils.newLinkedHashMap(size);
-        this.forwardEdges = new Set[size];
-        this.backEdges = new Set[size];
         this.isNodeInLoopedComponent = new boolean[size];
+        this.visitedForwardMarks = new int[size];
+        this.visitedBackwardMarks = new int[size];
+        this.visitStack = new int[size];
+        this.forwardComponents = new int[size];
+        this.backwardComponents = new int[size];
+        this.orderPool = new int[size];
+        this.sortBuffer = new long[size];
         for (var i = 0; i < size; i++) {
-            forwardEdges[i] = new HashSet<>();
-            backEdges[i] = new HashSet<>();
-            isNodeInLoopedComponent[i] = false;
+            forwardEdges[i] = NO_EDGES;
+            backEdges[i] = NO_EDGES;
+            nodeToComponent[i] = i;
+            componentToOrder[i] = i;
             nodeIdToTopologicalOrderMap[i] = new NodeTopologicalOrder(i, i);
         }
     }
 
     List<Integer> getComponent(int node) {
-        return componentMap.get(node);
+        var members = componentToMembers[nodeToComponent[node]];
+        if (members == null) {
+            return List.of(node);
+        }
+        return Arrays.stream(members).boxed().toList();
     }
 
     List<List<Integer>> getLoopedComponentList() {
-        var out = new ArrayList<List<Integer>>(componentMap.size());
-        var visited = new boolean[forwardEdges.length];
-        for (var component : componentMap.values()) {
-            if (component.size() < 2) {
-                // all looped components have at least 2 members.
-                // non-looped components have exactly one member.
-                continue;
-            }
-            if (visited[component.get(0)]) {
-                // already visited this component
-                continue;
-            }
-            // Only need to set first node of a component, since the same
-            // list is shared for each node in the component
-            visited[component.get(0)] = true;
-            out.add(component);
+        var out = new ArrayList<List<Integer>>();
+        for (var node = 0; node < nodeToComponent.length; node++) {
+            // Only add every looped component once, through the member which identifies it.
+            if (nodeToComponent[node] == node && componentToMembers[node] != null) {
+                out.add(getComponent(node));
+            }
         }
         return out;
     }
 
     @Override
     public void addEdge(int fromNode, int toNode) {
-        forwardEdges[fromNode].add(toNode);
-        backEdges[toNode].add(fromNode);
+        if (pendingEdgeCount * 2 == pendingEdges.length) {
+            pendingEdges = Arrays.copyOf(pendingEdges, Math.max(16, pendingEdges.length * 2));
+        }
+        pendingEdges[pendingEdgeCount * 2] = fromNode;
+        pendingEdges[pendingEdgeCount * 2 + 1] = toNode;
+        pendingEdgeCount++;
     }
 
     @Override
     public void removeEdge(int fromNode, int toNode) {
-        forwardEdges[fromNode].remove(toNode);
-        backEdges[toNode].remove(fromNode);
+        for (var i = pendingEdgeCount - 1; i >= 0; i--) {
+            if (pendingEdges[i * 2] == fromNode && pendingEdges[i * 2 + 1] == toNode) {
+                // The edge was never inserted, so there is nothing to undo.
+                pendingEdgeCount--;
+                pendingEdges[i * 2] = pendingEdges[pendingEdgeCount * 2];
+                pendingEdges[i * 2 + 1] = pendingEdges[pendingEdgeCount * 2 + 1];
+                return;
+            }
+        }
+        if (removeFromEdges(forwardEdges, forwardEdgeCounts, fromNode, toNode)) {
+            removeFromEdges(backEdges, backEdgeCounts, toNode, fromNode);
+            var component = nodeToComponent[fromNode];
+            if (component == nodeToComponent[toNode] && componentToMembers[component] != null) {
+                // The loop might be broken.
+                componentsOutdated = true;
+            }
+        }
+    }
+
+    private static boolean addToEdges(int[][] edges, int[] edgeCounts, int node, int otherNode) {
+        var nodeEdges = edges[node];
+        var edgeCount = edgeCounts[node];
+        for (var i = 0; i < edgeCount; i++) {
+            if (nodeEdges[i] == otherNode) {
+                return false;
+            }
+        }
+        if (edgeCount == nodeEdges.length) {
+            nodeEdges = Arrays.copyOf(nodeEdges, Math.max(4, edgeCount * 2));
+            edges[node] = nodeEdges;
+        }
+        nodeEdges[edgeCount] = otherNode;
+        edgeCounts[node] = edgeCount + 1;
+        return true;
+    }
+
+    private static boolean removeFromEdges(int[][] edges, int[] edgeCounts, int node, int otherNode) {
+        var nodeEdges = edges[node];
+        var edgeCount = edgeCounts[node];
+        for (var i = 0; i < edgeCount; i++) {
+            if (nodeEdges[i] == otherNode) {
+                nodeEdges[i] = nodeEdges[edgeCount - 1];
+                edgeCounts[node] = edgeCount - 1;
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public void forEachEdge(EdgeConsumer edgeConsumer) {
         for (var fromNode = 0; fromNode < forwardEdges.length; fromNode++) {
-            for (var toNode : forwardEdges[fromNode]) {
-                edgeConsumer.accept(fromNode, toNode);
+            for (var i = 0; i < forwardEdgeCounts[fromNode]; i++) {
+                edgeConsumer.accept(fromNode, forwardEdges[fromNode][i]);
             }
         }
+        for (var i = 0; i < pendingEdgeCount; i++) {
+            edgeConsumer.accept(pendingEdges[i * 2], pendingEdges[i * 2 + 1]);
+        }
     }
 
     @Override
     public PrimitiveIterator.OfInt nodeForwardEdges(int fromNode) {
-        return componentMap.get(fromNode).stream()
-                .flatMap(member -> forwardEdges[member].stream())
-                .mapToInt(Integer::intValue)
+        var members = componentToMembers[nodeToComponent[fromNode]];
+        if (members == null) {
+            return new EdgeIterator(forwardEdges[fromNode], forwardEdgeCounts[fromNode]);
+        }
+        return Arrays.stream(members)
+                .flatMap(member -> Arrays.stream(forwardEdges[member], 0, forwardEdgeCounts[member]))
                 .distinct().iterator();
     }
 
@@ -93,12 +192,13 @@ public class DefaultTopologicalOrderGraph implements TopologicalOrderGraph {
     public boolean isLooped(LoopedTracker loopedTracker, int node) {
         return switch (loopedTracker.status(node)) {
             case UNKNOWN -> {
-                if (componentMap.get(node).size() > 1) {
+                if (componentToMembers[nodeToComponent[node]] != null) {
                     loopedTracker.mark(node, LoopedStatus.LOOPED);
                     yield true;
                 }
-                for (var backEdge : backEdges[node]) {
-                    if (isLooped(loopedTracker, backEdge)) {
+                var nodeBackEdges = backEdges[node];
+                for (var i = 0; i < backEdgeCounts[node]; i++) {
+                    if (isLooped(loopedTracker, nodeBackEdges[i])) {
                         loopedTracker.mark(node, LoopedStatus.LOOPED);
                         yield true;
                     }
@@ -118,6 +218,168 @@ public class DefaultTopologicalOrderGraph implements TopologicalOrderGraph {
 
     @Override
     public void commitChanges(BitSet changed) {
+        if (componentsOutdated) {
+            insertPendingEdges(0);
+            recalculateComponents(changed);
+            return;
+        }
+        for (var i = 0; i < pendingEdgeCount; i++) {
+            var fromNode = pendingEdges[i * 2];
+            var toNode = pendingEdges[i * 2 + 1];
+            if (addToEdges(forwardEdges, forwardEdgeCounts, fromNode, toNode)) {
+                addToEdges(backEdges, backEdgeCounts, toNode, fromNode);
+                if (!restoreOrder(nodeToComponent[fromNode], nodeToComponent[toNode])) {
+                    // The edge formed a loop.
+                    insertPendingEdges(i + 1);
+                    recalculateComponents(changed);
+                    return;
+                }
+            }
+        }
+        pendingEdgeCount = 0;
+    }
+
+    private void insertPendingEdges(int fromIndex) {
+        for (var i = fromIndex; i < pendingEdgeCount; i++) {
+            var fromNode = pendingEdges[i * 2];
+            var toNode = pendingEdges[i * 2 + 1];
+            if (addToEdges(forwardEdges, forwardEdgeCounts, fromNode, toNode)) {
+                addToEdges(backEdges, backEdgeCounts, toNode, fromNode);
+            }
+        }
+        pendingEdgeCount = 0;
+    }
+
+    /**
+     * Called after an edge was added from a member of the from component to a member of the to component.
+     * Only the components which are reachable from the to component and come before the from component,
+     * and the components which reach the from component and come after the to component, are reordered.
+     *
+     * @return false if the edge formed a loop, in which case the order is left untouched
+     */
+    private boolean restoreOrder(int fromComponent, int toComponent) {
+        var upperBound = componentToOrder[fromComponent];
+        var lowerBound = componentToOrder[toComponent];
+        if (lowerBound >= upperBound) { // Also true if both are the same component.
+            return true;
+        }
+        visitMark++;
+        var forwardCount = visitForward(toComponent, fromComponent, upperBound);
+        if (forwardCount < 0) {
+            return false;
+        }
+        var backwardCount = visitBackward(fromComponent, lowerBound);
+        sortByOrder(backwardComponents, backwardCount);
+        sortByOrder(forwardComponents, forwardCount);
+        // Both lists are sorted, so merging their orders sorts the pool.
+        var backwardIndex = 0;
+        var forwardIndex = 0;
+        for (var i = 0; i < backwardCount + forwardCount; i++) {
+            if (forwardIndex == forwardCount || (backwardIndex < backwardCount
+                    && componentToOrder[backwardComponents[backwardIndex]] < componentToOrder[forwardComponents[forwardIndex]])) {
+                orderPool[i] = componentToOrder[backwardComponents[backwardIndex++]];
+            } else {
+                orderPool[i] = componentToOrder[forwardComponents[forwardIndex++]];
+            }
+        }
+        // Everything which reaches the from component now comes before everything reachable from the to component.
+        for (var i = 0; i < backwardCount; i++) {
+            setOrder(backwardComponents[i], orderPool[i]);
+        }
+        for (var i = 0; i < forwardCount; i++) {
+            setOrder(forwardComponents[i], orderPool[backwardCount + i]);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of visited components, or -1 if the target component is reachable
+     */
+    private int visitForward(int startComponent, int targetComponent, int upperBound) {
+        var stackSize = 0;
+        var count = 0;
+        visitStack[stackSize++] = startComponent;
+        visitedForwardMarks[startComponent] = visitMark;
+        forwardComponents[count++] = startComponent;
+        while (stackSize > 0) {
+            var component = visitStack[--stackSize];
+            var members = componentToMembers[component];
+            var memberCount = members == null ? 1 : members.length;
+            for (var m = 0; m < memberCount; m++) {
+                var member = members == null ? component : members[m];
+                var memberEdges = forwardEdges[member];
+                for (var i = 0; i < forwardEdgeCounts[member]; i++) {
+                    var successor = nodeToComponent[memberEdges[i]];
+                    if (successor == targetComponent) {
+                        return -1;
+                    }
+                    if (visitedForwardMarks[successor] != visitMark && componentToOrder[successor] < upperBound) {
+                        visitedForwardMarks[successor] = visitMark;
+                        forwardComponents[count++] = successor;
+                        visitStack[stackSize++] = successor;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of visited components
+     */
+    private int visitBackward(int startComponent, int lowerBound) {
+        var stackSize = 0;
+        var count = 0;
+        visitStack[stackSize++] = startComponent;
+        visitedBackwardMarks[startComponent] = visitMark;
+        backwardComponents[count++] = startComponent;
+        while (stackSize > 0) {
+            var component = visitStack[--stackSize];
+            var members = componentToMembers[component];
+            var memberCount = members == null ? 1 : members.length;
+            for (var m = 0; m < memberCount; m++) {
+                var member = members == null ? component : members[m];
+                var memberEdges = backEdges[member];
+                for (var i = 0; i < backEdgeCounts[member]; i++) {
+                    var predecessor = nodeToComponent[memberEdges[i]];
+                    if (visitedBackwardMarks[predecessor] != visitMark && componentToOrder[predecessor] > lowerBound) {
+                        visitedBackwardMarks[predecessor] = visitMark;
+                        backwardComponents[count++] = predecessor;
+                        visitStack[stackSize++] = predecessor;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private void sortByOrder(int[] components, int count) {
+        // Orders are never negative, so sorting on the high bits sorts on the order.
+        for (var i = 0; i < count; i++) {
+            sortBuffer[i] = ((long) componentToOrder[components[i]] << 32) | components[i];
+        }
+        Arrays.sort(sortBuffer, 0, count);
+        for (var i = 0; i < count; i++) {
+            components[i] = (int) sortBuffer[i];
+        }
+    }
+
+    private void setOrder(int component, int order) {
+        if (componentToOrder[component] == order) {
+            return;
+        }
+        componentToOrder[component] = order;
+        var members = componentToMembers[component];
+        if (members == null) {
+            nodeIdToTopologicalOrderMap[component] = new NodeTopologicalOrder(component, order);
+        } else {
+            for (var member : members) {
+                nodeIdToTopologicalOrderMap[member] = new NodeTopologicalOrder(member, order);
+            }
+        }
+    }
+
+    private void recalculateComponents(BitSet changed) {
         var index = new MutableInt(1);
         var stackIndex = new MutableInt(0);
         var size = forwardEdges.length;
@@ -126,7 +388,6 @@ public class DefaultTopologicalOrderGraph implements TopologicalOrderGraph {
         var lowMap = new int[size];
         var onStackSet = new boolean[size];
         var components = new ArrayList<BitSet>();
-        componentMap.clear();
 
         for (var node = 0; node < size; node++) {
             if (indexMap[node] == 0) {
@@ -134,16 +395,21 @@ public class DefaultTopologicalOrderGraph implements TopologicalOrderGraph {
             }
         }
 
-        var ordIndex = 0;
+        // Tarjan's algorithm finds the components in reverse topological order.
+        var order = 0;
         for (var i = components.size() - 1; i >= 0; i--) {
             var component = components.get(i);
-            var componentSize = component.cardinality();
-            var isComponentLooped = componentSize != 1;
-            var componentNodes = new ArrayList<Integer>(componentSize);
+            var componentId = component.nextSetBit(0);
+            var isComponentLooped = component.cardinality() != 1;
+            var members = isComponentLooped ? component.stream().toArray() : null;
+            componentToMembers[componentId] = members;
+            componentToOrder[componentId] = order;
             for (var node = component.nextSetBit(0); node >= 0; node = component.nextSetBit(node + 1)) {
-                nodeIdToTopologicalOrderMap[node] = new NodeTopologicalOrder(node, ordIndex);
-                componentNodes.add(node);
-                componentMap.put(node, componentNodes);
+                nodeToComponent[node] = componentId;
+                if (node != componentId) {
+                    componentToMembers[node] = null;
+                }
+                nodeIdToTopologicalOrderMap[node] = new NodeTopologicalOrder(node, order);
 
                 if (isComponentLooped != isNodeInLoopedComponent[node]) {
                     // It is enough to only mark nodes whose component
@@ -152,13 +418,14 @@ public class DefaultTopologicalOrderGraph implements TopologicalOrderGraph {
                     isNodeInLoopedComponent[node] = isComponentLooped;
                     changed.set(node);
                 }
-                ordIndex++;
 
                 if (node == Integer.MAX_VALUE) {
                     break;
                 }
             }
+            order++;
         }
+        componentsOutdated = false;
     }
 
     private void strongConnect(int node, MutableInt index, MutableInt stackIndex, int[] stack,
@@ -173,7 +440,9 @@ public class DefaultTopologicalOrderGraph implements TopologicalOrderGraph {
         stackIndex.increment();
 
         // Consider successors of node
-        for (var successor : forwardEdges[node]) {
+        var nodeEdges = forwardEdges[node];
+        for (var i = 0; i < forwardEdgeCounts[node]; i++) {
+            var successor = nodeEdges[i];
             if (indexMap[successor] == 0) {
                 // Successor has not yet been visited; recurse on it
                 strongConnect(successor, index, stackIndex, stack, indexMap, lowMap, onStackSet, components);
@@ -207,12 +476,39 @@ public class DefaultTopologicalOrderGraph implements TopologicalOrderGraph {
         out.append("DefaultTopologicalOrderGraph{\n");
         for (var node = 0; node < forwardEdges.length; node++) {
             out.append("    ").append(node).append("(").append(nodeIdToTopologicalOrderMap[node].order()).append(") -> ")
-                    .append(forwardEdges[node].stream()
+                    .append(Arrays.stream(forwardEdges[node], 0, forwardEdgeCounts[node])
                             .sorted()
-                            .map(Object::toString)
+                            .mapToObj(Integer::toString)
                             .collect(Collectors.joining(",", "[", "]\n")));
         }
         out.append("}");
         return out.toString();
     }
+
+    private static final class EdgeIterator implements PrimitiveIterator.OfInt {
+
+        private final int[] edges;
+        private final int edgeCount;
+        private int index = 0;
+
+        EdgeIterator(int[] edges, int edgeCount) {
+            this.edges = edges;
+            this.edgeCount = edgeCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < edgeCount;
+        }
+
+        @Override
+        public int nextInt() {
+            if (index >= edgeCount) {
+                throw new NoSuchElementException();
+            }
+            return edges[index++];
+        }
+
+    }
+
 }
@@ -0,0 +1,78 @@
+package ai.timefold.solver.core.impl.domain.variable.declarative;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A priority queue of graph nodes, which polls the node with the lowest topological order first.
+ * Nodes with the same topological order are polled in no particular order.
+ * <p>
+ * Every topological order has a bucket, which is a linked list of nodes threaded through an int array,
+ * so that adding and polling a node never allocates,
+ * unlike a {@link java.util.PriorityQueue} of {@link BaseTopologicalOrderGraph.NodeTopologicalOrder}.
+ * A node is only queued once; adding it again while it is queued does nothing.
+ * <p>
+ * This class is not thread-safe.
+ */
+@NullMarked
+final class TopologicalOrderBucketQueue {
+
+    private static final int NONE = -1;
+
+    private final int[] nextNodeInBucket;
+    private final BitSet queuedNodes;
+    private final BitSet nonEmptyBuckets = new BitSet();
+    private int[] bucketToFirstNode;
+    private int lowestNonEmptyBucket = Integer.MAX_VALUE;
+
+    TopologicalOrderBucketQueue(int nodeCount) {
+        this.nextNodeInBucket = new int[nodeCount];
+        this.queuedNodes = new BitSet(nodeCount);
+        this.bucketToFirstNode = new int[nodeCount];
+        Arrays.fill(bucketToFirstNode, NONE);
+    }
+
+    void add(int node, int topologicalOrder) {
+        if (topologicalOrder < 0) {
+            throw new IllegalStateException("Impossible state: the topological order (%d) of node (%d) is negative."
+                    .formatted(topologicalOrder, node));
+        }
+        if (queuedNodes.get(node)) {
+            return;
+        }
+        if (topologicalOrder >= bucketToFirstNode.length) {
+            var oldLength = bucketToFirstNode.length;
+            bucketToFirstNode = Arrays.copyOf(bucketToFirstNode, Math.max(topologicalOrder + 1, oldLength * 2));
+            Arrays.fill(bucketToFirstNode, oldLength, bucketToFirstNode.length, NONE);
+        }
+        queuedNodes.set(node);
+        nextNodeInBucket[node] = bucketToFirstNode[topologicalOrder];
+        bucketToFirstNode[topologicalOrder] = node;
+        nonEmptyBuckets.set(topologicalOrder);
+        lowestNonEmptyBucket = Math.min(lowestNonEmptyBucket, topologicalOrder);
+    }
+
+    boolean isEmpty() {
+        return lowestNonEmptyBucket == Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return a node with the lowest topological order; the queue must not be empty
+     */
+    int poll() {
+        var bucket = lowestNonEmptyBucket;
+        var node = bucketToFirstNode[bucket];
+        var nextNode = nextNodeInBucket[node];
+        bucketToFirstNode[bucket] = nextNode;
+        if (nextNode == NONE) {
+            nonEmptyBuckets.clear(bucket);
+            var nextBucket = nonEmptyBuckets.nextSetBit(bucket + 1);
+            lowestNonEmptyBucket = nextBucket < 0 ? Integer.MAX_VALUE : nextBucket;
+        }
+        queuedNodes.clear(node);
+        return node;
+    }
+
+}
@@ -35,6 +35,8 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     protected final LocalSearchDecider<Solution_> decider;
     protected final AtomicLong acceptedMoveCountPerStep = new AtomicLong(0);
     protected final AtomicLong selectedMoveCountPerStep = new AtomicLong(0);
+    protected final AtomicLong memoryAllocatedPerStep = new AtomicLong(0);
+    private long stepStartAllocatedBytes = -1L;
     protected final Map<Tags, AtomicLong> constraintMatchTotalTagsToStepCount = new ConcurrentHashMap<>();
     protected final Map<Tags, AtomicLong> constraintMatchTotalTagsToBestCount = new ConcurrentHashMap<>();
     protected final Map<Tags, ScoreLevels> constraintMatchTotalStepScoreMap = new ConcurrentHashMap<>();
@@ -74,6 +76,11 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
             Metrics.gauge(SolverMetric.MOVE_COUNT_PER_STEP.getMeterId() + ".selected",
                     solverScope.getMonitoringTags(), selectedMoveCountPerStep);
         }
+        if (solverScope.isMetricEnabled(SolverMetric.MEMORY_ALLOCATED_PER_STEP)) {
+            SolverMetricUtil.enableThreadAllocatedMemory();
+            Metrics.gauge(SolverMetric.MEMORY_ALLOCATED_PER_STEP.getMeterId(),
+                    solverScope.getMonitoringTags(), memoryAllocatedPerStep);
+        }
 
         while (!phaseTermination.isPhaseTerminated(phaseScope)) {
             var stepScope = new LocalSearchStepScope<>(phaseScope);
@@ -133,6 +140,9 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
         decider.stepStarted(stepScope);
+        if (stepScope.getPhaseScope().getSolverScope().isMetricEnabled(SolverMetric.MEMORY_ALLOCATED_PER_STEP)) {
+            stepStartAllocatedBytes = SolverMetricUtil.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
     }
 
     @Override
@@ -174,6 +184,10 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
             acceptedMoveCountPerStep.set(stepScope.getAcceptedMoveCount());
             selectedMoveCountPerStep.set(stepScope.getSelectedMoveCount());
         }
+        if (solverScope.isMetricEnabled(SolverMetric.MEMORY_ALLOCATED_PER_STEP) && stepStartAllocatedBytes >= 0L) {
+            var allocatedBytes = SolverMetricUtil.getThreadAllocatedBytes(Thread.currentThread().getId());
+            memoryAllocatedPerStep.set(allocatedBytes - stepStartAllocatedBytes);
+        }
         if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_MATCH_TOTAL_STEP_SCORE)
                 || solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_MATCH_TOTAL_BEST_SCORE)) {
             var scoreDirector = stepScope.getScoreDirector();
@@ -11,6 +11,7 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.neighborhood.MoveRepository;
 import ai.timefold.solver.core.impl.phase.scope.SolverLifecyclePoint;
+import ai.timefold.solver.core.impl.score.director.PackedScoreCalculator;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
@@ -33,6 +34,7 @@ public class LocalSearchDecider<Solution_> {
 
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
+    private PackedScoreCalculator<?> packedScoreCalculator = null; // Null if move scores are not packed.
 
     public LocalSearchDecider(String logIndentation, PhaseTermination<Solution_> termination,
             MoveRepository<Solution_> moveRepository, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager) {
@@ -84,14 +86,19 @@ public class LocalSearchDecider<Solution_> {
         moveRepository.stepStarted(stepScope);
         acceptor.stepStarted(stepScope);
         forager.stepStarted(stepScope);
+        // Most move scores are only compared, never kept; the asserting modes need the real thing.
+        packedScoreCalculator = assertMoveScoreFromScratch || assertExpectedUndoMoveScore ? null
+                : stepScope.getScoreDirector().getPackedScoreCalculator();
     }
 
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
         var scoreDirector = stepScope.getScoreDirector();
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
         var moveIndex = 0;
+        // Only the moves which the forager retains need a scope of their own.
+        var moveScope = LocalSearchMoveScope.reusable(stepScope);
         for (var move : moveRepository) {
-            var moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
+            moveScope.reset(moveIndex, move);
             moveIndex++;
             doMove(moveScope);
             if (forager.isQuitEarly()) {
@@ -106,6 +113,7 @@ public class LocalSearchDecider<Solution_> {
         pickMove(stepScope);
     }
 
+    @SuppressWarnings("unchecked")
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
         var scoreDirector = moveScope.<Score_> getScoreDirector();
         var moveDirector = moveScope.getStepScope().<Score_> getMoveDirector();
@@ -114,8 +122,14 @@ public class LocalSearchDecider<Solution_> {
             throw new IllegalStateException("Impossible state: Local search move selector (" + moveRepository
                     + ") provided a non-doable move (" + moveScope.getMove() + ").");
         }
-        var score = scoreDirector.executeTemporaryMove(moveScope.getMove(), assertMoveScoreFromScratch);
-        moveScope.setScore(score);
+        if (packedScoreCalculator != null) {
+            var typedPackedScoreCalculator = (PackedScoreCalculator<Score_>) packedScoreCalculator;
+            var packedScore = scoreDirector.executeTemporaryMovePacked(moveScope.getMove(), typedPackedScoreCalculator);
+            moveScope.setPackedScore(typedPackedScoreCalculator.getScorePacker(), packedScore);
+        } else {
+            var score = scoreDirector.executeTemporaryMove(moveScope.getMove(), assertMoveScoreFromScratch);
+            moveScope.setScore(score);
+        }
         moveScope.setAccepted(acceptor.isAccepted(moveScope));
         forager.addMove(moveScope);
         if (assertExpectedUndoMoveScore) {
@@ -123,9 +137,11 @@ public class LocalSearchDecider<Solution_> {
                     moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore(),
                     SolverLifecyclePoint.of(moveScope));
         }
-        logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
-                logIndentation, moveScope.getMoveIndex(), moveScope.getScore().raw(), moveScope.getAccepted(),
-                moveScope.getMove());
+        if (logger.isTraceEnabled()) {
+            logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                    logIndentation, moveScope.getMoveIndex(), moveScope.getScore().raw(), moveScope.getAccepted(),
+                    moveScope.getMove());
+        }
     }
 
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
@@ -46,18 +46,16 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         }
     }
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
-        var moveScore = (InnerScore) moveScope.getScore();
         var lateScore = getPreviousScore(lateScoreIndex);
-        if (moveScore.compareTo(lateScore) >= 0) {
+        if (moveScope.compareScoreTo(lateScore) >= 0) {
             return true;
         }
         if (hillClimbingEnabled) {
             var lastStepScore = moveScope.getStepScope().getPhaseScope()
                     .getLastCompletedStepScope().getScore();
-            return moveScore.compareTo(lastStepScore) >= 0;
+            return moveScope.compareScoreTo(lastStepScore) >= 0;
         }
         return false;
     }
@@ -43,12 +43,11 @@ public class StepCountingHillClimbingAcceptor<Solution_> extends AbstractAccepto
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
-        InnerScore lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
-        InnerScore moveScore = moveScope.getScore();
-        if (moveScore.compareTo(lastStepScore) >= 0) {
+        var lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+        if (moveScope.compareScoreTo(lastStepScore) >= 0) {
             return true;
         }
-        return moveScore.compareTo(thresholdScore) >= 0;
+        return moveScope.compareScoreTo((InnerScore) thresholdScore) >= 0;
     }
 
     @Override
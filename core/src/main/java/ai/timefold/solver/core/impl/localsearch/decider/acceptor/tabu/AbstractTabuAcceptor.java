@@ -1,10 +1,6 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
 
-import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.Map;
 
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -28,8 +24,7 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     protected boolean assertTabuHashCodeCorrectness = false;
 
-    protected Map<Object, Integer> tabuToStepIndexMap;
-    protected Deque<Object> tabuSequenceDeque;
+    private TabuStore tabuStore;
 
     protected int workingTabuSize = -1;
     protected int workingFadingTabuSize = -1;
@@ -67,15 +62,13 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         var totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
-        tabuToStepIndexMap = new HashMap<>(totalTabuListSize);
-        tabuSequenceDeque = new ArrayDeque<>();
+        tabuStore = new TabuStore(totalTabuListSize);
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        tabuToStepIndexMap = null;
-        tabuSequenceDeque = null;
+        tabuStore = null;
         workingTabuSize = -1;
         workingFadingTabuSize = -1;
     }
@@ -92,30 +85,10 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
     protected void adjustTabuList(int tabuStepIndex, Collection<? extends Object> tabus) {
         var totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
         // Remove the oldest tabu(s)
-        for (var it = tabuSequenceDeque.iterator(); it.hasNext();) {
-            var oldTabu = it.next();
-            var oldTabuStepIndexInteger = tabuToStepIndexMap.get(oldTabu);
-            if (oldTabuStepIndexInteger == null) {
-                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
-                        + oldTabu + ") of class (" + oldTabu.getClass()
-                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
-            }
-            var oldTabuStepCount = tabuStepIndex - oldTabuStepIndexInteger; // at least 1
-            if (oldTabuStepCount < totalTabuListSize) {
-                break;
-            }
-            it.remove();
-            tabuToStepIndexMap.remove(oldTabu);
-        }
-        // Add the new tabu(s)
+        tabuStore.expire(tabuStepIndex, totalTabuListSize);
+        // Add the new tabu(s), pushing those that are already tabu to the end of the line
         for (var tabu : tabus) {
-            // Push tabu to the end of the line
-            if (tabuToStepIndexMap.containsKey(tabu)) {
-                tabuToStepIndexMap.remove(tabu);
-                tabuSequenceDeque.remove(tabu);
-            }
-            tabuToStepIndexMap.put(tabu, tabuStepIndex);
-            tabuSequenceDeque.add(tabu);
+            tabuStore.add(tabu, tabuStepIndex);
         }
     }
 
@@ -157,32 +130,34 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         var checkingTabus = findTabu(moveScope);
         var maximumTabuStepIndex = -1;
         for (var checkingTabu : checkingTabus) {
-            var tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
-            if (tabuStepIndexInteger != null) {
-                maximumTabuStepIndex = Math.max(tabuStepIndexInteger, maximumTabuStepIndex);
-            }
+            var tabuStepIndex = tabuStore.getStepIndex(checkingTabu);
+            maximumTabuStepIndex = Math.max(tabuStepIndex, maximumTabuStepIndex);
             if (assertTabuHashCodeCorrectness) {
-                for (var tabu : tabuSequenceDeque) {
-                    // tabu and checkingTabu can be null with a planning variable which allows unassigned values
-                    if (tabu != null && tabu.equals(checkingTabu)) {
-                        if (tabu.hashCode() != checkingTabu.hashCode()) {
-                            throw new IllegalStateException("HashCode/equals contract violation: tabu (" + tabu
-                                    + ") of class (" + tabu.getClass()
-                                    + ") and checkingTabu (" + checkingTabu
-                                    + ") are equals() but have a different hashCode().");
-                        }
-                        if (tabuStepIndexInteger == null) {
-                            throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
-                                    + tabu + ") of class (" + tabu.getClass()
-                                    + ") changed during planning, since it was inserted in the tabu Map or Set.");
-                        }
-                    }
-                }
+                assertTabuHashCodeCorrectness(checkingTabu, tabuStepIndex);
             }
         }
         return maximumTabuStepIndex;
     }
 
+    private void assertTabuHashCodeCorrectness(Object checkingTabu, int tabuStepIndex) {
+        tabuStore.forEachNonNullTabu(tabu -> {
+            // checkingTabu can be null with a planning variable which allows unassigned values
+            if (tabu.equals(checkingTabu)) {
+                if (tabu.hashCode() != checkingTabu.hashCode()) {
+                    throw new IllegalStateException("HashCode/equals contract violation: tabu (" + tabu
+                            + ") of class (" + tabu.getClass()
+                            + ") and checkingTabu (" + checkingTabu
+                            + ") are equals() but have a different hashCode().");
+                }
+                if (tabuStepIndex < 0) {
+                    throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                            + tabu + ") of class (" + tabu.getClass()
+                            + ") changed during planning, since it was inserted in the tabu Map or Set.");
+                }
+            }
+        });
+    }
+
     /**
      * @param fadingTabuStepCount {@code 0 < fadingTabuStepCount <= fadingTabuSize}
      * @return {@code 0.0 < acceptChance < 1.0}
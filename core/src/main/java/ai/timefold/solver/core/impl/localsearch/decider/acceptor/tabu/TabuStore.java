@@ -0,0 +1,165 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.impl.util.LinearProbeIndexedSet;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Keeps the tabus of an {@link AbstractTabuAcceptor}, each with the step index at which it last became tabu.
+ * <p>
+ * The tabus are stored in a {@link LinearProbeIndexedSet},
+ * next to a primitive int array of step indexes indexed by the index of the tabu,
+ * so looking up a tabu neither boxes the step index nor allocates a map entry.
+ * Tabus are compared with {@link Object#equals(Object)} and {@link Object#hashCode()},
+ * just like in a {@link java.util.HashMap}; a tabu may be null.
+ * <p>
+ * The order in which the tabus expire is kept in a ring buffer.
+ * When a tabu that is already present becomes tabu again, its old ring buffer entry is left behind
+ * and is skipped when it expires, because its step index no longer matches the step index in the table.
+ */
+@NullMarked
+final class TabuStore {
+
+    private static final int MISSING = -1;
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final LinearProbeIndexedSet<Object> tabus;
+    private int[] stepIndexes;
+
+    private @Nullable Object[] sequenceTabus;
+    private int[] sequenceStepIndexes;
+    private int sequenceHead = 0;
+    private int sequenceSize = 0;
+
+    /**
+     * @param expectedSize the expected number of tabus, at least 0
+     */
+    TabuStore(int expectedSize) {
+        tabus = new LinearProbeIndexedSet<>(expectedSize);
+        stepIndexes = new int[capacityFor(expectedSize)];
+        var sequenceCapacity = capacityFor(expectedSize);
+        sequenceTabus = new Object[sequenceCapacity];
+        sequenceStepIndexes = new int[sequenceCapacity];
+    }
+
+    private static int capacityFor(int size) {
+        var capacity = MINIMUM_CAPACITY;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * @param tabu may be null
+     * @return the step index at which the tabu last became tabu, or -1 if it is not tabu
+     */
+    int getStepIndex(@Nullable Object tabu) {
+        var index = tabus.indexOf(tabu);
+        return index == LinearProbeIndexedSet.MISSING ? MISSING : stepIndexes[index];
+    }
+
+    /**
+     * @return the number of tabus
+     */
+    int size() {
+        return tabus.size();
+    }
+
+    /**
+     * Makes the tabu the youngest one, regardless of whether it was already tabu.
+     *
+     * @param tabu may be null
+     * @param stepIndex at least 0, never lower than in any earlier call
+     */
+    void add(@Nullable Object tabu, int stepIndex) {
+        var index = tabus.indexOf(tabu);
+        if (index != LinearProbeIndexedSet.MISSING) {
+            if (stepIndexes[index] == stepIndex) {
+                // Already added during this step; the sequence already holds it at the right position.
+                return;
+            }
+        } else {
+            index = tabus.add(tabu);
+            if (index == stepIndexes.length) {
+                stepIndexes = Arrays.copyOf(stepIndexes, stepIndexes.length << 1);
+            }
+        }
+        stepIndexes[index] = stepIndex;
+        addToSequence(tabu, stepIndex);
+    }
+
+    private void addToSequence(@Nullable Object tabu, int stepIndex) {
+        if (sequenceSize == sequenceTabus.length) {
+            var newCapacity = sequenceTabus.length << 1;
+            var newSequenceTabus = new Object[newCapacity];
+            var newSequenceStepIndexes = new int[newCapacity];
+            for (var i = 0; i < sequenceSize; i++) {
+                var index = (sequenceHead + i) & (sequenceTabus.length - 1);
+                newSequenceTabus[i] = sequenceTabus[index];
+                newSequenceStepIndexes[i] = sequenceStepIndexes[index];
+            }
+            sequenceTabus = newSequenceTabus;
+            sequenceStepIndexes = newSequenceStepIndexes;
+            sequenceHead = 0;
+        }
+        var tail = (sequenceHead + sequenceSize) & (sequenceTabus.length - 1);
+        sequenceTabus[tail] = tabu;
+        sequenceStepIndexes[tail] = stepIndex;
+        sequenceSize++;
+    }
+
+    /**
+     * Removes the oldest tabus, which became tabu at least {@code totalTabuListSize} steps before the given step.
+     *
+     * @param tabuStepIndex the index of the step that is ending
+     * @param totalTabuListSize at least 1
+     */
+    void expire(int tabuStepIndex, int totalTabuListSize) {
+        var sequenceMask = sequenceTabus.length - 1;
+        while (sequenceSize > 0) {
+            var oldStepIndex = sequenceStepIndexes[sequenceHead];
+            var oldTabuStepCount = tabuStepIndex - oldStepIndex; // at least 1
+            if (oldTabuStepCount < totalTabuListSize) {
+                break;
+            }
+            var oldTabu = sequenceTabus[sequenceHead];
+            var index = tabus.indexOf(oldTabu);
+            if (index == LinearProbeIndexedSet.MISSING) {
+                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                        + oldTabu + ") of class (" + (oldTabu == null ? null : oldTabu.getClass())
+                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
+            }
+            if (stepIndexes[index] == oldStepIndex) {
+                tabus.removeAt(index);
+            } // Otherwise the tabu became tabu again later, and this entry is stale.
+            sequenceTabus[sequenceHead] = null;
+            sequenceHead = (sequenceHead + 1) & sequenceMask;
+            sequenceSize--;
+        }
+    }
+
+    /**
+     * @param tabuConsumer receives every tabu that is not null
+     */
+    void forEachNonNullTabu(Consumer<Object> tabuConsumer) {
+        for (var index = 0; index < tabus.indexCapacity(); index++) {
+            if (tabus.isInUse(index)) {
+                var tabu = tabus.get(index);
+                if (tabu != null) {
+                    tabuConsumer.accept(tabu);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TabuStore(size = " + tabus.size() + ")";
+    }
+
+}
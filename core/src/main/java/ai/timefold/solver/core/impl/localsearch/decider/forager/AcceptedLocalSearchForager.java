@@ -86,15 +86,15 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
                 break;
             case FIRST_BEST_SCORE_IMPROVING:
                 var bestScore = moveScope.getStepScope().getPhaseScope().<Score_> getBestScore();
-                if (moveScope.<Score_> getScore().compareTo(bestScore) > 0) {
-                    earlyPickedMoveScope = moveScope;
+                if (moveScope.compareScoreTo(bestScore) > 0) {
+                    earlyPickedMoveScope = moveScope.retain();
                 }
                 break;
             case FIRST_LAST_STEP_SCORE_IMPROVING:
                 var lastStepScore = moveScope.getStepScope().getPhaseScope()
                         .getLastCompletedStepScope().<Score_> getScore();
-                if (moveScope.<Score_> getScore().compareTo(lastStepScore) > 0) {
-                    earlyPickedMoveScope = moveScope;
+                if (moveScope.compareScoreTo(lastStepScore) > 0) {
+                    earlyPickedMoveScope = moveScope.retain();
                 }
                 break;
             default:
@@ -19,7 +19,8 @@ public interface LocalSearchForager<Solution_> extends LocalSearchPhaseLifecycle
     boolean supportsNeverEndingMoveSelector();
 
     /**
-     * @param moveScope never null
+     * @param moveScope never null; may be reused for the next move,
+     *        so use {@link LocalSearchMoveScope#retain()} to keep it
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
@@ -30,7 +30,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
 
     protected void clearAndAddFinalist(LocalSearchMoveScope<Solution_> moveScope) {
         finalistList.clear();
-        finalistList.add(moveScope);
+        finalistList.add(moveScope.retain());
     }
 
     protected void addFinalist(LocalSearchMoveScope<Solution_> moveScope) {
@@ -38,7 +38,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
             // Avoid unbounded growth and OutOfMemoryException
             return;
         }
-        finalistList.add(moveScope);
+        finalistList.add(moveScope.retain());
     }
 
     @Override
@@ -1,9 +1,9 @@
 package ai.timefold.solver.core.impl.localsearch.decider.forager.finalist;
 
-import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
 
 /**
  * Default implementation of {@link FinalistPodium}.
@@ -12,7 +12,7 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
  */
 public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodium<Solution_> {
 
-    private Score<?> finalistScore;
+    private InnerScore<?> finalistScore;
 
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
@@ -30,10 +30,9 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
             finalistIsAccepted = true;
             finalistScore = null;
         }
-        var moveScore = moveScope.getScore().raw(); // Guaranteed local search; no need for InnerScore.
-        var scoreComparison = doComparison(moveScore);
+        var scoreComparison = doComparison(moveScope);
         if (scoreComparison > 0) {
-            finalistScore = moveScore;
+            finalistScore = moveScope.getScore();
             clearAndAddFinalist(moveScope);
         } else if (scoreComparison == 0) {
             addFinalist(moveScope);
@@ -41,11 +40,11 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private int doComparison(Score moveScore) {
+    private int doComparison(LocalSearchMoveScope<Solution_> moveScope) {
         if (finalistScore == null) {
             return 1;
         }
-        return moveScore.compareTo(finalistScore);
+        return moveScope.compareScoreTo((InnerScore) finalistScore);
     }
 
     @Override
@@ -1,18 +1,82 @@
 package ai.timefold.solver.core.impl.localsearch.scope;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.phase.scope.AbstractMoveScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.ScorePacker;
 import ai.timefold.solver.core.preview.api.move.Move;
 
 /**
+ * Local search evaluates many moves per step, and most of them are forgotten as soon as they are evaluated.
+ * Therefore the decider uses a {@link #reusable(LocalSearchStepScope) reusable} scope for all moves in a step,
+ * and whoever wants to keep a move scope beyond the evaluation of its move needs to {@link #retain()} it.
+ * <p>
+ * For the same reason, the score of a move may be {@link #setPackedScore(ScorePacker, long) packed},
+ * in which case it is only materialized once someone asks for it through {@link #getScore()}.
+ * Acceptors and foragers should prefer {@link #compareScoreTo(InnerScore)}, which does not materialize it.
+ *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
 public final class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_> {
 
+    private final boolean reusable;
     private Boolean accepted = null;
+    private ScorePacker<?> scorePacker = null; // Null unless the score is packed.
+    private long packedScore = 0L;
 
     public LocalSearchMoveScope(LocalSearchStepScope<Solution_> stepScope, int moveIndex, Move<Solution_> move) {
+        this(stepScope, moveIndex, move, false);
+    }
+
+    private LocalSearchMoveScope(LocalSearchStepScope<Solution_> stepScope, int moveIndex, Move<Solution_> move,
+            boolean reusable) {
         super(stepScope, moveIndex, move);
+        this.reusable = reusable;
+    }
+
+    /**
+     * @param stepScope never null
+     * @return never null, a scope without a move which needs to be {@link #reset(int, Move) reset} before use
+     */
+    public static <Solution_> LocalSearchMoveScope<Solution_> reusable(LocalSearchStepScope<Solution_> stepScope) {
+        return new LocalSearchMoveScope<>(stepScope, -1, null, true);
+    }
+
+    /**
+     * Prepares a {@link #reusable(LocalSearchStepScope) reusable} scope for the evaluation of another move.
+     *
+     * @param moveIndex at least 0
+     * @param move never null
+     */
+    public void reset(int moveIndex, Move<Solution_> move) {
+        if (!reusable) {
+            throw new IllegalStateException("Impossible state: the move scope (%s) is not reusable."
+                    .formatted(this));
+        }
+        this.moveIndex = moveIndex;
+        this.move = move;
+        this.score = null;
+        this.scorePacker = null;
+        this.accepted = null;
+    }
+
+    /**
+     * To be called by anyone who keeps a reference to this scope
+     * after the evaluation of its move has finished, such as foragers keeping finalists.
+     *
+     * @return never null, this if it is not reusable, otherwise a copy which will not change anymore
+     */
+    public LocalSearchMoveScope<Solution_> retain() {
+        if (!reusable) {
+            return this;
+        }
+        var retainedMoveScope = new LocalSearchMoveScope<>(getStepScope(), moveIndex, move);
+        retainedMoveScope.score = score;
+        retainedMoveScope.scorePacker = scorePacker;
+        retainedMoveScope.packedScore = packedScore;
+        retainedMoveScope.setAccepted(accepted);
+        return retainedMoveScope;
     }
 
     @Override
@@ -20,6 +84,48 @@ public final class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Sol
         return (LocalSearchStepScope<Solution_>) super.getStepScope();
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <Score_ extends Score<Score_>> InnerScore<Score_> getScore() {
+        if (score == null && scorePacker != null) {
+            score = InnerScore.fullyAssigned(((ScorePacker<Score_>) scorePacker).unpack(packedScore));
+        }
+        return (InnerScore<Score_>) score;
+    }
+
+    @Override
+    public void setScore(InnerScore<?> score) {
+        super.setScore(score);
+        this.scorePacker = null;
+    }
+
+    /**
+     * Sets the score of a fully assigned solution without materializing it.
+     *
+     * @param scorePacker never null
+     * @param packedScore as packed by the scorePacker
+     */
+    public <Score_ extends Score<Score_>> void setPackedScore(ScorePacker<Score_> scorePacker, long packedScore) {
+        this.score = null;
+        this.scorePacker = scorePacker;
+        this.packedScore = packedScore;
+    }
+
+    /**
+     * Equivalent to {@code getScore().compareTo(otherScore)},
+     * but does not materialize the score if it is {@link #setPackedScore(ScorePacker, long) packed}.
+     *
+     * @param otherScore never null
+     * @return as defined by {@link Comparable#compareTo(Object)}
+     */
+    @SuppressWarnings("unchecked")
+    public <Score_ extends Score<Score_>> int compareScoreTo(InnerScore<Score_> otherScore) {
+        if (scorePacker != null && otherScore.isFullyAssigned()) {
+            return Long.compare(packedScore, ((ScorePacker<Score_>) scorePacker).pack(otherScore.raw()));
+        }
+        return this.<Score_> getScore().compareTo(otherScore);
+    }
+
     public Boolean getAccepted() {
         return accepted;
     }
@@ -14,6 +14,7 @@ import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
 import ai.timefold.solver.core.impl.move.InnerMutableSolutionView;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.PackedScoreCalculator;
 import ai.timefold.solver.core.impl.score.director.VariableDescriptorAwareScoreDirector;
 import ai.timefold.solver.core.preview.api.domain.metamodel.ElementPosition;
 import ai.timefold.solver.core.preview.api.domain.metamodel.GenuineVariableMetaModel;
@@ -217,6 +218,18 @@ public sealed class MoveDirector<Solution_, Score_ extends Score<Score_>>
         return score;
     }
 
+    /**
+     * As defined by {@link #executeTemporary(Move)},
+     * but returns the packed score as defined by {@link PackedScoreCalculator#calculatePackedScore()}.
+     */
+    public final long executeTemporaryPacked(Move<Solution_> move, PackedScoreCalculator<Score_> packedScoreCalculator) {
+        var ephemeralMoveDirector = ephemeral();
+        ephemeralMoveDirector.execute(move);
+        var packedScore = packedScoreCalculator.calculatePackedScore();
+        ephemeralMoveDirector.close(); // This undoes the move.
+        return packedScore;
+    }
+
     public <Result_> Result_ executeTemporary(Move<Solution_> move,
             TemporaryMovePostprocessor<Solution_, Score_, Result_> postprocessor) {
         var ephemeralMoveDirector = ephemeral();
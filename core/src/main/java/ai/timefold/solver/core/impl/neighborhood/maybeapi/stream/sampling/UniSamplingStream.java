@@ -1,8 +1,12 @@
 package ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.sampling;
 
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.EnumeratingJoiners;
 import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.UniEnumeratingStream;
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.function.BiEnumeratingFilter;
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.function.BiEnumeratingJoiner;
 
 import org.jspecify.annotations.NullMarked;
 
@@ -13,7 +17,22 @@ public interface UniSamplingStream<Solution_, A> extends SamplingStream {
         return pick(uniEnumeratingStream, (a, b) -> true);
     }
 
+    /**
+     * Pairs every A with every B for which the filter is true.
+     * Every possible pair is tested;
+     * prefer {@link #pick(UniEnumeratingStream, BiEnumeratingJoiner[])} when the pairs can be matched by a property.
+     */
     <B> BiSamplingStream<Solution_, A, B> pick(UniEnumeratingStream<Solution_, B> uniEnumeratingStream,
             BiPredicate<A, B> filter);
 
+    /**
+     * Pairs every A with every B that matches all the joiners.
+     * Indexing joiners, such as {@link EnumeratingJoiners#equal(Function)},
+     * look up the matching Bs of each A in an index,
+     * so that pairs which do not match are never visited.
+     * {@link EnumeratingJoiners#filtering(BiEnumeratingFilter) Filtering joiners} are then tested on the pairs which were found that way.
+     */
+    <B> BiSamplingStream<Solution_, A, B> pick(UniEnumeratingStream<Solution_, B> uniEnumeratingStream,
+            BiEnumeratingJoiner<A, B>... joiners);
+
 }
@@ -1,38 +1,61 @@
 package ai.timefold.solver.core.impl.neighborhood.move;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import ai.timefold.solver.core.impl.bavet.common.index.Indexer;
+import ai.timefold.solver.core.impl.bavet.common.index.IndexerFactory;
+import ai.timefold.solver.core.impl.bavet.common.index.IndexerFactory.UniKeysExtractor;
 import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.core.impl.neighborhood.maybeapi.NeighborhoodSession;
 import ai.timefold.solver.core.impl.neighborhood.maybeapi.move.BiMoveConstructor;
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.function.BiEnumeratingFilter;
 import ai.timefold.solver.core.impl.neighborhood.stream.DefaultNeighborhoodSession;
 import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.common.AbstractEnumeratingStream;
+import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.joiner.DefaultBiEnumeratingJoiner;
 import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.uni.UniDataset;
+import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.uni.UniDatasetInstance;
+import ai.timefold.solver.core.impl.util.ElementAwareList;
 import ai.timefold.solver.core.preview.api.move.Move;
 import ai.timefold.solver.core.preview.api.move.SolutionView;
 
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+/**
+ * Pairs every A with every B that matches the joiner.
+ * If the joiner has any indexing joiners,
+ * the Bs are put in an {@link Indexer} once per iterator,
+ * and every A is only paired with the Bs that the indexer finds for it,
+ * instead of with every B.
+ * The filtering, if any, is tested on the pairs found that way.
+ */
 @NullMarked
 public final class FromUniBiMoveStream<Solution_, A, B> implements InnerMoveStream<Solution_> {
 
     private final UniDataset<Solution_, A> aDataset;
     private final UniDataset<Solution_, B> bDataset;
+    private final IndexerFactory<B> indexerFactory;
+    private final @Nullable BiEnumeratingFilter<Solution_, A, B> filtering;
     private final BiMoveConstructor<Solution_, A, B> moveConstructor;
-    private final BiPredicate<A, B> filter;
 
-    public FromUniBiMoveStream(UniDataset<Solution_, A> aDataset, UniDataset<Solution_, B> bDataset, BiPredicate<A, B> filter,
+    public FromUniBiMoveStream(UniDataset<Solution_, A> aDataset, UniDataset<Solution_, B> bDataset,
+            DefaultBiEnumeratingJoiner<A, B> joiner, @Nullable BiEnumeratingFilter<Solution_, A, B> filtering,
             BiMoveConstructor<Solution_, A, B> moveConstructor) {
         this.aDataset = Objects.requireNonNull(aDataset);
         this.bDataset = Objects.requireNonNull(bDataset);
-        this.filter = Objects.requireNonNull(filter);
+        this.indexerFactory = new IndexerFactory<>(joiner.toBiJoiner());
+        this.filtering = filtering;
         this.moveConstructor = Objects.requireNonNull(moveConstructor);
     }
 
@@ -50,8 +73,9 @@ public final class FromUniBiMoveStream<Solution_, A, B> implements InnerMoveStre
     private final class BiMoveIterator implements Iterator<Move<Solution_>> {
 
         private final IteratorSupplier<A> aIteratorSupplier;
-        private final IteratorSupplier<B> bIteratorSupplier;
+        private final Function<UniTuple<A>, Iterator<UniTuple<B>>> bIteratorFunction;
         private final SolutionView<Solution_> solutionView;
+        private final @Nullable BiPredicate<A, B> filter;
 
         // Fields required for iteration.
         private @Nullable Move<Solution_> nextMove;
@@ -63,16 +87,28 @@ public final class FromUniBiMoveStream<Solution_, A, B> implements InnerMoveStre
             var aInstance = neighborhoodSession.getDatasetInstance(aDataset);
             this.aIteratorSupplier = aInstance::iterator;
             var bInstance = neighborhoodSession.getDatasetInstance(bDataset);
-            this.bIteratorSupplier = bInstance::iterator;
+            if (indexerFactory.hasJoiners()) {
+                var bucketIndex = new BucketIndex(bInstance);
+                this.bIteratorFunction = bucketIndex::iterator;
+            } else {
+                this.bIteratorFunction = aTuple -> bInstance.iterator();
+            }
             this.solutionView = neighborhoodSession.getSolutionView();
+            this.filter = filtering == null ? null : filtering.toBiPredicate(solutionView);
         }
 
         public BiMoveIterator(DefaultNeighborhoodSession<Solution_> neighborhoodSession, Random random) {
             var aInstance = neighborhoodSession.getDatasetInstance(aDataset);
             this.aIteratorSupplier = () -> aInstance.iterator(random);
             var bInstance = neighborhoodSession.getDatasetInstance(bDataset);
-            this.bIteratorSupplier = () -> bInstance.iterator(random);
+            if (indexerFactory.hasJoiners()) {
+                var bucketIndex = new BucketIndex(bInstance);
+                this.bIteratorFunction = aTuple -> bucketIndex.iterator(aTuple, random);
+            } else {
+                this.bIteratorFunction = aTuple -> bInstance.iterator(random);
+            }
             this.solutionView = neighborhoodSession.getSolutionView();
+            this.filter = filtering == null ? null : filtering.toBiPredicate(solutionView);
         }
 
         @Override
@@ -89,8 +125,7 @@ public final class FromUniBiMoveStream<Solution_, A, B> implements InnerMoveStre
                 if (!aIterator.hasNext()) {
                     return false;
                 }
-                currentA = aIterator.next().factA;
-                bIterator = bIteratorSupplier.get();
+                nextA();
             }
 
             // Try to find the next valid move.
@@ -101,7 +136,7 @@ public final class FromUniBiMoveStream<Solution_, A, B> implements InnerMoveStre
                     var currentB = bTuple.factA;
 
                     // Check if this pair passes the filter...
-                    if (filter.test(currentA, currentB)) {
+                    if (filter == null || filter.test(currentA, currentB)) {
                         // ... and create the next move.
                         nextMove = moveConstructor.apply(solutionView, currentA, currentB);
                         return true;
@@ -110,9 +145,8 @@ public final class FromUniBiMoveStream<Solution_, A, B> implements InnerMoveStre
 
                 // Inner iterator exhausted, move to next outer element.
                 if (aIterator.hasNext()) {
-                    currentA = aIterator.next().factA;
                     // Reset inner iterator for new outer element.
-                    bIterator = bIteratorSupplier.get();
+                    nextA();
                 } else {
                     // Both iterators exhausted.
                     return false;
@@ -120,6 +154,12 @@ public final class FromUniBiMoveStream<Solution_, A, B> implements InnerMoveStre
             }
         }
 
+        private void nextA() {
+            var aTuple = aIterator.next();
+            currentA = aTuple.factA;
+            bIterator = bIteratorFunction.apply(aTuple);
+        }
+
         @Override
         public Move<Solution_> next() {
             if (!hasNext()) {
@@ -136,6 +176,106 @@ public final class FromUniBiMoveStream<Solution_, A, B> implements InnerMoveStre
         }
     }
 
+    /**
+     * Indexes the Bs when first needed.
+     * The Bs matching an A are only looked up once the iteration reaches that A,
+     * and are let go of when it moves on to the next A.
+     * Only if all joiners are equal joiners, the matching Bs are cached per distinct index key of A,
+     * as many As then typically share a bucket, and every B is in only one bucket.
+     */
+    private final class BucketIndex {
+
+        private final UniDatasetInstance<Solution_, B> bInstance;
+        private final UniKeysExtractor<A> aKeysExtractor = indexerFactory.buildUniLeftKeysExtractor();
+        private final @Nullable Map<Object, ElementAwareList<UniTuple<B>>> bucketMap;
+        private final List<UniTuple<B>> matchingBList = new ArrayList<>();
+        private @Nullable Indexer<UniTuple<B>> bIndexer;
+
+        public BucketIndex(UniDatasetInstance<Solution_, B> bInstance) {
+            this.bInstance = bInstance;
+            this.bucketMap = indexerFactory.hasOnlyEqualJoiners() ? new HashMap<>() : null;
+        }
+
+        /**
+         * The returned iterator is only valid until the next call.
+         */
+        public Iterator<UniTuple<B>> iterator(UniTuple<A> aTuple) {
+            var aIndexKeys = aKeysExtractor.apply(aTuple);
+            if (bucketMap != null) {
+                return bucketMap.computeIfAbsent(aIndexKeys, this::collectBucket).iterator();
+            }
+            collectMatching(aIndexKeys);
+            return matchingBList.iterator();
+        }
+
+        /**
+         * As defined by {@link #iterator(UniTuple)}, but in random order.
+         */
+        public Iterator<UniTuple<B>> iterator(UniTuple<A> aTuple, Random random) {
+            var aIndexKeys = aKeysExtractor.apply(aTuple);
+            if (bucketMap != null) {
+                return bucketMap.computeIfAbsent(aIndexKeys, this::collectBucket).randomizedIterator(random);
+            }
+            collectMatching(aIndexKeys);
+            return new RandomMatchingBIterator(random);
+        }
+
+        private ElementAwareList<UniTuple<B>> collectBucket(Object aIndexKeys) {
+            var bucket = new ElementAwareList<UniTuple<B>>();
+            getBIndexer().forEach(aIndexKeys, bucket::add);
+            return bucket;
+        }
+
+        private void collectMatching(Object aIndexKeys) {
+            matchingBList.clear();
+            getBIndexer().forEach(aIndexKeys, matchingBList::add);
+        }
+
+        private Indexer<UniTuple<B>> getBIndexer() {
+            if (bIndexer == null) {
+                bIndexer = indexerFactory.buildIndexer(false);
+                var bKeysExtractor = indexerFactory.buildRightKeysExtractor();
+                var bIterator = bInstance.iterator();
+                while (bIterator.hasNext()) {
+                    var bTuple = bIterator.next();
+                    bIndexer.put(bKeysExtractor.apply(bTuple), bTuple);
+                }
+            }
+            return bIndexer;
+        }
+
+        /**
+         * Takes the matching Bs out of {@link #matchingBList} in random order,
+         * by moving the last one into the place of the one picked.
+         */
+        private final class RandomMatchingBIterator implements Iterator<UniTuple<B>> {
+
+            private final Random random;
+
+            public RandomMatchingBIterator(Random random) {
+                this.random = random;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !matchingBList.isEmpty();
+            }
+
+            @Override
+            public UniTuple<B> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                var lastIndex = matchingBList.size() - 1;
+                var randomIndex = random.nextInt(lastIndex + 1);
+                var last = matchingBList.remove(lastIndex);
+                return randomIndex == lastIndex ? last : matchingBList.set(randomIndex, last);
+            }
+
+        }
+
+    }
+
     private final class BiMoveIterable implements MoveIterable<Solution_> {
 
         private final DefaultNeighborhoodSession<Solution_> neighborhoodSession;
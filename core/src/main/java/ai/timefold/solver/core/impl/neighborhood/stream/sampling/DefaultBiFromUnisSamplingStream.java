@@ -1,33 +1,38 @@
 package ai.timefold.solver.core.impl.neighborhood.stream.sampling;
 
 import java.util.Objects;
-import java.util.function.BiPredicate;
 
 import ai.timefold.solver.core.impl.neighborhood.maybeapi.MoveStream;
 import ai.timefold.solver.core.impl.neighborhood.maybeapi.move.BiMoveConstructor;
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.function.BiEnumeratingFilter;
 import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.sampling.BiSamplingStream;
 import ai.timefold.solver.core.impl.neighborhood.move.FromUniBiMoveStream;
+import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.joiner.DefaultBiEnumeratingJoiner;
 import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.uni.UniDataset;
 
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 public final class DefaultBiFromUnisSamplingStream<Solution_, A, B> implements BiSamplingStream<Solution_, A, B> {
 
     private final UniDataset<Solution_, A> leftDataset;
     private final UniDataset<Solution_, B> rightDataset;
-    private final BiPredicate<A, B> filter;
+    private final DefaultBiEnumeratingJoiner<A, B> joiner;
+    private final @Nullable BiEnumeratingFilter<Solution_, A, B> filtering;
 
     public DefaultBiFromUnisSamplingStream(UniDataset<Solution_, A> leftDataset, UniDataset<Solution_, B> rightDataset,
-            BiPredicate<A, B> filter) {
+            DefaultBiEnumeratingJoiner<A, B> joiner, @Nullable BiEnumeratingFilter<Solution_, A, B> filtering) {
         this.leftDataset = Objects.requireNonNull(leftDataset);
         this.rightDataset = Objects.requireNonNull(rightDataset);
-        this.filter = Objects.requireNonNull(filter);
+        this.joiner = Objects.requireNonNull(joiner);
+        this.filtering = filtering;
     }
 
     @Override
     public MoveStream<Solution_> asMove(BiMoveConstructor<Solution_, A, B> moveConstructor) {
-        return new FromUniBiMoveStream<>(leftDataset, rightDataset, filter, Objects.requireNonNull(moveConstructor));
+        return new FromUniBiMoveStream<>(leftDataset, rightDataset, joiner, filtering,
+                Objects.requireNonNull(moveConstructor));
     }
 
 }
@@ -3,8 +3,11 @@ package ai.timefold.solver.core.impl.neighborhood.stream.sampling;
 import java.util.Objects;
 import java.util.function.BiPredicate;
 
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.EnumeratingJoiners;
 import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.UniEnumeratingStream;
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.function.BiEnumeratingJoiner;
 import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.sampling.BiSamplingStream;
+import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.joiner.BiDataJoinerComber;
 import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.uni.AbstractUniEnumeratingStream;
 import ai.timefold.solver.core.impl.neighborhood.stream.enumerating.uni.UniDataset;
 
@@ -22,9 +25,19 @@ public final class DefaultUniSamplingStream<Solution_, A> implements InnerUniSam
     @Override
     public <B> BiSamplingStream<Solution_, A, B> pick(UniEnumeratingStream<Solution_, B> uniEnumeratingStream,
             BiPredicate<A, B> filter) {
+        Objects.requireNonNull(filter);
+        return pick(uniEnumeratingStream,
+                EnumeratingJoiners.<Solution_, A, B> filtering((solutionView, a, b) -> filter.test(a, b)));
+    }
+
+    @SafeVarargs
+    @Override
+    public final <B> BiSamplingStream<Solution_, A, B> pick(UniEnumeratingStream<Solution_, B> uniEnumeratingStream,
+            BiEnumeratingJoiner<A, B>... joiners) {
+        var joinerComber = BiDataJoinerComber.<Solution_, A, B> comb(joiners);
         return new DefaultBiFromUnisSamplingStream<>(dataset,
                 ((AbstractUniEnumeratingStream<Solution_, B>) uniEnumeratingStream).createDataset(),
-                filter);
+                joinerComber.mergedJoiner(), joinerComber.mergedFiltering());
     }
 
     @Override
@@ -14,8 +14,8 @@ import ai.timefold.solver.core.preview.api.move.Move;
 public abstract class AbstractMoveScope<Solution_> {
 
     protected final AbstractStepScope<Solution_> stepScope;
-    protected final int moveIndex;
-    protected final Move<Solution_> move;
+    protected int moveIndex;
+    protected Move<Solution_> move;
 
     protected InnerScore<?> score = null;
 
@@ -79,6 +79,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     private long workingEntityListRevision = 0L;
     private int workingGenuineEntityCount = 0;
     private boolean allChangesWillBeUndoneBeforeStepEnds = false;
+    private @Nullable WorkingSolutionChangeListener workingSolutionChangeListener = null;
     private long calculationCount = 0L;
     protected Solution_ workingSolution;
     private int workingInitScore = 0;
@@ -188,6 +189,23 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.allChangesWillBeUndoneBeforeStepEnds = allChangesWillBeUndoneBeforeStepEnds;
     }
 
+    @Override
+    public void setWorkingSolutionChangeListener(@Nullable WorkingSolutionChangeListener workingSolutionChangeListener) {
+        this.workingSolutionChangeListener = workingSolutionChangeListener;
+    }
+
+    private void fireEntityChanged(Object entity) {
+        if (workingSolutionChangeListener != null && !allChangesWillBeUndoneBeforeStepEnds) {
+            workingSolutionChangeListener.entityChanged(entity);
+        }
+    }
+
+    private void fireSolutionChanged() {
+        if (workingSolutionChangeListener != null) {
+            workingSolutionChangeListener.solutionChanged();
+        }
+    }
+
     @Override
     public long getCalculationCount() {
         return calculationCount;
@@ -268,6 +286,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (moveRepository != null) {
             moveRepository.initialize(new SessionContext<>(this));
         }
+        fireSolutionChanged();
     }
 
     /**
@@ -328,6 +347,15 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return moveScore;
     }
 
+    @Override
+    public long executeTemporaryMovePacked(Move<Solution_> move, PackedScoreCalculator<Score_> packedScoreCalculator) {
+        // As in executeTemporaryMove(...), the changes will be undone before the step ends.
+        allChangesWillBeUndoneBeforeStepEnds = true;
+        var packedMoveScore = moveDirector.executeTemporaryPacked(move, packedScoreCalculator);
+        allChangesWillBeUndoneBeforeStepEnds = false;
+        return packedMoveScore;
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -458,6 +486,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(entity);
         }
+        fireSolutionChanged();
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             if (moveRepository instanceof NeighborhoodsBasedMoveRepository<Solution_> neighborhoodsBasedMoveRepository) {
                 neighborhoodsBasedMoveRepository.insert(entity);
@@ -474,6 +503,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             workingInitScore++;
         }
         assertInitScoreZeroOrLess();
+        fireEntityChanged(entity);
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
     }
 
@@ -532,6 +562,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                             Maybe you are using an improperly implemented custom move?"""
                             .formatted(variableDescriptor, entity, fromIndex, toIndex));
         }
+        fireEntityChanged(entity);
         variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
@@ -556,6 +587,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(entity);
         }
+        fireSolutionChanged();
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             if (moveRepository instanceof NeighborhoodsBasedMoveRepository<Solution_> neighborhoodsBasedMoveRepository) {
                 neighborhoodsBasedMoveRepository.retract(entity);
@@ -581,6 +613,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.addWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+        fireSolutionChanged();
         if (moveRepository instanceof NeighborhoodsBasedMoveRepository<Solution_> neighborhoodsBasedMoveRepository) {
             neighborhoodsBasedMoveRepository.insert(problemFact);
         }
@@ -597,6 +630,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             setWorkingSolution(workingSolution); // Nuke everything and recalculate, constraint weights have changed.
         } else {
             variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+            fireSolutionChanged();
             if (moveRepository instanceof NeighborhoodsBasedMoveRepository<Solution_> neighborhoodsBasedMoveRepository) {
                 neighborhoodsBasedMoveRepository.update(problemFactOrEntity);
             }
@@ -618,6 +652,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.removeWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+        fireSolutionChanged();
         if (moveRepository instanceof NeighborhoodsBasedMoveRepository<Solution_> neighborhoodsBasedMoveRepository) {
             neighborhoodsBasedMoveRepository.retract(problemFact);
         }
@@ -119,6 +119,13 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     InnerScore<Score_> calculateScore();
 
+    /**
+     * @return null if the score of this score director does not fit into a long
+     */
+    default @Nullable PackedScoreCalculator<Score_> getPackedScoreCalculator() {
+        return null;
+    }
+
     /**
      * @return {@link ConstraintMatchPolicy#ENABLED} if {@link #getConstraintMatchTotalMap()} and {@link #getIndictmentMap()}
      *         can be called.
@@ -183,6 +190,16 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     InnerScore<Score_> executeTemporaryMove(Move<Solution_> move, boolean assertMoveScoreFromScratch);
 
+    /**
+     * As defined by {@link #executeTemporaryMove(Move, boolean)},
+     * but returns the packed score as defined by {@link PackedScoreCalculator#calculatePackedScore()}.
+     *
+     * @param move never null
+     * @param packedScoreCalculator as returned by {@link #getPackedScoreCalculator()}
+     * @return the packed score
+     */
+    long executeTemporaryMovePacked(Move<Solution_> move, PackedScoreCalculator<Score_> packedScoreCalculator);
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -281,6 +298,13 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void setAllChangesWillBeUndoneBeforeStepEnds(boolean allChangesWillBeUndoneBeforeStepEnds);
 
+    /**
+     * Changes made while {@link #setAllChangesWillBeUndoneBeforeStepEnds(boolean)} is true are not reported.
+     *
+     * @param workingSolutionChangeListener null to stop reporting changes
+     */
+    void setWorkingSolutionChangeListener(@Nullable WorkingSolutionChangeListener workingSolutionChangeListener);
+
     /**
      * Asserts that if the {@link Score} is calculated for the current {@link PlanningSolution working solution}
      * in the current {@link ScoreDirector} (with possibly incremental calculation residue),
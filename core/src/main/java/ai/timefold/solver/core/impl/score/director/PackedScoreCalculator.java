@@ -0,0 +1,30 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Calculates the score of the {@link PlanningSolution working solution} of a score director
+ * as a single primitive long, packed by {@link #getScorePacker()}.
+ * Only score directors whose score type fits into a long provide one,
+ * see {@link InnerScoreDirector#getPackedScoreCalculator()}.
+ *
+ * @param <Score_> the score type
+ */
+@NullMarked
+public interface PackedScoreCalculator<Score_ extends Score<Score_>> {
+
+    ScorePacker<Score_> getScorePacker();
+
+    /**
+     * As defined by {@link InnerScoreDirector#calculateScore()},
+     * but returns the score packed by {@link #getScorePacker()} and does not update the working solution's score.
+     * Only to be called while the working solution is fully assigned.
+     *
+     * @return the packed score of the {@link PlanningSolution working solution}
+     */
+    long calculatePackedScore();
+
+}
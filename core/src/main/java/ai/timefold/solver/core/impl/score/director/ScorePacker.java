@@ -0,0 +1,94 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.buildin.simplelong.SimpleLongScore;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Represents a fully assigned score of a type which fits into 64 bits as a single primitive long,
+ * so that local search can evaluate and compare moves without materializing a {@link Score} for each of them.
+ * Comparing two packed scores with {@link Long#compare(long, long)}
+ * gives the same result as comparing the scores they represent.
+ * <p>
+ * Only {@link SimpleScore}, {@link SimpleLongScore} and {@link HardSoftScore} fit.
+ * Every other score type, such as {@link ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore},
+ * has more than 64 bits worth of levels and is never packed.
+ *
+ * @param <Score_> the score type
+ */
+@NullMarked
+public sealed interface ScorePacker<Score_ extends Score<Score_>> {
+
+    ScorePacker<SimpleScore> SIMPLE = new SimpleScorePacker();
+    ScorePacker<SimpleLongScore> SIMPLE_LONG = new SimpleLongScorePacker();
+    ScorePacker<HardSoftScore> HARD_SOFT = new HardSoftScorePacker();
+
+    /**
+     * @param hardScore any int
+     * @param softScore any int
+     * @return the hard score in the high bits, followed by the soft score,
+     *         whose sign bit is flipped so that it orders correctly as the unsigned low bits
+     */
+    static long packHardSoft(int hardScore, int softScore) {
+        return ((long) hardScore << 32) | ((softScore ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL);
+    }
+
+    long pack(Score_ score);
+
+    Score_ unpack(long packedScore);
+
+    final class SimpleScorePacker implements ScorePacker<SimpleScore> {
+
+        private SimpleScorePacker() {
+        }
+
+        @Override
+        public long pack(SimpleScore score) {
+            return score.score();
+        }
+
+        @Override
+        public SimpleScore unpack(long packedScore) {
+            return SimpleScore.of((int) packedScore);
+        }
+
+    }
+
+    final class SimpleLongScorePacker implements ScorePacker<SimpleLongScore> {
+
+        private SimpleLongScorePacker() {
+        }
+
+        @Override
+        public long pack(SimpleLongScore score) {
+            return score.score();
+        }
+
+        @Override
+        public SimpleLongScore unpack(long packedScore) {
+            return SimpleLongScore.of(packedScore);
+        }
+
+    }
+
+    final class HardSoftScorePacker implements ScorePacker<HardSoftScore> {
+
+        private HardSoftScorePacker() {
+        }
+
+        @Override
+        public long pack(HardSoftScore score) {
+            return packHardSoft(score.hardScore(), score.softScore());
+        }
+
+        @Override
+        public HardSoftScore unpack(long packedScore) {
+            return HardSoftScore.of((int) (packedScore >> 32), ((int) packedScore) ^ Integer.MIN_VALUE);
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package ai.timefold.solver.core.impl.score.director;
+
+/**
+ * Notified by the {@link InnerScoreDirector} of the changes to the working solution which are kept,
+ * as opposed to the changes which will be undone before the step ends.
+ *
+ * @see InnerScoreDirector#setWorkingSolutionChangeListener(WorkingSolutionChangeListener)
+ */
+public interface WorkingSolutionChangeListener {
+
+    /**
+     * Called before a genuine or shadow variable of the entity changes.
+     * Called once for every changed variable, so the same entity may be reported many times.
+     *
+     * @param entity never null
+     */
+    void entityChanged(Object entity);
+
+    /**
+     * Called when the working solution changed in a way which {@link #entityChanged(Object)} does not describe,
+     * such as an entity or a problem fact being added or removed, or the working solution being replaced.
+     */
+    void solutionChanged();
+
+}
@@ -10,14 +10,20 @@ import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityForEachFilter;
 import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTracker;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirector;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.PackedScoreCalculator;
+import ai.timefold.solver.core.impl.score.director.ScorePacker;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintProfiler;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.PackedScoreInliner;
 
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * FP streams implementation of {@link ScoreDirector}, which only recalculates the {@link Score}
@@ -31,11 +37,14 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     private final boolean derived;
+    private final @Nullable BavetConstraintProfiler profiler;
     private BavetConstraintSession<Score_> session;
+    private @Nullable PackedScoreCalculator<Score_> packedScoreCalculator = null;
 
     private BavetConstraintStreamScoreDirector(Builder<Solution_, Score_> builder, boolean derived) {
         super(builder);
         this.derived = derived;
+        this.profiler = builder.profilingEnabled ? new BavetConstraintProfiler() : null;
     }
 
     // ************************************************************************
@@ -72,9 +81,13 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void setWorkingSolutionWithoutUpdatingShadows(Solution_ workingSolution) {
         session = scoreDirectorFactory.newSession(workingSolution, variableListenerSupport.getConsistencyTracker(),
-                constraintMatchPolicy, derived);
+                constraintMatchPolicy, derived, null, profiler);
+        packedScoreCalculator = session.getScoreInliner() instanceof PackedScoreInliner<?> packedScoreInliner
+                ? new BavetPackedScoreCalculator((PackedScoreInliner<Score_>) packedScoreInliner)
+                : null;
         super.setWorkingSolutionWithoutUpdatingShadows(workingSolution, session::insert);
     }
 
@@ -86,6 +99,11 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return new InnerScore<>(score, -getWorkingInitScore());
     }
 
+    @Override
+    public @Nullable PackedScoreCalculator<Score_> getPackedScoreCalculator() {
+        return packedScoreCalculator;
+    }
+
     @Override
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
         if (!constraintMatchPolicy.isEnabled()) {
@@ -119,6 +137,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         super.close();
         if (session != null) {
             session = null;
+            packedScoreCalculator = null;
         }
     }
 
@@ -145,7 +164,11 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
-        session.update(entity);
+        if (EntityForEachFilter.isAffectedBy(variableDescriptor)) {
+            session.update(entity);
+        } else { // Typically a shadow variable; forEach nodes need not re-evaluate their filters.
+            session.updateFilterUnaffected(entity);
+        }
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
@@ -212,20 +235,71 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session;
     }
 
+    /**
+     * The profiler outlives the session, so that the measurements survive the working solution being replaced.
+     *
+     * @return null unless profiling was enabled when this score director was built
+     */
+    public @Nullable BavetConstraintProfiler getProfiler() {
+        return profiler;
+    }
+
     @Override
     public boolean isDerived() {
         return derived;
     }
 
+    @NullMarked
+    private final class BavetPackedScoreCalculator implements PackedScoreCalculator<Score_> {
+
+        private final PackedScoreInliner<Score_> scoreInliner;
+
+        private BavetPackedScoreCalculator(PackedScoreInliner<Score_> scoreInliner) {
+            this.scoreInliner = scoreInliner;
+        }
+
+        @Override
+        public ScorePacker<Score_> getScorePacker() {
+            return scoreInliner.getScorePacker();
+        }
+
+        @Override
+        public long calculatePackedScore() {
+            variableListenerSupport.assertNotificationQueuesAreEmpty();
+            if (getWorkingInitScore() != 0) {
+                throw new IllegalStateException("Impossible state: the working solution is not fully assigned (%d)."
+                        .formatted(-getWorkingInitScore()));
+            }
+            session.settle();
+            var packedScore = scoreInliner.extractPackedScore();
+            incrementCalculationCount();
+            return packedScore;
+        }
+
+    }
+
     @NullMarked
     public static final class Builder<Solution_, Score_ extends Score<Score_>>
             extends
             AbstractScoreDirectorBuilder<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>, Builder<Solution_, Score_>> {
 
+        private boolean profilingEnabled = false;
+
         public Builder(BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory) {
             super(scoreDirectorFactory);
         }
 
+        /**
+         * Profiling measures the time spent in each constraint, see {@link BavetConstraintProfiler}.
+         * It is disabled by default, as it slows down score calculation.
+         *
+         * @return this
+         */
+        public Builder<Solution_, Score_> withProfilingEnabled(boolean profilingEnabled) {
+            this.profilingEnabled = profilingEnabled;
+            return this;
+        }
+
         @Override
         public BavetConstraintStreamScoreDirector<Solution_, Score_> build() {
             return new BavetConstraintStreamScoreDirector<>(this, false);
@@ -15,11 +15,14 @@ import ai.timefold.solver.core.impl.domain.variable.declarative.ConsistencyTrack
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirector;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintProfiler;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSessionFactory;
 import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraintStreamScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
 
+import org.jspecify.annotations.Nullable;
+
 public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends
         AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
@@ -38,7 +41,14 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         var constraintProvider = ConfigUtils.newInstance(config, "constraintProviderClass", constraintProviderClass);
         ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                 config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
-        return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider, environmentMode);
+        var parallelPropagationThreshold = config.getConstraintStreamParallelPropagationThreshold();
+        if (parallelPropagationThreshold != null && parallelPropagationThreshold < 1) {
+            throw new IllegalArgumentException(
+                    "The constraintStreamParallelPropagationThreshold (%d) must be at least 1."
+                            .formatted(parallelPropagationThreshold));
+        }
+        return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider, environmentMode,
+                parallelPropagationThreshold);
     }
 
     private static Class<? extends ConstraintProvider> getConstraintProviderClass(ScoreDirectorFactoryConfig config,
@@ -57,10 +67,17 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode) {
+        this(solutionDescriptor, constraintProvider, environmentMode, null);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode,
+            @Nullable Integer parallelPropagationThreshold) {
         super(solutionDescriptor);
         var constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
         constraintMetaModel = DefaultConstraintMetaModel.of(constraintFactory.buildConstraints(constraintProvider));
-        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel);
+        constraintSessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel, parallelPropagationThreshold);
     }
 
     public BavetConstraintSession<Score_> newSession(Solution_ workingSolution,
@@ -74,9 +91,18 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
             ConsistencyTracker<Solution_> consistencyTracker,
             ConstraintMatchPolicy constraintMatchPolicy,
             boolean scoreDirectorDerived, Consumer<String> nodeNetworkVisualizationConsumer) {
+        return newSession(workingSolution, consistencyTracker, constraintMatchPolicy, scoreDirectorDerived,
+                nodeNetworkVisualizationConsumer, null);
+    }
+
+    public BavetConstraintSession<Score_> newSession(Solution_ workingSolution,
+            ConsistencyTracker<Solution_> consistencyTracker,
+            ConstraintMatchPolicy constraintMatchPolicy,
+            boolean scoreDirectorDerived, Consumer<String> nodeNetworkVisualizationConsumer,
+            @Nullable BavetConstraintProfiler profiler) {
         return constraintSessionFactory.buildSession(workingSolution, consistencyTracker, constraintMatchPolicy,
                 scoreDirectorDerived,
-                nodeNetworkVisualizationConsumer);
+                nodeNetworkVisualizationConsumer, profiler);
     }
 
     @Override
@@ -0,0 +1,88 @@
+package ai.timefold.solver.core.impl.score.stream.bavet;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.impl.bavet.common.PropagationProfile;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The share of a single constraint in the measurements of a {@link BavetConstraintProfiler}.
+ * <p>
+ * Only the propagation profiles of the current session are kept;
+ * when the next session starts, the measurements of the finished one are folded into running totals.
+ */
+@NullMarked
+public final class BavetConstraintProfile {
+
+    private static final SharedPropagationProfile[] EMPTY_SESSION_PROFILES = new SharedPropagationProfile[0];
+
+    private final ConstraintRef constraintRef;
+    // Replaced by the solver thread when a session starts, read by the metrics at any time.
+    private volatile Snapshot snapshot = new Snapshot(0L, 0L, EMPTY_SESSION_PROFILES);
+
+    BavetConstraintProfile(ConstraintRef constraintRef) {
+        this.constraintRef = constraintRef;
+    }
+
+    /**
+     * Folds the measurements of the previous session into the running totals
+     * and measures the given profiles from now on.
+     *
+     * @param sessionProfileList the profiles of the nodes of this constraint in the new session, possibly empty
+     */
+    void startSession(List<SharedPropagationProfile> sessionProfileList) {
+        var previousSnapshot = snapshot;
+        snapshot = new Snapshot(previousSnapshot.getTimeNanos(), previousSnapshot.getTupleCount(),
+                sessionProfileList.toArray(EMPTY_SESSION_PROFILES));
+    }
+
+    public ConstraintRef getConstraintRef() {
+        return constraintRef;
+    }
+
+    /**
+     * @return the time spent propagating the nodes of this constraint, in nanoseconds,
+     *         with the time of shared nodes split evenly between the constraints sharing them
+     */
+    public long getTimeNanos() {
+        return snapshot.getTimeNanos();
+    }
+
+    /**
+     * @return the number of tuples propagated by the nodes of this constraint
+     */
+    public long getTupleCount() {
+        return snapshot.getTupleCount();
+    }
+
+    @Override
+    public String toString() {
+        return "%s (%d tuples in %d ns)".formatted(constraintRef, getTupleCount(), getTimeNanos());
+    }
+
+    record SharedPropagationProfile(PropagationProfile profile, int constraintCount) {
+    }
+
+    private record Snapshot(long foldedTimeNanos, long foldedTupleCount, SharedPropagationProfile[] sessionProfiles) {
+
+        long getTimeNanos() {
+            var timeNanos = foldedTimeNanos;
+            for (var sharedProfile : sessionProfiles) {
+                timeNanos += sharedProfile.profile().getTimeNanos() / sharedProfile.constraintCount();
+            }
+            return timeNanos;
+        }
+
+        long getTupleCount() {
+            var tupleCount = foldedTupleCount;
+            for (var sharedProfile : sessionProfiles) {
+                tupleCount += sharedProfile.profile().getItemCount();
+            }
+            return tupleCount;
+        }
+
+    }
+
+}
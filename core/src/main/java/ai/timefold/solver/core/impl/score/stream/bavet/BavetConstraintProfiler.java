@@ -0,0 +1,98 @@
+package ai.timefold.solver.core.impl.score.stream.bavet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.impl.bavet.common.ProfilingPropagator;
+import ai.timefold.solver.core.impl.bavet.common.PropagationProfile;
+import ai.timefold.solver.core.impl.bavet.common.Propagator;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintProfile.SharedPropagationProfile;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Measures how much time {@link BavetConstraintSession} spends in each constraint,
+ * and how many tuples flow through it.
+ * The measurements accumulate over every session built with this profiler,
+ * so that they survive the working solution being replaced.
+ * Only the node profiles of the latest session are kept;
+ * those of a finished session are folded into running totals per constraint.
+ * <p>
+ * Only the propagation of the node network is measured,
+ * which is where the joins, filters, groups and scorers do their work.
+ * A node shared by several constraints has its time split evenly between them,
+ * so that the times of all constraints add up to the total time spent propagating.
+ * Its tuples count fully towards every constraint which shares it.
+ *
+ * @see ProfilingPropagator
+ */
+@NullMarked
+public final class BavetConstraintProfiler {
+
+    // Written by the solver thread when a session is built, read by the metrics at any time.
+    private final Map<ConstraintRef, BavetConstraintProfile> constraintRefToProfileMap = new ConcurrentHashMap<>();
+    // Only used by the solver thread, while a session is being built.
+    private final Map<ConstraintRef, List<SharedPropagationProfile>> sessionProfileListMap = new HashMap<>();
+
+    /**
+     * @param propagator the node's own propagator
+     * @param constraintRefs the constraints which use the node
+     * @return the propagator to use in the node network instead
+     * @see #sessionBuilt()
+     */
+    Propagator profile(Propagator propagator, List<ConstraintRef> constraintRefs) {
+        if (constraintRefs.isEmpty()) {
+            return propagator;
+        }
+        var propagationProfile = new PropagationProfile();
+        var sharedProfile = new SharedPropagationProfile(propagationProfile, constraintRefs.size());
+        for (var constraintRef : constraintRefs) {
+            sessionProfileListMap.computeIfAbsent(constraintRef, k -> new ArrayList<>())
+                    .add(sharedProfile);
+        }
+        return new ProfilingPropagator(propagator, propagationProfile);
+    }
+
+    /**
+     * Called once every node of a new session has been {@link #profile(Propagator, List) profiled}.
+     * The previous session is no longer propagated,
+     * so its measurements are folded into the running totals and its node profiles released.
+     */
+    void sessionBuilt() {
+        for (var constraintProfile : constraintRefToProfileMap.values()) {
+            var sessionProfileList = sessionProfileListMap.remove(constraintProfile.getConstraintRef());
+            constraintProfile.startSession(sessionProfileList == null ? Collections.emptyList() : sessionProfileList);
+        }
+        for (var entry : sessionProfileListMap.entrySet()) {
+            var constraintProfile = new BavetConstraintProfile(entry.getKey());
+            // Start the session before publishing the profile, so that the metrics never see it half-built.
+            constraintProfile.startSession(entry.getValue());
+            constraintRefToProfileMap.put(entry.getKey(), constraintProfile);
+        }
+        sessionProfileListMap.clear();
+    }
+
+    /**
+     * @return one profile for every constraint which was enabled in any session built so far
+     */
+    public Collection<BavetConstraintProfile> getConstraintProfiles() {
+        return Collections.unmodifiableCollection(constraintRefToProfileMap.values());
+    }
+
+    public @Nullable BavetConstraintProfile getConstraintProfile(ConstraintRef constraintRef) {
+        return constraintRefToProfileMap.get(constraintRef);
+    }
+
+    @Override
+    public String toString() {
+        return "%s(%d constraints)".formatted(getClass().getSimpleName(), constraintRefToProfileMap.size());
+    }
+
+}
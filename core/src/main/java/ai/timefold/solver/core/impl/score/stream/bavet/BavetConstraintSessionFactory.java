@@ -1,21 +1,31 @@
 package ai.timefold.solver.core.impl.score.stream.bavet;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintMetaModel;
 import ai.timefold.solver.core.impl.bavet.NodeNetwork;
+import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNodeBuildHelper;
 import ai.timefold.solver.core.impl.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.core.impl.bavet.common.BavetRootNode;
+import ai.timefold.solver.core.impl.bavet.common.Propagator;
 import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.core.impl.bavet.visual.NodeGraph;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
@@ -25,6 +35,7 @@ import ai.timefold.solver.core.impl.score.stream.bavet.common.ConstraintNodeBuil
 import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
@@ -36,22 +47,67 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final ConstraintMetaModel constraintMetaModel;
+    private final @Nullable Integer parallelPropagationThreshold;
+    private final @Nullable ForkJoinPool parallelPropagationPool;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintMetaModel constraintMetaModel) {
+        this(solutionDescriptor, constraintMetaModel, null);
+    }
+
+    /**
+     * @param parallelPropagationThreshold null if the node network should always propagate on the calling thread;
+     *        otherwise see {@link NodeNetwork#parallelPropagationThreshold()}.
+     *        The sessions then propagate on a pool owned by this factory, and never on the common pool.
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintMetaModel constraintMetaModel, @Nullable Integer parallelPropagationThreshold) {
         this.solutionDescriptor = Objects.requireNonNull(solutionDescriptor);
         this.constraintMetaModel = Objects.requireNonNull(constraintMetaModel);
+        this.parallelPropagationThreshold = parallelPropagationThreshold;
+        this.parallelPropagationPool = parallelPropagationThreshold == null ? null : buildParallelPropagationPool();
+    }
+
+    /**
+     * The pool is never shut down, because sessions are built until the solver factory is garbage collected.
+     * Instead, idle threads end after a while, so that an unused pool holds no threads at all.
+     * Its threads are daemon threads, so they never keep the JVM alive either.
+     */
+    private static ForkJoinPool buildParallelPropagationPool() {
+        var parallelism = Runtime.getRuntime().availableProcessors();
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("TimefoldPropagation-" + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, threadFactory, null, false,
+                0, parallelism + 256, 1, null, 60, TimeUnit.SECONDS);
     }
 
     // ************************************************************************
     // Node creation
     // ************************************************************************
 
-    @SuppressWarnings("unchecked")
     public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution,
             ConsistencyTracker<Solution_> consistencyTracker,
             ConstraintMatchPolicy constraintMatchPolicy,
             boolean scoreDirectorDerived, Consumer<String> nodeNetworkVisualizationConsumer) {
+        return buildSession(workingSolution, consistencyTracker, constraintMatchPolicy, scoreDirectorDerived,
+                nodeNetworkVisualizationConsumer, null);
+    }
+
+    /**
+     * As {@link #buildSession(Object, ConsistencyTracker, ConstraintMatchPolicy, boolean, Consumer)},
+     * but the session records its propagation into the given profiler.
+     *
+     * @param profiler null if the session should not be profiled, which is the default as profiling has a cost
+     */
+    @SuppressWarnings("unchecked")
+    public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution,
+            ConsistencyTracker<Solution_> consistencyTracker,
+            ConstraintMatchPolicy constraintMatchPolicy,
+            boolean scoreDirectorDerived, Consumer<String> nodeNetworkVisualizationConsumer,
+            @Nullable BavetConstraintProfiler profiler) {
         var constraintWeightSupplier = solutionDescriptor.getConstraintWeightSupplier();
         var constraints = constraintMetaModel.getConstraints();
         if (constraintWeightSupplier != null) { // Fail fast on unknown constraints.
@@ -117,13 +173,15 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         }
         return new BavetConstraintSession<>(scoreInliner,
                 buildNodeNetwork(workingSolution, consistencyTracker, constraintStreamSet, scoreInliner,
-                        nodeNetworkVisualizationConsumer));
+                        nodeNetworkVisualizationConsumer, parallelPropagationThreshold, parallelPropagationPool,
+                        profiler));
     }
 
     private static <Solution_, Score_ extends Score<Score_>> NodeNetwork buildNodeNetwork(Solution_ workingSolution,
             ConsistencyTracker<Solution_> consistencyTracker, Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
             AbstractScoreInliner<Score_> scoreInliner,
-            Consumer<String> nodeNetworkVisualizationConsumer) {
+            Consumer<String> nodeNetworkVisualizationConsumer, @Nullable Integer parallelPropagationThreshold,
+            @Nullable ForkJoinPool parallelPropagationPool, @Nullable BavetConstraintProfiler profiler) {
         var buildHelper = new ConstraintNodeBuildHelper<>(consistencyTracker, constraintStreamSet, scoreInliner);
         var declaredClassToNodeMap = new LinkedHashMap<Class<?>, List<BavetRootNode<?>>>();
         var nodeList = buildHelper.buildNodeList(constraintStreamSet, buildHelper,
@@ -161,7 +219,40 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                     .buildGraphvizDOT();
             nodeNetworkVisualizationConsumer.accept(visualisation);
         }
-        return AbstractNodeBuildHelper.buildNodeNetwork(nodeList, declaredClassToNodeMap);
+        var propagatorFunction = profiler == null
+                ? (Function<AbstractNode, Propagator>) AbstractNode::getPropagator
+                : profilePropagators(nodeList, buildHelper, scoreInliner.getConstraints(), profiler);
+        if (parallelPropagationThreshold == null || parallelPropagationPool == null) {
+            return AbstractNodeBuildHelper.buildNodeNetwork(nodeList, declaredClassToNodeMap, propagatorFunction);
+        }
+        return AbstractNodeBuildHelper.buildNodeNetwork(nodeList, declaredClassToNodeMap, buildHelper,
+                parallelPropagationThreshold, parallelPropagationPool, propagatorFunction);
+    }
+
+    /**
+     * Attributes every node to the constraints which use the stream that created it.
+     */
+    @SuppressWarnings("unchecked")
+    private static <Solution_> Function<AbstractNode, Propagator> profilePropagators(List<AbstractNode> nodeList,
+            ConstraintNodeBuildHelper<Solution_, ?> buildHelper, Set<Constraint> constraintSet,
+            BavetConstraintProfiler profiler) {
+        var streamToConstraintRefListMap = new HashMap<BavetAbstractConstraintStream<Solution_>, List<ConstraintRef>>();
+        for (var constraint : constraintSet) {
+            var constraintStreamSet = new HashSet<BavetAbstractConstraintStream<Solution_>>();
+            ((BavetConstraint<Solution_>) constraint).collectActiveConstraintStreams(constraintStreamSet);
+            for (var constraintStream : constraintStreamSet) {
+                streamToConstraintRefListMap.computeIfAbsent(constraintStream, k -> new ArrayList<>())
+                        .add(constraint.getConstraintRef());
+            }
+        }
+        var nodeToPropagatorMap = new IdentityHashMap<AbstractNode, Propagator>(nodeList.size());
+        for (var node : nodeList) {
+            var constraintRefList = streamToConstraintRefListMap.getOrDefault(buildHelper.getNodeCreatingStream(node),
+                    Collections.emptyList());
+            nodeToPropagatorMap.put(node, profiler.profile(node.getPropagator(), constraintRefList));
+        }
+        profiler.sessionBuilt();
+        return nodeToPropagatorMap::get;
     }
 
 }
@@ -3,59 +3,101 @@ package ai.timefold.solver.core.impl.score.stream.collector;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.impl.util.LinearProbeIndexedSet;
 
 import org.jspecify.annotations.NonNull;
-
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Keeps the load of every balanced item, and the unfairness of those loads, up to date on every insert and retract.
+ * <p>
+ * The items are kept in a {@link LinearProbeIndexedSet},
+ * with their counts and loads in primitive arrays indexed by the index of the item,
+ * so that neither registering nor unregistering an item boxes a number or allocates a map entry.
+ * Items are compared using {@link Object#equals(Object)}, just like in a {@link java.util.HashMap}.
+ *
+ * @param <Balanced_> type of the item being balanced
+ */
 public final class LoadBalanceImpl<Balanced_> implements LoadBalance<Balanced_> {
 
     // If need be, precision can be made configurable on the constraint collector level.
     private static final MathContext RESULT_MATH_CONTEXT = new MathContext(6, RoundingMode.HALF_EVEN);
+    private static final int INITIAL_CAPACITY = 16;
 
-    private final Map<Balanced_, Integer> balancedItemCountMap = new HashMap<>();
-    private final Map<Balanced_, Long> balancedItemToMetricValueMap = new LinkedHashMap<>();
+    private final LinearProbeIndexedSet<Balanced_> balancedItems = new LinearProbeIndexedSet<>(INITIAL_CAPACITY);
+    private int[] balancedItemCounts = new int[INITIAL_CAPACITY];
+    private long[] balancedItemMetricValues = new long[INITIAL_CAPACITY];
+    private @Nullable Map<Balanced_, Long> loadMap = null;
 
     private long sum = 0;
     private long squaredDeviationIntegralPart = 0;
     private long squaredDeviationFractionNumerator = 0;
 
     public Runnable registerBalanced(Balanced_ balanced, long metricValue, long initialMetricValue) {
-        var balancedItemCount = balancedItemCountMap.compute(balanced, (k, v) -> v == null ? 1 : v + 1);
-        if (balancedItemCount == 1) {
-            addToMetric(balanced, metricValue + initialMetricValue);
+        var index = balancedItems.indexOf(balanced);
+        if (index == LinearProbeIndexedSet.MISSING) {
+            index = insert(balanced);
+            addToMetric(index, metricValue + initialMetricValue);
         } else {
-            addToMetric(balanced, metricValue);
+            balancedItemCounts[index]++;
+            addToMetric(index, metricValue);
         }
         return () -> unregisterBalanced(balanced, metricValue);
     }
 
     public void unregisterBalanced(Balanced_ balanced, long metricValue) {
-        var count = balancedItemCountMap.compute(balanced, (k, v) -> v == 1 ? null : v - 1);
-        if (count == null) {
-            resetMetric(balanced);
+        var index = balancedItems.indexOf(balanced);
+        if (index == LinearProbeIndexedSet.MISSING) {
+            throw new IllegalStateException("Impossible state: the balanced item (%s) was never registered."
+                    .formatted(balanced));
+        }
+        if (--balancedItemCounts[index] == 0) {
+            resetMetric(index);
         } else {
-            addToMetric(balanced, -metricValue);
+            addToMetric(index, -metricValue);
+        }
+    }
+
+    /**
+     * Inserts an item which is not yet present, with a count of 1 and a metric value of 0.
+     *
+     * @return the index of the item
+     */
+    private int insert(Balanced_ balanced) {
+        var index = balancedItems.add(balanced);
+        if (index == balancedItemCounts.length) {
+            var newCapacity = balancedItemCounts.length << 1;
+            balancedItemCounts = Arrays.copyOf(balancedItemCounts, newCapacity);
+            balancedItemMetricValues = Arrays.copyOf(balancedItemMetricValues, newCapacity);
         }
+        balancedItemCounts[index] = 1;
+        balancedItemMetricValues[index] = 0L;
+        return index;
     }
 
-    private void addToMetric(Balanced_ balanced, long diff) {
-        long oldValue = balancedItemToMetricValueMap.getOrDefault(balanced, 0L);
+    private void addToMetric(int index, long diff) {
+        var oldValue = balancedItemMetricValues[index];
         var newValue = oldValue + diff;
-        balancedItemToMetricValueMap.put(balanced, newValue);
+        balancedItemMetricValues[index] = newValue;
         if (oldValue != newValue) {
             updateSquaredDeviation(oldValue, newValue);
             sum += diff;
         }
     }
 
-    private void resetMetric(Balanced_ balanced) {
-        long oldValue = Objects.requireNonNullElse(balancedItemToMetricValueMap.remove(balanced), 0L);
+    private void resetMetric(int index) {
+        var oldValue = balancedItemMetricValues[index];
+        balancedItems.removeAt(index);
         if (oldValue != 0) {
             updateSquaredDeviation(oldValue, 0);
             sum -= oldValue;
@@ -89,15 +131,18 @@ public final class LoadBalanceImpl<Balanced_> implements LoadBalance<Balanced_>
 
     @Override
     public @NonNull Map<Balanced_, Long> loads() {
-        if (balancedItemCountMap.isEmpty()) {
+        if (balancedItems.size() == 0) {
             return Collections.emptyMap();
         }
-        return Collections.unmodifiableMap(balancedItemToMetricValueMap);
+        if (loadMap == null) {
+            loadMap = new LoadMap();
+        }
+        return loadMap;
     }
 
     @Override
     public @NonNull BigDecimal unfairness() {
-        var totalToBalanceCount = balancedItemCountMap.size();
+        var totalToBalanceCount = balancedItems.size();
         return switch (totalToBalanceCount) {
             case 0 -> BigDecimal.ZERO;
             case 1 -> BigDecimal.valueOf(squaredDeviationFractionNumerator + squaredDeviationIntegralPart)
@@ -110,4 +155,70 @@ public final class LoadBalanceImpl<Balanced_> implements LoadBalance<Balanced_>
         };
     }
 
+    /**
+     * Unmodifiable view of the loads, which reflects later changes.
+     */
+    private final class LoadMap extends AbstractMap<Balanced_, Long> {
+
+        @Override
+        public int size() {
+            return balancedItems.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return balancedItems.indexOf(key) != LinearProbeIndexedSet.MISSING;
+        }
+
+        @Override
+        public Long get(Object key) {
+            var index = balancedItems.indexOf(key);
+            return index == LinearProbeIndexedSet.MISSING ? null : balancedItemMetricValues[index];
+        }
+
+        @Override
+        public Set<Entry<Balanced_, Long>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                public int size() {
+                    return balancedItems.size();
+                }
+
+                @Override
+                public Iterator<Entry<Balanced_, Long>> iterator() {
+                    return new Iterator<>() {
+
+                        private int nextIndex = findIndexInUse(0);
+
+                        private int findIndexInUse(int index) {
+                            while (index < balancedItems.indexCapacity() && !balancedItems.isInUse(index)) {
+                                index++;
+                            }
+                            return index;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return nextIndex < balancedItems.indexCapacity();
+                        }
+
+                        @Override
+                        public Entry<Balanced_, Long> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            var index = nextIndex;
+                            nextIndex = findIndexInUse(index + 1);
+                            return new SimpleImmutableEntry<>(balancedItems.get(index), balancedItemMetricValues[index]);
+                        }
+
+                    };
+                }
+
+            };
+        }
+
+    }
+
 }
@@ -5,13 +5,20 @@ import java.util.function.ToIntFunction;
 
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.impl.score.stream.collector.consecutive.ConsecutiveSetTree;
-
+import ai.timefold.solver.core.impl.score.stream.collector.consecutive.IntConsecutiveSequenceChain;
+
+/**
+ * Starts out with an {@link IntConsecutiveSequenceChain},
+ * and only switches to a {@link ConsecutiveSetTree} for values the former can not hold,
+ * such as points too far apart to be kept in a dense window.
+ *
+ * @param <Result_>
+ */
 public final class SequenceCalculator<Result_>
         implements ObjectCalculator<Result_, SequenceChain<Result_, Integer>, Result_> {
 
-    private final ConsecutiveSetTree<Result_, Integer, Integer> context = new ConsecutiveSetTree<>(
-            (Integer a, Integer b) -> b - a,
-            Integer::sum, 1, 0);
+    private IntConsecutiveSequenceChain<Result_> intContext = new IntConsecutiveSequenceChain<>();
+    private ConsecutiveSetTree<Result_, Integer, Integer> context = null;
 
     private final ToIntFunction<Result_> indexMap;
 
@@ -22,18 +29,30 @@ public final class SequenceCalculator<Result_>
     @Override
     public Result_ insert(Result_ result) {
         var value = indexMap.applyAsInt(result);
+        if (context == null) {
+            if (intContext.add(result, value)) {
+                return result;
+            }
+            context = new ConsecutiveSetTree<>((Integer a, Integer b) -> b - a, Integer::sum, 1, 0);
+            intContext.addAllTo(context);
+            intContext = null;
+        }
         context.add(result, value);
         return result;
     }
 
     @Override
     public void retract(Result_ result) {
-        context.remove(result);
+        if (context == null) {
+            intContext.remove(result);
+        } else {
+            context.remove(result);
+        }
     }
 
     @Override
-    public ConsecutiveSetTree<Result_, Integer, Integer> result() {
-        return context;
+    public SequenceChain<Result_, Integer> result() {
+        return context == null ? intContext : context;
     }
 
 }
@@ -0,0 +1,600 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
+import ai.timefold.solver.core.impl.util.LinearProbeIndexedSet;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Alternative to {@link ConsecutiveSetTree} for int points which are consecutive when their difference is at most 1,
+ * which is what {@link ai.timefold.solver.core.api.score.stream.ConstraintCollectors#toConsecutiveSequences}
+ * builds on.
+ * <p>
+ * The points are kept in a dense window of arrays, indexed by their distance to the start of the window.
+ * A {@link BitSet} tells which points have at least one value,
+ * so that every sequence is a run of set bits
+ * and adding or removing a value only affects the runs directly around its point.
+ * The values at the same point are linked in the order of their identity hash code,
+ * which is the same order that {@link ComparableValue} imposes.
+ * Every distinct value gets an entry index from a {@link LinearProbeIndexedSet},
+ * which indexes the primitive arrays that hold its point and count;
+ * no wrapper object is created per value.
+ * <p>
+ * The window grows up to {@link #MAXIMUM_WINDOW_SIZE} points.
+ * When a point does not fit, {@link #add(Object, int)} refuses the value,
+ * and the caller is expected to switch to {@link ConsecutiveSetTree} using {@link #addAllTo(ConsecutiveSetTree)}.
+ *
+ * @param <Value_> The type of value stored (examples: shifts)
+ */
+public final class IntConsecutiveSequenceChain<Value_> implements SequenceChain<Value_, Integer> {
+
+    static final int MAXIMUM_WINDOW_SIZE = 1 << 16;
+    private static final int INITIAL_WINDOW_SIZE = 64;
+    private static final int INITIAL_ENTRY_CAPACITY = 16;
+    private static final int NONE = -1;
+
+    // Every distinct value is an entry; entryNext links the entries at the same point.
+    private final LinearProbeIndexedSet<Value_> values = new LinearProbeIndexedSet<>(INITIAL_ENTRY_CAPACITY);
+    private int[] entryPoints = new int[INITIAL_ENTRY_CAPACITY];
+    private int[] entryCounts = new int[INITIAL_ENTRY_CAPACITY];
+    private int[] entryNext = new int[INITIAL_ENTRY_CAPACITY];
+
+    // The window of points; null while the chain is empty.
+    private int windowStart = 0;
+    private int @Nullable [] pointHeads = null;
+    private Object @Nullable [] sequenceByStart = null;
+    private @Nullable BitSet occupiedPoints = null;
+    private int sequenceCount = 0;
+
+    private final Collection<Sequence<Value_, Integer>> sequenceCollection = new SequenceCollection();
+    private final Collection<Break<Value_, Integer>> breakCollection = new BreakCollection();
+
+    @Override
+    public @NonNull Collection<Sequence<Value_, Integer>> getConsecutiveSequences() {
+        return sequenceCollection;
+    }
+
+    @Override
+    public @NonNull Collection<Break<Value_, Integer>> getBreaks() {
+        return breakCollection;
+    }
+
+    @Override
+    public @Nullable Sequence<Value_, Integer> getFirstSequence() {
+        if (occupiedPoints == null) {
+            return null;
+        }
+        return sequenceAt(occupiedPoints.nextSetBit(0));
+    }
+
+    @Override
+    public @Nullable Sequence<Value_, Integer> getLastSequence() {
+        if (occupiedPoints == null) {
+            return null;
+        }
+        return findSequence(occupiedPoints.length() - 1);
+    }
+
+    @Override
+    public @Nullable Break<Value_, Integer> getFirstBreak() {
+        if (sequenceCount <= 1) {
+            return null;
+        }
+        return getFirstSequence().getNextBreak();
+    }
+
+    @Override
+    public @Nullable Break<Value_, Integer> getLastBreak() {
+        if (sequenceCount <= 1) {
+            return null;
+        }
+        return findSequence(occupiedPoints.length() - 1).previousBreak;
+    }
+
+    /**
+     * @param value the value to be put on the number line
+     * @param point the point of the value on the number line
+     * @return false if the value is null or the point lies too far from the other points,
+     *         in which case nothing was added
+     */
+    public boolean add(@Nullable Value_ value, int point) {
+        if (value == null) {
+            return false;
+        }
+        var entry = values.indexOf(value);
+        if (entry != LinearProbeIndexedSet.MISSING) { // Item already in bag.
+            if (entryPoints[entry] != point) {
+                throw new IllegalStateException(
+                        "Impossible state: the item (" + value + ") is already in the bag with a different index ("
+                                + entryPoints[entry] + " vs " + point + ").\n" +
+                                "Maybe the index map function is not deterministic?");
+            }
+            entryCounts[entry]++;
+            return true;
+        }
+        if (!ensureWindowContains(point)) {
+            return false;
+        }
+        entry = createEntry(value, point);
+        var offset = point - windowStart;
+        var pointWasOccupied = pointHeads[offset] != NONE;
+        linkEntry(entry, offset);
+        if (pointWasOccupied) {
+            findSequence(offset).invalidate();
+            return true;
+        }
+        occupiedPoints.set(offset);
+        var joinsPrevious = offset > 0 && occupiedPoints.get(offset - 1);
+        var joinsNext = occupiedPoints.get(offset + 1);
+        if (joinsPrevious && joinsNext) {
+            // Merge the next sequence into the previous one
+            var previousSequence = findSequence(offset - 1);
+            var nextSequence = sequenceAt(offset + 1);
+            sequenceByStart[offset + 1] = null;
+            previousSequence.setEnd(nextSequence.end);
+            var followingSequence = findSequenceAfter(nextSequence.end - windowStart);
+            if (followingSequence != null) {
+                followingSequence.previousBreak.previousSequence = previousSequence;
+            }
+            sequenceCount--;
+        } else if (joinsPrevious) {
+            findSequence(offset - 1).setEnd(point);
+        } else if (joinsNext) {
+            var nextSequence = sequenceAt(offset + 1);
+            sequenceByStart[offset + 1] = null;
+            sequenceByStart[offset] = nextSequence;
+            nextSequence.setStart(point);
+        } else {
+            // Start a new sequence
+            var sequence = new IntSequence(point, point);
+            sequenceByStart[offset] = sequence;
+            var previousSequence = findSequenceBefore(offset);
+            if (previousSequence != null) {
+                sequence.previousBreak = new IntBreak(sequence, previousSequence);
+            }
+            var nextSequence = findSequenceAfter(offset);
+            if (nextSequence != null) {
+                if (nextSequence.previousBreak == null) {
+                    nextSequence.previousBreak = new IntBreak(nextSequence, sequence);
+                } else {
+                    nextSequence.previousBreak.previousSequence = sequence;
+                }
+            }
+            sequenceCount++;
+        }
+        return true;
+    }
+
+    public boolean remove(@Nullable Value_ value) {
+        if (value == null) {
+            return false;
+        }
+        var entry = values.indexOf(value);
+        if (entry == LinearProbeIndexedSet.MISSING) { // Item not in bag.
+            return false;
+        }
+        if (--entryCounts[entry] > 0) { // Item still in bag.
+            return true;
+        }
+        var point = entryPoints[entry];
+        var offset = point - windowStart;
+        var sequence = findSequence(offset);
+        unlinkEntry(entry, offset);
+        values.removeAt(entry);
+        if (pointHeads[offset] != NONE) {
+            sequence.invalidate();
+            return true;
+        }
+        occupiedPoints.clear(offset);
+        if (sequence.start == point && sequence.end == point) {
+            sequenceByStart[offset] = null;
+            var nextSequence = findSequenceAfter(offset);
+            if (nextSequence != null) {
+                if (sequence.previousBreak == null) {
+                    nextSequence.previousBreak = null;
+                } else {
+                    nextSequence.previousBreak.previousSequence = sequence.previousBreak.previousSequence;
+                }
+            }
+            sequenceCount--;
+        } else if (sequence.start == point) {
+            sequenceByStart[offset] = null;
+            sequenceByStart[offset + 1] = sequence;
+            sequence.setStart(point + 1);
+        } else if (sequence.end == point) {
+            sequence.setEnd(point - 1);
+        } else {
+            // Split the sequence in two
+            var splitSequence = new IntSequence(point + 1, sequence.end);
+            sequence.setEnd(point - 1);
+            sequenceByStart[offset + 1] = splitSequence;
+            splitSequence.previousBreak = new IntBreak(splitSequence, sequence);
+            var nextSequence = findSequenceAfter(splitSequence.end - windowStart);
+            if (nextSequence != null) {
+                nextSequence.previousBreak.previousSequence = splitSequence;
+            }
+            sequenceCount++;
+        }
+        if (values.size() == 0) {
+            clear();
+        }
+        return true;
+    }
+
+    /**
+     * Adds every value in this chain to the given tree, as many times as it was added here.
+     */
+    public void addAllTo(ConsecutiveSetTree<Value_, Integer, Integer> tree) {
+        for (var entry = 0; entry < values.indexCapacity(); entry++) {
+            if (values.isInUse(entry)) {
+                var value = valueOf(entry);
+                for (var i = 0; i < entryCounts[entry]; i++) {
+                    tree.add(value, entryPoints[entry]);
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        values.clear();
+        pointHeads = null;
+        sequenceByStart = null;
+        occupiedPoints = null;
+        sequenceCount = 0;
+    }
+
+    // ************************************************************************
+    // Entries
+    // ************************************************************************
+
+    private Value_ valueOf(int entry) {
+        return values.get(entry);
+    }
+
+    private int createEntry(Value_ value, int point) {
+        var entry = values.add(value);
+        if (entry == entryPoints.length) {
+            var newCapacity = entryPoints.length << 1;
+            entryPoints = Arrays.copyOf(entryPoints, newCapacity);
+            entryCounts = Arrays.copyOf(entryCounts, newCapacity);
+            entryNext = Arrays.copyOf(entryNext, newCapacity);
+        }
+        entryPoints[entry] = point;
+        entryCounts[entry] = 1;
+        entryNext[entry] = NONE;
+        return entry;
+    }
+
+    private void linkEntry(int entry, int offset) {
+        var identityHashCode = System.identityHashCode(valueOf(entry));
+        var previousEntry = NONE;
+        var nextEntry = pointHeads[offset];
+        while (nextEntry != NONE && System.identityHashCode(valueOf(nextEntry)) < identityHashCode) {
+            previousEntry = nextEntry;
+            nextEntry = entryNext[nextEntry];
+        }
+        entryNext[entry] = nextEntry;
+        if (previousEntry == NONE) {
+            pointHeads[offset] = entry;
+        } else {
+            entryNext[previousEntry] = entry;
+        }
+    }
+
+    private void unlinkEntry(int entry, int offset) {
+        if (pointHeads[offset] == entry) {
+            pointHeads[offset] = entryNext[entry];
+            return;
+        }
+        var previousEntry = pointHeads[offset];
+        while (entryNext[previousEntry] != entry) {
+            previousEntry = entryNext[previousEntry];
+        }
+        entryNext[previousEntry] = entryNext[entry];
+    }
+
+    // ************************************************************************
+    // Window
+    // ************************************************************************
+
+    private boolean ensureWindowContains(int point) {
+        if (pointHeads == null) {
+            var start = Math.max(Integer.MIN_VALUE, Math.min((long) point - INITIAL_WINDOW_SIZE / 2,
+                    (long) Integer.MAX_VALUE - INITIAL_WINDOW_SIZE + 1));
+            resizeWindow((int) start, INITIAL_WINDOW_SIZE);
+            return true;
+        }
+        var oldStart = (long) windowStart;
+        var oldEnd = oldStart + pointHeads.length; // Exclusive
+        if (point >= oldStart && point < oldEnd) {
+            return true;
+        }
+        var requiredSize = Math.max(oldEnd, point + 1L) - Math.min(oldStart, point);
+        if (requiredSize > MAXIMUM_WINDOW_SIZE) {
+            return false;
+        }
+        var newSize = pointHeads.length << 1;
+        while (newSize < requiredSize) {
+            newSize <<= 1;
+        }
+        newSize = Math.min(newSize, MAXIMUM_WINDOW_SIZE);
+        long newStart;
+        if (point < oldStart) { // Grow to the left.
+            newStart = Math.max(Integer.MIN_VALUE, oldEnd - newSize);
+        } else { // Grow to the right.
+            newStart = Math.min(oldStart, (long) Integer.MAX_VALUE - newSize + 1);
+        }
+        resizeWindow((int) newStart, newSize);
+        return true;
+    }
+
+    private void resizeWindow(int newStart, int newSize) {
+        var newPointHeads = new int[newSize];
+        Arrays.fill(newPointHeads, NONE);
+        var newSequenceByStart = new Object[newSize];
+        var newOccupiedPoints = new BitSet(newSize);
+        if (pointHeads != null) {
+            var shift = windowStart - newStart;
+            System.arraycopy(pointHeads, 0, newPointHeads, shift, pointHeads.length);
+            System.arraycopy(sequenceByStart, 0, newSequenceByStart, shift, sequenceByStart.length);
+            for (var offset = occupiedPoints.nextSetBit(0); offset >= 0; offset = occupiedPoints.nextSetBit(offset + 1)) {
+                newOccupiedPoints.set(offset + shift);
+            }
+        }
+        windowStart = newStart;
+        pointHeads = newPointHeads;
+        sequenceByStart = newSequenceByStart;
+        occupiedPoints = newOccupiedPoints;
+    }
+
+    @SuppressWarnings("unchecked")
+    private IntSequence sequenceAt(int startOffset) {
+        return (IntSequence) sequenceByStart[startOffset];
+    }
+
+    /**
+     * @param offset an occupied point
+     * @return the sequence that contains the point
+     */
+    private IntSequence findSequence(int offset) {
+        return sequenceAt(occupiedPoints.previousClearBit(offset) + 1);
+    }
+
+    private @Nullable IntSequence findSequenceBefore(int offset) {
+        var previousOffset = occupiedPoints.previousSetBit(offset - 1);
+        return previousOffset < 0 ? null : findSequence(previousOffset);
+    }
+
+    private @Nullable IntSequence findSequenceAfter(int offset) {
+        var nextOffset = occupiedPoints.nextSetBit(offset + 1);
+        return nextOffset < 0 ? null : sequenceAt(nextOffset);
+    }
+
+    @Override
+    public String toString() {
+        return "Sequences {" +
+                "sequenceList=" + getConsecutiveSequences() +
+                ", breakList=" + getBreaks() +
+                '}';
+    }
+
+    private final class IntSequence implements Sequence<Value_, Integer> {
+
+        private int start;
+        private int end;
+        private @Nullable IntBreak previousBreak = null;
+
+        // Memorized calculations
+        private @Nullable List<Value_> items = null;
+
+        private IntSequence(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public @NonNull Value_ getFirstItem() {
+            return valueOf(pointHeads[start - windowStart]);
+        }
+
+        @Override
+        public @NonNull Value_ getLastItem() {
+            var entry = pointHeads[end - windowStart];
+            while (entryNext[entry] != NONE) {
+                entry = entryNext[entry];
+            }
+            return valueOf(entry);
+        }
+
+        @Override
+        public @Nullable Break<Value_, Integer> getPreviousBreak() {
+            return previousBreak;
+        }
+
+        @Override
+        public @Nullable Break<Value_, Integer> getNextBreak() {
+            var nextSequence = findSequenceAfter(end - windowStart);
+            return nextSequence == null ? null : nextSequence.previousBreak;
+        }
+
+        @Override
+        public boolean isFirst() {
+            return previousBreak == null;
+        }
+
+        @Override
+        public boolean isLast() {
+            return findSequenceAfter(end - windowStart) == null;
+        }
+
+        @Override
+        public @NonNull Collection<Value_> getItems() {
+            if (items == null) {
+                var itemList = new ArrayList<Value_>();
+                for (var offset = start - windowStart; offset <= end - windowStart; offset++) {
+                    for (var entry = pointHeads[offset]; entry != NONE; entry = entryNext[entry]) {
+                        itemList.add(valueOf(entry));
+                    }
+                }
+                items = Collections.unmodifiableList(itemList);
+            }
+            return items;
+        }
+
+        @Override
+        public int getCount() {
+            return getItems().size();
+        }
+
+        @Override
+        public @NonNull Integer getLength() {
+            return end - start + 1;
+        }
+
+        private void setStart(int start) {
+            this.start = start;
+            invalidate();
+        }
+
+        private void setEnd(int end) {
+            this.end = end;
+            invalidate();
+        }
+
+        private void invalidate() {
+            items = null;
+        }
+
+        @Override
+        public String toString() {
+            return getItems().stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining(", ", "Sequence [", "]"));
+        }
+
+    }
+
+    private final class IntBreak implements Break<Value_, Integer> {
+
+        private final IntSequence nextSequence;
+        private IntSequence previousSequence;
+
+        private IntBreak(IntSequence nextSequence, IntSequence previousSequence) {
+            this.nextSequence = nextSequence;
+            this.previousSequence = previousSequence;
+        }
+
+        @Override
+        public boolean isFirst() {
+            return previousSequence.isFirst();
+        }
+
+        @Override
+        public boolean isLast() {
+            return nextSequence.isLast();
+        }
+
+        @Override
+        public @NonNull Value_ getPreviousSequenceEnd() {
+            return previousSequence.getLastItem();
+        }
+
+        @Override
+        public @NonNull Value_ getNextSequenceStart() {
+            return nextSequence.getFirstItem();
+        }
+
+        @Override
+        public @NonNull Integer getLength() {
+            return nextSequence.start - previousSequence.end;
+        }
+
+        @Override
+        public String toString() {
+            return "Break{" +
+                    "previousSequence=" + previousSequence +
+                    ", nextSequence=" + nextSequence +
+                    ", length=" + getLength() +
+                    '}';
+        }
+
+    }
+
+    private final class SequenceCollection extends AbstractCollection<Sequence<Value_, Integer>> {
+
+        @Override
+        public int size() {
+            return sequenceCount;
+        }
+
+        @Override
+        public Iterator<Sequence<Value_, Integer>> iterator() {
+            return new Iterator<>() {
+
+                private @Nullable IntSequence nextSequence = (IntSequence) getFirstSequence();
+
+                @Override
+                public boolean hasNext() {
+                    return nextSequence != null;
+                }
+
+                @Override
+                public Sequence<Value_, Integer> next() {
+                    if (nextSequence == null) {
+                        throw new NoSuchElementException();
+                    }
+                    var sequence = nextSequence;
+                    nextSequence = findSequenceAfter(sequence.end - windowStart);
+                    return sequence;
+                }
+
+            };
+        }
+
+    }
+
+    private final class BreakCollection extends AbstractCollection<Break<Value_, Integer>> {
+
+        @Override
+        public int size() {
+            return Math.max(0, sequenceCount - 1);
+        }
+
+        @Override
+        public Iterator<Break<Value_, Integer>> iterator() {
+            var sequenceIterator = sequenceCollection.iterator();
+            if (sequenceIterator.hasNext()) {
+                sequenceIterator.next(); // The first sequence has no previous break.
+            }
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return sequenceIterator.hasNext();
+                }
+
+                @Override
+                public Break<Value_, Integer> next() {
+                    return sequenceIterator.next().getPreviousBreak();
+                }
+
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package ai.timefold.solver.core.impl.score.stream.common.inliner;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import ai.timefold.solver.core.api.score.buildin.bendablebigdecimal.BendableBigDecimalScore;
+
+/**
+ * Mutable counterpart of {@link BendableBigDecimalScore},
+ * which {@link BendableBigDecimalScoreInliner} and its contexts change in place.
+ * Unlike {@link BendableBigDecimalScore#add(BendableBigDecimalScore)}
+ * and {@link BendableBigDecimalScore#subtract(BendableBigDecimalScore)},
+ * none of its operations copy the level arrays.
+ * <p>
+ * {@link #extractScore()} only builds a new {@link BendableBigDecimalScore}
+ * if the levels changed since the previous extraction.
+ * Levels which are numerically equal but differ in scale count as changed,
+ * so that the extracted score always has the scale of the levels.
+ */
+final class BendableBigDecimalScoreAccumulator {
+
+    private final BigDecimal[] hardScores;
+    private final BigDecimal[] softScores;
+    private BendableBigDecimalScore lastExtractedScore;
+
+    BendableBigDecimalScoreAccumulator(int hardLevelsSize, int softLevelsSize) {
+        hardScores = new BigDecimal[hardLevelsSize];
+        Arrays.fill(hardScores, BigDecimal.ZERO);
+        softScores = new BigDecimal[softLevelsSize];
+        Arrays.fill(softScores, BigDecimal.ZERO);
+    }
+
+    void addHardScore(int hardLevel, BigDecimal hardImpact) {
+        hardScores[hardLevel] = hardScores[hardLevel].add(hardImpact);
+    }
+
+    void addSoftScore(int softLevel, BigDecimal softImpact) {
+        softScores[softLevel] = softScores[softLevel].add(softImpact);
+    }
+
+    void add(BendableBigDecimalScore addend) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] = hardScores[i].add(addend.hardScore(i));
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] = softScores[i].add(addend.softScore(i));
+        }
+    }
+
+    void subtract(BendableBigDecimalScore subtrahend) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] = hardScores[i].subtract(subtrahend.hardScore(i));
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] = softScores[i].subtract(subtrahend.softScore(i));
+        }
+    }
+
+    /**
+     * Adds every level of the weight, multiplied by the multiplier, without building an intermediate score.
+     *
+     * @param weight never null
+     * @param multiplier never null
+     */
+    void addMultiplied(BendableBigDecimalScore weight, BigDecimal multiplier) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] = hardScores[i].add(weight.hardScore(i).multiply(multiplier));
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] = softScores[i].add(weight.softScore(i).multiply(multiplier));
+        }
+    }
+
+    BendableBigDecimalScore extractScore() {
+        if (lastExtractedScore == null || !hasSameLevels(lastExtractedScore)) {
+            lastExtractedScore = BendableBigDecimalScore.of(Arrays.copyOf(hardScores, hardScores.length),
+                    Arrays.copyOf(softScores, softScores.length));
+        }
+        return lastExtractedScore;
+    }
+
+    private boolean hasSameLevels(BendableBigDecimalScore score) {
+        for (var i = 0; i < hardScores.length; i++) {
+            if (!hardScores[i].equals(score.hardScore(i))) {
+                return false;
+            }
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            if (!softScores[i].equals(score.softScore(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(hardScores) + "/" + Arrays.toString(softScores);
+    }
+
+}
@@ -30,12 +30,11 @@ final class BendableBigDecimalScoreContext extends ScoreContext<BendableBigDecim
     public UndoScoreImpacter changeSoftScoreBy(BigDecimal matchWeight,
             ConstraintMatchSupplier<BendableBigDecimalScore> constraintMatchSupplier) {
         BigDecimal softImpact = scoreLevelWeight.multiply(matchWeight);
-        parent.softScores[scoreLevel] = parent.softScores[scoreLevel].add(softImpact);
-        UndoScoreImpacter undoScoreImpact =
-                () -> parent.softScores[scoreLevel] = parent.softScores[scoreLevel].subtract(softImpact);
+        parent.accumulator.addSoftScore(scoreLevel, softImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.accumulator.addSoftScore(scoreLevel, softImpact.negate());
         return impactWithConstraintMatch(undoScoreImpact,
                 BendableBigDecimalScore.ofSoft(hardScoreLevelCount, softScoreLevelCount, scoreLevel, softImpact),
                 constraintMatchSupplier);
@@ -44,12 +43,11 @@ final class BendableBigDecimalScoreContext extends ScoreContext<BendableBigDecim
     public UndoScoreImpacter changeHardScoreBy(BigDecimal matchWeight,
             ConstraintMatchSupplier<BendableBigDecimalScore> constraintMatchSupplier) {
         BigDecimal hardImpact = scoreLevelWeight.multiply(matchWeight);
-        parent.hardScores[scoreLevel] = parent.hardScores[scoreLevel].add(hardImpact);
-        UndoScoreImpacter undoScoreImpact =
-                () -> parent.hardScores[scoreLevel] = parent.hardScores[scoreLevel].subtract(hardImpact);
+        parent.accumulator.addHardScore(scoreLevel, hardImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.accumulator.addHardScore(scoreLevel, hardImpact.negate());
         return impactWithConstraintMatch(undoScoreImpact,
                 BendableBigDecimalScore.ofHard(hardScoreLevelCount, softScoreLevelCount, scoreLevel, hardImpact),
                 constraintMatchSupplier);
@@ -57,30 +55,23 @@ final class BendableBigDecimalScoreContext extends ScoreContext<BendableBigDecim
 
     public UndoScoreImpacter changeScoreBy(BigDecimal matchWeight,
             ConstraintMatchSupplier<BendableBigDecimalScore> constraintMatchSupplier) {
+        if (!constraintMatchPolicy.isEnabled()) {
+            parent.accumulator.addMultiplied(constraintWeight, matchWeight);
+            return null;
+        }
         BigDecimal[] hardImpacts = new BigDecimal[hardScoreLevelCount];
         BigDecimal[] softImpacts = new BigDecimal[softScoreLevelCount];
         for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
             BigDecimal hardImpact = constraintWeight.hardScore(hardScoreLevel).multiply(matchWeight);
             hardImpacts[hardScoreLevel] = hardImpact;
-            parent.hardScores[hardScoreLevel] = parent.hardScores[hardScoreLevel].add(hardImpact);
         }
         for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
             BigDecimal softImpact = constraintWeight.softScore(softScoreLevel).multiply(matchWeight);
             softImpacts[softScoreLevel] = softImpact;
-            parent.softScores[softScoreLevel] = parent.softScores[softScoreLevel].add(softImpact);
-        }
-        UndoScoreImpacter undoScoreImpact = () -> {
-            for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
-                parent.hardScores[hardScoreLevel] = parent.hardScores[hardScoreLevel].subtract(hardImpacts[hardScoreLevel]);
-            }
-            for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
-                parent.softScores[softScoreLevel] = parent.softScores[softScoreLevel].subtract(softImpacts[softScoreLevel]);
-            }
-        };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
         }
-        return impactWithConstraintMatch(undoScoreImpact, BendableBigDecimalScore.of(hardImpacts, softImpacts),
+        BendableBigDecimalScore scoreImpact = BendableBigDecimalScore.of(hardImpacts, softImpacts);
+        parent.accumulator.add(scoreImpact);
+        return impactWithConstraintMatch(() -> parent.accumulator.subtract(scoreImpact), scoreImpact,
                 constraintMatchSupplier);
     }
 
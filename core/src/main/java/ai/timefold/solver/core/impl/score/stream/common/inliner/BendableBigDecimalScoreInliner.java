@@ -1,7 +1,6 @@
 package ai.timefold.solver.core.impl.score.stream.common.inliner;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.Map;
 
 import ai.timefold.solver.core.api.score.buildin.bendablebigdecimal.BendableBigDecimalScore;
@@ -11,16 +10,16 @@ import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraint;
 
 final class BendableBigDecimalScoreInliner extends AbstractScoreInliner<BendableBigDecimalScore> {
 
-    final BigDecimal[] hardScores;
-    final BigDecimal[] softScores;
+    final BendableBigDecimalScoreAccumulator accumulator;
+    private final int hardLevelsSize;
+    private final int softLevelsSize;
 
     BendableBigDecimalScoreInliner(Map<Constraint, BendableBigDecimalScore> constraintWeightMap,
             ConstraintMatchPolicy constraintMatchPolicy, int hardLevelsSize, int softLevelsSize) {
         super(constraintWeightMap, constraintMatchPolicy);
-        hardScores = new BigDecimal[hardLevelsSize];
-        Arrays.fill(hardScores, BigDecimal.ZERO);
-        softScores = new BigDecimal[softLevelsSize];
-        Arrays.fill(softScores, BigDecimal.ZERO);
+        accumulator = new BendableBigDecimalScoreAccumulator(hardLevelsSize, softLevelsSize);
+        this.hardLevelsSize = hardLevelsSize;
+        this.softLevelsSize = softLevelsSize;
     }
 
     @Override
@@ -41,7 +40,7 @@ final class BendableBigDecimalScoreInliner extends AbstractScoreInliner<Bendable
             boolean isHardScore = singleLevel < constraintWeight.hardLevelsSize();
             int level = isHardScore ? singleLevel : singleLevel - constraintWeight.hardLevelsSize();
             BendableBigDecimalScoreContext context = new BendableBigDecimalScoreContext(this, constraint, constraintWeight,
-                    hardScores.length, softScores.length, level, constraintWeight.hardOrSoftScore(singleLevel));
+                    hardLevelsSize, softLevelsSize, level, constraintWeight.hardOrSoftScore(singleLevel));
             if (isHardScore) {
                 return WeightedScoreImpacter.of(context, BendableBigDecimalScoreContext::changeHardScoreBy);
             } else {
@@ -49,15 +48,14 @@ final class BendableBigDecimalScoreInliner extends AbstractScoreInliner<Bendable
             }
         } else {
             BendableBigDecimalScoreContext context = new BendableBigDecimalScoreContext(this, constraint, constraintWeight,
-                    hardScores.length, softScores.length);
+                    hardLevelsSize, softLevelsSize);
             return WeightedScoreImpacter.of(context, BendableBigDecimalScoreContext::changeScoreBy);
         }
     }
 
     @Override
     public BendableBigDecimalScore extractScore() {
-        return BendableBigDecimalScore.of(Arrays.copyOf(hardScores, hardScores.length),
-                Arrays.copyOf(softScores, softScores.length));
+        return accumulator.extractScore();
     }
 
     @Override
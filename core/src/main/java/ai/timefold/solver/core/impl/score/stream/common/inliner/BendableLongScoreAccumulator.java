@@ -0,0 +1,102 @@
+package ai.timefold.solver.core.impl.score.stream.common.inliner;
+
+import java.util.Arrays;
+
+import ai.timefold.solver.core.api.score.buildin.bendablelong.BendableLongScore;
+
+/**
+ * Mutable counterpart of {@link BendableLongScore}, which {@link BendableLongScoreInliner} and its contexts change in place.
+ * Unlike {@link BendableLongScore#add(BendableLongScore)} and {@link BendableLongScore#subtract(BendableLongScore)},
+ * none of its operations copy the level arrays.
+ * <p>
+ * {@link #extractScore()} only builds a new {@link BendableLongScore}
+ * if the levels changed since the previous extraction.
+ */
+final class BendableLongScoreAccumulator {
+
+    private final long[] hardScores;
+    private final long[] softScores;
+    private BendableLongScore lastExtractedScore;
+
+    BendableLongScoreAccumulator(int hardLevelsSize, int softLevelsSize) {
+        hardScores = new long[hardLevelsSize];
+        softScores = new long[softLevelsSize];
+    }
+
+    void addHardScore(int hardLevel, long hardImpact) {
+        hardScores[hardLevel] += hardImpact;
+    }
+
+    void addSoftScore(int softLevel, long softImpact) {
+        softScores[softLevel] += softImpact;
+    }
+
+    void add(BendableLongScore addend) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] += addend.hardScore(i);
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] += addend.softScore(i);
+        }
+    }
+
+    void subtract(BendableLongScore subtrahend) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] -= subtrahend.hardScore(i);
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] -= subtrahend.softScore(i);
+        }
+    }
+
+    /**
+     * Adds every level of the weight, multiplied by the multiplier, without building an intermediate score.
+     *
+     * @param weight never null
+     * @param multiplier any long
+     */
+    void addMultiplied(BendableLongScore weight, long multiplier) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] += weight.hardScore(i) * multiplier;
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] += weight.softScore(i) * multiplier;
+        }
+    }
+
+    /**
+     * Compares the levels in place, as {@link BendableLongScore#compareTo(BendableLongScore)} would.
+     *
+     * @param other never null, with the same number of levels
+     * @return negative if this is worse than the other, zero if equal, positive if better
+     */
+    int compareTo(BendableLongScore other) {
+        for (var i = 0; i < hardScores.length; i++) {
+            var comparison = Long.compare(hardScores[i], other.hardScore(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            var comparison = Long.compare(softScores[i], other.softScore(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    BendableLongScore extractScore() {
+        if (lastExtractedScore == null || compareTo(lastExtractedScore) != 0) {
+            lastExtractedScore = BendableLongScore.of(Arrays.copyOf(hardScores, hardScores.length),
+                    Arrays.copyOf(softScores, softScores.length));
+        }
+        return lastExtractedScore;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(hardScores) + "/" + Arrays.toString(softScores);
+    }
+
+}
@@ -28,12 +28,11 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore, Ben
     public UndoScoreImpacter changeSoftScoreBy(long matchWeight,
             ConstraintMatchSupplier<BendableLongScore> constraintMatchSupplier) {
         long softImpact = scoreLevelWeight * matchWeight;
-        parent.softScores[scoreLevel] += softImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.softScores[scoreLevel] -= softImpact;
-        ;
+        parent.accumulator.addSoftScore(scoreLevel, softImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.accumulator.addSoftScore(scoreLevel, -softImpact);
         return impactWithConstraintMatch(undoScoreImpact,
                 BendableLongScore.ofSoft(hardScoreLevelCount, softScoreLevelCount, scoreLevel, softImpact),
                 constraintMatchSupplier);
@@ -42,11 +41,11 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore, Ben
     public UndoScoreImpacter changeHardScoreBy(long matchWeight,
             ConstraintMatchSupplier<BendableLongScore> constraintMatchSupplier) {
         long hardImpact = scoreLevelWeight * matchWeight;
-        parent.hardScores[scoreLevel] += hardImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.hardScores[scoreLevel] -= hardImpact;
+        parent.accumulator.addHardScore(scoreLevel, hardImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.accumulator.addHardScore(scoreLevel, -hardImpact);
         return impactWithConstraintMatch(undoScoreImpact,
                 BendableLongScore.ofHard(hardScoreLevelCount, softScoreLevelCount, scoreLevel, hardImpact),
                 constraintMatchSupplier);
@@ -54,30 +53,23 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore, Ben
 
     public UndoScoreImpacter changeScoreBy(long matchWeight,
             ConstraintMatchSupplier<BendableLongScore> constraintMatchSupplier) {
+        if (!constraintMatchPolicy.isEnabled()) {
+            parent.accumulator.addMultiplied(constraintWeight, matchWeight);
+            return null;
+        }
         long[] hardImpacts = new long[hardScoreLevelCount];
         long[] softImpacts = new long[softScoreLevelCount];
         for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
             long hardImpact = constraintWeight.hardScore(hardScoreLevel) * matchWeight;
             hardImpacts[hardScoreLevel] = hardImpact;
-            parent.hardScores[hardScoreLevel] += hardImpact;
         }
         for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
             long softImpact = constraintWeight.softScore(softScoreLevel) * matchWeight;
             softImpacts[softScoreLevel] = softImpact;
-            parent.softScores[softScoreLevel] += softImpact;
-        }
-        UndoScoreImpacter undoScoreImpact = () -> {
-            for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
-                parent.hardScores[hardScoreLevel] -= hardImpacts[hardScoreLevel];
-            }
-            for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
-                parent.softScores[softScoreLevel] -= softImpacts[softScoreLevel];
-            }
-        };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
         }
-        return impactWithConstraintMatch(undoScoreImpact, BendableLongScore.of(hardImpacts, softImpacts),
+        BendableLongScore scoreImpact = BendableLongScore.of(hardImpacts, softImpacts);
+        parent.accumulator.add(scoreImpact);
+        return impactWithConstraintMatch(() -> parent.accumulator.subtract(scoreImpact), scoreImpact,
                 constraintMatchSupplier);
     }
 
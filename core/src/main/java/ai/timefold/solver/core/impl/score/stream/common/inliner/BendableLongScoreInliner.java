@@ -1,6 +1,5 @@
 package ai.timefold.solver.core.impl.score.stream.common.inliner;
 
-import java.util.Arrays;
 import java.util.Map;
 
 import ai.timefold.solver.core.api.score.buildin.bendablelong.BendableLongScore;
@@ -10,15 +9,17 @@ import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraint;
 
 public final class BendableLongScoreInliner extends AbstractScoreInliner<BendableLongScore> {
 
-    final long[] hardScores;
-    final long[] softScores;
+    final BendableLongScoreAccumulator accumulator;
+    private final int hardLevelsSize;
+    private final int softLevelsSize;
 
     BendableLongScoreInliner(Map<Constraint, BendableLongScore> constraintWeightMap,
             ConstraintMatchPolicy constraintMatchPolicy,
             int hardLevelsSize, int softLevelsSize) {
         super(constraintWeightMap, constraintMatchPolicy);
-        hardScores = new long[hardLevelsSize];
-        softScores = new long[softLevelsSize];
+        accumulator = new BendableLongScoreAccumulator(hardLevelsSize, softLevelsSize);
+        this.hardLevelsSize = hardLevelsSize;
+        this.softLevelsSize = softLevelsSize;
     }
 
     @Override
@@ -38,7 +39,7 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
             boolean isHardScore = singleLevel < constraintWeight.hardLevelsSize();
             int level = isHardScore ? singleLevel : singleLevel - constraintWeight.hardLevelsSize();
             BendableLongScoreContext context = new BendableLongScoreContext(this, constraint, constraintWeight,
-                    hardScores.length, softScores.length, level, constraintWeight.hardOrSoftScore(singleLevel));
+                    hardLevelsSize, softLevelsSize, level, constraintWeight.hardOrSoftScore(singleLevel));
             if (isHardScore) {
                 return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
                         ConstraintMatchSupplier<BendableLongScore> constraintMatchSupplier) -> ctx.changeHardScoreBy(impact,
@@ -50,7 +51,7 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
             }
         } else {
             BendableLongScoreContext context =
-                    new BendableLongScoreContext(this, constraint, constraintWeight, hardScores.length, softScores.length);
+                    new BendableLongScoreContext(this, constraint, constraintWeight, hardLevelsSize, softLevelsSize);
             return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
                     ConstraintMatchSupplier<BendableLongScore> constraintMatchSupplier) -> ctx.changeScoreBy(impact,
                             constraintMatchSupplier));
@@ -59,8 +60,7 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
 
     @Override
     public BendableLongScore extractScore() {
-        return BendableLongScore.of(Arrays.copyOf(hardScores, hardScores.length),
-                Arrays.copyOf(softScores, softScores.length));
+        return accumulator.extractScore();
     }
 
     @Override
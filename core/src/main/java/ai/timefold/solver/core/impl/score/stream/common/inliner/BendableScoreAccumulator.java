@@ -0,0 +1,102 @@
+package ai.timefold.solver.core.impl.score.stream.common.inliner;
+
+import java.util.Arrays;
+
+import ai.timefold.solver.core.api.score.buildin.bendable.BendableScore;
+
+/**
+ * Mutable counterpart of {@link BendableScore}, which {@link BendableScoreInliner} and its contexts change in place.
+ * Unlike {@link BendableScore#add(BendableScore)} and {@link BendableScore#subtract(BendableScore)},
+ * none of its operations copy the level arrays.
+ * <p>
+ * {@link #extractScore()} only builds a new {@link BendableScore}
+ * if the levels changed since the previous extraction.
+ */
+final class BendableScoreAccumulator {
+
+    private final int[] hardScores;
+    private final int[] softScores;
+    private BendableScore lastExtractedScore;
+
+    BendableScoreAccumulator(int hardLevelsSize, int softLevelsSize) {
+        hardScores = new int[hardLevelsSize];
+        softScores = new int[softLevelsSize];
+    }
+
+    void addHardScore(int hardLevel, int hardImpact) {
+        hardScores[hardLevel] += hardImpact;
+    }
+
+    void addSoftScore(int softLevel, int softImpact) {
+        softScores[softLevel] += softImpact;
+    }
+
+    void add(BendableScore addend) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] += addend.hardScore(i);
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] += addend.softScore(i);
+        }
+    }
+
+    void subtract(BendableScore subtrahend) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] -= subtrahend.hardScore(i);
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] -= subtrahend.softScore(i);
+        }
+    }
+
+    /**
+     * Adds every level of the weight, multiplied by the multiplier, without building an intermediate score.
+     *
+     * @param weight never null
+     * @param multiplier any int
+     */
+    void addMultiplied(BendableScore weight, int multiplier) {
+        for (var i = 0; i < hardScores.length; i++) {
+            hardScores[i] += weight.hardScore(i) * multiplier;
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            softScores[i] += weight.softScore(i) * multiplier;
+        }
+    }
+
+    /**
+     * Compares the levels in place, as {@link BendableScore#compareTo(BendableScore)} would.
+     *
+     * @param other never null, with the same number of levels
+     * @return negative if this is worse than the other, zero if equal, positive if better
+     */
+    int compareTo(BendableScore other) {
+        for (var i = 0; i < hardScores.length; i++) {
+            var comparison = Integer.compare(hardScores[i], other.hardScore(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        for (var i = 0; i < softScores.length; i++) {
+            var comparison = Integer.compare(softScores[i], other.softScore(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    BendableScore extractScore() {
+        if (lastExtractedScore == null || compareTo(lastExtractedScore) != 0) {
+            lastExtractedScore = BendableScore.of(Arrays.copyOf(hardScores, hardScores.length),
+                    Arrays.copyOf(softScores, softScores.length));
+        }
+        return lastExtractedScore;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(hardScores) + "/" + Arrays.toString(softScores);
+    }
+
+}
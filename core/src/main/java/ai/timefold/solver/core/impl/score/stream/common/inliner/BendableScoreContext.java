@@ -28,11 +28,11 @@ final class BendableScoreContext extends ScoreContext<BendableScore, BendableSco
     public UndoScoreImpacter changeSoftScoreBy(int matchWeight,
             ConstraintMatchSupplier<BendableScore> constraintMatchSupplier) {
         int softImpact = scoreLevelWeight * matchWeight;
-        parent.softScores[scoreLevel] += softImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.softScores[scoreLevel] -= softImpact;
+        parent.accumulator.addSoftScore(scoreLevel, softImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.accumulator.addSoftScore(scoreLevel, -softImpact);
         return impactWithConstraintMatch(undoScoreImpact,
                 BendableScore.ofSoft(hardScoreLevelCount, softScoreLevelCount, scoreLevel, softImpact),
                 constraintMatchSupplier);
@@ -41,41 +41,34 @@ final class BendableScoreContext extends ScoreContext<BendableScore, BendableSco
     public UndoScoreImpacter changeHardScoreBy(int matchWeight,
             ConstraintMatchSupplier<BendableScore> constraintMatchSupplier) {
         int hardImpact = scoreLevelWeight * matchWeight;
-        parent.hardScores[scoreLevel] += hardImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.hardScores[scoreLevel] -= hardImpact;
+        parent.accumulator.addHardScore(scoreLevel, hardImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.accumulator.addHardScore(scoreLevel, -hardImpact);
         return impactWithConstraintMatch(undoScoreImpact,
                 BendableScore.ofHard(hardScoreLevelCount, softScoreLevelCount, scoreLevel, hardImpact),
                 constraintMatchSupplier);
     }
 
     public UndoScoreImpacter changeScoreBy(int matchWeight, ConstraintMatchSupplier<BendableScore> constraintMatchSupplier) {
+        if (!constraintMatchPolicy.isEnabled()) {
+            parent.accumulator.addMultiplied(constraintWeight, matchWeight);
+            return null;
+        }
         int[] hardImpacts = new int[hardScoreLevelCount];
         int[] softImpacts = new int[softScoreLevelCount];
         for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
             int hardImpact = constraintWeight.hardScore(hardScoreLevel) * matchWeight;
             hardImpacts[hardScoreLevel] = hardImpact;
-            parent.hardScores[hardScoreLevel] += hardImpact;
         }
         for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
             int softImpact = constraintWeight.softScore(softScoreLevel) * matchWeight;
             softImpacts[softScoreLevel] = softImpact;
-            parent.softScores[softScoreLevel] += softImpact;
-        }
-        UndoScoreImpacter undoScoreImpact = () -> {
-            for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
-                parent.hardScores[hardScoreLevel] -= hardImpacts[hardScoreLevel];
-            }
-            for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
-                parent.softScores[softScoreLevel] -= softImpacts[softScoreLevel];
-            }
-        };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
         }
-        return impactWithConstraintMatch(undoScoreImpact, BendableScore.of(hardImpacts, softImpacts), constraintMatchSupplier);
+        BendableScore scoreImpact = BendableScore.of(hardImpacts, softImpacts);
+        parent.accumulator.add(scoreImpact);
+        return impactWithConstraintMatch(() -> parent.accumulator.subtract(scoreImpact), scoreImpact, constraintMatchSupplier);
     }
 
 }
@@ -1,6 +1,5 @@
 package ai.timefold.solver.core.impl.score.stream.common.inliner;
 
-import java.util.Arrays;
 import java.util.Map;
 
 import ai.timefold.solver.core.api.score.buildin.bendable.BendableScore;
@@ -10,15 +9,17 @@ import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraint;
 
 final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
 
-    final int[] hardScores;
-    final int[] softScores;
+    final BendableScoreAccumulator accumulator;
+    private final int hardLevelsSize;
+    private final int softLevelsSize;
 
     BendableScoreInliner(Map<Constraint, BendableScore> constraintWeightMap, ConstraintMatchPolicy constraintMatchPolicy,
             int hardLevelsSize,
             int softLevelsSize) {
         super(constraintWeightMap, constraintMatchPolicy);
-        hardScores = new int[hardLevelsSize];
-        softScores = new int[softLevelsSize];
+        accumulator = new BendableScoreAccumulator(hardLevelsSize, softLevelsSize);
+        this.hardLevelsSize = hardLevelsSize;
+        this.softLevelsSize = softLevelsSize;
     }
 
     @Override
@@ -38,7 +39,7 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
             boolean isHardScore = singleLevel < constraintWeight.hardLevelsSize();
             int level = isHardScore ? singleLevel : singleLevel - constraintWeight.hardLevelsSize();
             BendableScoreContext context = new BendableScoreContext(this, constraint, constraintWeight,
-                    hardScores.length, softScores.length, level, constraintWeight.hardOrSoftScore(singleLevel));
+                    hardLevelsSize, softLevelsSize, level, constraintWeight.hardOrSoftScore(singleLevel));
             if (isHardScore) {
                 return WeightedScoreImpacter.of(context, BendableScoreContext::changeHardScoreBy);
             } else {
@@ -46,15 +47,14 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
             }
         } else {
             BendableScoreContext context = new BendableScoreContext(this, constraint, constraintWeight,
-                    hardScores.length, softScores.length);
+                    hardLevelsSize, softLevelsSize);
             return WeightedScoreImpacter.of(context, BendableScoreContext::changeScoreBy);
         }
     }
 
     @Override
     public BendableScore extractScore() {
-        return BendableScore.of(Arrays.copyOf(hardScores, hardScores.length),
-                Arrays.copyOf(softScores, softScores.length));
+        return accumulator.extractScore();
     }
 
     @Override
@@ -10,6 +10,12 @@ final class BigDecimalWeightedScoreImpacter<Score_ extends Score<Score_>, Contex
 
     private final BigDecimalImpactFunction<Score_, Context_> impactFunction;
     private final Context_ context;
+    /**
+     * Undos that have already been run, ready to be handed out again.
+     * A scorer drops its reference to an undo as soon as it runs it,
+     * so in a steady state no new undo needs to be allocated.
+     */
+    private BigDecimalUndo freeUndo = null;
 
     public BigDecimalWeightedScoreImpacter(BigDecimalImpactFunction<Score_, Context_> impactFunction,
             Context_ context) {
@@ -20,19 +26,24 @@ final class BigDecimalWeightedScoreImpacter<Score_ extends Score<Score_>, Contex
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, ConstraintMatchSupplier<Score_> constraintMatchSupplier) {
         context.getConstraint().assertCorrectImpact(matchWeight);
-        return impactFunction.impact(context, BigDecimal.valueOf(matchWeight), constraintMatchSupplier);
+        return impact(BigDecimal.valueOf(matchWeight), constraintMatchSupplier);
     }
 
     @Override
     public UndoScoreImpacter impactScore(long matchWeight, ConstraintMatchSupplier<Score_> constraintMatchSupplier) {
         context.getConstraint().assertCorrectImpact(matchWeight);
-        return impactFunction.impact(context, BigDecimal.valueOf(matchWeight), constraintMatchSupplier);
+        return impact(BigDecimal.valueOf(matchWeight), constraintMatchSupplier);
     }
 
     @Override
     public UndoScoreImpacter impactScore(BigDecimal matchWeight, ConstraintMatchSupplier<Score_> constraintMatchSupplier) {
         context.getConstraint().assertCorrectImpact(matchWeight);
-        return impactFunction.impact(context, matchWeight, constraintMatchSupplier);
+        return impact(matchWeight, constraintMatchSupplier);
+    }
+
+    private UndoScoreImpacter impact(BigDecimal matchWeight, ConstraintMatchSupplier<Score_> constraintMatchSupplier) {
+        var undo = impactFunction.impact(context, matchWeight, constraintMatchSupplier);
+        return undo != null ? undo : acquireUndo(matchWeight);
     }
 
     @Override
@@ -40,4 +51,42 @@ final class BigDecimalWeightedScoreImpacter<Score_ extends Score<Score_>, Contex
         return context;
     }
 
+    private BigDecimalUndo acquireUndo(BigDecimal matchWeight) {
+        var undo = freeUndo;
+        if (undo == null) {
+            undo = new BigDecimalUndo();
+        } else {
+            freeUndo = undo.nextFreeUndo;
+            undo.nextFreeUndo = null;
+        }
+        undo.matchWeight = matchWeight;
+        undo.free = false;
+        return undo;
+    }
+
+    /**
+     * Only remembers the match weight.
+     * Undoing impacts the negated match weight, which exactly cancels the earlier impact,
+     * because the impact is linear in the match weight.
+     */
+    private final class BigDecimalUndo implements UndoScoreImpacter {
+
+        private BigDecimal matchWeight;
+        private boolean free = false;
+        private BigDecimalUndo nextFreeUndo = null;
+
+        @Override
+        public void run() {
+            if (free) {
+                throw new IllegalStateException("Impossible state: the undo (%s) of constraint (%s) was already run."
+                        .formatted(this, context.getConstraint().getConstraintRef()));
+            }
+            impactFunction.impact(context, matchWeight.negate(), null);
+            free = true;
+            nextFreeUndo = freeUndo;
+            freeUndo = this;
+        }
+
+    }
+
 }
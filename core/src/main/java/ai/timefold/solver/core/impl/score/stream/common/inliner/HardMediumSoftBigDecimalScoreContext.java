@@ -17,10 +17,10 @@ final class HardMediumSoftBigDecimalScoreContext
             ConstraintMatchSupplier<HardMediumSoftBigDecimalScore> constraintMatchSupplier) {
         BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
         parent.softScore = parent.softScore.add(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> parent.softScore = parent.softScore.subtract(softImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.softScore = parent.softScore.subtract(softImpact);
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftBigDecimalScore.ofSoft(softImpact),
                 constraintMatchSupplier);
     }
@@ -29,10 +29,10 @@ final class HardMediumSoftBigDecimalScoreContext
             ConstraintMatchSupplier<HardMediumSoftBigDecimalScore> constraintMatchSupplier) {
         BigDecimal mediumImpact = constraintWeight.mediumScore().multiply(matchWeight);
         parent.mediumScore = parent.mediumScore.add(mediumImpact);
-        UndoScoreImpacter undoScoreImpact = () -> parent.mediumScore = parent.mediumScore.subtract(mediumImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.mediumScore = parent.mediumScore.subtract(mediumImpact);
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftBigDecimalScore.ofMedium(mediumImpact),
                 constraintMatchSupplier);
     }
@@ -41,10 +41,10 @@ final class HardMediumSoftBigDecimalScoreContext
             ConstraintMatchSupplier<HardMediumSoftBigDecimalScore> constraintMatchSupplier) {
         BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
         parent.hardScore = parent.hardScore.add(hardImpact);
-        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore = parent.hardScore.subtract(hardImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore = parent.hardScore.subtract(hardImpact);
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftBigDecimalScore.ofHard(hardImpact),
                 constraintMatchSupplier);
     }
@@ -57,14 +57,14 @@ final class HardMediumSoftBigDecimalScoreContext
         parent.hardScore = parent.hardScore.add(hardImpact);
         parent.mediumScore = parent.mediumScore.add(mediumImpact);
         parent.softScore = parent.softScore.add(softImpact);
+        if (!constraintMatchPolicy.isEnabled()) {
+            return null;
+        }
         UndoScoreImpacter undoScoreImpact = () -> {
             parent.hardScore = parent.hardScore.subtract(hardImpact);
             parent.mediumScore = parent.mediumScore.subtract(mediumImpact);
             parent.softScore = parent.softScore.subtract(softImpact);
         };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
-        }
         return impactWithConstraintMatch(undoScoreImpact,
                 HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact), constraintMatchSupplier);
     }
@@ -14,10 +14,10 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
             ConstraintMatchSupplier<HardMediumSoftLongScore> constraintMatchSupplier) {
         long softImpact = constraintWeight.softScore() * matchWeight;
         parent.softScore += softImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.softScore -= softImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.softScore -= softImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftLongScore.ofSoft(softImpact), constraintMatchSupplier);
     }
 
@@ -25,10 +25,10 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
             ConstraintMatchSupplier<HardMediumSoftLongScore> constraintMatchSupplier) {
         long mediumImpact = constraintWeight.mediumScore() * matchWeight;
         parent.mediumScore += mediumImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.mediumScore -= mediumImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.mediumScore -= mediumImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftLongScore.ofMedium(mediumImpact),
                 constraintMatchSupplier);
     }
@@ -37,10 +37,10 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
             ConstraintMatchSupplier<HardMediumSoftLongScore> constraintMatchSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         parent.hardScore += hardImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore -= hardImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore -= hardImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftLongScore.ofHard(hardImpact), constraintMatchSupplier);
     }
 
@@ -52,14 +52,14 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
         parent.hardScore += hardImpact;
         parent.mediumScore += mediumImpact;
         parent.softScore += softImpact;
+        if (!constraintMatchPolicy.isEnabled()) {
+            return null;
+        }
         UndoScoreImpacter undoScoreImpact = () -> {
             parent.hardScore -= hardImpact;
             parent.mediumScore -= mediumImpact;
             parent.softScore -= softImpact;
         };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
-        }
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftLongScore.of(hardImpact, mediumImpact, softImpact),
                 constraintMatchSupplier);
     }
@@ -14,10 +14,10 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore,
             ConstraintMatchSupplier<HardMediumSoftScore> constraintMatchSupplier) {
         int softImpact = constraintWeight.softScore() * matchWeight;
         parent.softScore += softImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.softScore -= softImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.softScore -= softImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofSoft(softImpact), constraintMatchSupplier);
     }
 
@@ -25,10 +25,10 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore,
             ConstraintMatchSupplier<HardMediumSoftScore> constraintMatchSupplier) {
         int mediumImpact = constraintWeight.mediumScore() * matchWeight;
         parent.mediumScore += mediumImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.mediumScore -= mediumImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.mediumScore -= mediumImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofMedium(mediumImpact), constraintMatchSupplier);
     }
 
@@ -36,10 +36,10 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore,
             ConstraintMatchSupplier<HardMediumSoftScore> constraintMatchSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         parent.hardScore += hardImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore -= hardImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore -= hardImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofHard(hardImpact), constraintMatchSupplier);
     }
 
@@ -51,14 +51,14 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore,
         parent.hardScore += hardImpact;
         parent.mediumScore += mediumImpact;
         parent.softScore += softImpact;
+        if (!constraintMatchPolicy.isEnabled()) {
+            return null;
+        }
         UndoScoreImpacter undoScoreImpact = () -> {
             parent.hardScore -= hardImpact;
             parent.mediumScore -= mediumImpact;
             parent.softScore -= softImpact;
         };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
-        }
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.of(hardImpact, mediumImpact, softImpact),
                 constraintMatchSupplier);
     }
@@ -16,10 +16,10 @@ final class HardSoftBigDecimalScoreContext extends ScoreContext<HardSoftBigDecim
             ConstraintMatchSupplier<HardSoftBigDecimalScore> constraintMatchSupplier) {
         BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
         parent.softScore = parent.softScore.add(softImpact);
-        UndoScoreImpacter undoScoreImpact = () -> parent.softScore = parent.softScore.subtract(softImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.softScore = parent.softScore.subtract(softImpact);
         return impactWithConstraintMatch(undoScoreImpact, HardSoftBigDecimalScore.ofSoft(softImpact), constraintMatchSupplier);
     }
 
@@ -27,10 +27,10 @@ final class HardSoftBigDecimalScoreContext extends ScoreContext<HardSoftBigDecim
             ConstraintMatchSupplier<HardSoftBigDecimalScore> constraintMatchSupplier) {
         BigDecimal hardImpact = constraintWeight.hardScore().multiply(matchWeight);
         parent.hardScore = parent.hardScore.add(hardImpact);
-        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore = parent.hardScore.subtract(hardImpact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore = parent.hardScore.subtract(hardImpact);
         return impactWithConstraintMatch(undoScoreImpact, HardSoftBigDecimalScore.ofHard(hardImpact), constraintMatchSupplier);
     }
 
@@ -40,13 +40,13 @@ final class HardSoftBigDecimalScoreContext extends ScoreContext<HardSoftBigDecim
         BigDecimal softImpact = constraintWeight.softScore().multiply(matchWeight);
         parent.hardScore = parent.hardScore.add(hardImpact);
         parent.softScore = parent.softScore.add(softImpact);
+        if (!constraintMatchPolicy.isEnabled()) {
+            return null;
+        }
         UndoScoreImpacter undoScoreImpact = () -> {
             parent.hardScore = parent.hardScore.subtract(hardImpact);
             parent.softScore = parent.softScore.subtract(softImpact);
         };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
-        }
         return impactWithConstraintMatch(undoScoreImpact, HardSoftBigDecimalScore.of(hardImpact, softImpact),
                 constraintMatchSupplier);
     }
@@ -14,10 +14,10 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore, Har
             ConstraintMatchSupplier<HardSoftLongScore> constraintMatchSupplier) {
         long softImpact = constraintWeight.softScore() * matchWeight;
         parent.softScore += softImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.softScore -= softImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.softScore -= softImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardSoftLongScore.ofSoft(softImpact), constraintMatchSupplier);
     }
 
@@ -25,10 +25,10 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore, Har
             ConstraintMatchSupplier<HardSoftLongScore> constraintMatchSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         parent.hardScore += hardImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore -= hardImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore -= hardImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardSoftLongScore.ofHard(hardImpact), constraintMatchSupplier);
     }
 
@@ -38,13 +38,13 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore, Har
         long softImpact = constraintWeight.softScore() * matchWeight;
         parent.hardScore += hardImpact;
         parent.softScore += softImpact;
+        if (!constraintMatchPolicy.isEnabled()) {
+            return null;
+        }
         UndoScoreImpacter undoScoreImpact = () -> {
             parent.hardScore -= hardImpact;
             parent.softScore -= softImpact;
         };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
-        }
         return impactWithConstraintMatch(undoScoreImpact, HardSoftLongScore.of(hardImpact, softImpact),
                 constraintMatchSupplier);
     }
@@ -14,10 +14,10 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore, HardSoftSco
             ConstraintMatchSupplier<HardSoftScore> constraintMatchSupplier) {
         int softImpact = constraintWeight.softScore() * matchWeight;
         parent.softScore += softImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.softScore -= softImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.softScore -= softImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.ofSoft(softImpact), constraintMatchSupplier);
     }
 
@@ -25,10 +25,10 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore, HardSoftSco
             ConstraintMatchSupplier<HardSoftScore> constraintMatchSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         parent.hardScore += hardImpact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore -= hardImpact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.hardScore -= hardImpact;
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.ofHard(hardImpact), constraintMatchSupplier);
     }
 
@@ -37,13 +37,13 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore, HardSoftSco
         int softImpact = constraintWeight.softScore() * matchWeight;
         parent.hardScore += hardImpact;
         parent.softScore += softImpact;
+        if (!constraintMatchPolicy.isEnabled()) {
+            return null;
+        }
         UndoScoreImpacter undoScoreImpact = () -> {
             parent.hardScore -= hardImpact;
             parent.softScore -= softImpact;
         };
-        if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
-        }
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.of(hardImpact, softImpact), constraintMatchSupplier);
     }
 
@@ -5,9 +5,11 @@ import java.util.Map;
 import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.ScorePacker;
 import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraint;
 
-final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
+final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore>
+        implements PackedScoreInliner<HardSoftScore> {
 
     int hardScore;
     int softScore;
@@ -35,6 +37,16 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
         return HardSoftScore.of(hardScore, softScore);
     }
 
+    @Override
+    public ScorePacker<HardSoftScore> getScorePacker() {
+        return ScorePacker.HARD_SOFT;
+    }
+
+    @Override
+    public long extractPackedScore() {
+        return ScorePacker.packHardSoft(hardScore, softScore);
+    }
+
     @Override
     public String toString() {
         return HardSoftScore.class.getSimpleName() + " inliner";
@@ -10,6 +10,12 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
 
     private final IntImpactFunction<Score_, Context_> impactFunction;
     private final Context_ context;
+    /**
+     * Undos that have already been run, ready to be handed out again.
+     * A scorer drops its reference to an undo as soon as it runs it,
+     * so in a steady state no new undo needs to be allocated.
+     */
+    private IntUndo freeUndo = null;
 
     public IntWeightedScoreImpacter(IntImpactFunction<Score_, Context_> impactFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
@@ -19,7 +25,8 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, ConstraintMatchSupplier<Score_> constraintMatchSupplier) {
         context.getConstraint().assertCorrectImpact(matchWeight);
-        return impactFunction.impact(context, matchWeight, constraintMatchSupplier);
+        var undo = impactFunction.impact(context, matchWeight, constraintMatchSupplier);
+        return undo != null ? undo : acquireUndo(matchWeight);
     }
 
     @Override
@@ -37,4 +44,42 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
         return context;
     }
 
+    private IntUndo acquireUndo(int matchWeight) {
+        var undo = freeUndo;
+        if (undo == null) {
+            undo = new IntUndo();
+        } else {
+            freeUndo = undo.nextFreeUndo;
+            undo.nextFreeUndo = null;
+        }
+        undo.matchWeight = matchWeight;
+        undo.free = false;
+        return undo;
+    }
+
+    /**
+     * Only remembers the match weight.
+     * Undoing impacts the negated match weight, which exactly cancels the earlier impact,
+     * because the impact is linear in the match weight and integer overflow wraps around symmetrically.
+     */
+    private final class IntUndo implements UndoScoreImpacter {
+
+        private int matchWeight;
+        private boolean free = false;
+        private IntUndo nextFreeUndo = null;
+
+        @Override
+        public void run() {
+            if (free) {
+                throw new IllegalStateException("Impossible state: the undo (%s) of constraint (%s) was already run."
+                        .formatted(this, context.getConstraint().getConstraintRef()));
+            }
+            impactFunction.impact(context, -matchWeight, null);
+            free = true;
+            nextFreeUndo = freeUndo;
+            freeUndo = this;
+        }
+
+    }
+
 }
@@ -10,6 +10,12 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
 
     private final LongImpactFunction<Score_, Context_> impactFunction;
     private final Context_ context;
+    /**
+     * Undos that have already been run, ready to be handed out again.
+     * A scorer drops its reference to an undo as soon as it runs it,
+     * so in a steady state no new undo needs to be allocated.
+     */
+    private LongUndo freeUndo = null;
 
     public LongWeightedScoreImpacter(LongImpactFunction<Score_, Context_> impactFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
@@ -19,13 +25,15 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, ConstraintMatchSupplier<Score_> constraintMatchSupplier) {
         context.getConstraint().assertCorrectImpact(matchWeight);
-        return impactFunction.impact(context, matchWeight, constraintMatchSupplier); // int can be cast to long
+        var undo = impactFunction.impact(context, matchWeight, constraintMatchSupplier); // int can be cast to long
+        return undo != null ? undo : acquireUndo(matchWeight);
     }
 
     @Override
     public UndoScoreImpacter impactScore(long matchWeight, ConstraintMatchSupplier<Score_> constraintMatchSupplier) {
         context.getConstraint().assertCorrectImpact(matchWeight);
-        return impactFunction.impact(context, matchWeight, constraintMatchSupplier);
+        var undo = impactFunction.impact(context, matchWeight, constraintMatchSupplier);
+        return undo != null ? undo : acquireUndo(matchWeight);
     }
 
     @Override
@@ -38,4 +46,42 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
         return context;
     }
 
+    private LongUndo acquireUndo(long matchWeight) {
+        var undo = freeUndo;
+        if (undo == null) {
+            undo = new LongUndo();
+        } else {
+            freeUndo = undo.nextFreeUndo;
+            undo.nextFreeUndo = null;
+        }
+        undo.matchWeight = matchWeight;
+        undo.free = false;
+        return undo;
+    }
+
+    /**
+     * Only remembers the match weight.
+     * Undoing impacts the negated match weight, which exactly cancels the earlier impact,
+     * because the impact is linear in the match weight and integer overflow wraps around symmetrically.
+     */
+    private final class LongUndo implements UndoScoreImpacter {
+
+        private long matchWeight;
+        private boolean free = false;
+        private LongUndo nextFreeUndo = null;
+
+        @Override
+        public void run() {
+            if (free) {
+                throw new IllegalStateException("Impossible state: the undo (%s) of constraint (%s) was already run."
+                        .formatted(this, context.getConstraint().getConstraintRef()));
+            }
+            impactFunction.impact(context, -matchWeight, null);
+            free = true;
+            nextFreeUndo = freeUndo;
+            freeUndo = this;
+        }
+
+    }
+
 }
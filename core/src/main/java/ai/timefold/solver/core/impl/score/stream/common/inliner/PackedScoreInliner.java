@@ -0,0 +1,23 @@
+package ai.timefold.solver.core.impl.score.stream.common.inliner;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.score.director.ScorePacker;
+
+/**
+ * Implemented by the {@link AbstractScoreInliner score inliners} of the score types which fit into a long.
+ *
+ * @param <Score_> the score type
+ */
+public interface PackedScoreInliner<Score_ extends Score<Score_>> {
+
+    ScorePacker<Score_> getScorePacker();
+
+    /**
+     * As defined by {@link AbstractScoreInliner#extractScore()}, but packed by {@link #getScorePacker()},
+     * so that no score needs to be materialized.
+     *
+     * @return the packed score
+     */
+    long extractPackedScore();
+
+}
@@ -16,10 +16,10 @@ final class SimpleBigDecimalScoreContext extends ScoreContext<SimpleBigDecimalSc
             ConstraintMatchSupplier<SimpleBigDecimalScore> constraintMatchSupplier) {
         BigDecimal impact = constraintWeight.score().multiply(matchWeight);
         parent.score = parent.score.add(impact);
-        UndoScoreImpacter undoScoreImpact = () -> parent.score = parent.score.subtract(impact);
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.score = parent.score.subtract(impact);
         return impactWithConstraintMatch(undoScoreImpact, SimpleBigDecimalScore.of(impact), constraintMatchSupplier);
     }
 
@@ -13,10 +13,10 @@ final class SimpleLongScoreContext extends ScoreContext<SimpleLongScore, SimpleL
     public UndoScoreImpacter changeScoreBy(long matchWeight, ConstraintMatchSupplier<SimpleLongScore> constraintMatchSupplier) {
         long impact = constraintWeight.score() * matchWeight;
         parent.score += impact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.score -= impact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.score -= impact;
         return impactWithConstraintMatch(undoScoreImpact, SimpleLongScore.of(impact), constraintMatchSupplier);
     }
 
@@ -5,9 +5,11 @@ import java.util.Map;
 import ai.timefold.solver.core.api.score.buildin.simplelong.SimpleLongScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.ScorePacker;
 import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraint;
 
-final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore> {
+final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
+        implements PackedScoreInliner<SimpleLongScore> {
 
     long score;
 
@@ -31,6 +33,16 @@ final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
         return SimpleLongScore.of(score);
     }
 
+    @Override
+    public ScorePacker<SimpleLongScore> getScorePacker() {
+        return ScorePacker.SIMPLE_LONG;
+    }
+
+    @Override
+    public long extractPackedScore() {
+        return score;
+    }
+
     @Override
     public String toString() {
         return SimpleLongScore.class.getSimpleName() + " inliner";
@@ -12,10 +12,10 @@ final class SimpleScoreContext extends ScoreContext<SimpleScore, SimpleScoreInli
     public UndoScoreImpacter changeScoreBy(int matchWeight, ConstraintMatchSupplier<SimpleScore> constraintMatchSupplier) {
         int impact = constraintWeight.score() * matchWeight;
         parent.score += impact;
-        UndoScoreImpacter undoScoreImpact = () -> parent.score -= impact;
         if (!constraintMatchPolicy.isEnabled()) {
-            return undoScoreImpact;
+            return null;
         }
+        UndoScoreImpacter undoScoreImpact = () -> parent.score -= impact;
         return impactWithConstraintMatch(undoScoreImpact, SimpleScore.of(impact), constraintMatchSupplier);
     }
 
@@ -5,9 +5,11 @@ import java.util.Map;
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.ScorePacker;
 import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraint;
 
-final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
+final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore>
+        implements PackedScoreInliner<SimpleScore> {
 
     int score;
 
@@ -28,6 +30,16 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
         return SimpleScore.of(score);
     }
 
+    @Override
+    public ScorePacker<SimpleScore> getScorePacker() {
+        return ScorePacker.SIMPLE;
+    }
+
+    @Override
+    public long extractPackedScore() {
+        return score;
+    }
+
     @Override
     public String toString() {
         return SimpleScore.class.getSimpleName() + " inliner";
@@ -61,6 +61,14 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
 
     Context_ getContext();
 
+    /**
+     * Impacts the score of the context.
+     * When constraint matching is disabled, the function returns null instead of allocating an undo;
+     * the {@link WeightedScoreImpacter} then undoes the impact by calling the function again with the negated match weight.
+     *
+     * @param <Score_> the score type
+     * @param <Context_> the context type
+     */
     @FunctionalInterface
     interface IntImpactFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_, ?>> {
 
@@ -68,6 +76,9 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
 
     }
 
+    /**
+     * As defined by {@link IntImpactFunction}.
+     */
     @FunctionalInterface
     interface LongImpactFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_, ?>> {
 
@@ -75,6 +86,9 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
 
     }
 
+    /**
+     * As defined by {@link IntImpactFunction}.
+     */
     @FunctionalInterface
     interface BigDecimalImpactFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_, ?>> {
 
@@ -56,7 +56,7 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
     }
 
     public void solvingStarted(SolverScope<Solution_> solverScope) {
-        solverScope.setWorkingSolutionFromBestSolution();
+        bestSolutionRecaller.startFromBestSolution(solverScope);
         bestSolutionRecaller.solvingStarted(solverScope);
         globalTermination.solvingStarted(solverScope);
         phaseLifecycleSupport.fireSolvingStarted(solverScope);
@@ -5,6 +5,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.solver.RecommendationPolicy;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 
@@ -19,16 +20,19 @@ final class Assigner<Solution_, Score_ extends Score<Score_>, Recommendation_, I
     private final Function<In_, Out_> propositionFunction;
     private final RecommendationConstructor<Score_, Recommendation_, Out_> recommendationConstructor;
     private final ScoreAnalysisFetchPolicy fetchPolicy;
+    private final RecommendationPolicy recommendationPolicy;
     private final Solution_ originalSolution;
     private final In_ originalElement;
 
     public Assigner(DefaultSolverFactory<Solution_> solverFactory, Function<In_, @Nullable Out_> propositionFunction,
             RecommendationConstructor<Score_, Recommendation_, Out_> recommendationConstructor,
-            ScoreAnalysisFetchPolicy fetchPolicy, Solution_ originalSolution, In_ originalElement) {
+            ScoreAnalysisFetchPolicy fetchPolicy, RecommendationPolicy recommendationPolicy, Solution_ originalSolution,
+            In_ originalElement) {
         this.solverFactory = Objects.requireNonNull(solverFactory);
         this.propositionFunction = Objects.requireNonNull(propositionFunction);
         this.recommendationConstructor = Objects.requireNonNull(recommendationConstructor);
         this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
+        this.recommendationPolicy = Objects.requireNonNull(recommendationPolicy);
         this.originalSolution = Objects.requireNonNull(originalSolution);
         this.originalElement = Objects.requireNonNull(originalElement);
     }
@@ -47,7 +51,7 @@ final class Assigner<Solution_, Score_ extends Score<Score_>, Recommendation_, I
         var originalScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy);
         var clonedElement = Objects.requireNonNull(scoreDirector.lookUpWorkingObject(originalElement));
         var processor = new AssignmentProcessor<>(solverFactory, propositionFunction, recommendationConstructor, fetchPolicy,
-                clonedElement, originalScoreAnalysis);
+                recommendationPolicy, clonedElement, originalScoreAnalysis);
         return processor.apply(scoreDirector);
     }
 
@@ -1,13 +1,19 @@
 package ai.timefold.solver.core.impl.solver;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.solver.RecommendationPolicy;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhase;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
@@ -22,6 +28,9 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListUna
 import ai.timefold.solver.core.impl.move.director.MoveDirector;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.DefaultSolverThreadFactory;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
 import ai.timefold.solver.core.preview.api.domain.metamodel.PositionInList;
 import ai.timefold.solver.core.preview.api.move.Move;
 
@@ -36,23 +45,91 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
     private final Function<In_, @Nullable Out_> propositionFunction;
     private final RecommendationConstructor<Score_, Recommendation_, Out_> recommendationConstructor;
     private final ScoreAnalysisFetchPolicy fetchPolicy;
+    private final RecommendationPolicy recommendationPolicy;
+    // Recommendations are records which sort themselves from best to worst.
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final Comparator<Recommendation_> comparator = (Comparator) Comparator.naturalOrder();
     private final ScoreAnalysis<Score_> originalScoreAnalysis;
     private final In_ clonedElement;
 
     public AssignmentProcessor(DefaultSolverFactory<Solution_> solverFactory, Function<In_, @Nullable Out_> propositionFunction,
             RecommendationConstructor<Score_, Recommendation_, Out_> recommendationConstructor,
-            ScoreAnalysisFetchPolicy fetchPolicy, In_ clonedElement, ScoreAnalysis<Score_> originalScoreAnalysis) {
+            ScoreAnalysisFetchPolicy fetchPolicy, RecommendationPolicy recommendationPolicy, In_ clonedElement,
+            ScoreAnalysis<Score_> originalScoreAnalysis) {
         this.solverFactory = Objects.requireNonNull(solverFactory);
         this.propositionFunction = Objects.requireNonNull(propositionFunction);
         this.recommendationConstructor = Objects.requireNonNull(recommendationConstructor);
         this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
+        this.recommendationPolicy = Objects.requireNonNull(recommendationPolicy);
         this.originalScoreAnalysis = Objects.requireNonNull(originalScoreAnalysis);
         this.clonedElement = clonedElement;
     }
 
     @Override
     public List<Recommendation_> apply(InnerScoreDirector<Solution_, Score_> scoreDirector) {
-        // The cloned element may already be assigned.
+        // The child score directors need to be created before the cloned element is unassigned,
+        // so that each of them can analyze the score of the original solution on its own objects.
+        var childScoreDirectorList =
+                new ArrayList<InnerScoreDirector<Solution_, Score_>>(recommendationPolicy.threadCount() - 1);
+        try {
+            for (var i = 1; i < recommendationPolicy.threadCount(); i++) {
+                childScoreDirectorList.add(scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD));
+            }
+            return apply(scoreDirector, childScoreDirectorList);
+        } finally {
+            childScoreDirectorList.forEach(InnerScoreDirector::close);
+        }
+    }
+
+    private List<Recommendation_> apply(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            List<InnerScoreDirector<Solution_, Score_>> childScoreDirectorList) {
+        unassign(scoreDirector, clonedElement);
+
+        // The placers needs to be filtered.
+        // If anything else than the cloned element is unassigned, we want to keep it unassigned.
+        // Otherwise the solution would have to explicitly pin everything other than the cloned element.
+        var entityPlacer = buildEntityPlacer()
+                .rebuildWithFilter((solution, selection) -> selection == clonedElement);
+
+        var solverScope = new SolverScope<Solution_>(solverFactory.getClock());
+        solverScope.setWorkingRandom(new Random(0)); // We will evaluate every option; random does not matter.
+        solverScope.setScoreDirector(scoreDirector);
+        var phaseScope = new ConstructionHeuristicPhaseScope<>(solverScope, -1);
+        var stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
+        entityPlacer.solvingStarted(solverScope);
+        entityPlacer.phaseStarted(phaseScope);
+        entityPlacer.stepStarted(stepScope);
+
+        try (scoreDirector) {
+            var placementIterator = entityPlacer.iterator();
+            if (!placementIterator.hasNext()) {
+                throw new IllegalStateException("""
+                        Impossible state: entity placer (%s) has no placements.
+                        """.formatted(entityPlacer));
+            }
+            var placement = placementIterator.next();
+            if (childScoreDirectorList.isEmpty()) {
+                var recommendationQueue = new RecommendationQueue();
+                var moveIndex = 0L;
+                for (var move : placement) {
+                    recommendationQueue.offer(execute(scoreDirector, move, moveIndex, clonedElement, originalScoreAnalysis));
+                    moveIndex++;
+                }
+                return recommendationQueue.toSortedList();
+            }
+            // The moves are only rebased by the child threads, so they must all be selected before any of them runs.
+            var moveList = new ArrayList<Move<Solution_>>();
+            placement.forEach(moveList::add);
+            return evaluateInParallel(scoreDirector, childScoreDirectorList, moveList);
+        } finally {
+            entityPlacer.stepEnded(stepScope);
+            entityPlacer.phaseEnded(phaseScope);
+            entityPlacer.solvingEnded(solverScope);
+        }
+    }
+
+    private void unassign(InnerScoreDirector<Solution_, Score_> scoreDirector, In_ element) {
+        // The element may already be assigned.
         // If it is, we need to unassign it before we can run the construction heuristic.
         var moveDirector = scoreDirector.getMoveDirector();
         var supplyManager = scoreDirector.getSupplyManager();
@@ -61,18 +138,18 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
         if (listVariableDescriptor != null) {
             var demand = listVariableDescriptor.getStateDemand();
             try (var listVariableStateSupply = supplyManager.demand(demand)) {
-                var elementPosition = listVariableStateSupply.getElementPosition(clonedElement);
-                if (elementPosition instanceof PositionInList positionInList) { // Unassign the cloned element.
+                var elementPosition = listVariableStateSupply.getElementPosition(element);
+                if (elementPosition instanceof PositionInList positionInList) { // Unassign the element.
                     var entity = positionInList.entity();
                     var index = positionInList.index();
                     wrapAndExecute(moveDirector, new ListUnassignMove<>(listVariableDescriptor, entity, index));
                 }
             }
         } else {
-            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(clonedElement.getClass());
+            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(element.getClass());
             for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
                 var basicVariableDescriptor = (BasicVariableDescriptor<Solution_>) variableDescriptor;
-                if (basicVariableDescriptor.getValue(clonedElement) == null) {
+                if (basicVariableDescriptor.getValue(element) == null) {
                     // The variable is already unassigned.
                     continue;
                 }
@@ -80,51 +157,68 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
                 if (basicVariableDescriptor.isChained()) {
                     var demand = new SingletonInverseVariableDemand<>(basicVariableDescriptor);
                     var supply = supplyManager.demand(demand);
-                    wrapAndExecute(moveDirector, new ChainedChangeMove<>(basicVariableDescriptor, clonedElement, null, supply));
+                    wrapAndExecute(moveDirector, new ChainedChangeMove<>(basicVariableDescriptor, element, null, supply));
                     supplyManager.cancel(demand);
                 } else {
-                    wrapAndExecute(moveDirector, new ChangeMove<>(basicVariableDescriptor, clonedElement, null));
+                    wrapAndExecute(moveDirector, new ChangeMove<>(basicVariableDescriptor, element, null));
                 }
             }
         }
         scoreDirector.triggerVariableListeners();
+    }
 
-        // The placers needs to be filtered.
-        // If anything else than the cloned element is unassigned, we want to keep it unassigned.
-        // Otherwise the solution would have to explicitly pin everything other than the cloned element.
-        var entityPlacer = buildEntityPlacer()
-                .rebuildWithFilter((solution, selection) -> selection == clonedElement);
-
-        var solverScope = new SolverScope<Solution_>(solverFactory.getClock());
-        solverScope.setWorkingRandom(new Random(0)); // We will evaluate every option; random does not matter.
-        solverScope.setScoreDirector(scoreDirector);
-        var phaseScope = new ConstructionHeuristicPhaseScope<>(solverScope, -1);
-        var stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
-        entityPlacer.solvingStarted(solverScope);
-        entityPlacer.phaseStarted(phaseScope);
-        entityPlacer.stepStarted(stepScope);
-
-        try (scoreDirector) {
-            var placementIterator = entityPlacer.iterator();
-            if (!placementIterator.hasNext()) {
-                throw new IllegalStateException("""
-                        Impossible state: entity placer (%s) has no placements.
-                        """.formatted(entityPlacer));
+    /**
+     * The calling thread evaluates every n-th move on the parent score director,
+     * while each child thread evaluates the moves in between on its own child score director.
+     * Interleaving the moves, as opposed to splitting them into consecutive blocks,
+     * gives every thread a similar share of the expensive and the cheap placements.
+     */
+    private List<Recommendation_> evaluateInParallel(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            List<InnerScoreDirector<Solution_, Score_>> childScoreDirectorList, List<Move<Solution_>> moveList) {
+        var partitionCount = childScoreDirectorList.size() + 1;
+        var executor = Executors.newFixedThreadPool(childScoreDirectorList.size(),
+                new DefaultSolverThreadFactory("Recommendation"));
+        try {
+            var futureList = new ArrayList<Future<RecommendationQueue>>(childScoreDirectorList.size());
+            for (var i = 0; i < childScoreDirectorList.size(); i++) {
+                var childScoreDirector = childScoreDirectorList.get(i);
+                var partitionIndex = i + 1;
+                futureList.add(executor.submit(() -> {
+                    var childOriginalScoreAnalysis = childScoreDirector.buildScoreAnalysis(fetchPolicy);
+                    var childElement = Objects.requireNonNull(childScoreDirector.lookUpWorkingObject(clonedElement));
+                    unassign(childScoreDirector, childElement);
+                    return evaluatePartition(childScoreDirector, childElement, childOriginalScoreAnalysis, true, moveList,
+                            partitionIndex, partitionCount);
+                }));
             }
-            var placement = placementIterator.next();
-            var recommendedAssignmentList = new ArrayList<Recommendation_>();
-            var moveIndex = 0L;
-            for (var move : placement) {
-                recommendedAssignmentList.add(execute(scoreDirector, move, moveIndex, clonedElement, propositionFunction));
-                moveIndex++;
+            var recommendationQueue = evaluatePartition(scoreDirector, clonedElement, originalScoreAnalysis, false, moveList,
+                    0, partitionCount);
+            for (var future : futureList) {
+                recommendationQueue.offerAll(future.get());
             }
-            recommendedAssignmentList.sort(null);
-            return recommendedAssignmentList;
+            return recommendationQueue.toSortedList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The assignment recommendation was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The assignment recommendation failed on a child thread.", e.getCause());
         } finally {
-            entityPlacer.stepEnded(stepScope);
-            entityPlacer.phaseEnded(phaseScope);
-            entityPlacer.solvingEnded(solverScope);
+            ThreadUtils.shutdownAwaitOrKill(executor, "", "Assignment recommendation");
+        }
+    }
+
+    private RecommendationQueue evaluatePartition(InnerScoreDirector<Solution_, Score_> scoreDirector, In_ element,
+            ScoreAnalysis<Score_> originalScoreAnalysis, boolean rebase, List<Move<Solution_>> moveList, int partitionIndex,
+            int partitionCount) {
+        var recommendationQueue = new RecommendationQueue();
+        for (var moveIndex = partitionIndex; moveIndex < moveList.size(); moveIndex += partitionCount) {
+            var move = moveList.get(moveIndex);
+            if (rebase) {
+                move = move.rebase(scoreDirector.getMoveDirector());
+            }
+            recommendationQueue.offer(execute(scoreDirector, move, moveIndex, element, originalScoreAnalysis));
         }
+        return recommendationQueue;
     }
 
     private void wrapAndExecute(MoveDirector<Solution_, Score_> moveDirector,
@@ -156,14 +250,43 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
     }
 
     private Recommendation_ execute(InnerScoreDirector<Solution_, Score_> scoreDirector, Move<Solution_> move, long moveIndex,
-            In_ clonedElement, Function<In_, @Nullable Out_> propositionFunction) {
+            In_ element, ScoreAnalysis<Score_> originalScoreAnalysis) {
         return scoreDirector.getMoveDirector().executeTemporary(move,
                 (moveDirector, score) -> {
                     var newScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy);
                     var newScoreDifference = newScoreAnalysis.diff(originalScoreAnalysis);
-                    return recommendationConstructor.apply(moveIndex, propositionFunction.apply(clonedElement),
+                    return recommendationConstructor.apply(moveIndex, propositionFunction.apply(element),
                             newScoreDifference);
                 });
     }
 
+    /**
+     * Keeps the best recommendations offered so far, but never more than the maximum recommendation count.
+     * The worst of them is at the head of the queue, so that a better recommendation can replace it cheaply.
+     */
+    private final class RecommendationQueue {
+
+        private final PriorityQueue<Recommendation_> queue = new PriorityQueue<>(comparator.reversed());
+
+        void offer(Recommendation_ recommendation) {
+            if (queue.size() < recommendationPolicy.maximumRecommendationCount()) {
+                queue.add(recommendation);
+            } else if (comparator.compare(recommendation, queue.peek()) < 0) {
+                queue.poll();
+                queue.add(recommendation);
+            }
+        }
+
+        void offerAll(RecommendationQueue other) {
+            other.queue.forEach(this::offer);
+        }
+
+        List<Recommendation_> toSortedList() {
+            var recommendationList = new ArrayList<>(queue);
+            recommendationList.sort(comparator);
+            return recommendationList;
+        }
+
+    }
+
 }
@@ -6,16 +6,26 @@ import java.util.concurrent.CompletableFuture;
 final class BestSolutionContainingProblemChanges<Solution_> {
     private final Solution_ bestSolution;
     private final List<CompletableFuture<Void>> containedProblemChanges;
+    private final long setTimeNanos;
 
-    public BestSolutionContainingProblemChanges(Solution_ bestSolution, List<CompletableFuture<Void>> containedProblemChanges) {
+    public BestSolutionContainingProblemChanges(Solution_ bestSolution, List<CompletableFuture<Void>> containedProblemChanges,
+            long setTimeNanos) {
         this.bestSolution = bestSolution;
         this.containedProblemChanges = containedProblemChanges;
+        this.setTimeNanos = setTimeNanos;
     }
 
     public Solution_ getBestSolution() {
         return bestSolution;
     }
 
+    /**
+     * @return the {@link System#nanoTime()} at which the best solution was handed over by the solver
+     */
+    public long getSetTimeNanos() {
+        return setTimeNanos;
+    }
+
     public void completeProblemChanges() {
         containedProblemChanges.forEach(futureProblemChange -> futureProblemChange.complete(null));
     }
@@ -101,7 +101,8 @@ final class BestSolutionHolder<Solution_> {
                 .stream()
                 .flatMap(Collection::stream)
                 .toList();
-        return new BestSolutionContainingProblemChanges<>(latestVersionedBestSolution.bestSolution(), containedProblemChanges);
+        return new BestSolutionContainingProblemChanges<>(latestVersionedBestSolution.bestSolution(), containedProblemChanges,
+                latestVersionedBestSolution.setTimeNanos());
     }
 
     private synchronized @Nullable VersionedBestSolution<Solution_> resetVersionedBestSolution() {
@@ -123,8 +124,9 @@ final class BestSolutionHolder<Solution_> {
      *
      * @param bestSolution the new best solution that replaces the previous one if there is any
      * @param isEveryProblemChangeProcessed a supplier that tells if all problem changes have been processed
+     * @return true if the new best solution replaced a previous one which was never {@link #take() taken}
      */
-    void set(Solution_ bestSolution, BooleanSupplier isEveryProblemChangeProcessed) {
+    boolean set(Solution_ bestSolution, BooleanSupplier isEveryProblemChangeProcessed) {
         // The new best solution can be accepted only if there are no pending problem changes
         // nor any additional changes may come during this operation.
         // Otherwise, a race condition might occur
@@ -133,10 +135,13 @@ final class BestSolutionHolder<Solution_> {
         // As a result, CompletableFutures representing these changes would be completed too early.
         if (isEveryProblemChangeProcessed.getAsBoolean()) {
             synchronized (this) {
-                versionedBestSolution = new VersionedBestSolution<>(bestSolution, currentVersion);
+                var replaced = versionedBestSolution != null;
+                versionedBestSolution = new VersionedBestSolution<>(bestSolution, currentVersion, System.nanoTime());
                 currentVersion = currentVersion.add(BigInteger.ONE);
+                return replaced;
             }
         }
+        return false;
     }
 
     /**
@@ -170,7 +175,7 @@ final class BestSolutionHolder<Solution_> {
                 .forEach(pendingProblemChange -> pendingProblemChange.cancel(false));
     }
 
-    private record VersionedBestSolution<Solution_>(Solution_ bestSolution, BigInteger version) {
+    private record VersionedBestSolution<Solution_>(Solution_ bestSolution, BigInteger version, long setTimeNanos) {
     }
 
 }
@@ -1,17 +1,36 @@
 package ai.timefold.solver.core.impl.solver;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.core.api.solver.SolverJobBuilder.FirstInitializedSolutionConsumer;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
 final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
 
+    /**
+     * How long a best solution waits between the solver handing it over and the best solution consumer receiving it.
+     * Tagged with the monitoring tags of the solver, such as the problem id.
+     */
+    static final String CONSUMER_LAG_METER_ID = "timefold.solver.manager.consumer.lag";
+    /**
+     * How many best solutions never reached the best solution consumer,
+     * because a newer best solution replaced them while the consumer was still busy.
+     * Tagged with the monitoring tags of the solver, such as the problem id.
+     */
+    static final String SKIPPED_SOLUTION_METER_ID = "timefold.solver.manager.consumer.skipped.solutions";
+
     private final ProblemId_ problemId;
     private final Consumer<? super Solution_> bestSolutionConsumer;
     private final Consumer<? super Solution_> finalBestSolutionConsumer;
@@ -22,7 +41,9 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     private final Semaphore firstSolutionConsumption = new Semaphore(1);
     private final Semaphore startSolverJobConsumption = new Semaphore(1);
     private final BestSolutionHolder<Solution_> bestSolutionHolder;
-    private final ExecutorService consumerExecutor = Executors.newSingleThreadExecutor();
+    private final Executor consumerExecutor;
+    private final Timer consumerLagTimer;
+    private final Counter skippedSolutionCounter;
     private Solution_ firstInitializedSolution;
     private Solution_ initialSolution;
 
@@ -32,6 +53,20 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
             Consumer<? super Solution_> solverJobStartedConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
             BestSolutionHolder<Solution_> bestSolutionHolder) {
+        this(problemId, bestSolutionConsumer, finalBestSolutionConsumer, firstInitializedSolutionConsumer,
+                solverJobStartedConsumer, exceptionHandler, bestSolutionHolder, null, Tags.empty());
+    }
+
+    /**
+     * @param sharedConsumerExecutor null if the consumers are to be called on a thread of their own
+     * @param monitoringTags the tags of the consumer meters, usually the monitoring tags of the solver
+     */
+    public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            FirstInitializedSolutionConsumer<? super Solution_> firstInitializedSolutionConsumer,
+            Consumer<? super Solution_> solverJobStartedConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            BestSolutionHolder<Solution_> bestSolutionHolder, Executor sharedConsumerExecutor, Tags monitoringTags) {
         this.problemId = problemId;
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer == null ? finalBestSolution -> {
@@ -41,6 +76,10 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         this.solverJobStartedConsumer = solverJobStartedConsumer;
         this.exceptionHandler = exceptionHandler;
         this.bestSolutionHolder = bestSolutionHolder;
+        this.consumerExecutor = sharedConsumerExecutor == null ? Executors.newSingleThreadExecutor()
+                : new SerialExecutor(sharedConsumerExecutor);
+        this.consumerLagTimer = Metrics.timer(CONSUMER_LAG_METER_ID, monitoringTags);
+        this.skippedSolutionCounter = Metrics.counter(SKIPPED_SOLUTION_METER_ID, monitoringTags);
         this.firstInitializedSolution = null;
         this.initialSolution = null;
     }
@@ -51,8 +90,11 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
          * If the bestSolutionConsumer is not provided, the best solution is still set for the purpose of recording
          * problem changes.
          */
-        bestSolutionHolder.set(bestSolution, isEveryProblemChangeProcessed);
+        var previousBestSolutionSkipped = bestSolutionHolder.set(bestSolution, isEveryProblemChangeProcessed);
         if (bestSolutionConsumer != null) {
+            if (previousBestSolutionSkipped) {
+                skippedSolutionCounter.increment();
+            }
             tryConsumeWaitingIntermediateBestSolution();
         }
     }
@@ -102,7 +144,7 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         if (bestSolutionConsumer != null) {
             scheduleIntermediateBestSolutionConsumption();
         }
-        consumerExecutor.submit(() -> {
+        consumerExecutor.execute(() -> {
             try {
                 finalBestSolutionConsumer.accept(finalBestSolution);
             } catch (Throwable throwable) {
@@ -142,6 +184,8 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         return CompletableFuture.runAsync(() -> {
             BestSolutionContainingProblemChanges<Solution_> bestSolutionContainingProblemChanges = bestSolutionHolder.take();
             if (bestSolutionContainingProblemChanges != null) {
+                consumerLagTimer.record(System.nanoTime() - bestSolutionContainingProblemChanges.getSetTimeNanos(),
+                        TimeUnit.NANOSECONDS);
                 try {
                     bestSolutionConsumer.accept(bestSolutionContainingProblemChanges.getBestSolution());
                     bestSolutionContainingProblemChanges.completeProblemChanges();
@@ -222,6 +266,13 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     }
 
     private void disposeConsumerThread() {
-        consumerExecutor.shutdownNow();
+        // Like the solver meters, the consumer meters do not outlive the solver job.
+        Metrics.globalRegistry.remove(consumerLagTimer);
+        Metrics.globalRegistry.remove(skippedSolutionCounter);
+        if (consumerExecutor instanceof SerialExecutor serialExecutor) {
+            serialExecutor.close(); // The threads are shared with other solver jobs.
+        } else {
+            ((ExecutorService) consumerExecutor).shutdownNow();
+        }
     }
 }
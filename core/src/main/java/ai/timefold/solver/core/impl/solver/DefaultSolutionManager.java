@@ -8,10 +8,12 @@ import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.ScoreExplanation;
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.solver.RecommendationPolicy;
 import ai.timefold.solver.core.api.solver.RecommendedAssignment;
 import ai.timefold.solver.core.api.solver.RecommendedFit;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolutionSession;
 import ai.timefold.solver.core.api.solver.SolutionUpdatePolicy;
 import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.api.solver.SolverManager;
@@ -83,10 +85,8 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
                 scoreDirector.setWorkingSolutionWithoutUpdatingShadows(nonNullSolution);
                 oldSnapshot.restore();
             }
-            if (constraintMatchPolicy.isEnabled() && !scoreDirector.getConstraintMatchPolicy().isEnabled()) {
-                throw new IllegalStateException("""
-                        Requested constraint matching but score director doesn't support it.
-                        Maybe use Constraint Streams instead of Easy or Incremental score calculator?""");
+            if (constraintMatchPolicy.isEnabled()) {
+                assertConstraintMatchEnabled(scoreDirector);
             }
             if (solutionUpdatePolicy.isScoreUpdateEnabled()) {
                 scoreDirector.calculateScore();
@@ -95,6 +95,14 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
         }
     }
 
+    static void assertConstraintMatchEnabled(InnerScoreDirector<?, ?> scoreDirector) {
+        if (!scoreDirector.getConstraintMatchPolicy().isEnabled()) {
+            throw new IllegalStateException("""
+                    Requested constraint matching but score director doesn't support it.
+                    Maybe use Constraint Streams instead of Easy or Incremental score calculator?""");
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public ScoreExplanation<Solution_, Score_> explain(Solution_ solution,
@@ -137,6 +145,11 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
         return analysis;
     }
 
+    @Override
+    public SolutionSession<Solution_, Score_> openSession(Solution_ solution) {
+        return new DefaultSolutionSession<>(scoreDirectorFactory, solution);
+    }
+
     @Override
     public PlanningSolutionDiff<Solution_> diff(Solution_ oldSolution, Solution_ newSolution) {
         solverFactory.ensurePreviewFeature(PreviewFeature.PLANNING_SOLUTION_DIFF);
@@ -147,9 +160,10 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
     @Override
     public <In_, Out_> List<RecommendedAssignment<Out_, Score_>> recommendAssignment(Solution_ solution,
             In_ evaluatedEntityOrElement, Function<In_, @Nullable Out_> propositionFunction,
-            ScoreAnalysisFetchPolicy fetchPolicy) {
+            ScoreAnalysisFetchPolicy fetchPolicy, RecommendationPolicy recommendationPolicy) {
         var assigner = new Assigner<Solution_, Score_, RecommendedAssignment<Out_, Score_>, In_, Out_>(solverFactory,
-                propositionFunction, DefaultRecommendedAssignment::new, fetchPolicy, solution, evaluatedEntityOrElement);
+                propositionFunction, DefaultRecommendedAssignment::new, fetchPolicy, recommendationPolicy, solution,
+                evaluatedEntityOrElement);
         return callScoreDirector(solution, SolutionUpdatePolicy.UPDATE_ALL, assigner, ConstraintMatchPolicy.match(fetchPolicy),
                 true);
     }
@@ -158,7 +172,8 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
     public <In_, Out_> List<RecommendedFit<Out_, Score_>> recommendFit(Solution_ solution, In_ fittedEntityOrElement,
             Function<In_, @Nullable Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy) {
         var assigner = new Assigner<Solution_, Score_, RecommendedFit<Out_, Score_>, In_, Out_>(solverFactory,
-                propositionFunction, DefaultRecommendedFit::new, fetchPolicy, solution, fittedEntityOrElement);
+                propositionFunction, DefaultRecommendedFit::new, fetchPolicy, RecommendationPolicy.DEFAULT, solution,
+                fittedEntityOrElement);
         return callScoreDirector(solution, SolutionUpdatePolicy.UPDATE_ALL, assigner, ConstraintMatchPolicy.match(fetchPolicy),
                 true);
     }
@@ -0,0 +1,296 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.ScoreExplanation;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.api.solver.SolutionSession;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.BasicVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.score.DefaultScoreExplanation;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactory;
+import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Keeps a single score director, and therefore a single constraint session, open for the lifetime of the session.
+ * {@link #synchronize(Object)} matches the entities of the given solution to the working entities
+ * through the planning ID lookup, which is linear in the number of entities,
+ * as opposed to {@link ai.timefold.solver.core.api.solver.SolutionManager#diff(Object, Object)},
+ * which matches entities by {@link Object#equals(Object)}.
+ *
+ * @param <Solution_> the solution type
+ * @param <Score_> the score type
+ */
+@NullMarked
+final class DefaultSolutionSession<Solution_, Score_ extends Score<Score_>> implements SolutionSession<Solution_, Score_> {
+
+    private final InnerScoreDirector<Solution_, Score_> scoreDirector;
+    private final DefaultProblemChangeDirector<Solution_> problemChangeDirector;
+    private boolean closed = false;
+
+    DefaultSolutionSession(ScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory, Solution_ solution) {
+        this.scoreDirector = scoreDirectorFactory.createScoreDirectorBuilder()
+                .withLookUpEnabled(true)
+                .withConstraintMatchPolicy(ConstraintMatchPolicy.ENABLED)
+                .withExpectShadowVariablesInCorrectState(false)
+                .build();
+        this.problemChangeDirector = new DefaultProblemChangeDirector<>(scoreDirector);
+        reset(solution);
+    }
+
+    private void reset(Solution_ solution) {
+        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(Objects.requireNonNull(solution)));
+    }
+
+    @Override
+    public Solution_ getWorkingSolution() {
+        assertNotClosed();
+        return scoreDirector.getWorkingSolution();
+    }
+
+    @Override
+    public void applyChange(ProblemChange<Solution_> problemChange) {
+        assertNotClosed();
+        Objects.requireNonNull(problemChange).doChange(scoreDirector.getWorkingSolution(), problemChangeDirector);
+        problemChangeDirector.updateShadowVariables();
+    }
+
+    @Override
+    public void synchronize(Solution_ solution) {
+        assertNotClosed();
+        var changeList = collectChanges(Objects.requireNonNull(solution));
+        if (changeList == null) {
+            reset(solution);
+            return;
+        }
+        // Elements which are no longer in any of the changed lists become unassigned.
+        var unassignedElementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var change : changeList) {
+            if (change instanceof ListVariableChange<Solution_> listVariableChange) {
+                unassignedElementSet.addAll(listVariableChange.workingRemovedElementList());
+            }
+        }
+        for (var change : changeList) {
+            if (change instanceof ListVariableChange<Solution_> listVariableChange) {
+                listVariableChange.workingTailList().forEach(unassignedElementSet::remove);
+            }
+        }
+        // Shorten all changed lists first, so that no element is ever assigned to two lists at the same time.
+        for (var change : changeList) {
+            if (change instanceof ListVariableChange<Solution_> listVariableChange) {
+                listVariableChange.unassignTail(scoreDirector, unassignedElementSet);
+            }
+        }
+        for (var change : changeList) {
+            change.apply(scoreDirector);
+        }
+        scoreDirector.triggerVariableListeners();
+    }
+
+    /**
+     * @return null if the working solution needs to be replaced, because the changes cannot be applied incrementally
+     */
+    private @Nullable List<VariableChange<Solution_>> collectChanges(Solution_ solution) {
+        var workingSolution = scoreDirector.getWorkingSolution();
+        var solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        var changeList = new ArrayList<VariableChange<Solution_>>();
+        for (var entityDescriptor : solutionDescriptor.getGenuineEntityDescriptors()) {
+            var entityList = entityDescriptor.extractEntities(solution);
+            if (entityList.size() != entityDescriptor.extractEntities(workingSolution).size()) {
+                return null;
+            }
+            for (var entity : entityList) {
+                var workingEntity = scoreDirector.lookUpWorkingObjectOrReturnNull(entity);
+                if (workingEntity == null) {
+                    return null;
+                } else if (workingEntity == entity) { // Already part of the working solution.
+                    continue;
+                }
+                for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
+                    var supported = variableDescriptor instanceof ListVariableDescriptor<Solution_> listVariableDescriptor
+                            ? collectListVariableChange(workingSolution, listVariableDescriptor, entity, workingEntity,
+                                    changeList)
+                            : collectBasicVariableChange((BasicVariableDescriptor<Solution_>) variableDescriptor, entity,
+                                    workingEntity, changeList);
+                    if (!supported) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return changeList;
+    }
+
+    /**
+     * @return false if the change cannot be applied incrementally
+     */
+    private boolean collectBasicVariableChange(BasicVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            Object workingEntity, List<VariableChange<Solution_>> changeList) {
+        var value = variableDescriptor.getValue(entity);
+        var workingValue = scoreDirector.lookUpWorkingObjectOrReturnNull(value);
+        if (value != null && workingValue == null) {
+            return false;
+        } else if (workingValue == variableDescriptor.getValue(workingEntity)) {
+            return true;
+        } else if (variableDescriptor.isChained()) { // Changing one link in isolation would break the chain.
+            return false;
+        }
+        changeList.add(new BasicVariableChange<>(variableDescriptor, workingEntity, workingValue));
+        return true;
+    }
+
+    /**
+     * @return false if the change cannot be applied incrementally
+     */
+    private boolean collectListVariableChange(Solution_ workingSolution, ListVariableDescriptor<Solution_> variableDescriptor,
+            Object entity, Object workingEntity, List<VariableChange<Solution_>> changeList) {
+        var elementList = variableDescriptor.getValue(entity);
+        var workingElementList = variableDescriptor.getValue(workingEntity);
+        var workingTailList = new ArrayList<>(elementList.size());
+        var firstChangedIndex = -1;
+        for (var i = 0; i < elementList.size(); i++) {
+            var workingElement = scoreDirector.lookUpWorkingObjectOrReturnNull(elementList.get(i));
+            if (workingElement == null) {
+                return false;
+            }
+            if (firstChangedIndex < 0
+                    && (i >= workingElementList.size() || workingElementList.get(i) != workingElement)) {
+                firstChangedIndex = i;
+            }
+            if (firstChangedIndex >= 0) {
+                workingTailList.add(workingElement);
+            }
+        }
+        if (firstChangedIndex < 0) {
+            if (elementList.size() == workingElementList.size()) {
+                return true;
+            }
+            firstChangedIndex = elementList.size(); // Only elements were removed from the end.
+        }
+        if (variableDescriptor.isElementPinned(workingSolution, workingEntity, firstChangedIndex)) {
+            return false;
+        }
+        changeList.add(new ListVariableChange<>(variableDescriptor, workingEntity, firstChangedIndex, workingTailList));
+        return true;
+    }
+
+    @Override
+    public Score_ update() {
+        assertNotClosed();
+        return scoreDirector.calculateScore().raw();
+    }
+
+    @Override
+    public ScoreExplanation<Solution_, Score_> explain() {
+        assertNotClosed();
+        DefaultSolutionManager.assertConstraintMatchEnabled(scoreDirector);
+        return new DefaultScoreExplanation<>(scoreDirector);
+    }
+
+    @Override
+    public ScoreAnalysis<Score_> analyze(ScoreAnalysisFetchPolicy fetchPolicy) {
+        Objects.requireNonNull(fetchPolicy, "fetchPolicy");
+        assertNotClosed();
+        DefaultSolutionManager.assertConstraintMatchEnabled(scoreDirector);
+        return scoreDirector.buildScoreAnalysis(fetchPolicy);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            scoreDirector.close();
+        }
+    }
+
+    private void assertNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The session (%s) is already closed.".formatted(this));
+        }
+    }
+
+    private sealed interface VariableChange<Solution_> permits BasicVariableChange, ListVariableChange {
+
+        void apply(InnerScoreDirector<Solution_, ?> scoreDirector);
+
+    }
+
+    private record BasicVariableChange<Solution_>(GenuineVariableDescriptor<Solution_> variableDescriptor,
+            Object workingEntity, @Nullable Object workingValue)
+            implements
+                VariableChange<Solution_> {
+
+        @Override
+        public void apply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+            scoreDirector.beforeVariableChanged(variableDescriptor, workingEntity);
+            variableDescriptor.setValue(workingEntity, workingValue);
+            scoreDirector.afterVariableChanged(variableDescriptor, workingEntity);
+        }
+
+    }
+
+    /**
+     * Replaces all elements from the first changed index onwards, in two steps.
+     * {@link #unassignTail(InnerScoreDirector, Set)} removes the old elements,
+     * and {@link #apply(InnerScoreDirector)} adds the new ones.
+     */
+    private record ListVariableChange<Solution_>(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object workingEntity, int firstChangedIndex, List<Object> workingTailList)
+            implements
+                VariableChange<Solution_> {
+
+        List<Object> workingRemovedElementList() {
+            var workingElementList = variableDescriptor.getValue(workingEntity);
+            return workingElementList.subList(firstChangedIndex, workingElementList.size());
+        }
+
+        /**
+         * @param unassignedElementSet the elements which end up in no list at all once all changes are applied
+         */
+        void unassignTail(InnerScoreDirector<Solution_, ?> scoreDirector, Set<Object> unassignedElementSet) {
+            var workingElementList = variableDescriptor.getValue(workingEntity);
+            var oldSize = workingElementList.size();
+            var removedElementList = List.copyOf(workingElementList.subList(firstChangedIndex, oldSize));
+            for (var element : removedElementList) {
+                if (unassignedElementSet.contains(element)) {
+                    scoreDirector.beforeListVariableElementUnassigned(variableDescriptor, element);
+                }
+            }
+            scoreDirector.beforeListVariableChanged(variableDescriptor, workingEntity, firstChangedIndex, oldSize);
+            workingElementList.subList(firstChangedIndex, oldSize).clear();
+            scoreDirector.afterListVariableChanged(variableDescriptor, workingEntity, firstChangedIndex,
+                    firstChangedIndex);
+            for (var element : removedElementList) {
+                if (unassignedElementSet.contains(element)) {
+                    scoreDirector.afterListVariableElementUnassigned(variableDescriptor, element);
+                }
+            }
+        }
+
+        @Override
+        public void apply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+            var workingElementList = variableDescriptor.getValue(workingEntity);
+            scoreDirector.beforeListVariableChanged(variableDescriptor, workingEntity, firstChangedIndex,
+                    firstChangedIndex);
+            workingElementList.addAll(workingTailList);
+            scoreDirector.afterListVariableChanged(variableDescriptor, workingEntity, firstChangedIndex,
+                    workingElementList.size());
+        }
+
+    }
+
+}
@@ -331,7 +331,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         } else {
             var problemFactChangeQueue = basicPlumbingTermination
                     .startProblemChangesProcessing();
-            solverScope.setWorkingSolutionFromBestSolution();
+            bestSolutionRecaller.resetWorkingSolutionToBestSolution(solverScope);
 
             var stepIndex = 0;
             var problemChangeAdapter = problemFactChangeQueue.poll();
@@ -34,6 +34,7 @@ import ai.timefold.solver.core.impl.phase.PhaseFactory;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactoryFactory;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
 import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
 import ai.timefold.solver.core.impl.solver.random.DefaultRandomFactory;
 import ai.timefold.solver.core.impl.solver.random.RandomFactory;
@@ -115,16 +116,27 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     "Enabling constraint matching as required by the enabled metrics ({}). This will impact solver performance.",
                     metricsRequiringConstraintMatchSet);
         }
-        var castScoreDirector = scoreDirectorFactory.createScoreDirectorBuilder()
+        var scoreDirectorBuilder = scoreDirectorFactory.createScoreDirectorBuilder()
                 .withLookUpEnabled(true)
                 .withConstraintMatchPolicy(
-                        constraintMatchEnabled ? ConstraintMatchPolicy.ENABLED : ConstraintMatchPolicy.DISABLED)
-                .build();
+                        constraintMatchEnabled ? ConstraintMatchPolicy.ENABLED : ConstraintMatchPolicy.DISABLED);
+        if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_PROFILING)) {
+            if (scoreDirectorBuilder instanceof BavetConstraintStreamScoreDirector.Builder<?, ?> bavetScoreDirectorBuilder) {
+                LOGGER.info("Enabling constraint profiling as required by the enabled metric ({}). "
+                        + "This will impact solver performance.", SolverMetric.CONSTRAINT_PROFILING);
+                bavetScoreDirectorBuilder.withProfilingEnabled(true);
+            } else {
+                LOGGER.warn("The metric ({}) is only supported with a constraintProviderClass and will not be reported.",
+                        SolverMetric.CONSTRAINT_PROFILING);
+            }
+        }
+        var castScoreDirector = scoreDirectorBuilder.build();
         solverScope.setScoreDirector(castScoreDirector);
         solverScope.setProblemChangeDirector(new DefaultProblemChangeDirector<>(castScoreDirector));
 
         var moveThreadCount = resolveMoveThreadCount(true);
-        var bestSolutionRecaller = BestSolutionRecallerFactory.create().<Solution_> buildBestSolutionRecaller(environmentMode);
+        var bestSolutionRecaller = BestSolutionRecallerFactory.create()
+                .<Solution_> buildBestSolutionRecaller(environmentMode, solverConfig.determineBestSolutionRecordingMode());
         var randomFactory = buildRandomFactory(environmentMode);
         var previewFeaturesEnabled = solverConfig.getEnablePreviewFeatureSet();
 
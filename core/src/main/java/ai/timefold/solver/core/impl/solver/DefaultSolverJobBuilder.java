@@ -28,6 +28,7 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
     private Consumer<? super Solution_> solverJobStartedConsumer;
     private BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
     private SolverConfigOverride<Solution_> solverConfigOverride;
+    private long priority = SolverJobThreadPool.DEFAULT_PRIORITY;
 
     public DefaultSolverJobBuilder(DefaultSolverManager<Solution_, ProblemId_> solverManager) {
         this.solverManager = Objects.requireNonNull(solverManager, "The SolverManager (" + solverManager + ") cannot be null.");
@@ -95,6 +96,12 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
         return this;
     }
 
+    @Override
+    public @NonNull SolverJobBuilder<Solution_, ProblemId_> withPriority(long priority) {
+        this.priority = priority;
+        return this;
+    }
+
     @Override
     public @NonNull SolverJob<Solution_, ProblemId_> run() {
         if (solverConfigOverride == null) {
@@ -104,10 +111,10 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
 
         if (this.bestSolutionConsumer == null) {
             return solverManager.solve(problemId, problemFinder, null, finalBestSolutionConsumer,
-                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride, priority);
         } else {
             return solverManager.solveAndListen(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride, priority);
         }
     }
 }
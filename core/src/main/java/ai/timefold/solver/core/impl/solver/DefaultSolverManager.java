@@ -7,6 +7,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
@@ -26,6 +27,7 @@ import ai.timefold.solver.core.config.solver.SolverManagerConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,7 +41,8 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
-    private final ExecutorService solverThreadPool;
+    private final SolverJobThreadPool solverThreadPool;
+    private final @Nullable ExecutorService consumerThreadPool; // Null when every solver job has a consumer thread.
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory, SolverManagerConfig solverManagerConfig) {
@@ -51,7 +54,16 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         var threadFactoryClass = solverManagerConfig.getThreadFactoryClass();
         var threadFactory = threadFactoryClass == null ? Executors.defaultThreadFactory()
                 : ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass", threadFactoryClass);
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount, threadFactory);
+        solverThreadPool = new SolverJobThreadPool(parallelSolverCount, threadFactory);
+        var consumerThreadCount = solverManagerConfig.resolveConsumerThreadCount();
+        if (consumerThreadCount == null) {
+            consumerThreadPool = null;
+        } else {
+            var consumerThreadFactoryClass = solverManagerConfig.getConsumerThreadFactoryClass();
+            var consumerThreadFactory = consumerThreadFactoryClass == null ? Executors.defaultThreadFactory()
+                    : ConfigUtils.newInstance(solverManagerConfig, "consumerThreadFactoryClass", consumerThreadFactoryClass);
+            consumerThreadPool = Executors.newFixedThreadPool(consumerThreadCount, consumerThreadFactory);
+        }
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -59,6 +71,11 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         return solverFactory;
     }
 
+    @Nullable
+    Executor getSharedConsumerExecutor() {
+        return consumerThreadPool;
+    }
+
     private void validateSolverFactory() {
         solverFactory.buildSolver();
     }
@@ -83,12 +100,12 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             FirstInitializedSolutionConsumer<? super Solution_> initializedSolutionConsumer,
             Consumer<? super Solution_> solverJobStartedConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
-            SolverConfigOverride<Solution_> solverConfigOverride) {
+            SolverConfigOverride<Solution_> solverConfigOverride, long priority) {
         if (bestSolutionConsumer == null) {
             throw new IllegalStateException("The consumer bestSolutionConsumer is required.");
         }
         return solve(getProblemIdOrThrow(problemId), problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride, priority);
     }
 
     SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
@@ -98,7 +115,7 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             FirstInitializedSolutionConsumer<? super Solution_> initializedSolutionConsumer,
             Consumer<? super Solution_> solverJobStartedConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
-            SolverConfigOverride<Solution_> configOverride) {
+            SolverConfigOverride<Solution_> configOverride, long priority) {
         var solver = solverFactory.buildSolver(configOverride);
         ((DefaultSolver<Solution_>) solver).setMonitorTagMap(Map.of("problem.id", problemId.toString()));
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
@@ -115,7 +132,7 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                                 finalExceptionHandler);
                     }
                 });
-        var future = solverThreadPool.submit(solverJob);
+        var future = solverThreadPool.submit(solverJob, priority);
         solverJob.setFinalBestSolutionFuture(future);
         return solverJob;
     }
@@ -153,10 +170,18 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         solverJob.terminateEarly();
     }
 
+    @Override
+    public void setParallelSolverCount(int parallelSolverCount) {
+        solverThreadPool.resize(parallelSolverCount);
+    }
+
     @Override
     public void close() {
         solverThreadPool.shutdownNow();
         problemIdToSolverJobMap.values().forEach(DefaultSolverJob::close);
+        if (consumerThreadPool != null) {
+            consumerThreadPool.shutdownNow();
+        }
     }
 
     void unregisterSolverJob(ProblemId_ problemId) {
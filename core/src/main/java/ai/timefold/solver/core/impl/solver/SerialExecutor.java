@@ -0,0 +1,70 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs the tasks on a shared executor, one at a time and in the order in which they were submitted,
+ * as if it was a single thread executor.
+ * This allows many {@link ConsumerSupport consumers} to share a few threads,
+ * without delivering the solutions of a single solver job out of order.
+ * <p>
+ * This class needs to be thread-safe.
+ */
+@NullMarked
+final class SerialExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Queue<Runnable> taskQueue = new ArrayDeque<>();
+    private @Nullable Runnable activeTask = null;
+    private boolean closed = false;
+
+    SerialExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public synchronized void execute(Runnable task) {
+        if (closed) {
+            return; // Same as a single thread executor which was shut down, the task is never run.
+        }
+        taskQueue.add(() -> {
+            try {
+                task.run();
+            } finally {
+                scheduleNext();
+            }
+        });
+        if (activeTask == null) {
+            scheduleNext();
+        }
+    }
+
+    private synchronized void scheduleNext() {
+        activeTask = closed ? null : taskQueue.poll();
+        if (activeTask != null) {
+            try {
+                delegate.execute(activeTask);
+            } catch (RejectedExecutionException e) {
+                // The shared executor was shut down; do not block the tasks which are still to come.
+                activeTask = null;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Discards the tasks which have not started yet.
+     * The task which is running, if any, is not interrupted, as its thread belongs to the shared executor.
+     */
+    synchronized void close() {
+        closed = true;
+        taskQueue.clear();
+    }
+
+}
@@ -0,0 +1,96 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.solver.SolverJobBuilder;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Runs the solver jobs of a {@link DefaultSolverManager}, at most {@code parallelSolverCount} at the same time.
+ * The solver jobs which wait for a free thread start in the order of their {@link SolverJobBuilder#withPriority(long)
+ * priority}, and in the order of their submission if their priority is the same.
+ * <p>
+ * This class needs to be thread-safe.
+ */
+@NullMarked
+final class SolverJobThreadPool extends ThreadPoolExecutor {
+
+    static final long DEFAULT_PRIORITY = 0L;
+
+    private final AtomicLong submissionSequence = new AtomicLong(0L);
+
+    SolverJobThreadPool(int parallelSolverCount, ThreadFactory threadFactory) {
+        // Same as Executors.newFixedThreadPool(), except for the queue.
+        super(parallelSolverCount, parallelSolverCount, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+                threadFactory);
+    }
+
+    <T> Future<T> submit(Callable<T> task, long priority) {
+        var future = new PrioritizedTask<>(task, priority, submissionSequence.getAndIncrement());
+        execute(future);
+        return future;
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new PrioritizedTask<>(callable, DEFAULT_PRIORITY, submissionSequence.getAndIncrement());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return newTaskFor(() -> {
+            runnable.run();
+            return value;
+        });
+    }
+
+    /**
+     * Solver jobs which already run are not affected.
+     * When shrinking, the surplus threads end as soon as they finish their solver job.
+     *
+     * @param parallelSolverCount at least 1
+     */
+    synchronized void resize(int parallelSolverCount) {
+        if (parallelSolverCount < 1) {
+            throw new IllegalArgumentException(
+                    "The parallelSolverCount (%d) must be at least 1.".formatted(parallelSolverCount));
+        }
+        // The core pool size must never exceed the maximum pool size, not even in between both calls.
+        if (parallelSolverCount > getMaximumPoolSize()) {
+            setMaximumPoolSize(parallelSolverCount);
+            setCorePoolSize(parallelSolverCount);
+        } else {
+            setCorePoolSize(parallelSolverCount);
+            setMaximumPoolSize(parallelSolverCount);
+        }
+    }
+
+    private static final class PrioritizedTask<V> extends FutureTask<V> implements Comparable<PrioritizedTask<?>> {
+
+        private final long priority;
+        private final long sequence;
+
+        PrioritizedTask(Callable<V> callable, long priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> other) {
+            var comparison = Long.compare(priority, other.priority);
+            return comparison != 0 ? comparison : Long.compare(sequence, other.sequence);
+        }
+
+    }
+
+}
@@ -1,23 +1,63 @@
 package ai.timefold.solver.core.impl.solver.event;
 
+import java.util.function.UnaryOperator;
+
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
+import ai.timefold.solver.core.config.solver.BestSolutionRecordingMode;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 public final class DefaultBestSolutionChangedEvent<Solution_> extends BestSolutionChangedEvent<Solution_> {
 
     private final int unassignedCount;
+    private final @Nullable UnaryOperator<Solution_> newBestSolutionCloner;
+    private @Nullable Solution_ clonedNewBestSolution = null;
+    private boolean delivered = false;
 
     public DefaultBestSolutionChangedEvent(@NonNull Solver<Solution_> solver, long timeMillisSpent,
             @NonNull Solution_ newBestSolution, @NonNull InnerScore newBestScore) {
+        this(solver, timeMillisSpent, newBestSolution, newBestScore, null);
+    }
+
+    /**
+     * @param newBestSolutionCloner if not null, the newBestSolution keeps changing after the event is delivered,
+     *        and {@link #getNewBestSolution()} returns a clone of it made by this function instead
+     */
+    public DefaultBestSolutionChangedEvent(@NonNull Solver<Solution_> solver, long timeMillisSpent,
+            @NonNull Solution_ newBestSolution, @NonNull InnerScore newBestScore,
+            @Nullable UnaryOperator<Solution_> newBestSolutionCloner) {
         super(solver, timeMillisSpent, newBestSolution, newBestScore.raw(), newBestScore.isFullyAssigned());
         this.unassignedCount = newBestScore.unassignedCount();
+        this.newBestSolutionCloner = newBestSolutionCloner;
     }
 
     public int getUnassignedCount() {
         return unassignedCount;
     }
 
+    @Override
+    public @NonNull Solution_ getNewBestSolution() {
+        if (newBestSolutionCloner == null) {
+            return super.getNewBestSolution();
+        }
+        if (clonedNewBestSolution == null) {
+            if (delivered) {
+                throw new IllegalStateException("""
+                        The new best solution of the event (%s) is retrieved after the event was delivered.
+                        Maybe call getNewBestSolution() before the event listener returns.
+                        Or otherwise, maybe use the bestSolutionRecordingMode (%s)."""
+                        .formatted(this, BestSolutionRecordingMode.CLONE));
+            }
+            clonedNewBestSolution = newBestSolutionCloner.apply(super.getNewBestSolution());
+        }
+        return clonedNewBestSolution;
+    }
+
+    void markDelivered() {
+        this.delivered = true;
+    }
+
 }
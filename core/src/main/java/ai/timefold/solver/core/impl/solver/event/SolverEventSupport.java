@@ -1,10 +1,14 @@
 package ai.timefold.solver.core.impl.solver.event;
 
+import java.util.function.UnaryOperator;
+
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.event.SolverEventListener;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Internal API.
  *
@@ -19,14 +23,25 @@ public class SolverEventSupport<Solution_> extends AbstractEventSupport<SolverEv
     }
 
     public void fireBestSolutionChanged(SolverScope<Solution_> solverScope, Solution_ newBestSolution) {
+        fireBestSolutionChanged(solverScope, newBestSolution, null);
+    }
+
+    /**
+     * @param newBestSolutionCloner if not null, the newBestSolution will keep changing after the event is delivered,
+     *        so the listeners receive a clone of it made by this function, but only if they ask for it
+     */
+    public void fireBestSolutionChanged(SolverScope<Solution_> solverScope, Solution_ newBestSolution,
+            @Nullable UnaryOperator<Solution_> newBestSolutionCloner) {
         var it = getEventListeners().iterator();
         var timeMillisSpent = solverScope.getBestSolutionTimeMillisSpent();
         var bestScore = solverScope.getBestScore();
         if (it.hasNext()) {
-            var event = new DefaultBestSolutionChangedEvent<>(solver, timeMillisSpent, newBestSolution, bestScore);
+            var event = new DefaultBestSolutionChangedEvent<>(solver, timeMillisSpent, newBestSolution, bestScore,
+                    newBestSolutionCloner);
             do {
                 it.next().bestSolutionChanged(event);
             } while (it.hasNext());
+            event.markDelivered();
         }
     }
 
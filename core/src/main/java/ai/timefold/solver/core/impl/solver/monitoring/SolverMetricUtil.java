@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.solver.monitoring;
 
+import java.lang.management.ManagementFactory;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -21,6 +22,70 @@ public final class SolverMetricUtil {
 
     // Necessary for benchmarker, but otherwise undocumented and not considered public.
     private static final String UNASSIGNED_COUNT_LABEL = "unassigned.count";
+    private static final com.sun.management.@Nullable ThreadMXBean THREAD_MX_BEAN = lookupThreadMXBean();
+
+    private static com.sun.management.@Nullable ThreadMXBean lookupThreadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                    && threadMXBean.isThreadAllocatedMemorySupported()) {
+                return threadMXBean;
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // Not a HotSpot-based JVM, or the jdk.management module is not available.
+        }
+        return null;
+    }
+
+    /**
+     * Thread allocated memory measurement is a JVM-wide setting,
+     * so it is only enabled once a metric which needs it is registered,
+     * and never disabled again, as other code in the JVM may rely on it too.
+     *
+     * @return true if the allocated bytes can be measured on this JVM
+     */
+    public static boolean enableThreadAllocatedMemory() {
+        if (THREAD_MX_BEAN == null) {
+            return false;
+        }
+        try {
+            if (!THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+                THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+            }
+            return true;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Only supported on HotSpot-based JVMs,
+     * after {@link #enableThreadAllocatedMemory()} has been called.
+     * Can be called from any thread,
+     * so that both the per step and the accumulated allocation metrics share this single accessor.
+     *
+     * @param threadId the id of a live thread
+     * @return the number of bytes allocated so far by that thread, or -1 if not supported or the thread is not alive
+     */
+    public static long getThreadAllocatedBytes(long threadId) {
+        return THREAD_MX_BEAN == null ? -1L : THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+    }
+
+    /**
+     * Garbage collection is not bound to a particular thread,
+     * so this includes the pauses caused by every thread of the JVM.
+     *
+     * @return the accumulated collection time of all garbage collectors of the JVM in milliseconds
+     */
+    public static long getGarbageCollectionTimeMillis() {
+        var collectionTimeMillis = 0L;
+        for (var garbageCollectorMXBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            var collectorTimeMillis = garbageCollectorMXBean.getCollectionTime();
+            if (collectorTimeMillis > 0L) { // -1 if not supported by this collector.
+                collectionTimeMillis += collectorTimeMillis;
+            }
+        }
+        return collectionTimeMillis;
+    }
 
     public static <Score_ extends Score<Score_>> void registerScore(SolverMetric metric, Tags tags,
             ScoreDefinition<Score_> scoreDefinition, Map<Tags, ScoreLevels> tagToScoreLevels, InnerScore<Score_> innerScore) {
@@ -0,0 +1,97 @@
+package ai.timefold.solver.core.impl.solver.monitoring.statistic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.ToDoubleFunction;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintProfile;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintProfiler;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.solver.monitoring.SolverMetricUtil;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Registers two gauges for every constraint, reading the {@link BavetConstraintProfiler} of the solver:
+ * <ul>
+ * <li>{@link #TIME_LABEL}: the time in milliseconds spent propagating the constraint's nodes.</li>
+ * <li>{@link #TUPLE_COUNT_LABEL}: the number of tuples propagated by the constraint's nodes.</li>
+ * </ul>
+ * Nothing is registered unless the solver uses constraint streams.
+ */
+public class ConstraintProfilingStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    // Necessary for benchmarker, but otherwise undocumented and not considered public.
+    public static final String TIME_LABEL = "time";
+    public static final String TUPLE_COUNT_LABEL = "tuple.count";
+    public static final String CONSTRAINT_PACKAGE_TAG = "constraint.package";
+    public static final String CONSTRAINT_NAME_TAG = "constraint.name";
+
+    private final Map<Solver<Solution_>, List<Tags>> solverToConstraintTagsMap =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        var constraintTagsList = solverToConstraintTagsMap.remove(solver);
+        if (constraintTagsList != null) {
+            for (var constraintTags : constraintTagsList) {
+                removeGauge(TIME_LABEL, constraintTags);
+                removeGauge(TUPLE_COUNT_LABEL, constraintTags);
+            }
+        }
+    }
+
+    private static void removeGauge(String label, Tags tags) {
+        Metrics.globalRegistry.remove(new Meter.Id(SolverMetricUtil.getGaugeName(SolverMetric.CONSTRAINT_PROFILING, label),
+                tags,
+                null,
+                null,
+                Meter.Type.GAUGE));
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        var solverScope = ((DefaultSolver<Solution_>) solver).getSolverScope();
+        if (!(solverScope.getScoreDirector() instanceof BavetConstraintStreamScoreDirector<?, ?> bavetScoreDirector)) {
+            return;
+        }
+        var profiler = bavetScoreDirector.getProfiler();
+        if (profiler == null) {
+            return;
+        }
+        var constraintTagsList = new ArrayList<Tags>();
+        for (var constraint : bavetScoreDirector.getScoreDirectorFactory().getConstraintMetaModel().getConstraints()) {
+            var constraintRef = constraint.getConstraintRef();
+            var constraintTags = solverScope.getMonitoringTags().and(
+                    CONSTRAINT_PACKAGE_TAG, constraintRef.packageName(),
+                    CONSTRAINT_NAME_TAG, constraintRef.constraintName());
+            // The gauges only keep a weak reference to the profiler, which the score director holds on to.
+            registerGauge(TIME_LABEL, constraintTags, profiler, constraintRef,
+                    constraintProfile -> constraintProfile.getTimeNanos() / 1_000_000.0);
+            registerGauge(TUPLE_COUNT_LABEL, constraintTags, profiler, constraintRef,
+                    BavetConstraintProfile::getTupleCount);
+            constraintTagsList.add(constraintTags);
+        }
+        solverToConstraintTagsMap.put(solver, constraintTagsList);
+    }
+
+    private static void registerGauge(String label, Tags tags, BavetConstraintProfiler profiler,
+            ConstraintRef constraintRef, ToDoubleFunction<BavetConstraintProfile> valueFunction) {
+        Metrics.gauge(SolverMetricUtil.getGaugeName(SolverMetric.CONSTRAINT_PROFILING, label), tags, profiler,
+                p -> {
+                    var constraintProfile = p.getConstraintProfile(constraintRef);
+                    // Disabled constraints have no nodes, and therefore nothing to measure.
+                    return constraintProfile == null ? 0.0 : valueFunction.applyAsDouble(constraintProfile);
+                });
+    }
+
+}
@@ -0,0 +1,95 @@
+package ai.timefold.solver.core.impl.solver.monitoring.statistic;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.solver.monitoring.SolverMetricUtil;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Registers two gauges, both counting from the moment the solver started solving:
+ * <ul>
+ * <li>{@link #ALLOCATED_BYTES_LABEL}: the bytes allocated by the solver thread,
+ * only available on HotSpot-based JVMs.</li>
+ * <li>{@link #GC_PAUSE_TIME_LABEL}: the time in milliseconds spent in garbage collection, across the whole JVM.</li>
+ * </ul>
+ * Threads spawned by the solver (such as move threads) are not included in the allocated bytes.
+ */
+public class MemoryAllocationStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    // Necessary for benchmarker, but otherwise undocumented and not considered public.
+    public static final String ALLOCATED_BYTES_LABEL = "bytes";
+    public static final String GC_PAUSE_TIME_LABEL = "gc.pause.time";
+
+    private final Map<Solver<Solution_>, MemoryAllocationTracker> solverToTrackerMap =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        var tracker = solverToTrackerMap.remove(solver);
+        if (tracker != null) {
+            var tags = ((DefaultSolver<Solution_>) solver).getSolverScope().getMonitoringTags();
+            removeGauge(ALLOCATED_BYTES_LABEL, tags);
+            removeGauge(GC_PAUSE_TIME_LABEL, tags);
+        }
+    }
+
+    private static void removeGauge(String label, Tags tags) {
+        Metrics.globalRegistry.remove(new Meter.Id(SolverMetricUtil.getGaugeName(SolverMetric.MEMORY_ALLOCATION, label),
+                tags,
+                null,
+                null,
+                Meter.Type.GAUGE));
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        SolverMetricUtil.enableThreadAllocatedMemory();
+        // Registration happens when solving starts, on the solver thread.
+        var tracker = new MemoryAllocationTracker(Thread.currentThread().getId());
+        // Gauges only keep a weak reference to the tracker.
+        solverToTrackerMap.put(solver, tracker);
+        var tags = ((DefaultSolver<Solution_>) solver).getSolverScope().getMonitoringTags();
+        Metrics.gauge(SolverMetricUtil.getGaugeName(SolverMetric.MEMORY_ALLOCATION, ALLOCATED_BYTES_LABEL), tags,
+                tracker, MemoryAllocationTracker::getAllocatedBytes);
+        Metrics.gauge(SolverMetricUtil.getGaugeName(SolverMetric.MEMORY_ALLOCATION, GC_PAUSE_TIME_LABEL), tags,
+                tracker, MemoryAllocationTracker::getGcPauseTimeMillis);
+    }
+
+    private static final class MemoryAllocationTracker {
+
+        private final long solverThreadId;
+        private final long startingAllocatedBytes;
+        private final long startingGcPauseTimeMillis;
+
+        public MemoryAllocationTracker(long solverThreadId) {
+            this.solverThreadId = solverThreadId;
+            this.startingAllocatedBytes = SolverMetricUtil.getThreadAllocatedBytes(solverThreadId);
+            this.startingGcPauseTimeMillis = SolverMetricUtil.getGarbageCollectionTimeMillis();
+        }
+
+        public double getAllocatedBytes() {
+            if (startingAllocatedBytes < 0L) {
+                return Double.NaN;
+            }
+            var allocatedBytes = SolverMetricUtil.getThreadAllocatedBytes(solverThreadId);
+            if (allocatedBytes < 0L) { // The solver thread has ended.
+                return Double.NaN;
+            }
+            return allocatedBytes - startingAllocatedBytes;
+        }
+
+        public double getGcPauseTimeMillis() {
+            return SolverMetricUtil.getGarbageCollectionTimeMillis() - startingGcPauseTimeMillis;
+        }
+
+    }
+
+}
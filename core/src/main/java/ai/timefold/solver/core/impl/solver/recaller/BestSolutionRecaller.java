@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.solver.recaller;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.BestSolutionRecordingMode;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
@@ -23,6 +24,12 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
+    private BestSolutionRecordingMode bestSolutionRecordingMode = BestSolutionRecordingMode.CLONE;
+    private IncrementalBestSolutionRecorder<Solution_> incrementalBestSolutionRecorder = null;
+    // Kept after solving ended, until the working solution is reset to the best solution.
+    private IncrementalBestSolutionRecorder<Solution_> endedIncrementalBestSolutionRecorder = null;
+    private boolean workingSolutionReverted = false;
+
     public void setAssertInitialScoreFromScratch(boolean assertInitialScoreFromScratch) {
         this.assertInitialScoreFromScratch = assertInitialScoreFromScratch;
     }
@@ -39,6 +46,10 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.solverEventSupport = solverEventSupport;
     }
 
+    public void setBestSolutionRecordingMode(BestSolutionRecordingMode bestSolutionRecordingMode) {
+        this.bestSolutionRecordingMode = bestSolutionRecordingMode;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -48,6 +59,12 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         // Starting bestSolution is already set by Solver.solve(Solution)
         var scoreDirector = solverScope.getScoreDirector();
+        endedIncrementalBestSolutionRecorder = null;
+        workingSolutionReverted = false;
+        if (bestSolutionRecordingMode == BestSolutionRecordingMode.INCREMENTAL) {
+            incrementalBestSolutionRecorder = new IncrementalBestSolutionRecorder<>(scoreDirector);
+            scoreDirector.setWorkingSolutionChangeListener(incrementalBestSolutionRecorder);
+        }
         InnerScore innerScore = scoreDirector.calculateScore();
         var score = innerScore.raw();
         solverScope.setBestScore(innerScore);
@@ -67,6 +84,54 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
     }
 
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        if (incrementalBestSolutionRecorder != null) {
+            // The best solution is returned to the user, so it must never change again.
+            solverScope.getScoreDirector().setWorkingSolutionChangeListener(null);
+            endedIncrementalBestSolutionRecorder = incrementalBestSolutionRecorder;
+            incrementalBestSolutionRecorder = null;
+        }
+    }
+
+    /**
+     * Called after {@link #solvingEnded(SolverScope)},
+     * when the solver restarts from the best solution, for example to apply problem changes.
+     * <p>
+     * With {@link BestSolutionRecordingMode#INCREMENTAL},
+     * this undoes the changes to the working solution since the best solution was recorded,
+     * so that the score director keeps its state and only updates what those changes affected.
+     * Otherwise, or if that is not possible, the working solution is replaced by a planning clone of the best solution.
+     * <p>
+     * The caller must update the best solution from the working solution before solving restarts.
+     *
+     * @param solverScope never null
+     */
+    public void resetWorkingSolutionToBestSolution(SolverScope<Solution_> solverScope) {
+        var recorder = endedIncrementalBestSolutionRecorder;
+        endedIncrementalBestSolutionRecorder = null;
+        workingSolutionReverted = recorder != null && recorder.isRecorded(solverScope.getBestSolution()) && recorder.revert();
+        if (!workingSolutionReverted) {
+            solverScope.setWorkingSolutionFromBestSolution();
+        }
+    }
+
+    /**
+     * Called when solving starts or restarts, before {@link #solvingStarted(SolverScope)},
+     * so that the working solution starts from the best solution.
+     *
+     * @param solverScope never null
+     */
+    public void startFromBestSolution(SolverScope<Solution_> solverScope) {
+        if (workingSolutionReverted) {
+            // The best solution was updated from the reverted working solution, so they are already equal;
+            // a planning clone would only throw away the state of the score director.
+            workingSolutionReverted = false;
+        } else {
+            solverScope.setWorkingSolutionFromBestSolution();
+        }
+    }
+
     public void processWorkingSolutionDuringConstructionHeuristicsStep(AbstractStepScope<Solution_> stepScope) {
         AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
         SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
@@ -86,7 +151,8 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            var newBestSolution = stepScope.createOrGetClonedSolution();
+            var newBestSolution = incrementalBestSolutionRecorder == null ? stepScope.createOrGetClonedSolution()
+                    : incrementalBestSolutionRecorder.record();
             var innerScore = InnerScore.withUnassignedCount(
                     solverScope.getSolutionDescriptor().<Score_> getScore(newBestSolution),
                     -stepScope.getScoreDirector().getWorkingInitScore());
@@ -118,26 +184,37 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
 
     public void updateBestSolutionAndFire(SolverScope<Solution_> solverScope) {
         updateBestSolutionWithoutFiring(solverScope);
-        solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+        fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
     }
 
     public void updateBestSolutionAndFireIfInitialized(SolverScope<Solution_> solverScope) {
         updateBestSolutionWithoutFiring(solverScope);
         if (solverScope.isBestSolutionInitialized()) {
-            solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+            fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
         }
     }
 
     private void updateBestSolutionAndFire(SolverScope<Solution_> solverScope, InnerScore<?> bestScore,
             Solution_ bestSolution) {
         updateBestSolutionWithoutFiring(solverScope, bestScore, bestSolution);
-        solverEventSupport.fireBestSolutionChanged(solverScope, bestSolution);
+        fireBestSolutionChanged(solverScope, bestSolution);
+    }
+
+    private void fireBestSolutionChanged(SolverScope<Solution_> solverScope, Solution_ bestSolution) {
+        if (incrementalBestSolutionRecorder != null && incrementalBestSolutionRecorder.isRecorded(bestSolution)) {
+            // The recorded solution changes with the next best solution, so the listeners need a clone of it.
+            solverEventSupport.fireBestSolutionChanged(solverScope, bestSolution,
+                    solverScope.getScoreDirector()::cloneSolution);
+        } else {
+            solverEventSupport.fireBestSolutionChanged(solverScope, bestSolution);
+        }
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
         // We clone the existing working solution to set it as the best current solution
-        var newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        var newBestSolution = incrementalBestSolutionRecorder == null ? solverScope.getScoreDirector().cloneWorkingSolution()
+                : incrementalBestSolutionRecorder.record();
         var newBestScore = solverScope.getSolutionDescriptor().<Score> getScore(newBestSolution);
         var innerScore = InnerScore.withUnassignedCount(newBestScore, -solverScope.getScoreDirector().getWorkingInitScore());
         updateBestSolutionWithoutFiring(solverScope, innerScore, newBestSolution);
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.solver.recaller;
 
+import ai.timefold.solver.core.config.solver.BestSolutionRecordingMode;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 
 public class BestSolutionRecallerFactory {
@@ -9,7 +10,13 @@ public class BestSolutionRecallerFactory {
     }
 
     public <Solution_> BestSolutionRecaller<Solution_> buildBestSolutionRecaller(EnvironmentMode environmentMode) {
+        return buildBestSolutionRecaller(environmentMode, BestSolutionRecordingMode.CLONE);
+    }
+
+    public <Solution_> BestSolutionRecaller<Solution_> buildBestSolutionRecaller(EnvironmentMode environmentMode,
+            BestSolutionRecordingMode bestSolutionRecordingMode) {
         BestSolutionRecaller<Solution_> bestSolutionRecaller = new BestSolutionRecaller<>();
+        bestSolutionRecaller.setBestSolutionRecordingMode(bestSolutionRecordingMode);
         if (environmentMode.isFullyAsserted()) {
             bestSolutionRecaller.setAssertInitialScoreFromScratch(true);
             bestSolutionRecaller.setAssertShadowVariablesAreNotStale(true);
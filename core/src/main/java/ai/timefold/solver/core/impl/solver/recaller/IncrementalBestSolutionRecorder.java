@@ -0,0 +1,299 @@
+package ai.timefold.solver.core.impl.solver.recaller;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.config.solver.BestSolutionRecordingMode;
+import ai.timefold.solver.core.impl.domain.lookup.LookUpManager;
+import ai.timefold.solver.core.impl.domain.solution.cloner.DeepCloningUtils;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.WorkingSolutionChangeListener;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Used by {@link BestSolutionRecordingMode#INCREMENTAL}.
+ * <p>
+ * Keeps a planning clone of the working solution, the recorded solution,
+ * and remembers which working entities changed since it was last brought up to date.
+ * {@link #record()} then copies the variables of only those entities into their counterparts in the recorded solution,
+ * which are found through their planning ID.
+ * Whenever the working solution changes in a way that entity changes do not describe,
+ * the recorded solution is dropped and the next {@link #record()} makes a new planning clone.
+ * A dropped recorded solution is never changed again,
+ * so that it can remain the best solution.
+ * <p>
+ * The same knowledge allows {@link #revert()} to bring the working solution back to the recorded solution,
+ * by only changing the entities which changed since.
+ * <p>
+ * Changes made while the score director knows they will be undone before the step ends are not reported,
+ * so {@link #record()} must not be called before they are undone.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+@NullMarked
+final class IncrementalBestSolutionRecorder<Solution_> implements WorkingSolutionChangeListener {
+
+    private final InnerScoreDirector<Solution_, ?> scoreDirector;
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final LookUpManager recordedLookUpManager;
+    private final Map<Class<?>, Boolean> deepClonedClassMap = new HashMap<>();
+    private final Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private @Nullable Solution_ recordedSolution = null;
+
+    IncrementalBestSolutionRecorder(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        this.scoreDirector = scoreDirector;
+        this.solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        this.recordedLookUpManager = new LookUpManager(solutionDescriptor.getLookUpStrategyResolver());
+    }
+
+    @Override
+    public void entityChanged(Object entity) {
+        if (recordedSolution != null) {
+            changedEntitySet.add(entity);
+        }
+    }
+
+    @Override
+    public void solutionChanged() {
+        recordedSolution = null;
+        changedEntitySet.clear();
+        recordedLookUpManager.reset();
+    }
+
+    boolean isRecorded(Solution_ solution) {
+        return solution == recordedSolution;
+    }
+
+    /**
+     * @return the recorded solution, equal to the working solution, including its score;
+     *         the same instance as the previous call, unless the recorded solution was dropped in the meantime
+     */
+    <Score_ extends Score<Score_>> Solution_ record() {
+        if (recordedSolution == null) {
+            return recordFully();
+        }
+        // Find all the copies first, so that a recorded solution which is dropped halfway through is left untouched.
+        var variableCopyList = new ArrayList<VariableCopy<Solution_>>();
+        for (var entity : changedEntitySet) {
+            var recordedEntity = recordedLookUpManager.lookUpWorkingObjectOrReturnNull(entity);
+            if (recordedEntity == null || !findVariableCopies(entity, recordedEntity, variableCopyList)) {
+                return recordFully();
+            }
+        }
+        for (var variableCopy : variableCopyList) {
+            variableCopy.apply();
+        }
+        changedEntitySet.clear();
+        solutionDescriptor.setScore(recordedSolution, solutionDescriptor.<Score_> getScore(scoreDirector.getWorkingSolution()));
+        return recordedSolution;
+    }
+
+    /**
+     * Undoes the changes to the working solution since the last {@link #record()},
+     * so that the working solution equals the recorded solution again.
+     * Only the genuine variables of the changed entities are changed back,
+     * so that the score director only needs to update what depends on them.
+     * Must not be called while this is the {@link WorkingSolutionChangeListener} of the score director.
+     *
+     * @return false if the changes cannot be undone in place, in which case the working solution is left untouched
+     */
+    boolean revert() {
+        if (recordedSolution == null) {
+            return false;
+        }
+        // Find all the changes first, so that nothing is changed if any of them is impossible.
+        var basicVariableChangeList = new ArrayList<BasicVariableChange<Solution_>>();
+        var listVariableChangeList = new ArrayList<ListVariableChange<Solution_>>();
+        for (var entity : changedEntitySet) {
+            var recordedEntity = recordedLookUpManager.lookUpWorkingObjectOrReturnNull(entity);
+            if (recordedEntity == null) {
+                return false;
+            }
+            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
+                if (variableDescriptor instanceof ListVariableDescriptor<Solution_> listVariableDescriptor) {
+                    var change = findListVariableChange(listVariableDescriptor, entity, recordedEntity);
+                    if (change == null) {
+                        return false;
+                    } else if (!change.removedElementList().isEmpty() || !change.addedElementList().isEmpty()) {
+                        listVariableChangeList.add(change);
+                    }
+                } else {
+                    var recordedValue = variableDescriptor.getValue(recordedEntity);
+                    var value = toWorking(recordedValue);
+                    if (recordedValue != null && value == null) {
+                        return false;
+                    }
+                    if (value != variableDescriptor.getValue(entity)) {
+                        basicVariableChangeList.add(new BasicVariableChange<>(variableDescriptor, entity, value));
+                    }
+                }
+            }
+        }
+        // Elements which are no longer in any of the changed lists were unassigned in the recorded solution.
+        var unassignedElementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var change : listVariableChangeList) {
+            unassignedElementSet.addAll(change.removedElementList());
+        }
+        for (var change : listVariableChangeList) {
+            change.addedElementList().forEach(unassignedElementSet::remove);
+        }
+        for (var change : basicVariableChangeList) {
+            scoreDirector.beforeVariableChanged(change.variableDescriptor(), change.entity());
+            change.variableDescriptor().setValue(change.entity(), change.value());
+            scoreDirector.afterVariableChanged(change.variableDescriptor(), change.entity());
+        }
+        for (var change : listVariableChangeList) {
+            for (var element : change.removedElementList()) {
+                if (unassignedElementSet.contains(element)) {
+                    scoreDirector.beforeListVariableElementUnassigned(change.variableDescriptor(), element);
+                }
+            }
+            scoreDirector.beforeListVariableChanged(change.variableDescriptor(), change.entity(), change.fromIndex(),
+                    change.fromIndex() + change.removedElementList().size());
+        }
+        for (var change : listVariableChangeList) {
+            var elementList = change.variableDescriptor().getValue(change.entity());
+            elementList.subList(change.fromIndex(), elementList.size()).clear();
+            elementList.addAll(change.addedElementList());
+        }
+        for (var change : listVariableChangeList) {
+            scoreDirector.afterListVariableChanged(change.variableDescriptor(), change.entity(), change.fromIndex(),
+                    change.fromIndex() + change.addedElementList().size());
+            for (var element : change.removedElementList()) {
+                if (unassignedElementSet.contains(element)) {
+                    scoreDirector.afterListVariableElementUnassigned(change.variableDescriptor(), element);
+                }
+            }
+        }
+        changedEntitySet.clear();
+        scoreDirector.triggerVariableListeners();
+        return true;
+    }
+
+    private @Nullable ListVariableChange<Solution_> findListVariableChange(
+            ListVariableDescriptor<Solution_> variableDescriptor, Object entity, Object recordedEntity) {
+        var elementList = variableDescriptor.getValue(entity);
+        var recordedElementList = variableDescriptor.getValue(recordedEntity);
+        var revertedElementList = new ArrayList<>(recordedElementList.size());
+        for (var recordedElement : recordedElementList) {
+            var element = toWorking(recordedElement);
+            if (element == null) {
+                return null;
+            }
+            revertedElementList.add(element);
+        }
+        // Everything before the first difference stays as it is, which is where the pinned elements are.
+        var fromIndex = 0;
+        var commonSize = Math.min(elementList.size(), revertedElementList.size());
+        while (fromIndex < commonSize && elementList.get(fromIndex) == revertedElementList.get(fromIndex)) {
+            fromIndex++;
+        }
+        return new ListVariableChange<>(variableDescriptor, entity, fromIndex,
+                List.copyOf(elementList.subList(fromIndex, elementList.size())),
+                List.copyOf(revertedElementList.subList(fromIndex, revertedElementList.size())));
+    }
+
+    private @Nullable Object toWorking(@Nullable Object recordedValue) {
+        if (recordedValue == null || !deepClonedClassMap.computeIfAbsent(recordedValue.getClass(),
+                clazz -> DeepCloningUtils.isClassDeepCloned(solutionDescriptor, clazz))) {
+            return recordedValue;
+        }
+        return scoreDirector.lookUpWorkingObjectOrReturnNull(recordedValue);
+    }
+
+    private Solution_ recordFully() {
+        solutionChanged();
+        var solution = scoreDirector.cloneWorkingSolution();
+        solutionDescriptor.visitAll(solution, recordedLookUpManager::addWorkingObject);
+        recordedSolution = solution;
+        return solution;
+    }
+
+    /**
+     * Does not change the recorded entity yet.
+     *
+     * @param variableCopyList receives a copy for every variable of the entity
+     * @return false if the variables cannot be copied in place
+     */
+    @SuppressWarnings("unchecked")
+    private boolean findVariableCopies(Object entity, Object recordedEntity,
+            List<VariableCopy<Solution_>> variableCopyList) {
+        var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+        for (var variableDescriptor : entityDescriptor.getVariableDescriptorMap().values()) {
+            var value = variableDescriptor.getValue(entity);
+            if (value instanceof Collection<?> collection) {
+                var recordedCollection = (Collection<Object>) variableDescriptor.getValue(recordedEntity);
+                if (recordedCollection == null || recordedCollection == collection) {
+                    return false;
+                }
+                var recordedElementList = new ArrayList<Object>(collection.size());
+                for (var element : collection) {
+                    var recordedElement = toRecorded(element);
+                    if (element != null && recordedElement == null) {
+                        return false;
+                    }
+                    recordedElementList.add(recordedElement);
+                }
+                variableCopyList.add(new VariableCopy<>(variableDescriptor, recordedEntity, null, recordedElementList));
+            } else {
+                var recordedValue = toRecorded(value);
+                if (value != null && recordedValue == null) {
+                    return false;
+                }
+                variableCopyList.add(new VariableCopy<>(variableDescriptor, recordedEntity, recordedValue, null));
+            }
+        }
+        return true;
+    }
+
+    private @Nullable Object toRecorded(@Nullable Object value) {
+        if (value == null || !deepClonedClassMap.computeIfAbsent(value.getClass(),
+                clazz -> DeepCloningUtils.isClassDeepCloned(solutionDescriptor, clazz))) {
+            return value;
+        }
+        return recordedLookUpManager.lookUpWorkingObjectOrReturnNull(value);
+    }
+
+    /**
+     * @param recordedElementList null unless the variable holds a collection, in which case its recorded elements
+     */
+    private record VariableCopy<Solution_>(VariableDescriptor<Solution_> variableDescriptor, Object recordedEntity,
+            @Nullable Object recordedValue, @Nullable List<Object> recordedElementList) {
+
+        @SuppressWarnings("unchecked")
+        void apply() {
+            if (recordedElementList != null) {
+                var recordedCollection = (Collection<Object>) variableDescriptor.getValue(recordedEntity);
+                recordedCollection.clear();
+                recordedCollection.addAll(recordedElementList);
+            } else {
+                variableDescriptor.setValue(recordedEntity, recordedValue);
+            }
+        }
+
+    }
+
+    private record BasicVariableChange<Solution_>(GenuineVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            @Nullable Object value) {
+    }
+
+    private record ListVariableChange<Solution_>(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, List<Object> removedElementList, List<Object> addedElementList) {
+    }
+
+}
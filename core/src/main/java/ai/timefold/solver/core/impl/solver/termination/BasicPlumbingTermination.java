@@ -15,6 +15,10 @@ import org.jspecify.annotations.NullMarked;
 /**
  * Concurrency notes:
  * Condition predicate on ({@link #problemChangeQueue} is not empty or {@link #terminatedEarly} is true).
+ * <p>
+ * {@link #isSolverTerminated(SolverScope)} is called after every move, so it does not take the lock;
+ * {@link #terminatedEarly} is volatile and {@link #problemChangeQueue} is thread-safe on its own.
+ * Every write still happens under the lock, so that {@link #waitForRestartSolverDecision()} can not miss a wake-up.
  */
 @NullMarked
 public final class BasicPlumbingTermination<Solution_>
@@ -24,7 +28,7 @@ public final class BasicPlumbingTermination<Solution_>
     private final boolean daemon;
     private final BlockingQueue<ProblemChangeAdapter<Solution_>> problemChangeQueue = new LinkedBlockingQueue<>();
 
-    private boolean terminatedEarly = false;
+    private volatile boolean terminatedEarly = false;
     private boolean problemChangesBeingProcessed = false;
 
     public BasicPlumbingTermination(boolean daemon) {
@@ -55,7 +59,7 @@ public final class BasicPlumbingTermination<Solution_>
     /**
      * This method is thread-safe.
      */
-    public synchronized boolean isTerminateEarly() {
+    public boolean isTerminateEarly() {
         return terminatedEarly;
     }
 
@@ -108,18 +112,24 @@ public final class BasicPlumbingTermination<Solution_>
     }
 
     @Override
-    public synchronized boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
+    public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
         // Destroying a thread pool with solver threads will only cause it to interrupt those solver threads,
         // it won't call Solver.terminateEarly()
-        if (Thread.currentThread().isInterrupted() // Does not clear the interrupted flag
-                // Avoid duplicate log message because this method is called twice:
-                // - in the phase step loop (every phase termination bridges to the solver termination)
-                // - in the solver's phase loop
-                && !terminatedEarly) {
+        if (Thread.currentThread().isInterrupted()) { // Does not clear the interrupted flag
+            terminateEarlyOnInterrupt();
+        }
+        return terminatedEarly || !problemChangeQueue.isEmpty();
+    }
+
+    private synchronized void terminateEarlyOnInterrupt() {
+        // Avoid duplicate log message because isSolverTerminated() is called twice:
+        // - in the phase step loop (every phase termination bridges to the solver termination)
+        // - in the solver's phase loop
+        if (!terminatedEarly) {
             logger.info("The solver thread got interrupted, so this solver is terminating early.");
             terminatedEarly = true;
+            notifyAll();
         }
-        return terminatedEarly || !problemChangeQueue.isEmpty();
     }
 
     @Override
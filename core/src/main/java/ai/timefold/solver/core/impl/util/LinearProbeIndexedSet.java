@@ -0,0 +1,242 @@
+package ai.timefold.solver.core.impl.util;
+
+import java.util.Arrays;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A set which gives every element a small, stable index,
+ * so that the users of the set can keep the data of each element in primitive arrays indexed by it,
+ * instead of boxing that data in a map entry.
+ * <p>
+ * An index is handed out when the element is added, and stays the same until the element is removed,
+ * after which the index is handed out again to a later element.
+ * All indexes lie below {@link #indexCapacity()}.
+ * <p>
+ * The indexes are found through an open-addressing hash table with linear probing,
+ * which uses backward shift deletion so that lookups never need tombstones.
+ * Elements are compared with {@link Object#equals(Object)} and {@link Object#hashCode()},
+ * just like in a {@link java.util.HashSet}; an element may be null.
+ *
+ * @param <Element_> the type of the elements
+ */
+@NullMarked
+public final class LinearProbeIndexedSet<Element_> {
+
+    /**
+     * Returned by {@link #indexOf(Object)} when the element is not in the set.
+     */
+    public static final int MISSING = -1;
+
+    private static final Object NULL_ELEMENT = new Object();
+    private static final int MINIMUM_CAPACITY = 16;
+
+    // Indexed by the index of the element; null where the index is free.
+    private @Nullable Object[] elements;
+    private int[] hashes;
+    private int usedIndexCount = 0;
+    private int[] freeIndexes;
+    private int freeIndexCount = 0;
+    private int size = 0;
+
+    // Indexed by the slot in the hash table; MISSING where the slot is empty.
+    private int[] table;
+
+    public LinearProbeIndexedSet() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize the expected number of elements, at least 0
+     */
+    public LinearProbeIndexedSet(int expectedSize) {
+        var capacity = capacityFor(expectedSize);
+        elements = new Object[capacity];
+        hashes = new int[capacity];
+        freeIndexes = new int[capacity];
+        // Keep the load factor at or below 0.5, so that probe sequences stay short.
+        table = newTable(capacity * 2);
+    }
+
+    private static int capacityFor(int size) {
+        var capacity = MINIMUM_CAPACITY;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int[] newTable(int capacity) {
+        var newTable = new int[capacity];
+        Arrays.fill(newTable, MISSING);
+        return newTable;
+    }
+
+    private static Object mask(@Nullable Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    private static int hash(Object maskedElement) {
+        var hashCode = maskedElement.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * @param element may be null
+     * @return the index of the element, or {@link #MISSING} if it is not in the set
+     */
+    public int indexOf(@Nullable Object element) {
+        var maskedElement = mask(element);
+        var hash = hash(maskedElement);
+        var tableMask = table.length - 1;
+        var slot = hash & tableMask;
+        while (true) {
+            var index = table[slot];
+            if (index == MISSING) {
+                return MISSING;
+            }
+            var existing = elements[index];
+            if (existing == maskedElement || (hashes[index] == hash && maskedElement.equals(existing))) {
+                return index;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+    }
+
+    /**
+     * Adds an element which is not yet in the set.
+     * The returned index either was handed out before and has been freed since,
+     * or equals the {@link #indexCapacity()} from before this call.
+     *
+     * @param element may be null, never already in the set
+     * @return the index of the element
+     */
+    public int add(@Nullable Element_ element) {
+        int index;
+        if (freeIndexCount > 0) {
+            index = freeIndexes[--freeIndexCount];
+        } else {
+            if (usedIndexCount == elements.length) {
+                var newCapacity = elements.length << 1;
+                elements = Arrays.copyOf(elements, newCapacity);
+                hashes = Arrays.copyOf(hashes, newCapacity);
+                freeIndexes = Arrays.copyOf(freeIndexes, newCapacity);
+            }
+            index = usedIndexCount++;
+        }
+        var maskedElement = mask(element);
+        elements[index] = maskedElement;
+        hashes[index] = hash(maskedElement);
+        size++;
+        if (size * 2 > table.length) {
+            var oldTable = table;
+            table = newTable(oldTable.length << 1);
+            for (var oldIndex : oldTable) {
+                if (oldIndex != MISSING) {
+                    insertIntoTable(oldIndex);
+                }
+            }
+        }
+        insertIntoTable(index);
+        return index;
+    }
+
+    private void insertIntoTable(int index) {
+        var tableMask = table.length - 1;
+        var slot = hashes[index] & tableMask;
+        while (table[slot] != MISSING) {
+            slot = (slot + 1) & tableMask;
+        }
+        table[slot] = index;
+    }
+
+    /**
+     * Removes the element with the given index, which frees the index.
+     *
+     * @param index the index of an element in the set
+     */
+    public void removeAt(int index) {
+        var tableMask = table.length - 1;
+        var slot = hashes[index] & tableMask;
+        while (table[slot] != index) {
+            slot = (slot + 1) & tableMask;
+        }
+        var emptySlot = slot;
+        var nextSlot = (slot + 1) & tableMask;
+        while (table[nextSlot] != MISSING) {
+            var homeSlot = hashes[table[nextSlot]] & tableMask;
+            // Move the index back, unless its home slot lies cyclically in (emptySlot, nextSlot].
+            if (((nextSlot - homeSlot) & tableMask) >= ((nextSlot - emptySlot) & tableMask)) {
+                table[emptySlot] = table[nextSlot];
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & tableMask;
+        }
+        table[emptySlot] = MISSING;
+        elements[index] = null;
+        freeIndexes[freeIndexCount++] = index;
+        size--;
+    }
+
+    /**
+     * @param index at least 0, below {@link #indexCapacity()}
+     * @return true if the index belongs to an element in the set
+     */
+    public boolean isInUse(int index) {
+        return elements[index] != null;
+    }
+
+    /**
+     * @param index the index of an element in the set
+     * @return the element, which may be null
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable Element_ get(int index) {
+        var maskedElement = elements[index];
+        return maskedElement == NULL_ELEMENT ? null : (Element_) maskedElement;
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return every index handed out so far lies below this
+     */
+    public int indexCapacity() {
+        return usedIndexCount;
+    }
+
+    /**
+     * Removes all elements and frees all indexes, but keeps the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, usedIndexCount, null);
+        usedIndexCount = 0;
+        freeIndexCount = 0;
+        size = 0;
+        Arrays.fill(table, MISSING);
+    }
+
+    @Override
+    public String toString() {
+        var out = new StringBuilder("[");
+        var isFirst = true;
+        for (var index = 0; index < usedIndexCount; index++) {
+            if (isInUse(index)) {
+                if (isFirst) {
+                    isFirst = false;
+                } else {
+                    out.append(", ");
+                }
+                out.append(get(index));
+            }
+        }
+        return out.append("]").toString();
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
@@ -33,6 +34,10 @@ import ai.timefold.solver.core.testdomain.list.shadowhistory.TestdataListEntityW
 import ai.timefold.solver.core.testdomain.list.shadowhistory.TestdataListSolutionWithShadowHistory;
 import ai.timefold.solver.core.testdomain.list.shadowhistory.TestdataListValueWithShadowHistory;
 import ai.timefold.solver.core.testdomain.list.shadowhistory.TestdataListWithShadowHistoryIncrementalScoreCalculator;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListConstraintProvider;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListEntity;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListSolution;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListValue;
 import ai.timefold.solver.core.testdomain.multivar.TestdataMultiVarEntity;
 import ai.timefold.solver.core.testdomain.multivar.TestdataMultiVarSolution;
 import ai.timefold.solver.core.testdomain.multivar.TestdataMultivarIncrementalScoreCalculator;
@@ -103,6 +108,12 @@ public class SolutionManagerTest {
                     .withScoreDirectorFactory(
                             new ScoreDirectorFactoryConfig().withIncrementalScoreCalculatorClass(
                                     TestdataListWithShadowHistoryIncrementalScoreCalculator.class)));
+    public static final SolverFactory<TestdataAllowsUnassignedValuesListSolution> SOLVER_FACTORY_LIST_UNASSIGNED =
+            SolverFactory.create(new SolverConfig()
+                    .withSolutionClass(TestdataAllowsUnassignedValuesListSolution.class)
+                    .withEntityClasses(TestdataAllowsUnassignedValuesListEntity.class,
+                            TestdataAllowsUnassignedValuesListValue.class)
+                    .withConstraintProviderClass(TestdataAllowsUnassignedValuesListConstraintProvider.class));
     public static final SolverFactory<TestdataPinnedWithIndexListSolution> SOLVER_FACTORY_LIST_PINNED = SolverFactory.create(
             new SolverConfig()
                     .withSolutionClass(TestdataPinnedWithIndexListSolution.class)
@@ -534,6 +545,165 @@ public class SolutionManagerTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void sessionSynchronize(SolutionManagerSource SolutionManagerSource) {
+        var v1 = new TestdataInverseRelationValue("v1");
+        var v2 = new TestdataInverseRelationValue("v2");
+        var e1 = new TestdataInverseRelationEntity("e1", v1);
+        var e2 = new TestdataInverseRelationEntity("e2", v1);
+        var e3 = new TestdataInverseRelationEntity("e3");
+        var solution = new TestdataInverseRelationSolution("s");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(new ArrayList<>(List.of(e1, e2, e3)));
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_INVERSE_RELATION);
+        try (var session = solutionManager.openSession(solution)) {
+            assertThat(session.update()).isEqualTo(SimpleScore.of(-104));
+            var workingSolution = session.getWorkingSolution();
+            assertThat(workingSolution).isNotSameAs(solution);
+
+            e2.setValue(v2);
+            e3.setValue(v2);
+            session.synchronize(solution);
+            assertThat(session.getWorkingSolution()).isSameAs(workingSolution);
+            assertThat(workingSolution.getValueList().get(1).getEntities())
+                    .containsExactlyInAnyOrder(workingSolution.getEntityList().get(1),
+                            workingSolution.getEntityList().get(2));
+            var scoreAnalysis = session.analyze();
+            assertThat(scoreAnalysis.score())
+                    .isEqualTo(SimpleScore.of(-5))
+                    .isEqualTo(solutionManager.update(solution));
+            assertThat(session.explain().getScore()).isEqualTo(SimpleScore.of(-5));
+
+            // Adding an entity cannot be done incrementally and starts over from a new clone.
+            solution.getEntityList().add(new TestdataInverseRelationEntity("e4", v1));
+            session.synchronize(solution);
+            assertThat(session.getWorkingSolution()).isNotSameAs(workingSolution);
+            assertThat(session.update())
+                    .isEqualTo(SimpleScore.of(-8))
+                    .isEqualTo(solutionManager.update(solution));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void sessionApplyChange(SolutionManagerSource SolutionManagerSource) {
+        var v1 = new TestdataInverseRelationValue("v1");
+        var v2 = new TestdataInverseRelationValue("v2");
+        var e1 = new TestdataInverseRelationEntity("e1", v1);
+        var e2 = new TestdataInverseRelationEntity("e2", v1);
+        var solution = new TestdataInverseRelationSolution("s");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2));
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_INVERSE_RELATION);
+        var session = solutionManager.openSession(solution);
+        assertThat(session.analyze(ScoreAnalysisFetchPolicy.FETCH_MATCH_COUNT).score()).isEqualTo(SimpleScore.of(-4));
+
+        session.applyChange((workingSolution, problemChangeDirector) -> problemChangeDirector.changeVariable(e2, "value",
+                workingEntity -> workingEntity.setValue(problemChangeDirector.lookUpWorkingObjectOrFail(v2))));
+        assertThat(session.update()).isEqualTo(SimpleScore.of(-2));
+        assertThat(e2.getValue()).isSameAs(v1);
+
+        session.close();
+        assertThatThrownBy(session::update)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void sessionSynchronizeList(SolutionManagerSource SolutionManagerSource) {
+        var a0 = new TestdataListValueWithShadowHistory("a0");
+        var a1 = new TestdataListValueWithShadowHistory("a1");
+        var a = new TestdataListEntityWithShadowHistory("a", a0, a1);
+        var b0 = new TestdataListValueWithShadowHistory("b0");
+        var b1 = new TestdataListValueWithShadowHistory("b1");
+        var b = new TestdataListEntityWithShadowHistory("b", b0, b1);
+        var c = new TestdataListEntityWithShadowHistory("c");
+        var solution = new TestdataListSolutionWithShadowHistory();
+        solution.setEntityList(Arrays.asList(a, b, c));
+        solution.setValueList(Arrays.asList(a0, a1, b0, b1));
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_LIST);
+        try (var session = solutionManager.openSession(solution)) {
+            session.update();
+            var workingSolution = session.getWorkingSolution();
+
+            // Swap the tails of both lists and move the head of the first list to the last.
+            a.getValueList().clear();
+            a.getValueList().add(b1);
+            b.getValueList().set(1, a1);
+            c.getValueList().add(a0);
+            session.synchronize(solution);
+            assertThat(session.getWorkingSolution()).isSameAs(workingSolution);
+            assertThat(session.update()).isEqualTo(solutionManager.update(solution));
+
+            var workingEntityList = workingSolution.getEntityList();
+            var workingValueList = workingSolution.getValueList();
+            assertSoftly(softly -> {
+                assertShadowedListValue(softly, workingValueList.get(0), workingEntityList.get(2), 0, null, null);
+                assertShadowedListValue(softly, workingValueList.get(1), workingEntityList.get(1), 1,
+                        workingValueList.get(2), null);
+                assertShadowedListValue(softly, workingValueList.get(2), workingEntityList.get(1), 0, null,
+                        workingValueList.get(1));
+                assertShadowedListValue(softly, workingValueList.get(3), workingEntityList.get(0), 0, null, null);
+            });
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void sessionSynchronizeListUnassign(SolutionManagerSource SolutionManagerSource) {
+        var v0 = new TestdataAllowsUnassignedValuesListValue("v0");
+        var v1 = new TestdataAllowsUnassignedValuesListValue("v1");
+        var v2 = new TestdataAllowsUnassignedValuesListValue("v2");
+        var v3 = new TestdataAllowsUnassignedValuesListValue("v3");
+        var a = new TestdataAllowsUnassignedValuesListEntity("a", v0, v1);
+        var b = new TestdataAllowsUnassignedValuesListEntity("b", v2);
+        var solution = new TestdataAllowsUnassignedValuesListSolution();
+        solution.setEntityList(Arrays.asList(a, b));
+        solution.setValueList(Arrays.asList(v0, v1, v2, v3));
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_LIST_UNASSIGNED);
+        try (var session = solutionManager.openSession(solution)) {
+            assertThat(session.update()).isEqualTo(SimpleScore.of(-4));
+            var workingSolution = session.getWorkingSolution();
+
+            // Unassign v1 and assign v3, which was unassigned.
+            a.getValueList().remove(v1);
+            b.getValueList().add(v3);
+            session.synchronize(solution);
+            assertThat(session.getWorkingSolution()).isSameAs(workingSolution);
+            assertThat(session.update())
+                    .isEqualTo(SimpleScore.of(-4))
+                    .isEqualTo(solutionManager.update(solution));
+
+            var workingEntityList = workingSolution.getEntityList();
+            var workingValueList = workingSolution.getValueList();
+            assertSoftly(softly -> {
+                var workingV1 = workingValueList.get(1);
+                softly.assertThat(workingV1.getEntity()).isNull();
+                softly.assertThat(workingV1.getIndex()).isNull();
+                softly.assertThat(workingV1.getPrevious()).isNull();
+                softly.assertThat(workingV1.getNext()).isNull();
+                var workingV3 = workingValueList.get(3);
+                softly.assertThat(workingV3.getEntity()).isSameAs(workingEntityList.get(1));
+                softly.assertThat(workingV3.getIndex()).isEqualTo(1);
+                softly.assertThat(workingV3.getPrevious()).isSameAs(workingValueList.get(2));
+            });
+
+            // Unassign everything from one list, without assigning anything.
+            b.getValueList().clear();
+            session.synchronize(solution);
+            assertThat(session.update())
+                    .isEqualTo(SimpleScore.of(-4))
+                    .isEqualTo(solutionManager.update(solution));
+            assertThat(workingValueList.get(2).getEntity()).isNull();
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(SolutionManagerSource.class)
     void recommendFit(SolutionManagerSource SolutionManagerSource) {
@@ -631,6 +801,30 @@ public class SolutionManagerTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void recommendAssignmentInParallel(SolutionManagerSource SolutionManagerSource) {
+        int valueSize = 3;
+        var solution = TestdataShadowedSolution.generateSolution(valueSize, 3);
+        var uninitializedEntity = solution.getEntityList().get(2);
+        var unassignedValue = uninitializedEntity.getValue();
+        uninitializedEntity.setValue(null);
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_SHADOWED);
+        var recommendationList = solutionManager.recommendAssignment(solution, uninitializedEntity,
+                TestdataShadowedEntity::getValue, ScoreAnalysisFetchPolicy.FETCH_ALL,
+                RecommendationPolicy.DEFAULT.withThreadCount(2));
+
+        // Same order as when evaluated on a single thread.
+        assertThat(recommendationList)
+                .map(RecommendedAssignment::proposition)
+                .containsExactly(unassignedValue, solution.getValueList().get(0), solution.getValueList().get(1));
+        assertThat(recommendationList)
+                .map(recommendation -> (Object) recommendation.scoreAnalysisDiff().score())
+                .containsExactly(SimpleScore.of(-1), SimpleScore.of(-3), SimpleScore.of(-3));
+        assertThat(uninitializedEntity.getValue()).isNull();
+    }
+
     @ParameterizedTest
     @EnumSource(SolutionManagerSource.class)
     void recommendAssignmentAlreadyAssigned(SolutionManagerSource SolutionManagerSource) {
@@ -1663,6 +1857,52 @@ public class SolutionManagerTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void recommendAssignmentListInParallel(SolutionManagerSource SolutionManagerSource) {
+        var a = new TestdataListEntityWithShadowHistory("a");
+        var b0 = new TestdataListValueWithShadowHistory("b0");
+        var b = new TestdataListEntityWithShadowHistory("b", b0);
+        var c0 = new TestdataListValueWithShadowHistory("c0");
+        var c1 = new TestdataListValueWithShadowHistory("c1");
+        var c = new TestdataListEntityWithShadowHistory("c", c0, c1);
+        var solution = new TestdataListSolutionWithShadowHistory();
+        var uninitializedValue = new TestdataListValueWithShadowHistory("uninitialized");
+        solution.setEntityList(Arrays.asList(a, b, c));
+        solution.setValueList(Arrays.asList(b0, c0, c1, uninitializedValue));
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_LIST);
+        Function<TestdataListValueWithShadowHistory, Pair<String, Integer>> propositionFunction =
+                v -> new Pair<>(v.getEntity().getCode(), v.getIndex());
+        var sequentialList = solutionManager.recommendAssignment(solution, uninitializedValue, propositionFunction)
+                .stream()
+                .map(recommendation -> recommendation.proposition() + "@" + recommendation.scoreAnalysisDiff().score())
+                .toList();
+        assertThat(sequentialList).hasSize(6);
+
+        var parallelList = solutionManager.recommendAssignment(solution, uninitializedValue, propositionFunction,
+                ScoreAnalysisFetchPolicy.FETCH_ALL, RecommendationPolicy.DEFAULT.withThreadCount(4))
+                .stream()
+                .map(recommendation -> recommendation.proposition() + "@" + recommendation.scoreAnalysisDiff().score())
+                .toList();
+        assertThat(parallelList).containsExactlyElementsOf(sequentialList);
+
+        var limitedList = solutionManager.recommendAssignment(solution, uninitializedValue, propositionFunction,
+                ScoreAnalysisFetchPolicy.FETCH_ALL,
+                RecommendationPolicy.DEFAULT.withThreadCount(2).withMaximumRecommendationCount(2))
+                .stream()
+                .map(recommendation -> recommendation.proposition() + "@" + recommendation.scoreAnalysisDiff().score())
+                .toList();
+        assertThat(limitedList).containsExactlyElementsOf(sequentialList.subList(0, 2));
+
+        // Ensure the original solution is in its original state.
+        assertSoftly(softly -> {
+            softly.assertThat(uninitializedValue.getEntity()).isNull();
+            softly.assertThat(a.getValueList()).isEmpty();
+            softly.assertThat(c.getValueList()).containsExactly(c0, c1);
+        });
+    }
+
     @ParameterizedTest
     @EnumSource(SolutionManagerSource.class)
     void recommendAssignmentList(SolutionManagerSource SolutionManagerSource) {
@@ -6,6 +6,7 @@ import static ai.timefold.solver.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
 import static ai.timefold.solver.core.testutil.PlannerAssert.assertSolutionInitialized;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
@@ -24,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
@@ -984,6 +986,83 @@ class SolverManagerTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithPriority() throws InterruptedException, ExecutionException {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        var blockingJobStarted = new CountDownLatch(1);
+        var blockingJobReleased = new CountDownLatch(1);
+        var startedProblemIdList = Collections.synchronizedList(new ArrayList<Long>());
+        Function<Long, TestdataSolution> problemFinder = problemId -> {
+            startedProblemIdList.add(problemId);
+            return PlannerTestUtils.generateTestdataSolution("s" + problemId);
+        };
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var blockingJob = solverManager.solveBuilder()
+                    .withProblemId(0L)
+                    .withProblemFinder(problemId -> {
+                        blockingJobStarted.countDown();
+                        try {
+                            blockingJobReleased.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("Interrupted waiting.", e);
+                        }
+                        return problemFinder.apply(problemId);
+                    })
+                    .run();
+            blockingJobStarted.await();
+            // These jobs wait until the blocking job is done.
+            var jobList = List.of(
+                    solverManager.solveBuilder().withProblemId(1L).withProblemFinder(problemFinder).withPriority(5L).run(),
+                    solverManager.solveBuilder().withProblemId(2L).withProblemFinder(problemFinder).withPriority(1L).run(),
+                    solverManager.solveBuilder().withProblemId(3L).withProblemFinder(problemFinder).run(),
+                    solverManager.solveBuilder().withProblemId(4L).withProblemFinder(problemFinder).withPriority(1L).run());
+            blockingJobReleased.countDown();
+            assertSolutionInitialized(blockingJob.getFinalBestSolution());
+            for (var job : jobList) {
+                assertSolutionInitialized(job.getFinalBestSolution());
+            }
+            assertThat(startedProblemIdList).containsExactly(0L, 3L, 2L, 4L, 1L);
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void setParallelSolverCount() throws InterruptedException, ExecutionException {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        var blockingJobStarted = new CountDownLatch(1);
+        var blockingJobReleased = new CountDownLatch(1);
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var blockingJob = solverManager.solveBuilder()
+                    .withProblemId(1L)
+                    .withProblemFinder(problemId -> {
+                        blockingJobStarted.countDown();
+                        try {
+                            blockingJobReleased.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("Interrupted waiting.", e);
+                        }
+                        return PlannerTestUtils.generateTestdataSolution("s1");
+                    })
+                    .run();
+            blockingJobStarted.await();
+            var waitingJob = solverManager.solve(2L, PlannerTestUtils.generateTestdataSolution("s2"));
+            assertThat(waitingJob.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+
+            // The waiting job no longer waits for the blocking job.
+            solverManager.setParallelSolverCount(2);
+            assertSolutionInitialized(waitingJob.getFinalBestSolution());
+            assertThat(blockingJob.getSolverStatus()).isNotEqualTo(NOT_SOLVING);
+
+            blockingJobReleased.countDown();
+            assertSolutionInitialized(blockingJob.getFinalBestSolution());
+            assertThatIllegalArgumentException().isThrownBy(() -> solverManager.setParallelSolverCount(0))
+                    .withMessageContaining("parallelSolverCount (0)");
+        }
+    }
+
     private void assertInitializedJobs(List<SolverJob<TestdataSolution, Long>> jobs)
             throws InterruptedException, ExecutionException {
         for (var job : jobs) {
@@ -1294,4 +1373,40 @@ class SolverManagerTest {
             assertThat(result).isNotNull();
         }
     }
+
+    public static class ConsumerThreadFactory implements ThreadFactory {
+        private static final String THREAD_NAME = "ConsumerThread";
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            return new Thread(runnable, THREAD_NAME);
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void solveBatch_sharedConsumerThread() throws ExecutionException, InterruptedException {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        var solverManagerConfig = new SolverManagerConfig()
+                .withParallelSolverCount("2")
+                .withConsumerThreadCount("1")
+                .withConsumerThreadFactoryClass(ConsumerThreadFactory.class);
+        try (var solverManager = createSolverManager(solverConfig, solverManagerConfig)) {
+            var consumerThreadNameSet = ConcurrentHashMap.<String> newKeySet();
+            var solverJobList = new ArrayList<SolverJob<TestdataSolution, Long>>();
+            for (var problemId = 1L; problemId <= 4L; problemId++) {
+                solverJobList.add(solverManager.solveBuilder()
+                        .withProblemId(problemId)
+                        .withProblem(PlannerTestUtils.generateTestdataSolution("s" + problemId))
+                        .withBestSolutionConsumer(solution -> consumerThreadNameSet.add(Thread.currentThread().getName()))
+                        .withFinalBestSolutionConsumer(
+                                solution -> consumerThreadNameSet.add(Thread.currentThread().getName()))
+                        .run());
+            }
+            for (var solverJob : solverJobList) {
+                assertSolutionInitialized(solverJob.getFinalBestSolution());
+            }
+            assertThat(consumerThreadNameSet).containsExactly(ConsumerThreadFactory.THREAD_NAME);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class AugmentedComparisonIndexerTest extends AbstractIndexerTest {
+
+    @Test
+    void builtByFactory() {
+        var singleJoiner = (DefaultBiJoiner<Person, Person>) Joiners.lessThan(Person::age);
+        assertThat(new IndexerFactory<>(singleJoiner).buildIndexer(true))
+                .isInstanceOf(AugmentedComparisonIndexer.class);
+        var comparisonFirstJoiner = (DefaultBiJoiner<Person, Person>) Joiners.lessThan(Person::age)
+                .and(Joiners.equal(Person::gender));
+        assertThat(new IndexerFactory<>(comparisonFirstJoiner).buildIndexer(true))
+                .isInstanceOf(ComparisonIndexer.class);
+    }
+
+    @Test
+    void removeTwice() {
+        var indexer = new AugmentedComparisonIndexer<UniTuple<String>, Integer>(JoinerType.LESS_THAN);
+        var annEntry = indexer.put(40, newTuple("Ann-F-40"));
+        indexer.remove(40, annEntry);
+        assertThatThrownBy(() -> indexer.remove(40, annEntry))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void visit() {
+        var indexer = new AugmentedComparisonIndexer<UniTuple<String>, Integer>(JoinerType.LESS_THAN_OR_EQUAL);
+        var annTuple = newTuple("Ann-F-40");
+        indexer.put(40, annTuple);
+        var bethTuple = newTuple("Beth-F-30");
+        indexer.put(30, bethTuple);
+        var carlTuple = newTuple("Carl-M-50");
+        indexer.put(50, carlTuple);
+
+        assertThat(getTuples(indexer, 40)).containsExactly(bethTuple, annTuple);
+        assertThat(indexer.size(40)).isEqualTo(2);
+        assertThat(getTuples(indexer, 29)).isEmpty();
+        assertThat(indexer.size(29)).isZero();
+        assertThat(getTuples(indexer, 60)).containsExactly(bethTuple, annTuple, carlTuple);
+        assertThat(indexer.size(60)).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JoinerType.class, names = { "LESS_THAN", "LESS_THAN_OR_EQUAL", "GREATER_THAN",
+            "GREATER_THAN_OR_EQUAL" })
+    void matchesComparisonIndexer(JoinerType joinerType) {
+        var random = new Random(37);
+        var indexer = new AugmentedComparisonIndexer<UniTuple<String>, Integer>(joinerType);
+        var referenceIndexer = new ComparisonIndexer<UniTuple<String>, Integer>(joinerType);
+        Map<UniTuple<String>, Integer> keyMap = new HashMap<>();
+        Map<UniTuple<String>, ElementAwareListEntry<UniTuple<String>>> entryMap = new HashMap<>();
+        Map<UniTuple<String>, ElementAwareListEntry<UniTuple<String>>> referenceEntryMap = new HashMap<>();
+        List<UniTuple<String>> tupleList = new ArrayList<>();
+        for (var i = 0; i < 5_000; i++) {
+            if (tupleList.isEmpty() || random.nextInt(3) != 0) {
+                var key = random.nextInt(200);
+                var tuple = newTuple("Tuple-" + i);
+                tupleList.add(tuple);
+                keyMap.put(tuple, key);
+                entryMap.put(tuple, indexer.put(key, tuple));
+                referenceEntryMap.put(tuple, referenceIndexer.put(key, tuple));
+            } else {
+                var tuple = tupleList.remove(random.nextInt(tupleList.size()));
+                var key = keyMap.remove(tuple);
+                indexer.remove(key, entryMap.remove(tuple));
+                referenceIndexer.remove(key, referenceEntryMap.remove(tuple));
+            }
+            var queryKey = random.nextInt(220) - 10;
+            assertThat(indexer.size(queryKey)).isEqualTo(referenceIndexer.size(queryKey));
+            assertThat(getTuples(indexer, queryKey)).containsExactlyElementsOf(getTuples(referenceIndexer, queryKey));
+        }
+        assertThat(indexer.isEmpty()).isEqualTo(referenceIndexer.isEmpty());
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
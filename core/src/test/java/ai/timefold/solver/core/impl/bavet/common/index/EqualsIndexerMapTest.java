@@ -0,0 +1,112 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class EqualsIndexerMapTest {
+
+    private enum Color {
+        RED,
+        GREEN,
+        BLUE
+    }
+
+    private enum Size {
+        SMALL
+    }
+
+    @Test
+    void forKey() {
+        assertThat(EqualsIndexerMap.forKey(1)).isInstanceOf(IntEqualsIndexerMap.class);
+        assertThat(EqualsIndexerMap.forKey(1L)).isInstanceOf(LongEqualsIndexerMap.class);
+        assertThat(EqualsIndexerMap.forKey(Color.RED)).isInstanceOf(EnumEqualsIndexerMap.class);
+        assertThat(EqualsIndexerMap.forKey("A")).isInstanceOf(HashEqualsIndexerMap.class);
+        assertThat(EqualsIndexerMap.forKey(null)).isInstanceOf(HashEqualsIndexerMap.class);
+    }
+
+    @Test
+    void intKeysMatchHashMap() {
+        var random = new Random(37);
+        assertMatchesHashMap(new IntEqualsIndexerMap<>(), random, () -> random.nextInt(500) - 250);
+    }
+
+    @Test
+    void longKeysMatchHashMap() {
+        var random = new Random(37);
+        assertMatchesHashMap(new LongEqualsIndexerMap<>(), random, () -> (random.nextLong() % 500) << 32);
+    }
+
+    @Test
+    void enumKeys() {
+        var map = new EnumEqualsIndexerMap<String>(Color.class);
+        assertThat(map.isEmpty()).isTrue();
+        map.put(Color.RED, "red");
+        map.put(Color.BLUE, "blue");
+        map.put(Color.BLUE, "blue2");
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(Color.RED)).isEqualTo("red");
+        assertThat(map.get(Color.GREEN)).isNull();
+        assertThat(map.get(Color.BLUE)).isEqualTo("blue2");
+        map.remove(Color.RED);
+        map.remove(Color.GREEN);
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(Color.RED)).isNull();
+    }
+
+    @Test
+    void foreignKeys() {
+        var intMap = new IntEqualsIndexerMap<String>();
+        intMap.put(1, "int");
+        intMap.put(1L, "long");
+        intMap.put(null, "null");
+        assertThat(intMap.size()).isEqualTo(3);
+        assertThat(intMap.get(1)).isEqualTo("int");
+        assertThat(intMap.get(1L)).isEqualTo("long");
+        assertThat(intMap.get(null)).isEqualTo("null");
+        intMap.remove(1);
+        intMap.remove(1L);
+        intMap.remove(null);
+        assertThat(intMap.isEmpty()).isTrue();
+
+        var enumMap = new EnumEqualsIndexerMap<String>(Color.class);
+        enumMap.put(Color.RED, "red");
+        enumMap.put(Size.SMALL, "small");
+        assertThat(enumMap.size()).isEqualTo(2);
+        assertThat(enumMap.get(Size.SMALL)).isEqualTo("small");
+        assertThat(enumMap.get(Color.RED)).isEqualTo("red");
+        enumMap.remove(Size.SMALL);
+        assertThat(enumMap.get(Size.SMALL)).isNull();
+        assertThat(enumMap.size()).isEqualTo(1);
+    }
+
+    private static void assertMatchesHashMap(EqualsIndexerMap<String> map, Random random,
+            Supplier<Object> keySupplier) {
+        var expected = new HashMap<Object, String>();
+        for (var i = 0; i < 10_000; i++) {
+            var key = keySupplier.get();
+            if (random.nextBoolean()) {
+                var value = "v" + i;
+                expected.put(key, value);
+                map.put(key, value);
+            } else {
+                expected.remove(key);
+                map.remove(key);
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        for (var key : expected.keySet()) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+        for (var key : expected.keySet().toArray()) {
+            map.remove(key);
+            assertThat(map.get(key)).isNull();
+        }
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+}
@@ -0,0 +1,189 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class OverlappingIndexerTest extends AbstractIndexerTest {
+
+    record Interval(String name, int start, int end) {
+
+    }
+
+    record Point(int x, int y) {
+
+    }
+
+    private final DefaultBiJoiner<Interval, Interval> joiner =
+            (DefaultBiJoiner<Interval, Interval>) Joiners.overlapping(Interval::start, Interval::end);
+
+    @Test
+    void builtByFactory() {
+        assertThat(new IndexerFactory<>(joiner).buildIndexer(true))
+                .isInstanceOf(OverlappingIndexer.class);
+        assertThat(new IndexerFactory<>(joiner).buildIndexer(false))
+                .isInstanceOf(OverlappingIndexer.class);
+        var equalAndOverlappingJoiner = (DefaultBiJoiner<Interval, Interval>) Joiners.equal(Interval::name)
+                .and(Joiners.overlapping(Interval::start, Interval::end));
+        assertThat(new IndexerFactory<>(equalAndOverlappingJoiner).buildIndexer(true))
+                .isInstanceOf(EqualsIndexer.class);
+        var sameDirectionJoiner = (DefaultBiJoiner<Interval, Interval>) Joiners.lessThan(Interval::start)
+                .and(Joiners.lessThan(Interval::end));
+        assertThat(new IndexerFactory<>(sameDirectionJoiner).buildIndexer(true))
+                .isInstanceOf(ComparisonIndexer.class);
+    }
+
+    @Test
+    void visit() {
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<Interval>> buildIndexer(true);
+        var a = newTuple(new Interval("A", 0, 10));
+        var b = newTuple(new Interval("B", 5, 15));
+        var c = newTuple(new Interval("C", 20, 30));
+        for (var tuple : List.of(a, b, c)) {
+            indexer.put(IndexKeys.of(tuple.factA.start(), tuple.factA.end()), tuple);
+        }
+        // Query keys of the right side are (end, start).
+        assertThat(getTuples(indexer, 12, 8)).containsExactly(a, b);
+        assertThat(indexer.size(IndexKeys.of(12, 8))).isEqualTo(2);
+        assertThat(getTuples(indexer, 20, 15)).isEmpty(); // End points are exclusive.
+        assertThat(indexer.size(IndexKeys.of(20, 15))).isZero();
+        assertThat(getTuples(indexer, 100, -100)).containsExactly(a, b, c);
+    }
+
+    @Test
+    void removeTwice() {
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<Interval>> buildIndexer(true);
+        var tuple = newTuple(new Interval("A", 0, 10));
+        var entry = indexer.put(IndexKeys.of(0, 10), tuple);
+        indexer.remove(IndexKeys.of(0, 10), entry);
+        assertThatThrownBy(() -> indexer.remove(IndexKeys.of(0, 10), entry))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void matchesBruteForce(boolean isLeftBridge) {
+        var random = new Random(37);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<Interval>> buildIndexer(isLeftBridge);
+        Map<UniTuple<Interval>, ElementAwareListEntry<UniTuple<Interval>>> entryMap = new HashMap<>();
+        List<UniTuple<Interval>> tupleList = new ArrayList<>();
+        for (var i = 0; i < 5_000; i++) {
+            if (tupleList.isEmpty() || random.nextInt(3) != 0) {
+                var tuple = newTuple(randomInterval(random, "Interval-" + i));
+                tupleList.add(tuple);
+                entryMap.put(tuple, indexer.put(storedKeys(tuple.factA, isLeftBridge), tuple));
+            } else {
+                var tuple = tupleList.remove(random.nextInt(tupleList.size()));
+                indexer.remove(storedKeys(tuple.factA, isLeftBridge), entryMap.remove(tuple));
+            }
+            var query = randomInterval(random, "Query");
+            var queryKeys = storedKeys(query, !isLeftBridge);
+            var expected = tupleList.stream()
+                    .filter(tuple -> tuple.factA.start() < query.end() && tuple.factA.end() > query.start())
+                    .toList();
+            assertThat(indexer.size(queryKeys)).isEqualTo(expected.size());
+            var actual = new ArrayList<UniTuple<Interval>>();
+            indexer.forEach(queryKeys, actual::add);
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    static Stream<Arguments> oppositeComparisonPairs() {
+        var lessThanTypes = List.of(JoinerType.LESS_THAN, JoinerType.LESS_THAN_OR_EQUAL);
+        var greaterThanTypes = List.of(JoinerType.GREATER_THAN, JoinerType.GREATER_THAN_OR_EQUAL);
+        var argumentsList = new ArrayList<Arguments>();
+        for (var lessThanType : lessThanTypes) {
+            for (var greaterThanType : greaterThanTypes) {
+                for (var isLeftBridge : new boolean[] { true, false }) {
+                    argumentsList.add(Arguments.of(lessThanType, greaterThanType, isLeftBridge));
+                    argumentsList.add(Arguments.of(greaterThanType, lessThanType, isLeftBridge));
+                }
+            }
+        }
+        return argumentsList.stream();
+    }
+
+    /**
+     * The factory picks this indexer for any two comparisons in opposite directions, not only for overlapping joiners.
+     * Unlike in {@link #matchesBruteForce(boolean)}, the keys are therefore not intervals here:
+     * the second key may lie before the first, and equal keys are common.
+     */
+    @ParameterizedTest
+    @MethodSource("oppositeComparisonPairs")
+    void matchesBruteForceForAnyOppositeComparisonPair(JoinerType firstJoinerType, JoinerType secondJoinerType,
+            boolean isLeftBridge) {
+        var comparisonJoiner = new DefaultBiJoiner<>(Point::x, firstJoinerType, Point::x)
+                .and(new DefaultBiJoiner<>(Point::y, secondJoinerType, Point::y));
+        var indexer = new IndexerFactory<>(comparisonJoiner).<UniTuple<Point>> buildIndexer(isLeftBridge);
+        assertThat(indexer).isInstanceOf(OverlappingIndexer.class);
+
+        var random = new Random(37);
+        Map<UniTuple<Point>, ElementAwareListEntry<UniTuple<Point>>> entryMap = new HashMap<>();
+        List<UniTuple<Point>> tupleList = new ArrayList<>();
+        for (var i = 0; i < 2_000; i++) {
+            if (tupleList.isEmpty() || random.nextInt(3) != 0) {
+                var tuple = new UniTuple<>(randomPoint(random), 0);
+                tupleList.add(tuple);
+                entryMap.put(tuple, indexer.put(IndexKeys.of(tuple.factA.x(), tuple.factA.y()), tuple));
+            } else {
+                var tuple = tupleList.remove(random.nextInt(tupleList.size()));
+                indexer.remove(IndexKeys.of(tuple.factA.x(), tuple.factA.y()), entryMap.remove(tuple));
+            }
+            var query = randomPoint(random);
+            var expected = tupleList.stream()
+                    .filter(tuple -> {
+                        var left = isLeftBridge ? tuple.factA : query;
+                        var right = isLeftBridge ? query : tuple.factA;
+                        return firstJoinerType.matches(left.x(), right.x())
+                                && secondJoinerType.matches(left.y(), right.y());
+                    })
+                    .toList();
+            var queryKeys = IndexKeys.of(query.x(), query.y());
+            assertThat(indexer.size(queryKeys)).isEqualTo(expected.size());
+            var actual = new ArrayList<UniTuple<Point>>();
+            indexer.forEach(queryKeys, actual::add);
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static Point randomPoint(Random random) {
+        // A small range, so that the inclusive and exclusive comparisons often disagree.
+        return new Point(random.nextInt(20), random.nextInt(20));
+    }
+
+    private static Interval randomInterval(Random random, String name) {
+        var start = random.nextInt(1_000);
+        return new Interval(name, start, start + random.nextInt(50));
+    }
+
+    /**
+     * The left side extracts (leftStart, leftEnd), the right side extracts (rightEnd, rightStart).
+     */
+    private static Object storedKeys(Interval interval, boolean isLeft) {
+        return isLeft ? IndexKeys.of(interval.start(), interval.end()) : IndexKeys.of(interval.end(), interval.start());
+    }
+
+    private static UniTuple<Interval> newTuple(Interval factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
@@ -11,11 +11,19 @@ import java.util.Collections;
 import java.util.List;
 
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.testdomain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+import ai.timefold.solver.core.testdomain.list.TestdataListVarEasyScoreCalculator;
 import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListEasyScoreCalculator;
 import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListEntity;
 import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListSolution;
@@ -319,6 +327,66 @@ class DefaultConstructionHeuristicPhaseTest {
                 .filter(e -> e.getValue() == null)).isEmpty();
     }
 
+    @Test
+    void constructionHeuristicLazyCheapestInsertion() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT) // Asserts the lazily picked moves.
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        var eagerSolverConfig = solverConfig.copyConfig()
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.CHEAPEST_INSERTION));
+        var lazySolverConfig = solverConfig.copyConfig()
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.LAZY_CHEAPEST_INSERTION));
+
+        var eagerSolver = (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(eagerSolverConfig)
+                .buildSolver();
+        var eagerSolution = eagerSolver.solve(TestdataSolution.generateUninitializedSolution(3, 7));
+        var lazySolver = (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(lazySolverConfig)
+                .buildSolver();
+        var lazySolution = lazySolver.solve(TestdataSolution.generateUninitializedSolution(3, 7));
+        assertThat(lazySolver.getMoveEvaluationCount()).isLessThan(eagerSolver.getMoveEvaluationCount());
+        assertThat(lazySolution.getScore()).isEqualTo(eagerSolution.getScore());
+        assertThat(lazySolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(eagerSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+    }
+
+    @Test
+    void constructionHeuristicLazyCheapestInsertionListVariable() {
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT) // Asserts the lazily picked moves.
+                .withEasyScoreCalculatorClass(TestdataListVarEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.LAZY_CHEAPEST_INSERTION));
+
+        var solver = (DefaultSolver<TestdataListSolution>) SolverFactory.<TestdataListSolution> create(solverConfig)
+                .buildSolver();
+        var solution = solver.solve(TestdataListSolution.generateUninitializedSolution(5, 3));
+        // Every empty entity gets a value first, then the remaining values all go to the first entity.
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(5));
+        assertThat(solution.getEntityList())
+                .map(entity -> entity.getValueList().size())
+                .containsExactly(3, 1, 1);
+        // Evaluating every unassigned value at every position in each of the 5 steps.
+        var eagerMoveEvaluationCount = 5 * 3 + 4 * 4 + 3 * 5 + 2 * 6 + 1 * 7;
+        assertThat(solver.getMoveEvaluationCount()).isLessThan(eagerMoveEvaluationCount);
+    }
+
+    @Test
+    void failLazyCheapestInsertionWithMoveThreadCount() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withMoveThreadCount("2")
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.LAZY_CHEAPEST_INSERTION));
+
+        assertThatThrownBy(() -> PlannerTestUtils.solve(solverConfig, TestdataSolution.generateUninitializedSolution(3, 7)))
+                .hasMessageContaining("does not support multithreaded solving");
+    }
+
     @Test
     void failMixedModelDefaultConfiguration() {
         var solverConfig = PlannerTestUtils
@@ -160,4 +160,18 @@ class EntityForEachFilterTest {
                 .hasMessageContaining("Impossible state");
     }
 
-}
\ No newline at end of file
+    @Test
+    void isAffectedBy() {
+        assertThat(EntityForEachFilter.isAffectedBy(TestdataEntity.buildVariableDescriptorForValue())).isTrue();
+        assertThat(EntityForEachFilter.isAffectedBy(TestdataListEntity.buildVariableDescriptorForValueList())).isTrue();
+        assertThat(EntityForEachFilter.isAffectedBy(TestdataListValue.buildVariableDescriptorForEntity())).isTrue();
+        assertThat(EntityForEachFilter.isAffectedBy(TestdataListValue.buildVariableDescriptorForIndex())).isFalse();
+
+        var solutionDescriptor = TestdataConcurrentSolution.buildSolutionDescriptor();
+        var entityDescriptor = solutionDescriptor.getEntityDescriptorStrict(TestdataConcurrentValue.class);
+        assertThat(entityDescriptor.getShadowVariableDescriptors())
+                .filteredOn(EntityForEachFilter::isAffectedBy)
+                .isNotEmpty();
+    }
+
+}
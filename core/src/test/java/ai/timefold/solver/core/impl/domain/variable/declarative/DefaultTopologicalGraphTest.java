@@ -1,6 +1,14 @@
 package ai.timefold.solver.core.impl.domain.variable.declarative;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
 
 public class DefaultTopologicalGraphTest extends AbstractTopologicalGraphTest<DefaultTopologicalOrderGraph> {
 
@@ -11,8 +19,17 @@ public class DefaultTopologicalGraphTest extends AbstractTopologicalGraphTest<De
 
     @Override
     protected void verifyConsistent(DefaultTopologicalOrderGraph graph) {
-        // DefaultTopologicalOrderGraph is not incremental
-        // and has no datastructures to keep consistent
+        graph.forEachEdge((from, to) -> {
+            if (graph.getComponent(from).contains(to)) {
+                assertThat(graph.getTopologicalOrder(from).order())
+                        .isEqualTo(graph.getTopologicalOrder(to).order());
+            } else {
+                assertThat(graph.getTopologicalOrder(from).order())
+                        .withFailMessage(() -> "Expected the edge (%d -> %d) to follow the topological order in graph %s"
+                                .formatted(from, to, graph))
+                        .isLessThan(graph.getTopologicalOrder(to).order());
+            }
+        });
     }
 
     /**
@@ -27,4 +44,50 @@ public class DefaultTopologicalGraphTest extends AbstractTopologicalGraphTest<De
         return graph.getComponent(node);
     }
 
+    @Test
+    void incrementalChangesMatchRecalculation() {
+        final var GRAPH_SIZE = 30;
+        var random = new Random(0);
+        var graph = createTopologicalGraph(GRAPH_SIZE);
+        var edgeSet = new HashSet<List<Integer>>();
+        for (var commit = 0; commit < 1_000; commit++) {
+            // Mostly edges which go forward, so that loops are formed and broken from time to time.
+            for (var change = 0; change < 1 + random.nextInt(4); change++) {
+                var from = random.nextInt(GRAPH_SIZE);
+                var to = random.nextInt(GRAPH_SIZE);
+                if (from == to) {
+                    continue;
+                }
+                if (random.nextInt(10) != 0 && from > to) {
+                    var swap = from;
+                    from = to;
+                    to = swap;
+                }
+                var edge = List.of(from, to);
+                if (edgeSet.remove(edge)) {
+                    graph.removeEdge(from, to);
+                } else {
+                    edgeSet.add(edge);
+                    graph.addEdge(from, to);
+                }
+            }
+            var changed = new BitSet();
+            graph.commitChanges(changed);
+            verifyConsistent(graph);
+
+            var recalculatedGraph = createTopologicalGraph(GRAPH_SIZE);
+            for (var edge : edgeSet) {
+                recalculatedGraph.addEdge(edge.get(0), edge.get(1));
+            }
+            recalculatedGraph.commitChanges(new BitSet());
+            var edgeList = new ArrayList<List<Integer>>();
+            graph.forEachEdge((from, to) -> edgeList.add(List.of(from, to)));
+            assertThat(edgeList).containsExactlyInAnyOrderElementsOf(edgeSet);
+            for (var node = 0; node < GRAPH_SIZE; node++) {
+                assertThat(graph.getComponent(node))
+                        .containsExactlyInAnyOrderElementsOf(recalculatedGraph.getComponent(node));
+            }
+        }
+    }
+
 }
@@ -0,0 +1,59 @@
+package ai.timefold.solver.core.impl.domain.variable.declarative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TopologicalOrderBucketQueueTest {
+
+    @Test
+    void pollsInTopologicalOrder() {
+        var queue = new TopologicalOrderBucketQueue(6);
+        assertThat(queue.isEmpty()).isTrue();
+        queue.add(0, 4);
+        queue.add(1, 2);
+        queue.add(2, 5);
+        queue.add(3, 2);
+        queue.add(1, 2); // Already queued.
+
+        assertThat(queue.poll()).isIn(1, 3);
+        assertThat(queue.poll()).isIn(1, 3);
+        // A node can be added with a lower order than the last polled one, such as inside a loop.
+        queue.add(4, 1);
+        assertThat(queue.poll()).isEqualTo(4);
+        assertThat(queue.poll()).isEqualTo(0);
+        // A node can be queued again once it was polled, and orders may exceed the node count.
+        queue.add(0, 100);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void reusedAfterEmptied() {
+        var queue = new TopologicalOrderBucketQueue(3);
+        for (var i = 0; i < 3; i++) {
+            queue.add(2, 0);
+            queue.add(1, 1);
+            queue.add(0, 2);
+            var polledList = new ArrayList<Integer>();
+            while (!queue.isEmpty()) {
+                polledList.add(queue.poll());
+            }
+            assertThat(polledList).isEqualTo(List.of(2, 1, 0));
+        }
+    }
+
+    @Test
+    void failsOnNegativeOrder() {
+        var queue = new TopologicalOrderBucketQueue(1);
+        assertThatThrownBy(() -> queue.add(0, -1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("negative");
+    }
+
+}
@@ -8,10 +8,15 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.testdomain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSameValueConstraintProvider;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
 import ai.timefold.solver.core.testdomain.chained.TestdataChainedEntity;
@@ -28,6 +33,8 @@ import ai.timefold.solver.core.testutil.PlannerTestUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 @Execution(ExecutionMode.CONCURRENT)
 class DefaultLocalSearchPhaseTest {
@@ -236,6 +243,39 @@ class DefaultLocalSearchPhaseTest {
         assertThat(solution.getEntityList()).isEmpty();
     }
 
+    @ParameterizedTest
+    @EnumSource(value = LocalSearchType.class, names = { "HILL_CLIMBING", "TABU_SEARCH", "LATE_ACCEPTANCE" })
+    void packedMoveScoresPickTheSameMovesAsUnpackedMoveScores(LocalSearchType localSearchType) {
+        // Bavet packs the move scores into a long, easy score calculation does not.
+        var packedSolverConfig = buildSameValueSolverConfig(localSearchType)
+                .withConstraintProviderClass(TestdataSameValueConstraintProvider.class);
+        var unpackedSolverConfig = buildSameValueSolverConfig(localSearchType)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+
+        var packedSolution = PlannerTestUtils.solve(packedSolverConfig,
+                TestdataSolution.generateUninitializedSolution(5, 20));
+        var unpackedSolution = PlannerTestUtils.solve(unpackedSolverConfig,
+                TestdataSolution.generateUninitializedSolution(5, 20));
+        assertThat(packedSolution.getScore()).isEqualTo(unpackedSolution.getScore());
+        assertThat(packedSolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(unpackedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+    }
+
+    private static SolverConfig buildSameValueSolverConfig(LocalSearchType localSearchType) {
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.NO_ASSERT)
+                .withRandomSeed(37L)
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig()
+                                .withLocalSearchType(localSearchType)
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(100)));
+    }
+
     @Test
     void solveListVariable() {
         var solverConfig = PlannerTestUtils.buildSolverConfig(
@@ -0,0 +1,133 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TabuStoreTest {
+
+    @Test
+    void addAndExpire() {
+        var tabuStore = new TabuStore(2);
+        tabuStore.add("a", 0);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(0);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(-1);
+
+        tabuStore.expire(1, 2);
+        tabuStore.add("b", 1);
+        assertThat(tabuStore.size()).isEqualTo(2);
+
+        tabuStore.expire(2, 2);
+        tabuStore.add("c", 2);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(-1);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(1);
+        assertThat(tabuStore.getStepIndex("c")).isEqualTo(2);
+        assertThat(tabuStore.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addAgainPushesToTheEnd() {
+        var tabuStore = new TabuStore(2);
+        tabuStore.add("a", 0);
+        tabuStore.expire(1, 2);
+        tabuStore.add("b", 1);
+        tabuStore.expire(2, 2);
+        tabuStore.add("a", 2); // Expired first, then added again.
+        tabuStore.expire(3, 2);
+        tabuStore.add("b", 3); // Still tabu, pushed to the end.
+        tabuStore.add("b", 3); // Twice in the same step.
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(2);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(3);
+
+        tabuStore.expire(4, 2);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(-1);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(3);
+        tabuStore.expire(5, 2);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(-1);
+        assertThat(tabuStore.size()).isZero();
+    }
+
+    @Test
+    void nullTabu() {
+        var tabuStore = new TabuStore(1);
+        tabuStore.add(null, 0);
+        assertThat(tabuStore.getStepIndex(null)).isEqualTo(0);
+        var nonNullTabuList = new ArrayList<>();
+        tabuStore.forEachNonNullTabu(nonNullTabuList::add);
+        assertThat(nonNullTabuList).isEmpty();
+        tabuStore.expire(1, 1);
+        assertThat(tabuStore.getStepIndex(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void equalTabusShareAnEntry() {
+        var tabuStore = new TabuStore(1);
+        tabuStore.add(1_000, 0);
+        assertThat(tabuStore.getStepIndex(Integer.valueOf(1_000))).isEqualTo(0);
+    }
+
+    @Test
+    void hashCodeStabilityViolation() {
+        var tabu = new MutableHashCodeTabu(1);
+        var tabuStore = new TabuStore(1);
+        tabuStore.add(tabu, 0);
+        tabu.hashCode = 2;
+        assertThatThrownBy(() -> tabuStore.expire(1, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("HashCode stability violation");
+    }
+
+    @Test
+    void sameAsMapAndDeque() {
+        // Compare with the straightforward implementation, with enough tabus to trigger resizing and collisions.
+        var random = new Random(37);
+        var tabuStore = new TabuStore(7);
+        var expectedMap = new LinkedHashMap<Integer, Integer>();
+        for (var stepIndex = 0; stepIndex < 10_000; stepIndex++) {
+            var totalTabuListSize = 1 + random.nextInt(100);
+            tabuStore.expire(stepIndex, totalTabuListSize);
+            for (var iterator = expectedMap.entrySet().iterator(); iterator.hasNext();) {
+                if (stepIndex - iterator.next().getValue() < totalTabuListSize) {
+                    break;
+                }
+                iterator.remove();
+            }
+            var newTabuCount = random.nextInt(5);
+            for (var i = 0; i < newTabuCount; i++) {
+                var tabu = random.nextInt(500) * 64; // Multiples of 64 collide more often.
+                tabuStore.add(tabu, stepIndex);
+                expectedMap.remove(tabu);
+                expectedMap.put(tabu, stepIndex);
+            }
+            assertThat(tabuStore.size()).isEqualTo(expectedMap.size());
+            for (var tabu = 0; tabu < 500 * 64; tabu += 64) {
+                assertThat(tabuStore.getStepIndex(tabu)).isEqualTo(expectedMap.getOrDefault(tabu, -1));
+            }
+        }
+        var actualMap = new HashMap<Object, Integer>();
+        tabuStore.forEachNonNullTabu(tabu -> actualMap.put(tabu, tabuStore.getStepIndex(tabu)));
+        assertThat(actualMap).isEqualTo(expectedMap);
+    }
+
+    private static final class MutableHashCodeTabu {
+
+        private int hashCode;
+
+        private MutableHashCodeTabu(int hashCode) {
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -212,6 +212,42 @@ class AcceptedLocalSearchForagerTest {
         forager.phaseEnded(phaseScope);
     }
 
+    @Test
+    void pickMoveFromReusableMoveScope() {
+        // Setup
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        var moveScope = LocalSearchMoveScope.reusable(stepScope);
+        var a = new LegacyMoveAdapter<TestdataSolution>(new DummyMove("a"));
+        var b = new LegacyMoveAdapter<TestdataSolution>(new DummyMove("b"));
+        var c = new LegacyMoveAdapter<TestdataSolution>(new DummyMove("c"));
+        // Do stuff
+        moveScope.reset(0, a);
+        moveScope.setInitializedScore(SimpleScore.of(-20));
+        moveScope.setAccepted(true);
+        forager.addMove(moveScope);
+        moveScope.reset(1, b);
+        moveScope.setInitializedScore(SimpleScore.of(-2));
+        moveScope.setAccepted(true);
+        forager.addMove(moveScope);
+        moveScope.reset(2, c);
+        moveScope.setInitializedScore(SimpleScore.of(-1));
+        moveScope.setAccepted(false);
+        forager.addMove(moveScope);
+        LocalSearchMoveScope<TestdataSolution> pickedScope = forager.pickMove(stepScope);
+        // Post conditions
+        assertThat(pickedScope).isNotSameAs(moveScope);
+        assertThat(pickedScope.getMove()).isSameAs(b);
+        assertThat(pickedScope.getMoveIndex()).isEqualTo(1);
+        assertThat(pickedScope.getScore().raw()).isEqualTo(SimpleScore.of(-2));
+        assertThat(pickedScope.getAccepted()).isTrue();
+        forager.phaseEnded(phaseScope);
+    }
+
     private static LocalSearchPhaseScope<TestdataSolution> createPhaseScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
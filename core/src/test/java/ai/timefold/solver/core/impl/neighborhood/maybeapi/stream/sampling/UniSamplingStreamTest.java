@@ -0,0 +1,139 @@
+package ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.sampling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.StreamSupport;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.MoveDefinition;
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.move.Moves;
+import ai.timefold.solver.core.impl.neighborhood.maybeapi.stream.enumerating.EnumeratingJoiners;
+import ai.timefold.solver.core.impl.neighborhood.move.InnerMoveStream;
+import ai.timefold.solver.core.impl.neighborhood.move.MoveIterable;
+import ai.timefold.solver.core.impl.neighborhood.stream.DefaultMoveStreamFactory;
+import ai.timefold.solver.core.impl.score.director.SessionContext;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.preview.api.move.Move;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+@NullMarked
+class UniSamplingStreamTest {
+
+    @Test
+    void pickWithIndexingJoiners() {
+        var solution = TestdataSolution.generateSolution(2, 4);
+        var e1 = solution.getEntityList().get(0);
+        var e2 = solution.getEntityList().get(1);
+        var e3 = solution.getEntityList().get(2);
+        var e4 = solution.getEntityList().get(3);
+
+        // Entities 1 and 3 share the first value, entities 2 and 4 share the second value.
+        var moveIterable = createMoveIterable(solution, moveStreamFactory -> {
+            var variableMetaModel = moveStreamFactory.getSolutionMetaModel()
+                    .entity(TestdataEntity.class)
+                    .<Object> basicVariable("value");
+            return moveStreamFactory.pick(moveStreamFactory.forEach(TestdataEntity.class, false))
+                    .pick(moveStreamFactory.forEach(TestdataEntity.class, false),
+                            EnumeratingJoiners.equal(TestdataEntity::getValue),
+                            EnumeratingJoiners.lessThan(TestdataEntity::getCode))
+                    .asMove((solutionView, left, right) -> Moves.swap(left, right, variableMetaModel));
+        });
+        assertThat(extractPairs(moveIterable))
+                .containsExactly(List.of(e1, e3), List.of(e2, e4));
+        assertThat(extractPairs(() -> moveIterable.iterator(new Random(0))))
+                .containsExactlyInAnyOrder(List.of(e1, e3), List.of(e2, e4));
+    }
+
+    @Test
+    void pickWithIndexingAndFilteringJoiner() {
+        var solution = TestdataSolution.generateSolution(2, 4);
+        var e1 = solution.getEntityList().get(0);
+        var e2 = solution.getEntityList().get(1);
+        var e3 = solution.getEntityList().get(2);
+        var e4 = solution.getEntityList().get(3);
+
+        var moveIterable = createMoveIterable(solution, moveStreamFactory -> {
+            var variableMetaModel = moveStreamFactory.getSolutionMetaModel()
+                    .entity(TestdataEntity.class)
+                    .<Object> basicVariable("value");
+            return moveStreamFactory.pick(moveStreamFactory.forEach(TestdataEntity.class, false))
+                    .pick(moveStreamFactory.forEach(TestdataEntity.class, false),
+                            EnumeratingJoiners.equal(TestdataEntity::getValue),
+                            EnumeratingJoiners.filtering((solutionView, left, right) -> left != right))
+                    .asMove((solutionView, left, right) -> Moves.swap(left, right, variableMetaModel));
+        });
+        assertThat(extractPairs(moveIterable))
+                .containsExactly(List.of(e1, e3), List.of(e2, e4), List.of(e3, e1), List.of(e4, e2));
+        assertThat(extractPairs(() -> moveIterable.iterator(new Random(0))))
+                .containsExactlyInAnyOrder(List.of(e1, e3), List.of(e2, e4), List.of(e3, e1), List.of(e4, e2));
+    }
+
+    @Test
+    void pickWithFilter() {
+        var solution = TestdataSolution.generateSolution(2, 3);
+        var e1 = solution.getEntityList().get(0);
+        var e2 = solution.getEntityList().get(1);
+        var e3 = solution.getEntityList().get(2);
+
+        var moveIterable = createMoveIterable(solution, moveStreamFactory -> {
+            var variableMetaModel = moveStreamFactory.getSolutionMetaModel()
+                    .entity(TestdataEntity.class)
+                    .<Object> basicVariable("value");
+            return moveStreamFactory.pick(moveStreamFactory.forEach(TestdataEntity.class, false))
+                    .pick(moveStreamFactory.forEach(TestdataEntity.class, false), (left, right) -> left != right)
+                    .asMove((solutionView, left, right) -> Moves.swap(left, right, variableMetaModel));
+        });
+        assertThat(extractPairs(moveIterable))
+                .containsExactly(List.of(e1, e2), List.of(e1, e3),
+                        List.of(e2, e1), List.of(e2, e3),
+                        List.of(e3, e1), List.of(e3, e2));
+    }
+
+    private static List<List<Object>> extractPairs(Iterable<Move<TestdataSolution>> moveIterable) {
+        return StreamSupport.stream(moveIterable.spliterator(), false)
+                .map(move -> (List<Object>) new ArrayList<Object>(move.extractPlanningEntities()))
+                .toList();
+    }
+
+    private static MoveIterable<TestdataSolution> createMoveIterable(TestdataSolution solution,
+            MoveDefinition<TestdataSolution> moveDefinition) {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var moveStreamFactory = new DefaultMoveStreamFactory<>(solutionDescriptor, EnvironmentMode.TRACKED_FULL_ASSERT);
+        var moveStream = moveDefinition.build(moveStreamFactory);
+        var scoreDirector = new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                new TestingConstraintProvider(), EnvironmentMode.TRACKED_FULL_ASSERT)
+                .buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+        var neighborhoodSession = moveStreamFactory.createSession(new SessionContext<>(scoreDirector));
+        solutionDescriptor.visitAll(scoreDirector.getWorkingSolution(), neighborhoodSession::insert);
+        neighborhoodSession.settle();
+        return ((InnerMoveStream<TestdataSolution>) moveStream).getMoveIterable(neighborhoodSession);
+    }
+
+    // The specifics of the constraint provider are not important for this test,
+    // as the score will never be calculated.
+    private static final class TestingConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Always penalize")
+            };
+        }
+
+    }
+
+}
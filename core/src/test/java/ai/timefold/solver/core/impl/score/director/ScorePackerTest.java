@@ -0,0 +1,65 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.buildin.simplelong.SimpleLongScore;
+
+import org.junit.jupiter.api.Test;
+
+class ScorePackerTest {
+
+    private static final int[] EDGE_CASES = { Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1, 0, 1, Integer.MAX_VALUE - 1,
+            Integer.MAX_VALUE };
+
+    @Test
+    void simple() {
+        var packer = ScorePacker.SIMPLE;
+        for (var score : EDGE_CASES) {
+            assertThat(packer.unpack(packer.pack(SimpleScore.of(score)))).isEqualTo(SimpleScore.of(score));
+        }
+        assertThat(packer.pack(SimpleScore.of(-1))).isLessThan(packer.pack(SimpleScore.of(0)));
+    }
+
+    @Test
+    void simpleLong() {
+        var packer = ScorePacker.SIMPLE_LONG;
+        assertThat(packer.unpack(packer.pack(SimpleLongScore.of(Long.MIN_VALUE))))
+                .isEqualTo(SimpleLongScore.of(Long.MIN_VALUE));
+        assertThat(packer.unpack(packer.pack(SimpleLongScore.of(Long.MAX_VALUE))))
+                .isEqualTo(SimpleLongScore.of(Long.MAX_VALUE));
+        assertThat(packer.pack(SimpleLongScore.of(-1L))).isLessThan(packer.pack(SimpleLongScore.of(0L)));
+    }
+
+    @Test
+    void hardSoftKeepsOrder() {
+        var packer = ScorePacker.HARD_SOFT;
+        var scoreList = new ArrayList<HardSoftScore>();
+        for (var hardScore : EDGE_CASES) {
+            for (var softScore : EDGE_CASES) {
+                scoreList.add(HardSoftScore.of(hardScore, softScore));
+            }
+        }
+        var random = new Random(37);
+        for (var i = 0; i < 1_000; i++) {
+            scoreList.add(HardSoftScore.of(random.nextInt(), random.nextInt()));
+            scoreList.add(HardSoftScore.of(random.nextInt(5) - 2, random.nextInt(5) - 2));
+        }
+        for (var score : scoreList) {
+            var packedScore = packer.pack(score);
+            assertThat(packer.unpack(packedScore)).isEqualTo(score);
+            assertThat(ScorePacker.packHardSoft(score.hardScore(), score.softScore())).isEqualTo(packedScore);
+            for (var i = 0; i < 20; i++) {
+                var otherScore = scoreList.get(random.nextInt(scoreList.size()));
+                assertThat(Integer.signum(Long.compare(packedScore, packer.pack(otherScore))))
+                        .as("Comparing %s with %s", score, otherScore)
+                        .isEqualTo(Integer.signum(score.compareTo(otherScore)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package ai.timefold.solver.core.impl.score.director.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.testdomain.shadow.TestdataShadowedEntity;
+import ai.timefold.solver.core.testdomain.shadow.TestdataShadowedSolution;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class BavetConstraintStreamScoreDirectorTest {
+
+    private final BavetConstraintStreamScoreDirectorFactory<TestdataShadowedSolution, SimpleScore> scoreDirectorFactory =
+            new BavetConstraintStreamScoreDirectorFactory<>(TestdataShadowedSolution.buildSolutionDescriptor(),
+                    new SameFirstShadowConstraintProvider(), EnvironmentMode.PHASE_ASSERT);
+
+    @Test
+    void shadowVariableChangesSkipForEachFilter() {
+        var solution = TestdataShadowedSolution.generateSolution(3, 7);
+        var unassignedEntity = solution.getEntityList().get(0);
+        unassignedEntity.setValue(null);
+        try (var scoreDirector = scoreDirectorFactory.buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(solution);
+            assertScoreFromScratch(scoreDirector);
+
+            // The forEach filter reads the genuine variable; its listener then changes the shadow variable too.
+            var reassignedEntity = solution.getEntityList().get(1);
+            scoreDirector.beforeVariableChanged(reassignedEntity, "value");
+            reassignedEntity.setValue(solution.getValueList().get(2));
+            scoreDirector.afterVariableChanged(reassignedEntity, "value");
+            scoreDirector.triggerVariableListeners();
+            assertScoreFromScratch(scoreDirector);
+
+            var newlyUnassignedEntity = solution.getEntityList().get(2);
+            scoreDirector.beforeVariableChanged(newlyUnassignedEntity, "value");
+            newlyUnassignedEntity.setValue(null);
+            scoreDirector.afterVariableChanged(newlyUnassignedEntity, "value");
+            scoreDirector.triggerVariableListeners();
+            assertScoreFromScratch(scoreDirector);
+
+            // The forEach filter does not read the shadow variable, of an entity which passes it or of one which does not.
+            var otherEntity = solution.getEntityList().get(4);
+            var shadowChangedEntity = solution.getEntityList().get(3);
+            scoreDirector.beforeVariableChanged(shadowChangedEntity, "firstShadow");
+            shadowChangedEntity.setFirstShadow(otherEntity.getFirstShadow());
+            scoreDirector.afterVariableChanged(shadowChangedEntity, "firstShadow");
+            scoreDirector.beforeVariableChanged(unassignedEntity, "firstShadow");
+            unassignedEntity.setFirstShadow(otherEntity.getFirstShadow());
+            scoreDirector.afterVariableChanged(unassignedEntity, "firstShadow");
+            scoreDirector.triggerVariableListeners();
+            assertScoreFromScratch(scoreDirector);
+        }
+    }
+
+    @Test
+    void profilerAccumulatesOverReplacedWorkingSolutions() {
+        try (var scoreDirector = scoreDirectorFactory.createScoreDirectorBuilder()
+                .withProfilingEnabled(true)
+                .build()) {
+            var profiler = scoreDirector.getProfiler();
+            scoreDirector.setWorkingSolution(TestdataShadowedSolution.generateSolution(3, 7));
+            scoreDirector.calculateScore();
+            assertThat(profiler.getConstraintProfiles()).hasSize(1);
+            var constraintProfile = profiler.getConstraintProfiles().iterator().next();
+            var firstTupleCount = constraintProfile.getTupleCount();
+            assertThat(firstTupleCount).isPositive();
+
+            // The finished session is folded into the totals of the same profile.
+            scoreDirector.setWorkingSolution(TestdataShadowedSolution.generateSolution(3, 7));
+            scoreDirector.calculateScore();
+            assertThat(profiler.getConstraintProfiles()).containsExactly(constraintProfile);
+            assertThat(constraintProfile.getTupleCount()).isGreaterThan(firstTupleCount);
+        }
+    }
+
+    private void assertScoreFromScratch(InnerScoreDirector<TestdataShadowedSolution, SimpleScore> scoreDirector) {
+        var score = scoreDirector.calculateScore();
+        try (var scratchScoreDirector = scoreDirectorFactory.buildScoreDirector()) {
+            // Keep the shadow variables as they are, even those changed without their listener.
+            scratchScoreDirector.setWorkingSolutionWithoutUpdatingShadows(scoreDirector.cloneWorkingSolution());
+            assertThat(score).isEqualTo(scratchScoreDirector.calculateScore());
+        }
+    }
+
+    public static final class SameFirstShadowConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataShadowedEntity.class,
+                            Joiners.equal(TestdataShadowedEntity::getFirstShadow))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Same first shadow")
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package ai.timefold.solver.core.impl.score.stream.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.TestdataValue;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class BavetParallelPropagationTest {
+
+    private static SolverConfig buildSolverConfig(Integer parallelPropagationThreshold) {
+        var scoreDirectorFactoryConfig = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataParallelConstraintProvider.class);
+        if (parallelPropagationThreshold != null) {
+            scoreDirectorFactoryConfig.setConstraintStreamParallelPropagationThreshold(parallelPropagationThreshold);
+        }
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withScoreDirectorFactory(scoreDirectorFactoryConfig);
+    }
+
+    @Test
+    void sameScoreAsSerialPropagation() {
+        var serialSolutionManager = SolutionManager.create(SolverFactory.create(buildSolverConfig(null)));
+        var parallelSolutionManager = SolutionManager.create(SolverFactory.create(buildSolverConfig(1)));
+        for (var entityCount : new int[] { 1, 10, 1_000 }) {
+            var solution = TestdataSolution.generateSolution(entityCount / 3 + 1, entityCount);
+            var serialScore = serialSolutionManager.update(solution);
+            var parallelScore = parallelSolutionManager.update(solution);
+            assertThat(parallelScore).isEqualTo(serialScore);
+        }
+    }
+
+    @Test
+    void solveWithIncrementalScoreAssertions() {
+        var solverConfig = buildSolverConfig(1)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(20)));
+        var solution = TestdataSolution.generateSolution(10, 30);
+        var solvedSolution = SolverFactory.<TestdataSolution> create(solverConfig)
+                .buildSolver()
+                .solve(solution);
+        assertThat(solvedSolution.getScore()).isNotNull();
+    }
+
+    @Test
+    void neverPropagatesOnTheCommonPool() {
+        TestdataParallelConstraintProvider.PROPAGATING_THREAD_NAMES.clear();
+        var parallelSolutionManager = SolutionManager.create(SolverFactory.create(buildSolverConfig(1)));
+        parallelSolutionManager.update(TestdataSolution.generateSolution(334, 1_000));
+        assertThat(TestdataParallelConstraintProvider.PROPAGATING_THREAD_NAMES)
+                .isNotEmpty()
+                .noneMatch(threadName -> threadName.startsWith("ForkJoinPool.commonPool"));
+    }
+
+    @Test
+    void invalidThreshold() {
+        var solverConfig = buildSolverConfig(0);
+        assertThatThrownBy(() -> SolverFactory.create(solverConfig).buildSolver())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("constraintStreamParallelPropagationThreshold");
+    }
+
+    public static final class TestdataParallelConstraintProvider implements ConstraintProvider {
+
+        static final Set<String> PROPAGATING_THREAD_NAMES = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .join(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue),
+                                    Joiners.lessThan(TestdataEntity::getCode))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Conflict"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .groupBy(TestdataEntity::getValue, count())
+                            .filter((value, count) -> count > 2)
+                            .penalize(SimpleScore.ONE, (value, count) -> count - 2)
+                            .asConstraint("Crowded value"),
+                    constraintFactory.forEach(TestdataValue.class)
+                            .ifNotExists(TestdataEntity.class,
+                                    Joiners.equal(value -> value, TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Unused value"),
+                    constraintFactory.forEachIncludingUnassigned(TestdataEntity.class)
+                            .filter(entity -> {
+                                PROPAGATING_THREAD_NAMES.add(Thread.currentThread().getName());
+                                return Objects.equals(entity.getCode(), "Generated Entity 0");
+                            })
+                            .reward(SimpleScore.ONE)
+                            .asConstraint("First entity")
+            };
+        }
+
+    }
+
+}
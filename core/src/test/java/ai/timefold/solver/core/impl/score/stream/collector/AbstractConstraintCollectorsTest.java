@@ -1,9 +1,15 @@
 package ai.timefold.solver.core.impl.score.stream.collector;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
+import ai.timefold.solver.core.api.score.stream.common.Break;
 import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.impl.score.stream.collector.connected_ranges.ConnectedRangeTracker;
 import ai.timefold.solver.core.impl.score.stream.collector.consecutive.ConsecutiveSetTree;
@@ -92,6 +98,69 @@ public abstract class AbstractConstraintCollectorsTest {
                 });
     }
 
+    /**
+     * Compares sequence chains sequence by sequence and break by break,
+     * regardless of which implementation produced them.
+     */
+    protected static void assertSequenceChain(String description, Object actualResult, SequenceChain<?, ?> expectedResult) {
+        assertThat(actualResult)
+                .as(description)
+                .isInstanceOf(SequenceChain.class);
+        var actualSequenceChain = (SequenceChain<?, ?>) actualResult;
+        assertThat(describeSequences(actualSequenceChain))
+                .as(description)
+                .isEqualTo(describeSequences(expectedResult));
+        assertThat(describeBreaks(actualSequenceChain))
+                .as(description)
+                .isEqualTo(describeBreaks(expectedResult));
+        assertThat(describeSequence(actualSequenceChain.getFirstSequence()))
+                .as(description)
+                .isEqualTo(describeSequence(expectedResult.getFirstSequence()));
+        assertThat(describeSequence(actualSequenceChain.getLastSequence()))
+                .as(description)
+                .isEqualTo(describeSequence(expectedResult.getLastSequence()));
+        assertThat(describeBreak(actualSequenceChain.getFirstBreak()))
+                .as(description)
+                .isEqualTo(describeBreak(expectedResult.getFirstBreak()));
+        assertThat(describeBreak(actualSequenceChain.getLastBreak()))
+                .as(description)
+                .isEqualTo(describeBreak(expectedResult.getLastBreak()));
+    }
+
+    private static List<List<Object>> describeSequences(SequenceChain<?, ?> sequenceChain) {
+        var descriptionList = new ArrayList<List<Object>>();
+        for (var sequence : sequenceChain.getConsecutiveSequences()) {
+            descriptionList.add(describeSequence(sequence));
+        }
+        return descriptionList;
+    }
+
+    private static List<List<Object>> describeBreaks(SequenceChain<?, ?> sequenceChain) {
+        var descriptionList = new ArrayList<List<Object>>();
+        for (var sequenceBreak : sequenceChain.getBreaks()) {
+            descriptionList.add(describeBreak(sequenceBreak));
+        }
+        return descriptionList;
+    }
+
+    private static List<Object> describeSequence(Sequence<?, ?> sequence) {
+        if (sequence == null) {
+            return null;
+        }
+        return List.of(List.copyOf(sequence.getItems()), sequence.getFirstItem(), sequence.getLastItem(),
+                sequence.getCount(), sequence.getLength(), sequence.isFirst(), sequence.isLast(),
+                String.valueOf(describeBreak(sequence.getPreviousBreak())),
+                String.valueOf(describeBreak(sequence.getNextBreak())));
+    }
+
+    private static List<Object> describeBreak(Break<?, ?> sequenceBreak) {
+        if (sequenceBreak == null) {
+            return null;
+        }
+        return List.of(sequenceBreak.getPreviousSequenceEnd(), sequenceBreak.getNextSequenceStart(),
+                sequenceBreak.getLength(), sequenceBreak.isFirst(), sequenceBreak.isLast());
+    }
+
     protected ConnectedRangeChain<Interval, Integer, Integer> buildConsecutiveUsage(Interval... data) {
         return Arrays.stream(data).collect(
                 () -> new ConnectedRangeTracker<>(Interval::start, Interval::end, (a, b) -> b - a),
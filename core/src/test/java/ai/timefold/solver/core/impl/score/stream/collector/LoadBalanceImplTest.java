@@ -0,0 +1,76 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LoadBalanceImplTest {
+
+    @Test
+    void loads() {
+        var loadBalance = new LoadBalanceImpl<String>();
+        assertThat(loadBalance.loads()).isEmpty();
+
+        var retractA = loadBalance.registerBalanced("A", 2, 10);
+        loadBalance.registerBalanced("A", 3, 10);
+        loadBalance.registerBalanced(null, 1, 0);
+        var loads = loadBalance.loads();
+        assertThat(loads)
+                .containsOnlyKeys("A", null)
+                .containsEntry("A", 15L)
+                .containsEntry(null, 1L);
+
+        retractA.run();
+        assertThat(loads).containsEntry("A", 13L);
+        assertThat(loads.get("B")).isNull();
+    }
+
+    @Test
+    void sameAsRecalculatedFromScratch() {
+        // Enough items to resize the table and to shift items back on removal.
+        var random = new Random(37);
+        var loadBalance = new LoadBalanceImpl<Integer>();
+        var retractorList = new ArrayList<Runnable>();
+        var expectedLoadMap = new HashMap<Integer, Long>();
+        var expectedCountMap = new HashMap<Integer, Integer>();
+        var retractedItemList = new ArrayList<Integer>();
+        var retractedLoadList = new ArrayList<Long>();
+        for (var i = 0; i < 5_000; i++) {
+            if (!retractorList.isEmpty() && random.nextInt(3) == 0) {
+                var index = random.nextInt(retractorList.size());
+                retractorList.remove(index).run();
+                var item = retractedItemList.remove(index);
+                var load = retractedLoadList.remove(index);
+                if (expectedCountMap.merge(item, -1, Integer::sum) == 0) {
+                    expectedCountMap.remove(item);
+                    expectedLoadMap.remove(item);
+                } else {
+                    expectedLoadMap.merge(item, -load, Long::sum);
+                }
+            } else {
+                var item = random.nextInt(1_000) * 32; // Multiples of 32 collide more often.
+                var load = (long) random.nextInt(10);
+                retractorList.add(loadBalance.registerBalanced(item, load, 0));
+                retractedItemList.add(item);
+                retractedLoadList.add(load);
+                expectedCountMap.merge(item, 1, Integer::sum);
+                expectedLoadMap.merge(item, load, Long::sum);
+            }
+        }
+        assertThat(loadBalance.loads()).isEqualTo(expectedLoadMap);
+
+        var recalculatedLoadBalance = new LoadBalanceImpl<Integer>();
+        expectedLoadMap.forEach((item, load) -> recalculatedLoadBalance.registerBalanced(item, load, 0));
+        assertThat(loadBalance.unfairness()).isEqualTo(recalculatedLoadBalance.unfairness());
+
+        retractorList.forEach(Runnable::run);
+        assertThat(loadBalance.loads()).isEmpty();
+        assertThat(loadBalance.unfairness()).isEqualTo(BigDecimal.ZERO);
+    }
+
+}
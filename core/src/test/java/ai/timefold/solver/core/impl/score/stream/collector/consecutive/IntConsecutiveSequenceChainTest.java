@@ -0,0 +1,183 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
+import ai.timefold.solver.core.impl.score.stream.collector.SequenceCalculator;
+
+import org.junit.jupiter.api.Test;
+
+class IntConsecutiveSequenceChainTest {
+
+    private static ConsecutiveSetTree<AtomicInteger, Integer, Integer> buildTree() {
+        return new ConsecutiveSetTree<>((a, b) -> b - a, Integer::sum, 1, 0);
+    }
+
+    @Test
+    void addAndRemove() {
+        var chain = new IntConsecutiveSequenceChain<AtomicInteger>();
+        assertThat(chain.getConsecutiveSequences()).isEmpty();
+        assertThat(chain.getFirstSequence()).isNull();
+
+        var value1 = new AtomicInteger(1);
+        var value2 = new AtomicInteger(2);
+        var value3 = new AtomicInteger(3);
+        var value5 = new AtomicInteger(5);
+        chain.add(value1, 1);
+        chain.add(value3, 3);
+        chain.add(value5, 5);
+        assertThat(chain.getConsecutiveSequences()).hasSize(3);
+        assertThat(chain.getBreaks())
+                .map(Break::getLength)
+                .containsExactly(2, 2);
+
+        var lastSequence = chain.getLastSequence();
+        chain.add(value2, 2);
+        assertThat(chain.getConsecutiveSequences())
+                .map(Sequence::getItems)
+                .containsExactly(List.of(value1, value2, value3), List.of(value5));
+        assertThat(chain.getFirstBreak()).isSameAs(chain.getLastBreak());
+        assertThat(chain.getLastSequence()).isSameAs(lastSequence);
+
+        chain.remove(value2);
+        chain.remove(value1);
+        assertThat(chain.getConsecutiveSequences())
+                .map(Sequence::getItems)
+                .containsExactly(List.of(value3), List.of(value5));
+        assertThat(chain.getFirstSequence().isFirst()).isTrue();
+        assertThat(chain.getFirstBreak().getLength()).isEqualTo(2);
+
+        chain.remove(value3);
+        chain.remove(value5);
+        assertThat(chain.getConsecutiveSequences()).isEmpty();
+        assertThat(chain.getBreaks()).isEmpty();
+    }
+
+    @Test
+    void duplicateValue() {
+        var chain = new IntConsecutiveSequenceChain<AtomicInteger>();
+        var value = new AtomicInteger(1);
+        chain.add(value, 1);
+        chain.add(value, 1);
+        assertThatThrownBy(() -> chain.add(value, 2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("different index");
+        chain.remove(value);
+        assertThat(chain.getConsecutiveSequences()).hasSize(1);
+        chain.remove(value);
+        assertThat(chain.getConsecutiveSequences()).isEmpty();
+        assertThat(chain.remove(value)).isFalse();
+    }
+
+    @Test
+    void pointTooFarAway() {
+        var chain = new IntConsecutiveSequenceChain<AtomicInteger>();
+        assertThat(chain.add(new AtomicInteger(), Integer.MIN_VALUE)).isTrue();
+        assertThat(chain.add(new AtomicInteger(), Integer.MIN_VALUE + 1_000)).isTrue();
+        assertThat(chain.add(new AtomicInteger(), Integer.MAX_VALUE)).isFalse();
+        assertThat(chain.getConsecutiveSequences()).hasSize(2);
+    }
+
+    @Test
+    void sequenceCalculatorSwitchesToTree() {
+        var calculator = new SequenceCalculator<AtomicInteger>(AtomicInteger::get);
+        var first = new AtomicInteger(0);
+        var second = new AtomicInteger(1);
+        var far = new AtomicInteger(IntConsecutiveSequenceChain.MAXIMUM_WINDOW_SIZE * 2);
+        calculator.insert(first);
+        calculator.insert(second);
+        assertThat(calculator.result()).isInstanceOf(IntConsecutiveSequenceChain.class);
+        calculator.insert(far);
+        assertThat(calculator.result()).isInstanceOf(ConsecutiveSetTree.class);
+        assertThat(calculator.result().getConsecutiveSequences())
+                .map(sequence -> List.copyOf(sequence.getItems()))
+                .containsExactly(List.of(first, second), List.of(far));
+        calculator.retract(first);
+        calculator.retract(second);
+        calculator.retract(far);
+        assertThat(calculator.result().getConsecutiveSequences()).isEmpty();
+    }
+
+    @Test
+    void sameAsConsecutiveSetTree() {
+        var random = new Random(37);
+        var chain = new IntConsecutiveSequenceChain<AtomicInteger>();
+        var tree = buildTree();
+        var valueList = new ArrayList<AtomicInteger>();
+        for (var i = 0; i < 300; i++) {
+            // Some values share a point, and the points grow the window in both directions.
+            valueList.add(new AtomicInteger(random.nextInt(400) - 200));
+        }
+        var addedValueList = new ArrayList<AtomicInteger>();
+        for (var i = 0; i < 3_000; i++) {
+            if (!addedValueList.isEmpty() && random.nextInt(5) < 2) {
+                var value = addedValueList.remove(random.nextInt(addedValueList.size()));
+                assertThat(chain.remove(value)).isEqualTo(tree.remove(value));
+            } else {
+                var value = valueList.get(random.nextInt(valueList.size()));
+                addedValueList.add(value);
+                assertThat(chain.add(value, value.get())).isTrue();
+                tree.add(value, value.get());
+            }
+            assertSameSequenceChain(chain, tree);
+        }
+        for (var value : addedValueList) {
+            chain.remove(value);
+            tree.remove(value);
+        }
+        assertSameSequenceChain(chain, tree);
+    }
+
+    private static void assertSameSequenceChain(SequenceChain<AtomicInteger, Integer> actual,
+            SequenceChain<AtomicInteger, Integer> expected) {
+        assertThat(describeSequences(actual)).isEqualTo(describeSequences(expected));
+        assertThat(describeBreaks(actual)).isEqualTo(describeBreaks(expected));
+        assertThat(describeSequence(actual.getFirstSequence())).isEqualTo(describeSequence(expected.getFirstSequence()));
+        assertThat(describeSequence(actual.getLastSequence())).isEqualTo(describeSequence(expected.getLastSequence()));
+        assertThat(describeBreak(actual.getFirstBreak())).isEqualTo(describeBreak(expected.getFirstBreak()));
+        assertThat(describeBreak(actual.getLastBreak())).isEqualTo(describeBreak(expected.getLastBreak()));
+    }
+
+    private static List<List<Object>> describeSequences(SequenceChain<AtomicInteger, Integer> sequenceChain) {
+        var descriptionList = new ArrayList<List<Object>>();
+        for (var sequence : sequenceChain.getConsecutiveSequences()) {
+            descriptionList.add(describeSequence(sequence));
+        }
+        return descriptionList;
+    }
+
+    private static List<Object> describeSequence(Sequence<AtomicInteger, Integer> sequence) {
+        if (sequence == null) {
+            return null;
+        }
+        return List.of(List.copyOf(sequence.getItems()), sequence.getFirstItem(), sequence.getLastItem(),
+                sequence.getCount(), sequence.getLength(), sequence.isFirst(), sequence.isLast(),
+                String.valueOf(describeBreak(sequence.getPreviousBreak())),
+                String.valueOf(describeBreak(sequence.getNextBreak())));
+    }
+
+    private static List<List<Object>> describeBreaks(SequenceChain<AtomicInteger, Integer> sequenceChain) {
+        var descriptionList = new ArrayList<List<Object>>();
+        for (var sequenceBreak : sequenceChain.getBreaks()) {
+            descriptionList.add(describeBreak(sequenceBreak));
+        }
+        return descriptionList;
+    }
+
+    private static List<Object> describeBreak(Break<AtomicInteger, Integer> sequenceBreak) {
+        if (sequenceBreak == null) {
+            return null;
+        }
+        return List.of(sequenceBreak.getPreviousSequenceEnd(), sequenceBreak.getNextSequenceStart(),
+                sequenceBreak.getLength(), sequenceBreak.isFirst(), sequenceBreak.isLast());
+    }
+
+}
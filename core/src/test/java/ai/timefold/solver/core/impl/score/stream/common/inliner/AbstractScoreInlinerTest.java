@@ -24,6 +24,11 @@ public abstract class AbstractScoreInlinerTest<Solution_, Score_ extends Score<S
     }
 
     protected WeightedScoreImpacter<Score_, ?> buildScoreImpacter(Score_ constraintWeight) {
+        return buildScoreImpacter(constraintWeight, constraintMatchPolicy);
+    }
+
+    protected WeightedScoreImpacter<Score_, ?> buildScoreImpacter(Score_ constraintWeight,
+            ConstraintMatchPolicy constraintMatchPolicy) {
         AbstractConstraint<?, ?, ?> constraint = buildConstraint(constraintWeight);
         Map<Constraint, Score_> constraintWeightMap = Collections.singletonMap(constraint, constraintWeight);
         AbstractScoreInliner<Score_> scoreInliner = buildScoreInliner(constraintWeightMap, constraintMatchPolicy);
@@ -111,6 +111,23 @@ class BendableBigDecimalScoreInlinerTest
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void extractScoreKeepsScale() {
+        var impacter = buildScoreImpacter(buildScore(10, 100, 1_000));
+        var scoreInliner = (AbstractScoreInliner<BendableBigDecimalScore>) impacter.getContext().parent;
+
+        var score = scoreInliner.extractScore();
+        assertThat(scoreInliner.extractScore()).isSameAs(score);
+
+        var undo = impacter.impactScore(new BigDecimal("1.0"), ConstraintMatchSupplier.empty());
+        undo.run();
+        // Zero with a different scale is numerically equal, but must not hide behind the old score.
+        var rescaledScore = scoreInliner.extractScore();
+        assertThat(rescaledScore).isNotSameAs(score);
+        assertThat(rescaledScore.hardScore(0)).isEqualTo(new BigDecimal("0.0"));
+        assertThat(scoreInliner.extractScore()).isSameAs(rescaledScore);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableBigDecimalScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableBigDecimalScoreSolution.buildSolutionDescriptor();
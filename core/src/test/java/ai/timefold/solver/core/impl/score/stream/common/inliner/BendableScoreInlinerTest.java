@@ -113,6 +113,55 @@ class BendableScoreInlinerTest extends AbstractScoreInlinerTest<TestdataBendable
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void impactAllWithoutConstraintMatch() {
+        var constraintWeight = buildScore(10, 100, 1_000);
+        var impacter = buildScoreImpacter(constraintWeight, ConstraintMatchPolicy.DISABLED);
+        var scoreInliner = (AbstractScoreInliner<BendableScore>) impacter.getContext().parent;
+
+        var undo1 = impacter.impactScore(10, null);
+        var undo2 = impacter.impactScore(20, null);
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(buildScore(300, 3_000, 30_000));
+
+        undo2.run();
+        var undo3 = impacter.impactScore(30, null);
+        assertThat(undo3).isSameAs(undo2);
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(buildScore(400, 4_000, 40_000));
+
+        undo3.run();
+        undo1.run();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(buildScore(0, 0, 0));
+    }
+
+    @Test
+    void extractScoreReusesUnchangedScore() {
+        var constraintWeight = buildScore(10, 100, 1_000);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<BendableScore>) impacter.getContext().parent;
+
+        var score = scoreInliner.extractScore();
+        assertThat(scoreInliner.extractScore()).isSameAs(score);
+
+        var undo = impacter.impactScore(10, ConstraintMatchSupplier.empty());
+        var changedScore = scoreInliner.extractScore();
+        assertThat(changedScore)
+                .isNotSameAs(score)
+                .isEqualTo(buildScore(100, 1_000, 10_000));
+
+        // Further impacts must not change a score which was already extracted.
+        var undo2 = impacter.impactScore(10, ConstraintMatchSupplier.empty());
+        assertThat(changedScore).isEqualTo(buildScore(100, 1_000, 10_000));
+        undo2.run();
+        assertThat(scoreInliner.extractScore()).isSameAs(changedScore);
+
+        undo.run();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(buildScore(0, 0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableScoreSolution.buildSolutionDescriptor();
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.stream.common.inliner;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Collections;
 import java.util.Map;
@@ -90,6 +91,35 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void impactAllWithoutConstraintMatch() {
+        var constraintWeight = HardSoftScore.of(10, 100);
+        var impacter = buildScoreImpacter(constraintWeight, ConstraintMatchPolicy.DISABLED);
+        var scoreInliner = (AbstractScoreInliner<HardSoftScore>) impacter.getContext().parent;
+
+        var undo1 = impacter.impactScore(10, null);
+        var undo2 = impacter.impactScore(20, null);
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(HardSoftScore.of(300, 3_000));
+
+        undo2.run();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(HardSoftScore.of(100, 1_000));
+        assertThatThrownBy(undo2::run)
+                .isInstanceOf(IllegalStateException.class);
+
+        // The undo that already ran is handed out again.
+        var undo3 = impacter.impactScore(Integer.MAX_VALUE, null);
+        assertThat(undo3).isSameAs(undo2);
+        undo3.run();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(HardSoftScore.of(100, 1_000));
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(HardSoftScore.of(0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
@@ -46,6 +46,26 @@ class SimpleBigDecimalScoreInlinerTest
                 .isEqualTo(SimpleBigDecimalScore.of(BigDecimal.ZERO));
     }
 
+    @Test
+    void impactWithoutConstraintMatch() {
+        var constraintWeight = SimpleBigDecimalScore.of(new BigDecimal("0.5"));
+        var impacter = buildScoreImpacter(constraintWeight, ConstraintMatchPolicy.DISABLED);
+        var scoreInliner = (AbstractScoreInliner<SimpleBigDecimalScore>) impacter.getContext().parent;
+
+        var undo1 = impacter.impactScore(new BigDecimal("0.25"), null);
+        var undo2 = impacter.impactScore(3, null);
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(SimpleBigDecimalScore.of(new BigDecimal("1.625")));
+
+        undo2.run();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(SimpleBigDecimalScore.of(new BigDecimal("0.125")));
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(SimpleBigDecimalScore.of(new BigDecimal("0.000")));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSimpleBigDecimalScoreSolution> buildSolutionDescriptor() {
         return TestdataSimpleBigDecimalScoreSolution.buildSolutionDescriptor();
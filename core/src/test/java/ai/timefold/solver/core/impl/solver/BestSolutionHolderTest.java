@@ -25,16 +25,16 @@ class BestSolutionHolderTest {
         TestdataSolution solution1 = TestdataSolution.generateSolution();
         TestdataSolution solution2 = TestdataSolution.generateSolution();
 
-        bestSolutionHolder.set(solution1, () -> true);
+        assertThat(bestSolutionHolder.set(solution1, () -> true)).isFalse();
         assertThat(bestSolutionHolder.take().getBestSolution()).isSameAs(solution1);
         assertThat(bestSolutionHolder.take()).isNull();
 
-        bestSolutionHolder.set(solution1, () -> true);
-        bestSolutionHolder.set(solution2, () -> false);
+        assertThat(bestSolutionHolder.set(solution1, () -> true)).isFalse();
+        assertThat(bestSolutionHolder.set(solution2, () -> false)).isFalse();
         assertThat(bestSolutionHolder.take().getBestSolution()).isSameAs(solution1);
 
-        bestSolutionHolder.set(solution1, () -> true);
-        bestSolutionHolder.set(solution2, () -> true);
+        assertThat(bestSolutionHolder.set(solution1, () -> true)).isFalse();
+        assertThat(bestSolutionHolder.set(solution2, () -> true)).isTrue(); // Solution 1 is skipped.
         assertThat(bestSolutionHolder.take().getBestSolution()).isSameAs(solution2);
     }
 
@@ -12,6 +12,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -23,13 +24,18 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
 class ConsumerSupportTest {
 
     private ConsumerSupport<TestdataSolution, Long> consumerSupport;
 
     @AfterEach
     void close() {
-        consumerSupport.close();
+        if (consumerSupport != null) {
+            consumerSupport.close();
+        }
     }
 
     @Test
@@ -72,6 +78,66 @@ class ConsumerSupportTest {
         }
     }
 
+    @Test
+    void consumerMetersAreTaggedPerSolverJob() {
+        var tags = Tags.of("problem.id", "1");
+        consumerSupport = new ConsumerSupport<>(1L, solution -> {
+        }, null, null, null, null, new BestSolutionHolder<>(), null, tags);
+        assertThat(Metrics.globalRegistry.find(ConsumerSupport.CONSUMER_LAG_METER_ID).tags(tags).timer()).isNotNull();
+        assertThat(Metrics.globalRegistry.find(ConsumerSupport.SKIPPED_SOLUTION_METER_ID).tags(tags).counter())
+                .isNotNull();
+
+        consumerSupport.close();
+        consumerSupport = null;
+        assertThat(Metrics.globalRegistry.find(ConsumerSupport.CONSUMER_LAG_METER_ID).tags(tags).timer()).isNull();
+        assertThat(Metrics.globalRegistry.find(ConsumerSupport.SKIPPED_SOLUTION_METER_ID).tags(tags).counter())
+                .isNull();
+    }
+
+    @Test
+    @Timeout(60)
+    void sharedConsumerExecutor_keepsBestSolutionsInOrder() throws InterruptedException {
+        var sharedConsumerExecutor = Executors.newFixedThreadPool(2);
+        var jobCount = 4;
+        var solutionCount = 50;
+        var allConsumptionsCompleted = new CountDownLatch(jobCount);
+        var consumerSupportList = new ArrayList<ConsumerSupport<TestdataSolution, Long>>(jobCount);
+        var consumedSolutionSizesList = new ArrayList<List<Integer>>(jobCount);
+        try {
+            for (var i = 0; i < jobCount; i++) {
+                var consumedSolutionSizes = Collections.synchronizedList(new ArrayList<Integer>());
+                consumedSolutionSizesList.add(consumedSolutionSizes);
+                consumerSupportList.add(new ConsumerSupport<>((long) i,
+                        solution -> consumedSolutionSizes.add(solution.getEntityList().size()),
+                        finalBestSolution -> {
+                            consumedSolutionSizes.add(finalBestSolution.getEntityList().size());
+                            allConsumptionsCompleted.countDown();
+                        }, null, null, null, new BestSolutionHolder<>(), sharedConsumerExecutor,
+                        Tags.of("problem.id", Long.toString(i))));
+            }
+            for (var solutionSize = 1; solutionSize <= solutionCount; solutionSize++) {
+                for (var jobConsumerSupport : consumerSupportList) {
+                    jobConsumerSupport.consumeIntermediateBestSolution(
+                            TestdataSolution.generateSolution(1, solutionSize), () -> true);
+                }
+            }
+            for (var jobConsumerSupport : consumerSupportList) {
+                jobConsumerSupport.consumeFinalBestSolution(TestdataSolution.generateSolution(1, solutionCount + 1));
+            }
+            allConsumptionsCompleted.await();
+            for (var consumedSolutionSizes : consumedSolutionSizesList) {
+                // Intermediate best solutions may be skipped, but never delivered out of order or after the final one.
+                assertThat(consumedSolutionSizes)
+                        .isSorted()
+                        .doesNotHaveDuplicates()
+                        .endsWith(solutionCount, solutionCount + 1);
+            }
+        } finally {
+            consumerSupportList.forEach(ConsumerSupport::close);
+            sharedConsumerExecutor.shutdownNow();
+        }
+    }
+
     @Test
     @Timeout(60)
     void problemChangesComplete_afterFinalBestSolutionIsConsumed() throws ExecutionException, InterruptedException {
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -15,11 +16,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
@@ -31,7 +35,10 @@ import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
 import ai.timefold.solver.core.api.solver.phase.PhaseCommand;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
@@ -66,6 +73,7 @@ import ai.timefold.solver.core.config.heuristic.selector.value.chained.SubChainS
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.BestSolutionRecordingMode;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.PreviewFeature;
 import ai.timefold.solver.core.config.solver.SolverConfig;
@@ -517,6 +525,131 @@ class DefaultSolverTest {
         }
     }
 
+    @Test
+    void solveWithIncrementalBestSolutionRecording() {
+        var clonedEventSolutionList = new ArrayList<TestdataListSolution>();
+        var clonedSolver = buildListSolverWithBestSolutionRecordingMode(BestSolutionRecordingMode.CLONE);
+        clonedSolver.addEventListener(event -> clonedEventSolutionList.add(event.getNewBestSolution()));
+        var clonedBestSolution = clonedSolver.solve(generateUnbalancedListSolution());
+
+        var incrementalEventSolutionList = new ArrayList<TestdataListSolution>();
+        var incrementalSolver = buildListSolverWithBestSolutionRecordingMode(BestSolutionRecordingMode.INCREMENTAL);
+        incrementalSolver.addEventListener(event -> incrementalEventSolutionList.add(event.getNewBestSolution()));
+        var incrementalBestSolution = incrementalSolver.solve(generateUnbalancedListSolution());
+
+        assertThat(incrementalBestSolution.getScore()).isEqualTo(clonedBestSolution.getScore());
+        assertThat(describeListSolution(incrementalBestSolution)).isEqualTo(describeListSolution(clonedBestSolution));
+        // Every event got its own planning clone, which did not change as the solver carried on.
+        assertThat(clonedEventSolutionList).hasSizeGreaterThan(1);
+        assertThat(incrementalEventSolutionList)
+                .map(DefaultSolverTest::describeListSolution)
+                .containsExactlyElementsOf(clonedEventSolutionList.stream()
+                        .map(DefaultSolverTest::describeListSolution)
+                        .toList());
+        assertThat(incrementalEventSolutionList)
+                .doesNotHaveDuplicates()
+                .doesNotContain(incrementalBestSolution);
+    }
+
+    @Test
+    void solveWithIncrementalBestSolutionRecordingFailsOnLateRetrieval() {
+        var eventList = new ArrayList<BestSolutionChangedEvent<TestdataListSolution>>();
+        var solver = buildListSolverWithBestSolutionRecordingMode(BestSolutionRecordingMode.INCREMENTAL);
+        solver.addEventListener(eventList::add);
+        solver.solve(generateUnbalancedListSolution());
+
+        assertThat(eventList).isNotEmpty()
+                .allSatisfy(event -> Assertions.assertThatThrownBy(event::getNewBestSolution)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("bestSolutionRecordingMode"));
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithProblemChangeAndIncrementalBestSolutionRecording() throws InterruptedException {
+        var solverConfig = buildListSolverConfigWithBestSolutionRecordingMode(BestSolutionRecordingMode.INCREMENTAL)
+                .withDaemon(true);
+        var solver = SolverFactory.<TestdataListSolution> create(solverConfig).buildSolver();
+        var workingSolutionList = new CopyOnWriteArrayList<TestdataListSolution>();
+        var workingSolutionDescriptionList = new CopyOnWriteArrayList<Map<String, List<String>>>();
+        var bestSolutionDescriptionList = new CopyOnWriteArrayList<Map<String, List<String>>>();
+        var lastBestSolutionDescription = new AtomicReference<Map<String, List<String>>>();
+        var firstProblemChangeProcessed = new CountDownLatch(1);
+        var secondProblemChangeProcessed = new CountDownLatch(1);
+        solver.addEventListener(event -> {
+            lastBestSolutionDescription.set(describeListSolution(event.getNewBestSolution()));
+            if (event.isEveryProblemChangeProcessed()) {
+                switch (workingSolutionList.size()) {
+                    case 1 -> firstProblemChangeProcessed.countDown();
+                    case 2 -> secondProblemChangeProcessed.countDown();
+                    default -> {
+                        // No problem change processed yet.
+                    }
+                }
+            }
+        });
+        ProblemChange<TestdataListSolution> problemChange = (workingSolution, problemChangeDirector) -> {
+            workingSolutionList.add(workingSolution);
+            workingSolutionDescriptionList.add(describeListSolution(workingSolution));
+            bestSolutionDescriptionList.add(lastBestSolutionDescription.get());
+            problemChangeDirector.addEntity(new TestdataListEntity("added entity " + workingSolutionList.size()),
+                    workingSolution.getEntityList()::add);
+        };
+
+        var executorService = Executors.newSingleThreadExecutor();
+        try {
+            var solverFuture = executorService.submit(() -> solver.solve(generateUnbalancedListSolution()));
+            solver.addProblemChange(problemChange);
+            firstProblemChangeProcessed.await();
+            solver.addProblemChange(problemChange);
+            secondProblemChangeProcessed.await();
+            solver.terminateEarly();
+            assertThat(solverFuture).succeedsWithin(Duration.ofSeconds(30))
+                    .satisfies(bestSolution -> assertThat(bestSolution.getEntityList()).hasSize(6));
+        } finally {
+            executorService.shutdownNow();
+        }
+        // The working solution was brought back to the best solution in place, instead of being replaced by a clone.
+        assertThat(workingSolutionList).hasSize(2);
+        assertThat(workingSolutionList.get(1)).isSameAs(workingSolutionList.get(0));
+        assertThat(workingSolutionDescriptionList).isEqualTo(bestSolutionDescriptionList);
+    }
+
+    private static Solver<TestdataListSolution>
+            buildListSolverWithBestSolutionRecordingMode(BestSolutionRecordingMode bestSolutionRecordingMode) {
+        var solverConfig = buildListSolverConfigWithBestSolutionRecordingMode(bestSolutionRecordingMode);
+        return SolverFactory.<TestdataListSolution> create(solverConfig).buildSolver();
+    }
+
+    private static SolverConfig
+            buildListSolverConfigWithBestSolutionRecordingMode(BestSolutionRecordingMode bestSolutionRecordingMode) {
+        return new SolverConfig()
+                .withSolutionClass(TestdataListSolution.class)
+                .withEntityClasses(TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(TestingListEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withBestSolutionRecordingMode(bestSolutionRecordingMode)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(100)));
+    }
+
+    /**
+     * All values are assigned to the first entity, so that local search finds many new best solutions.
+     */
+    private static TestdataListSolution generateUnbalancedListSolution() {
+        var solution = TestdataListSolution.generateUninitializedSolution(12, 4);
+        var firstEntity = solution.getEntityList().get(0);
+        solution.getValueList().forEach(firstEntity::addValue);
+        solution.getEntityList().forEach(TestdataListEntity::setUpShadowVariables);
+        return solution;
+    }
+
+    private static Map<String, List<String>> describeListSolution(TestdataListSolution solution) {
+        return solution.getEntityList().stream()
+                .collect(Collectors.toMap(TestdataListEntity::getCode,
+                        entity -> entity.getValueList().stream().map(TestdataListValue::getCode).toList()));
+    }
+
     @Test
     void solveRepeatedlyBasicVariable(SoftAssertions softly) {
         var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
@@ -43,7 +43,11 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.Selectio
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.monitoring.SolverMetricUtil;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.ConstraintProfilingStatistic;
+import ai.timefold.solver.core.impl.solver.monitoring.statistic.MemoryAllocationStatistic;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.testdomain.TestdataConstraintProvider;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
@@ -314,6 +318,88 @@ class SolverMetricsIT extends AbstractMeterTest {
         assertThat(meterRegistry.getMeasurement(SolverMetric.MOVE_EVALUATION_COUNT.getMeterId(), "VALUE")).isPositive();
     }
 
+    @Test
+    void solveMemoryAllocatedPerStepMetric() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMonitoringConfig(new MonitoringConfig()
+                .withSolverMetricList(List.of(SolverMetric.MEMORY_ALLOCATED_PER_STEP)));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+
+        var solver = solverFactory.buildSolver();
+        ((DefaultSolver<TestdataSolution>) solver).setMonitorTagMap(Map.of("solver.id", UUID.randomUUID().toString()));
+        var solution = TestdataSolution.generateSolution(4, 4);
+        solution = solver.solve(solution);
+        meterRegistry.publish();
+
+        assertThat(solution).isNotNull();
+        // The allocated memory is only measured on HotSpot-based JVMs, such as the one running the tests.
+        assertThat(meterRegistry.getMeasurement(SolverMetric.MEMORY_ALLOCATED_PER_STEP.getMeterId(), "VALUE"))
+                .isPositive();
+    }
+
+    @Test
+    void solveMemoryAllocationMetric() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMonitoringConfig(new MonitoringConfig()
+                .withSolverMetricList(List.of(SolverMetric.MEMORY_ALLOCATION)));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+
+        var solver = solverFactory.buildSolver();
+        ((DefaultSolver<TestdataSolution>) solver).setMonitorTagMap(Map.of("solver.id", UUID.randomUUID().toString()));
+        var solution = TestdataSolution.generateSolution(4, 4);
+        solver.addEventListener(event -> meterRegistry.publish());
+        solution = solver.solve(solution);
+
+        assertThat(solution).isNotNull();
+        // The allocated memory is only measured on HotSpot-based JVMs, such as the one running the tests.
+        assertThat(meterRegistry.getMeasurement(
+                SolverMetricUtil.getGaugeName(SolverMetric.MEMORY_ALLOCATION, MemoryAllocationStatistic.ALLOCATED_BYTES_LABEL),
+                "VALUE")).isPositive();
+        assertThat(meterRegistry.getMeasurement(
+                SolverMetricUtil.getGaugeName(SolverMetric.MEMORY_ALLOCATION, MemoryAllocationStatistic.GC_PAUSE_TIME_LABEL),
+                "VALUE")).isNotNegative();
+    }
+
+    @Test
+    void solveConstraintProfilingMetric() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setScoreDirectorFactoryConfig(
+                new ScoreDirectorFactoryConfig().withConstraintProviderClass(TestdataConstraintProvider.class));
+        solverConfig.setMonitoringConfig(new MonitoringConfig()
+                .withSolverMetricList(List.of(SolverMetric.CONSTRAINT_PROFILING)));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+
+        var solver = solverFactory.buildSolver();
+        ((DefaultSolver<TestdataSolution>) solver).setMonitorTagMap(Map.of("solver.id", UUID.randomUUID().toString()));
+        var solution = TestdataSolution.generateSolution(4, 4);
+        solver.addEventListener(event -> meterRegistry.publish());
+        solution = solver.solve(solution);
+
+        assertThat(solution).isNotNull();
+        var constraintTags = ":constraint.name=Always penalize,constraint.package="
+                + TestdataSolution.class.getPackageName();
+        assertThat(meterRegistry.getMeasurement(
+                SolverMetricUtil.getGaugeName(SolverMetric.CONSTRAINT_PROFILING, ConstraintProfilingStatistic.TIME_LABEL)
+                        + constraintTags,
+                "VALUE")).isNotNegative();
+        assertThat(meterRegistry.getMeasurement(
+                SolverMetricUtil.getGaugeName(SolverMetric.CONSTRAINT_PROFILING,
+                        ConstraintProfilingStatistic.TUPLE_COUNT_LABEL) + constraintTags,
+                "VALUE")).isPositive();
+    }
+
     @Test
     void solveMetricsProblemChange() throws InterruptedException, ExecutionException {
         var meterRegistry = new TestMeterRegistry();
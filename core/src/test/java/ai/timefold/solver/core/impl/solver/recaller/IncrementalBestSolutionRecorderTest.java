@@ -0,0 +1,196 @@
+package ai.timefold.solver.core.impl.solver.recaller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.TestdataValue;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListEasyScoreCalculator;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListEntity;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListSolution;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListValue;
+
+import org.junit.jupiter.api.Test;
+
+class IncrementalBestSolutionRecorderTest {
+
+    @Test
+    void revertBasicVariable() {
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var e1 = new TestdataEntity("e1", v1);
+        var e2 = new TestdataEntity("e2", v2);
+        var e3 = new TestdataEntity("e3", null);
+        var solution = new TestdataSolution("s1");
+        solution.setValueList(List.of(v1, v2));
+        solution.setEntityList(List.of(e1, e2, e3));
+
+        var scoreDirector = new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                (TestdataSolution s) -> SimpleScore.ZERO)
+                .createScoreDirectorBuilder()
+                .withLookUpEnabled(true)
+                .build();
+        scoreDirector.setWorkingSolution(solution);
+        var recorder = new IncrementalBestSolutionRecorder<>(scoreDirector);
+        scoreDirector.setWorkingSolutionChangeListener(recorder);
+        var recordedSolution = recorder.record();
+
+        changeValue(scoreDirector, e1, v2);
+        changeValue(scoreDirector, e2, null);
+        changeValue(scoreDirector, e3, v1);
+        scoreDirector.setWorkingSolutionChangeListener(null);
+        assertThat(recorder.revert()).isTrue();
+
+        assertThat(scoreDirector.getWorkingSolution()).isSameAs(solution);
+        assertThat(e1.getValue()).isSameAs(v1);
+        assertThat(e2.getValue()).isSameAs(v2);
+        assertThat(e3.getValue()).isNull();
+        assertThat(recordedSolution.getEntityList())
+                .map(entity -> entity.getValue() == null ? null : entity.getValue().getCode())
+                .containsExactly("v1", "v2", null);
+    }
+
+    @Test
+    void revertListVariable() {
+        var v1 = new TestdataAllowsUnassignedValuesListValue("v1");
+        var v2 = new TestdataAllowsUnassignedValuesListValue("v2");
+        var v3 = new TestdataAllowsUnassignedValuesListValue("v3");
+        var v4 = new TestdataAllowsUnassignedValuesListValue("v4");
+        var v5 = new TestdataAllowsUnassignedValuesListValue("v5");
+        var e1 = new TestdataAllowsUnassignedValuesListEntity("e1", v1, v2, v3).setUpShadowVariables();
+        var e2 = new TestdataAllowsUnassignedValuesListEntity("e2", v4).setUpShadowVariables();
+        var solution = new TestdataAllowsUnassignedValuesListSolution();
+        solution.setValueList(List.of(v1, v2, v3, v4, v5));
+        solution.setEntityList(List.of(e1, e2));
+
+        var scoreDirector = new EasyScoreDirectorFactory<>(TestdataAllowsUnassignedValuesListSolution.buildSolutionDescriptor(),
+                new TestdataAllowsUnassignedValuesListEasyScoreCalculator())
+                .createScoreDirectorBuilder()
+                .withLookUpEnabled(true)
+                .build();
+        scoreDirector.setWorkingSolution(solution);
+        var recordedScore = scoreDirector.calculateScore();
+        var recorder = new IncrementalBestSolutionRecorder<>(scoreDirector);
+        scoreDirector.setWorkingSolutionChangeListener(recorder);
+        recorder.record();
+
+        // Move v2 to the end of e2.
+        scoreDirector.beforeListVariableChanged(e1, "valueList", 1, 2);
+        e1.getValueList().remove(v2);
+        scoreDirector.afterListVariableChanged(e1, "valueList", 1, 1);
+        scoreDirector.beforeListVariableChanged(e2, "valueList", 1, 1);
+        e2.getValueList().add(v2);
+        scoreDirector.afterListVariableChanged(e2, "valueList", 1, 2);
+        // Unassign v3.
+        scoreDirector.beforeListVariableElementUnassigned(e1, "valueList", v3);
+        scoreDirector.beforeListVariableChanged(e1, "valueList", 1, 2);
+        e1.getValueList().remove(v3);
+        scoreDirector.afterListVariableChanged(e1, "valueList", 1, 1);
+        scoreDirector.afterListVariableElementUnassigned(e1, "valueList", v3);
+        // Assign v5 to the start of e2.
+        scoreDirector.beforeListVariableElementAssigned(e2, "valueList", v5);
+        scoreDirector.beforeListVariableChanged(e2, "valueList", 0, 0);
+        e2.getValueList().add(0, v5);
+        scoreDirector.afterListVariableChanged(e2, "valueList", 0, 1);
+        scoreDirector.afterListVariableElementAssigned(e2, "valueList", v5);
+        scoreDirector.triggerVariableListeners();
+
+        scoreDirector.setWorkingSolutionChangeListener(null);
+        assertThat(recorder.revert()).isTrue();
+
+        assertThat(e1.getValueList()).containsExactly(v1, v2, v3);
+        assertThat(e2.getValueList()).containsExactly(v4);
+        assertThat(v2.getEntity()).isSameAs(e1);
+        assertThat(v2.getIndex()).isEqualTo(1);
+        assertThat(v2.getPrevious()).isSameAs(v1);
+        assertThat(v2.getNext()).isSameAs(v3);
+        assertThat(v3.getEntity()).isSameAs(e1);
+        assertThat(v3.getIndex()).isEqualTo(2);
+        assertThat(v4.getIndex()).isZero();
+        assertThat(v4.getPrevious()).isNull();
+        assertThat(v4.getNext()).isNull();
+        assertThat(v5.getEntity()).isNull();
+        assertThat(v5.getIndex()).isNull();
+        assertThat(v5.getNext()).isNull();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(recordedScore);
+        scoreDirector.assertShadowVariablesAreNotStale(recordedScore, "revert");
+    }
+
+    @Test
+    void revertFailsAfterSolutionChanged() {
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var e1 = new TestdataEntity("e1", v1);
+        var solution = new TestdataSolution("s1");
+        solution.setValueList(List.of(v1, v2));
+        solution.setEntityList(List.of(e1));
+
+        var scoreDirector = new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                (TestdataSolution s) -> SimpleScore.ZERO)
+                .createScoreDirectorBuilder()
+                .withLookUpEnabled(true)
+                .build();
+        scoreDirector.setWorkingSolution(solution);
+        var recorder = new IncrementalBestSolutionRecorder<>(scoreDirector);
+        assertThat(recorder.revert()).isFalse();
+
+        scoreDirector.setWorkingSolutionChangeListener(recorder);
+        recorder.record();
+        changeValue(scoreDirector, e1, v2);
+        recorder.solutionChanged();
+        scoreDirector.setWorkingSolutionChangeListener(null);
+        assertThat(recorder.revert()).isFalse();
+        assertThat(e1.getValue()).isSameAs(v2);
+    }
+
+    @Test
+    void recordFailingLookUpLeavesPreviousRecordedSolutionUntouched() {
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var e1 = new TestdataEntity("e1", v1);
+        var e2 = new TestdataEntity("e2", v1);
+        var e3 = new TestdataEntity("e3", v1);
+        var solution = new TestdataSolution("s1");
+        solution.setValueList(List.of(v1, v2));
+        solution.setEntityList(List.of(e1, e2, e3));
+
+        var scoreDirector = new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                (TestdataSolution s) -> SimpleScore.ZERO)
+                .createScoreDirectorBuilder()
+                .withLookUpEnabled(true)
+                .build();
+        scoreDirector.setWorkingSolution(solution);
+        var recorder = new IncrementalBestSolutionRecorder<>(scoreDirector);
+        scoreDirector.setWorkingSolutionChangeListener(recorder);
+        var recordedSolution = recorder.record();
+
+        changeValue(scoreDirector, e1, v2);
+        changeValue(scoreDirector, e2, v2);
+        changeValue(scoreDirector, e3, v2);
+        // An entity which the recorded solution does not know, so that it can not be looked up.
+        recorder.entityChanged(new TestdataEntity("e4", v2));
+        var newRecordedSolution = recorder.record();
+
+        assertThat(newRecordedSolution).isNotSameAs(recordedSolution);
+        assertThat(newRecordedSolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactly("v2", "v2", "v2");
+        assertThat(recordedSolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactly("v1", "v1", "v1");
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataSolution, ?> scoreDirector, TestdataEntity entity,
+            TestdataValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+    }
+
+}
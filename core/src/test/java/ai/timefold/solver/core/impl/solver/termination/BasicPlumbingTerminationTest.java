@@ -5,6 +5,7 @@ import static org.mockito.Mockito.mock;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
@@ -56,6 +57,28 @@ class BasicPlumbingTerminationTest {
         assertThat(count).hasValue(21);
     }
 
+    @Test
+    void terminateEarlyFromAnotherThread() throws InterruptedException {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(true);
+        SolverScope<TestdataSolution> solverScopeMock = mockSolverScope();
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isFalse();
+
+        // Assertions in the other thread would not fail the test, so assert its result on this thread instead.
+        var terminatedEarly = new AtomicBoolean(false);
+        var terminatingThread = new Thread(() -> terminatedEarly.set(basicPlumbingTermination.terminateEarly()));
+        terminatingThread.start();
+        // Blocks until the other thread terminates the solver.
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isFalse();
+        terminatingThread.join();
+        assertThat(terminatedEarly).isTrue();
+
+        assertThat(basicPlumbingTermination.isTerminateEarly()).isTrue();
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isTrue();
+        assertThat(basicPlumbingTermination.terminateEarly()).isFalse();
+        basicPlumbingTermination.resetTerminateEarly();
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isFalse();
+    }
+
     private SolverScope<TestdataSolution> mockSolverScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         InnerScoreDirector<TestdataSolution, ?> scoreDirectorMock = mock(InnerScoreDirector.class);
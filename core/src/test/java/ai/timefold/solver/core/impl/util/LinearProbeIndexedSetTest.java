@@ -0,0 +1,103 @@
+package ai.timefold.solver.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LinearProbeIndexedSetTest {
+
+    @Test
+    void addAndRemove() {
+        var set = new LinearProbeIndexedSet<String>();
+        assertThat(set.size()).isZero();
+        assertThat(set.indexOf("a")).isEqualTo(LinearProbeIndexedSet.MISSING);
+
+        var aIndex = set.add("a");
+        var bIndex = set.add("b");
+        var nullIndex = set.add(null);
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.indexCapacity()).isEqualTo(3);
+        assertThat(set.indexOf("a")).isEqualTo(aIndex);
+        assertThat(set.indexOf("b")).isEqualTo(bIndex);
+        assertThat(set.indexOf(null)).isEqualTo(nullIndex);
+        assertThat(set.get(aIndex)).isEqualTo("a");
+        assertThat(set.get(nullIndex)).isNull();
+        assertThat(set.isInUse(nullIndex)).isTrue();
+
+        set.removeAt(bIndex);
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.indexOf("b")).isEqualTo(LinearProbeIndexedSet.MISSING);
+        assertThat(set.isInUse(bIndex)).isFalse();
+        assertThat(set).hasToString("[a, null]");
+
+        // The freed index is handed out again.
+        assertThat(set.add("c")).isEqualTo(bIndex);
+        assertThat(set.indexCapacity()).isEqualTo(3);
+        assertThat(set.indexOf("c")).isEqualTo(bIndex);
+
+        set.clear();
+        assertThat(set.size()).isZero();
+        assertThat(set.indexCapacity()).isZero();
+        assertThat(set.indexOf("a")).isEqualTo(LinearProbeIndexedSet.MISSING);
+        assertThat(set.indexOf(null)).isEqualTo(LinearProbeIndexedSet.MISSING);
+    }
+
+    @Test
+    void collidingHashCodes() {
+        var set = new LinearProbeIndexedSet<CollidingKey>();
+        var keys = new CollidingKey[100];
+        for (var i = 0; i < keys.length; i++) {
+            keys[i] = new CollidingKey(i);
+            set.add(keys[i]);
+        }
+        // Removing from the middle of the probe sequence must keep the later keys reachable.
+        for (var i = 0; i < keys.length; i += 2) {
+            set.removeAt(set.indexOf(keys[i]));
+        }
+        assertThat(set.size()).isEqualTo(keys.length / 2);
+        for (var i = 0; i < keys.length; i++) {
+            var index = set.indexOf(new CollidingKey(i));
+            if (i % 2 == 0) {
+                assertThat(index).isEqualTo(LinearProbeIndexedSet.MISSING);
+            } else {
+                assertThat(set.get(index)).isSameAs(keys[i]);
+            }
+        }
+    }
+
+    @Test
+    void randomizedAgainstHashMap() {
+        var random = new Random(37);
+        var set = new LinearProbeIndexedSet<Integer>();
+        var expectedIndexMap = new HashMap<Integer, Integer>();
+        for (var i = 0; i < 10_000; i++) {
+            var element = random.nextInt(500);
+            var index = set.indexOf(element);
+            if (index == LinearProbeIndexedSet.MISSING) {
+                assertThat(expectedIndexMap).doesNotContainKey(element);
+                index = set.add(element);
+                assertThat(expectedIndexMap).doesNotContainValue(index);
+                expectedIndexMap.put(element, index);
+            } else {
+                assertThat(expectedIndexMap).containsEntry(element, index);
+                set.removeAt(index);
+                expectedIndexMap.remove(element);
+            }
+            assertThat(set.size()).isEqualTo(expectedIndexMap.size());
+        }
+        expectedIndexMap.forEach((element, index) -> assertThat(set.indexOf(element)).isEqualTo(index));
+    }
+
+    private record CollidingKey(int id) {
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package ai.timefold.solver.core.testdomain;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Calculates the same score as {@link TestdataEasyScoreCalculator},
+ * which penalizes every ordered pair of entities with the same value.
+ */
+public final class TestdataSameValueConstraintProvider implements ConstraintProvider {
+
+    @Override
+    public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+        return new Constraint[] { sameValueConstraint(constraintFactory) };
+    }
+
+    private Constraint sameValueConstraint(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                .penalize(SimpleScore.of(2))
+                .asConstraint("Same value");
+    }
+
+}
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -164,9 +165,21 @@ public class TimefoldRecorder {
         terminationConfig.setDiminishedReturnsConfig(diminishedReturnsConfig);
     }
 
+    @SuppressWarnings("unchecked")
     private void updateSolverManagerConfigWithRuntimeProperties(SolverManagerConfig solverManagerConfig) {
-        timefoldRuntimeConfig.getValue().solverManager().parallelSolverCount()
+        var solverManagerRuntimeConfig = timefoldRuntimeConfig.getValue().solverManager();
+        solverManagerRuntimeConfig.parallelSolverCount()
                 .ifPresent(solverManagerConfig::setParallelSolverCount);
+        solverManagerRuntimeConfig.threadFactoryClass()
+                .ifPresent(clazz -> {
+                    // We need to check the data type, as the Smallrye converter does not enforce it
+                    if (!ThreadFactory.class.isAssignableFrom(clazz)) {
+                        throw new IllegalArgumentException(
+                                "The thread factory class (%s) of the solver manager config does not implement ThreadFactory."
+                                        .formatted(clazz));
+                    }
+                    solverManagerConfig.setThreadFactoryClass((Class<? extends ThreadFactory>) clazz);
+                });
     }
 
 }
@@ -1,6 +1,7 @@
 package ai.timefold.solver.quarkus.config;
 
 import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
 
 import ai.timefold.solver.core.config.solver.SolverManagerConfig;
 
@@ -21,4 +22,11 @@ public interface SolverManagerRuntimeConfig {
     @WithDefault("AUTO")
     Optional<String> parallelSolverCount();
 
+    /**
+     * The {@link ThreadFactory} class that creates the solver threads, for example to run the solvers on virtual threads.
+     * Defaults to {@link java.util.concurrent.Executors#defaultThreadFactory()}.
+     * In native mode, the class must be registered for reflection.
+     */
+    Optional<Class<?>> threadFactoryClass();
+
 }
@@ -29,8 +29,13 @@ public class TimefoldSolverAotFactory implements EnvironmentAware {
         SolverFactory<Solution_> solverFactory = SolverFactory.create(solverConfigSupplier(solverConfigXml));
         SolverManagerConfig solverManagerConfig = new SolverManagerConfig();
         SolverManagerProperties solverManagerProperties = timefoldProperties.getSolverManager();
-        if (solverManagerProperties != null && solverManagerProperties.getParallelSolverCount() != null) {
-            solverManagerConfig.setParallelSolverCount(solverManagerProperties.getParallelSolverCount());
+        if (solverManagerProperties != null) {
+            if (solverManagerProperties.getParallelSolverCount() != null) {
+                solverManagerConfig.setParallelSolverCount(solverManagerProperties.getParallelSolverCount());
+            }
+            if (solverManagerProperties.getThreadFactoryClass() != null) {
+                solverManagerConfig.setThreadFactoryClass(solverManagerProperties.getThreadFactoryClass());
+            }
         }
         return SolverManager.create(solverFactory, solverManagerConfig);
     }
@@ -96,14 +96,18 @@ public class TimefoldSolverBeanFactory implements ApplicationContextAware, Envir
     @Lazy
     @ConditionalOnMissingBean
     public <Solution_, ProblemId_> SolverManager<Solution_, ProblemId_> solverManager(SolverFactory solverFactory) {
-        // TODO supply ThreadFactory
         if (solverFactory == null) {
             return null;
         }
         SolverManagerConfig solverManagerConfig = new SolverManagerConfig();
         SolverManagerProperties solverManagerProperties = timefoldProperties.getSolverManager();
-        if (solverManagerProperties != null && solverManagerProperties.getParallelSolverCount() != null) {
-            solverManagerConfig.setParallelSolverCount(solverManagerProperties.getParallelSolverCount());
+        if (solverManagerProperties != null) {
+            if (solverManagerProperties.getParallelSolverCount() != null) {
+                solverManagerConfig.setParallelSolverCount(solverManagerProperties.getParallelSolverCount());
+            }
+            if (solverManagerProperties.getThreadFactoryClass() != null) {
+                solverManagerConfig.setThreadFactoryClass(solverManagerProperties.getThreadFactoryClass());
+            }
         }
         return SolverManager.create(solverFactory, solverManagerConfig);
     }
@@ -1,5 +1,7 @@
 package ai.timefold.solver.spring.boot.autoconfigure.config;
 
+import java.util.concurrent.ThreadFactory;
+
 public class SolverManagerProperties {
 
     /**
@@ -9,6 +11,12 @@ public class SolverManagerProperties {
      */
     private String parallelSolverCount;
 
+    /**
+     * The {@link ThreadFactory} class that creates the solver threads, for example to run the solvers on virtual threads.
+     * Defaults to {@link java.util.concurrent.Executors#defaultThreadFactory()}.
+     */
+    private Class<? extends ThreadFactory> threadFactoryClass;
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
@@ -21,4 +29,12 @@ public class SolverManagerProperties {
         this.parallelSolverCount = parallelSolverCount;
     }
 
+    public Class<? extends ThreadFactory> getThreadFactoryClass() {
+        return threadFactoryClass;
+    }
+
+    public void setThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
+        this.threadFactoryClass = threadFactoryClass;
+    }
+
 }